@@ -0,0 +1,112 @@
+package org.folio.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.folio.dbschema.ObjectMapperTool;
+import org.folio.rest.jaxrs.model.HoldingsRecord;
+import org.folio.rest.jaxrs.model.Instance;
+import org.folio.rest.jaxrs.model.Item;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.support.CollectionUtil;
+import org.folio.services.domainevent.DomainEvent;
+import org.folio.utils.ComparisonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The JSON conversions of the write paths, see README section "Benchmarks":
+ * {@code PostgresClient.pojo2JsonObject} of doUpdateItem and ComparisonUtils,
+ * {@code ObjectMapperTool.readValue} of getItemAndHolding, the {@code JsonObject.mapFrom(...).mapTo(...)}
+ * deep copy of ShadowInstanceSynchronizationHandler, {@code CollectionUtil.deepCopy} and the
+ * encoding of a {@link DomainEvent}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonMappingBenchmark {
+
+  @Param({"small", "medium", "huge"})
+  public String size;
+
+  private Instance instance;
+  private Instance updatedInstance;
+  private HoldingsRecord holdingsRecord;
+  private Item item;
+  private Item updatedItem;
+  private List<Item> items;
+  private String itemJson;
+  private String holdingsRecordJson;
+
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    instance = Payloads.instance(size);
+    updatedInstance = JsonObject.mapFrom(instance).mapTo(Instance.class).withTitle("Updated title");
+    holdingsRecord = Payloads.holdingsRecord(size);
+    item = Payloads.item(size);
+    updatedItem = JsonObject.mapFrom(item).mapTo(Item.class).withBarcode("31234000000002");
+    items = List.of(item, Payloads.item(size), Payloads.item(size), Payloads.item(size), Payloads.item(size));
+    itemJson = ObjectMapperTool.getMapper().writeValueAsString(item);
+    holdingsRecordJson = ObjectMapperTool.getMapper().writeValueAsString(holdingsRecord);
+  }
+
+  @Benchmark
+  public JsonObject pojo2JsonObjectItem() throws JsonProcessingException {
+    return PostgresClient.pojo2JsonObject(item);
+  }
+
+  @Benchmark
+  public JsonObject pojo2JsonObjectInstance() throws JsonProcessingException {
+    return PostgresClient.pojo2JsonObject(instance);
+  }
+
+  @Benchmark
+  public boolean equalsIgnoringMetadataItem() throws JsonProcessingException {
+    return ComparisonUtils.equalsIgnoringMetadata(item, updatedItem);
+  }
+
+  @Benchmark
+  public Item readValueItem() throws JsonProcessingException {
+    return ObjectMapperTool.readValue(itemJson, Item.class);
+  }
+
+  @Benchmark
+  public HoldingsRecord readValueHoldingsRecord() throws JsonProcessingException {
+    return ObjectMapperTool.readValue(holdingsRecordJson, HoldingsRecord.class);
+  }
+
+  @Benchmark
+  public Instance mapFromMapToInstance() {
+    return JsonObject.mapFrom(instance).mapTo(Instance.class);
+  }
+
+  @Benchmark
+  public Collection<Item> deepCopyItems() {
+    return CollectionUtil.deepCopy(items, Item.class);
+  }
+
+  @Benchmark
+  public String encodeInstanceUpdateEvent() {
+    return Json.encode(DomainEvent.updateEvent(instance, updatedInstance, "diku"));
+  }
+
+  @Benchmark
+  public String encodeItemCreateEvent() {
+    return Json.encode(DomainEvent.createEvent(item, "diku"));
+  }
+}
@@ -0,0 +1,142 @@
+package org.folio.benchmark;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.util.UUID;
+import org.folio.rest.jaxrs.model.HoldingsRecord;
+import org.folio.rest.jaxrs.model.Instance;
+import org.folio.rest.jaxrs.model.Item;
+
+/**
+ * Instance, holdings record and item payloads of the sizes seen in production: {@code small} has
+ * the required fields only, {@code medium} a typical catalog record and {@code huge} a record
+ * with a thousand repeated subjects, notes and statements, like a large serial or a bound volume.
+ */
+final class Payloads {
+  private static final String UUID_1 = "b5b13415-145b-4e61-aaa8-d36f5b8a6f76";
+  private static final String UUID_2 = "1b6d3338-186e-4e35-9e75-1b886b0da53e";
+
+  private Payloads() { }
+
+  static int repetitions(String size) {
+    return switch (size) {
+      case "small" -> 0;
+      case "medium" -> 10;
+      case "huge" -> 1000;
+      default -> throw new IllegalArgumentException(size);
+    };
+  }
+
+  static Instance instance(String size) {
+    var n = repetitions(size);
+    var json = new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("_version", 1)
+      .put("hrid", "in00000000001")
+      .put("source", "MARC")
+      .put("title", "The journal of synthetic benchmarks : a quarterly review")
+      .put("instanceTypeId", UUID_1);
+    if (n == 0) {
+      return json.mapTo(Instance.class);
+    }
+    var identifiers = new JsonArray();
+    var contributors = new JsonArray();
+    var subjects = new JsonArray();
+    var notes = new JsonArray();
+    var electronicAccess = new JsonArray();
+    for (int i = 0; i < n; i++) {
+      identifiers.add(new JsonObject().put("value", "978-3-16-1484" + i).put("identifierTypeId", UUID_1));
+      contributors.add(new JsonObject().put("name", "Contributor, Number " + i).put("contributorNameTypeId", UUID_2)
+        .put("primary", i == 0));
+      subjects.add(new JsonObject().put("value", "Benchmarking -- Periodicals -- Volume " + i));
+      notes.add(new JsonObject().put("note", "Issue " + i + " includes a supplement and an index.")
+        .put("staffOnly", false));
+      electronicAccess.add(new JsonObject().put("uri", "https://example.org/journal/issue/" + i)
+        .put("linkText", "Issue " + i));
+    }
+    return json
+      .put("indexTitle", "journal of synthetic benchmarks")
+      .put("identifiers", identifiers)
+      .put("contributors", contributors)
+      .put("subjects", subjects)
+      .put("notes", notes)
+      .put("electronicAccess", electronicAccess)
+      .put("publication", new JsonArray().add(new JsonObject().put("publisher", "Benchmark Press")
+        .put("place", "Providence").put("dateOfPublication", "1999-")))
+      .put("languages", new JsonArray().add("eng").add("ger"))
+      .put("statisticalCodeIds", new JsonArray().add(UUID_1).add(UUID_2))
+      .put("metadata", metadata())
+      .mapTo(Instance.class);
+  }
+
+  static HoldingsRecord holdingsRecord(String size) {
+    var n = repetitions(size);
+    var json = new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("_version", 1)
+      .put("hrid", "ho00000000001")
+      .put("instanceId", UUID_1)
+      .put("sourceId", UUID_2)
+      .put("permanentLocationId", UUID_1);
+    if (n == 0) {
+      return json.mapTo(HoldingsRecord.class);
+    }
+    var statements = new JsonArray();
+    var notes = new JsonArray();
+    for (int i = 0; i < n; i++) {
+      statements.add(new JsonObject().put("statement", "v." + i + " (" + (1900 + i % 125) + ")")
+        .put("note", "Some issues missing"));
+      notes.add(new JsonObject().put("note", "Bound with supplement " + i).put("staffOnly", i % 2 == 0));
+    }
+    return json
+      .put("callNumber", "QA76.9 .B45")
+      .put("callNumberPrefix", "Ref")
+      .put("copyNumber", "c.1")
+      .put("holdingsStatements", statements)
+      .put("notes", notes)
+      .put("metadata", metadata())
+      .mapTo(HoldingsRecord.class);
+  }
+
+  static Item item(String size) {
+    var n = repetitions(size);
+    var json = new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("_version", 1)
+      .put("hrid", "it00000000001")
+      .put("holdingsRecordId", UUID_1)
+      .put("materialTypeId", UUID_2)
+      .put("permanentLoanTypeId", UUID_1)
+      .put("status", new JsonObject().put("name", "Available"));
+    if (n == 0) {
+      return json.mapTo(Item.class);
+    }
+    var notes = new JsonArray();
+    var yearCaption = new JsonArray();
+    var formerIds = new JsonArray();
+    for (int i = 0; i < n; i++) {
+      notes.add(new JsonObject().put("note", "Condition note " + i).put("staffOnly", true));
+      yearCaption.add(String.valueOf(1900 + i % 125));
+      formerIds.add("former-" + i);
+    }
+    return json
+      .put("barcode", "31234000000001")
+      .put("itemLevelCallNumber", "QA76.9 .B45 v.1")
+      .put("volume", "v.1")
+      .put("enumeration", "no.1-4")
+      .put("chronology", "1999")
+      .put("notes", notes)
+      .put("yearCaption", yearCaption)
+      .put("formerIds", formerIds)
+      .put("metadata", metadata())
+      .mapTo(Item.class);
+  }
+
+  private static JsonObject metadata() {
+    return new JsonObject()
+      .put("createdDate", "2024-01-01T00:00:00.000+00:00")
+      .put("createdByUserId", UUID_2)
+      .put("updatedDate", "2024-06-01T00:00:00.000+00:00")
+      .put("updatedByUserId", UUID_2);
+  }
+}
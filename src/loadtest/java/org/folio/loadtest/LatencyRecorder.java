@@ -0,0 +1,87 @@
+package org.folio.loadtest;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import java.util.Arrays;
+
+/**
+ * Latencies of the operations of a scenario, and the number of records they have processed.
+ */
+public class LatencyRecorder {
+  private final String scenario;
+  private long[] nanos = new long[1024];
+  private int operations;
+  private long records;
+  private long startNanos;
+  private long endNanos;
+
+  public LatencyRecorder(String scenario) {
+    this.scenario = scenario;
+  }
+
+  public String scenario() {
+    return scenario;
+  }
+
+  public void start() {
+    startNanos = System.nanoTime();
+  }
+
+  public void stop() {
+    endNanos = System.nanoTime();
+  }
+
+  /**
+   * Records the duration of the future, the operation processes {@code recordCount} records.
+   */
+  public <T> Future<T> time(int recordCount, Future<T> future) {
+    var start = System.nanoTime();
+    return future.onSuccess(notUsed -> record(System.nanoTime() - start, recordCount));
+  }
+
+  public synchronized void record(long durationNanos, int recordCount) {
+    if (operations == nanos.length) {
+      nanos = Arrays.copyOf(nanos, nanos.length * 2);
+    }
+    nanos[operations++] = durationNanos;
+    records += recordCount;
+  }
+
+  /**
+   * Adds records processed outside of the timed operations, for example by a background job.
+   */
+  public synchronized void addRecords(long recordCount) {
+    records += recordCount;
+  }
+
+  /**
+   * Operations, records, throughput per second and latency percentiles in milliseconds.
+   */
+  public synchronized JsonObject toJson() {
+    var sorted = Arrays.copyOf(nanos, operations);
+    Arrays.sort(sorted);
+    var seconds = (endNanos - startNanos) / 1e9;
+    return new JsonObject()
+      .put("scenario", scenario)
+      .put("operations", operations)
+      .put("records", records)
+      .put("durationSeconds", round(seconds))
+      .put("operationsPerSecond", round(seconds > 0 ? operations / seconds : 0))
+      .put("recordsPerSecond", round(seconds > 0 ? records / seconds : 0))
+      .put("p50Millis", round(percentile(sorted, 0.50) / 1e6))
+      .put("p99Millis", round(percentile(sorted, 0.99) / 1e6))
+      .put("maxMillis", round(operations == 0 ? 0 : sorted[operations - 1] / 1e6));
+  }
+
+  static double percentile(long[] sorted, double p) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    var index = (int) Math.ceil(p * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 1000) / 1000.0;
+  }
+}
@@ -0,0 +1,308 @@
+package org.folio.loadtest;
+
+import static org.folio.utility.RestUtility.TENANT_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.testcontainers.containers.localstack.LocalStackContainer.Service.S3;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.DatabindCodec;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.impl.BaseIntegrationTest;
+import org.folio.s3.client.S3ClientFactory;
+import org.folio.s3.client.S3ClientProperties;
+import org.folio.services.s3storage.FolioS3ClientFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Loads a synthetic inventory into the module running against the Postgres and Kafka containers
+ * of {@link BaseIntegrationTest} and measures the throughput and latency of the storage paths.
+ *
+ * <p>Run with {@code mvn verify -Pload-test -Dloadtest.instances=1000000}, the results are written
+ * to {@code target/load-test/results.json}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class StorageLoadTest extends BaseIntegrationTest {
+  private static final Logger log = LogManager.getLogger(StorageLoadTest.class);
+  private static final int INSTANCES = Integer.getInteger("loadtest.instances", 10_000);
+  private static final int BATCH_SIZE = Integer.getInteger("loadtest.batchSize", 1000);
+  private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 4);
+  private static final int CRUD_OPERATIONS = Integer.getInteger("loadtest.crudOperations", 10_000);
+  private static final long SEED = Long.getLong("loadtest.seed", 42);
+  private static final String RESULTS = System.getProperty("loadtest.results", "target/load-test/results.json");
+  private static final int HARVEST_IDS_PER_REQUEST = 50;
+  private static final int REINDEX_RANGES = 16;
+  private static final String BUCKET = "load-test";
+  private static final List<LatencyRecorder> RECORDERS = new ArrayList<>();
+
+  private static HttpClient client;
+  private static SyntheticInventory inventory;
+
+  @BeforeAll
+  static void setUp(Vertx vertx) throws Exception {
+    client = vertx.createHttpClient(new HttpClientOptions(), new PoolOptions().setHttp1MaxSize(CONCURRENCY * 2));
+    // sample data provides the locations
+    var job = new JsonObject()
+      .put("module_from", "mod-inventory-storage-1.0.0")
+      .put("module_to", "mod-inventory-storage-1.0.0")
+      .put("parameters", new JsonArray()
+        .add(new JsonObject().put("key", "loadReference").put("value", "true"))
+        .add(new JsonObject().put("key", "loadSample").put("value", "true")));
+    var id = await(expect(201, doPost(client, "/_/tenant", TENANT_ID, job))).jsonBody().getString("id");
+    await(expect(200, doGet(client, "/_/tenant/" + id + "?wait=600000", TENANT_ID)));
+    inventory = new SyntheticInventory(new SyntheticInventory.ReferenceIds(
+      firstId("/instance-types", "instanceTypes"),
+      firstId("/holdings-sources", "holdingsRecordsSources"),
+      firstId("/locations", "locations"),
+      firstId("/material-types", "mtypes"),
+      firstId("/loan-types", "loantypes")), SEED);
+  }
+
+  @AfterAll
+  static void writeResults() throws IOException {
+    var results = new JsonObject()
+      .put("instances", INSTANCES)
+      .put("batchSize", BATCH_SIZE)
+      .put("concurrency", CONCURRENCY)
+      .put("seed", SEED)
+      .put("scenarios", new JsonArray(RECORDERS.stream().map(LatencyRecorder::toJson).toList()));
+    var path = Path.of(RESULTS);
+    Files.createDirectories(path.toAbsolutePath().getParent());
+    Files.writeString(path, results.encodePrettily());
+    log.info("writeResults:: {}\n{}", path.toAbsolutePath(), results.encodePrettily());
+  }
+
+  @Test
+  @Order(1)
+  void batchSynchronous() throws Exception {
+    var instances = recorder("batch-sync-instances");
+    var holdings = recorder("batch-sync-holdings");
+    var items = recorder("batch-sync-items");
+    var boundWiths = recorder("bound-with-parts");
+    var batches = (INSTANCES + BATCH_SIZE - 1) / BATCH_SIZE;
+    runScenario(batches, i -> {
+      SyntheticInventory.Batch batch;
+      synchronized (inventory) {
+        batch = inventory.next(Math.min(BATCH_SIZE, INSTANCES - i * BATCH_SIZE));
+      }
+      return post(instances, "/instance-storage/batch/synchronous", "instances", batch.instances())
+        .compose(x -> post(holdings, "/holdings-storage/batch/synchronous", "holdingsRecords",
+          batch.holdingsRecords()))
+        .compose(x -> post(items, "/item-storage/batch/synchronous", "items", batch.items()))
+        .compose(x -> sequentially(batch.boundWithParts().size(), n -> boundWiths.time(1,
+          expect(201, doPost(client, "/inventory-storage/bound-with-parts", TENANT_ID,
+            batch.boundWithParts().get(n))))));
+    }, instances, holdings, items, boundWiths);
+    log.info("batchSynchronous:: {} instances, {} holdings records, {} items",
+      inventory.instanceCount(), inventory.holdingsCount(), inventory.itemCount());
+  }
+
+  @Test
+  @Order(2)
+  void singleRecordCrud() throws Exception {
+    var get = recorder("item-get");
+    var put = recorder("item-put");
+    var ids = inventory.sampleItemIds();
+    runScenario(CRUD_OPERATIONS, i -> {
+      var path = "/item-storage/items/" + ids.get(i % ids.size());
+      return get.time(1, expect(200, doGet(client, path, TENANT_ID)))
+        .compose(response -> {
+          var item = response.jsonBody().put("itemLevelCallNumber", "crud " + i);
+          return put.time(1, expect(204, doPut(client, path, TENANT_ID, item)));
+        });
+    }, get, put);
+  }
+
+  @Test
+  @Order(3)
+  void reindex() throws Exception {
+    var reindex = recorder("reindex-publish");
+    var recordTypes = List.of("instance", "holdings", "item");
+    runScenario(recordTypes.size() * REINDEX_RANGES, i -> {
+      var prefix = Integer.toHexString(i % REINDEX_RANGES);
+      var body = new JsonObject()
+        .put("id", UUID.randomUUID().toString())
+        .put("recordType", recordTypes.get(i / REINDEX_RANGES))
+        .put("recordIdsRange", new JsonObject()
+          .put("from", prefix + "0000000-0000-0000-0000-000000000000")
+          .put("to", prefix + "fffffff-ffff-ffff-ffff-ffffffffffff"));
+      return reindex.time(0, expect(201, doPost(client, "/inventory-reindex-records/publish", TENANT_ID, body)));
+    }, reindex);
+    reindex.addRecords(inventory.instanceCount() + inventory.holdingsCount() + inventory.itemCount());
+  }
+
+  @Test
+  @Order(4)
+  void iteration() throws Exception {
+    var iteration = recorder("instance-iteration");
+    iteration.start();
+    var start = System.nanoTime();
+    var job = await(expect(201, doPost(client, "/instance-storage/instances/iteration", TENANT_ID,
+      new JsonObject().put("topicName", "load-test-iteration")))).jsonBody();
+    while (!List.of("Completed", "Failed", "Cancelled").contains(job.getString("jobStatus"))) {
+      TimeUnit.SECONDS.sleep(1);
+      job = await(expect(200, doGet(client, "/instance-storage/instances/iteration/" + job.getString("id"),
+        TENANT_ID))).jsonBody();
+    }
+    iteration.record(System.nanoTime() - start, job.getInteger("messagesPublished", 0));
+    iteration.stop();
+    assertEquals("Completed", job.getString("jobStatus"));
+  }
+
+  @Test
+  @Order(5)
+  void oaiPmhHarvest() throws Exception {
+    var updatedIds = recorder("harvest-updated-instance-ids");
+    var itemsAndHoldings = recorder("harvest-items-and-holdings");
+    updatedIds.start();
+    var start = System.nanoTime();
+    var response = await(expect(200, doGet(client,
+      "/inventory-hierarchy/updated-instance-ids?startDate=2000-01-01T00:00:00Z&deletedRecordSupport=false"
+        + "&skipSuppressedFromDiscoveryRecords=false", TENANT_ID)));
+    var instanceIds = new ArrayList<String>();
+    try (var values = DatabindCodec.mapper().readerFor(JsonNode.class)
+      .<JsonNode>readValues(response.body().getBytes())) {
+      values.forEachRemaining(node -> instanceIds.add(node.get("instanceId").asText()));
+    }
+    updatedIds.record(System.nanoTime() - start, instanceIds.size());
+    updatedIds.stop();
+    var requests = (instanceIds.size() + HARVEST_IDS_PER_REQUEST - 1) / HARVEST_IDS_PER_REQUEST;
+    runScenario(requests, i -> {
+      var ids = instanceIds.subList(i * HARVEST_IDS_PER_REQUEST,
+        Math.min(instanceIds.size(), (i + 1) * HARVEST_IDS_PER_REQUEST));
+      var body = new JsonObject()
+        .put("instanceIds", new JsonArray(new ArrayList<>(ids)))
+        .put("skipSuppressedFromDiscoveryRecords", false);
+      return itemsAndHoldings.time(ids.size(),
+        expect(200, doPost(client, "/inventory-hierarchy/items-and-holdings", TENANT_ID, body)));
+    }, itemsAndHoldings);
+  }
+
+  @Test
+  @Order(6)
+  void s3BulkUpsert() throws Exception {
+    var bulk = recorder("s3-bulk-upsert-instances");
+    try (var localStack = new LocalStackContainer(DockerImageName.parse("localstack/localstack:s3-latest"))
+      .withServices(S3)) {
+      localStack.start();
+      System.setProperty(FolioS3ClientFactory.S3_URL_CONFIG, localStack.getEndpoint().toString());
+      System.setProperty(FolioS3ClientFactory.S3_REGION_CONFIG, localStack.getRegion());
+      System.setProperty(FolioS3ClientFactory.S3_ACCESS_KEY_ID_CONFIG, localStack.getAccessKey());
+      System.setProperty(FolioS3ClientFactory.S3_SECRET_ACCESS_KEY_CONFIG, localStack.getSecretKey());
+      System.setProperty(FolioS3ClientFactory.S3_BUCKET_CONFIG, BUCKET);
+      System.setProperty(FolioS3ClientFactory.S3_IS_AWS_CONFIG, Boolean.FALSE.toString());
+      var s3Client = S3ClientFactory.getS3Client(S3ClientProperties.builder()
+        .endpoint(localStack.getEndpoint().toString())
+        .accessKey(localStack.getAccessKey())
+        .secretKey(localStack.getSecretKey())
+        .bucket(BUCKET)
+        .awsSdk(false)
+        .region(localStack.getRegion())
+        .build());
+      s3Client.createBucketIfNotExists();
+
+      var files = Math.max(1, INSTANCES / 10 / BATCH_SIZE);
+      var fileNames = new ArrayList<String>();
+      for (int i = 0; i < files; i++) {
+        var ndjson = inventory.instances(BATCH_SIZE).stream()
+          .map(JsonObject::encode)
+          .collect(Collectors.joining("\n"));
+        fileNames.add(s3Client.write("load-test/instances-" + i,
+          new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8))));
+      }
+      runScenario(files, i -> bulk.time(BATCH_SIZE, expect(201, doPost(client, "/instance-storage/instances/bulk",
+        TENANT_ID, new JsonObject().put("recordsFileName", fileNames.get(i))))), bulk);
+    }
+  }
+
+  private static LatencyRecorder recorder(String scenario) {
+    var recorder = new LatencyRecorder(scenario);
+    RECORDERS.add(recorder);
+    return recorder;
+  }
+
+  /**
+   * Runs the operations 0 to count - 1 with {@link #CONCURRENCY} operations in flight.
+   */
+  private static void runScenario(int count, IntFunction<Future<?>> operation, LatencyRecorder... recorders)
+    throws Exception {
+
+    for (var recorder : recorders) {
+      recorder.start();
+    }
+    var next = new AtomicInteger();
+    var workers = new ArrayList<Future<Void>>();
+    for (int i = 0; i < Math.min(CONCURRENCY, count); i++) {
+      workers.add(worker(next, count, operation));
+    }
+    await(Future.all(workers));
+    for (var recorder : recorders) {
+      recorder.stop();
+    }
+  }
+
+  private static Future<Void> worker(AtomicInteger next, int count, IntFunction<Future<?>> operation) {
+    var i = next.getAndIncrement();
+    if (i >= count) {
+      return Future.succeededFuture();
+    }
+    return operation.apply(i).compose(x -> worker(next, count, operation));
+  }
+
+  private static Future<Void> sequentially(int count, IntFunction<Future<?>> operation) {
+    Future<?> future = Future.succeededFuture();
+    for (int i = 0; i < count; i++) {
+      var n = i;
+      future = future.compose(x -> operation.apply(n));
+    }
+    return future.mapEmpty();
+  }
+
+  private static Future<TestResponse> post(LatencyRecorder recorder, String path, String arrayName,
+                                           List<JsonObject> records) {
+    var body = new JsonObject().put(arrayName, new JsonArray(new ArrayList<>(records)));
+    return recorder.time(records.size(), expect(201, doPost(client, path, TENANT_ID, body)));
+  }
+
+  private static Future<TestResponse> expect(int status, Future<TestResponse> future) {
+    return future.compose(response -> response.status() == status
+      ? Future.succeededFuture(response)
+      : Future.failedFuture("Expected HTTP status " + status + " but got " + response.status() + ": "
+        + response.body()));
+  }
+
+  private static String firstId(String path, String arrayName) throws Exception {
+    return await(expect(200, doGet(client, path + "?limit=1", TENANT_ID)))
+      .jsonBody().getJsonArray(arrayName).getJsonObject(0).getString("id");
+  }
+
+  private static <T> T await(Future<T> future) throws Exception {
+    return future.toCompletionStage().toCompletableFuture().get(6, TimeUnit.HOURS);
+  }
+}
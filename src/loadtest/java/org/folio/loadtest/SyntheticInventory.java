@@ -0,0 +1,191 @@
+package org.folio.loadtest;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Generates a reproducible synthetic inventory in batches of instances with their holdings records,
+ * items and bound-with parts.
+ *
+ * <p>The fan-out is skewed like in real libraries: most instances have one holdings record with
+ * a few items, a long tail has many holdings records, and serials have hundreds of items.
+ */
+public class SyntheticInventory {
+  private static final String[] WORDS = {
+    "history", "science", "music", "art", "theory", "introduction", "handbook", "journal", "review",
+    "letters", "studies", "essays", "world", "modern", "ancient", "american", "european", "poetry",
+    "physics", "chemistry", "biology", "economics", "law", "medicine", "philosophy", "language",
+  };
+  private static final int MAX_HOLDINGS_PER_INSTANCE = 20;
+  private static final int MAX_ITEMS_PER_HOLDINGS = 500;
+  private static final double BOUND_WITH_RATIO = 0.01;
+  private static final int SAMPLE_SIZE = 10_000;
+
+  private final ReferenceIds referenceIds;
+  private final Random random;
+  private final List<String> sampleItemIds = new ArrayList<>();
+  private final List<String> sampleHoldingsIds = new ArrayList<>();
+  private long instanceCount;
+  private long holdingsCount;
+  private long itemCount;
+
+  public SyntheticInventory(ReferenceIds referenceIds, long seed) {
+    this.referenceIds = referenceIds;
+    this.random = new Random(seed);
+  }
+
+  public Batch next(int instances) {
+    var batch = new Batch(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    for (int i = 0; i < instances; i++) {
+      var instance = instance();
+      batch.instances().add(instance);
+      for (int h = skewed(2.0, MAX_HOLDINGS_PER_INSTANCE); h > 0; h--) {
+        var holdings = holdings(instance.getString("id"));
+        batch.holdingsRecords().add(holdings);
+        for (int n = skewed(1.3, MAX_ITEMS_PER_HOLDINGS); n > 0; n--) {
+          var item = item(holdings.getString("id"));
+          batch.items().add(item);
+          if (random.nextDouble() < BOUND_WITH_RATIO && !sampleHoldingsIds.isEmpty()) {
+            batch.boundWithParts().add(new JsonObject()
+              .put("itemId", item.getString("id"))
+              .put("holdingsRecordId", sampleHoldingsIds.get(random.nextInt(sampleHoldingsIds.size()))));
+          }
+        }
+      }
+    }
+    return batch;
+  }
+
+  /**
+   * Instances for the bulk upsert, not linked to the batches.
+   */
+  public List<JsonObject> instances(int count) {
+    var instances = new ArrayList<JsonObject>(count);
+    for (int i = 0; i < count; i++) {
+      instances.add(instance());
+    }
+    return instances;
+  }
+
+  /**
+   * Up to 10000 item ids drawn uniformly from all generated items.
+   */
+  public List<String> sampleItemIds() {
+    return sampleItemIds;
+  }
+
+  public long instanceCount() {
+    return instanceCount;
+  }
+
+  public long holdingsCount() {
+    return holdingsCount;
+  }
+
+  public long itemCount() {
+    return itemCount;
+  }
+
+  private JsonObject instance() {
+    instanceCount++;
+    var subjects = new JsonArray();
+    for (int i = random.nextInt(6); i > 0; i--) {
+      subjects.add(new JsonObject().put("value", words(2) + " -- " + words(1)));
+    }
+    return new JsonObject()
+      .put("id", uuid())
+      .put("source", "FOLIO")
+      .put("title", words(2 + random.nextInt(8)))
+      .put("instanceTypeId", referenceIds.instanceTypeId())
+      .put("subjects", subjects)
+      .put("languages", new JsonArray().add(random.nextInt(4) == 0 ? "ger" : "eng"))
+      .put("publication", new JsonArray().add(new JsonObject()
+        .put("publisher", words(2))
+        .put("dateOfPublication", String.valueOf(1800 + random.nextInt(225)))));
+  }
+
+  private JsonObject holdings(String instanceId) {
+    holdingsCount++;
+    var holdings = new JsonObject()
+      .put("id", uuid())
+      .put("instanceId", instanceId)
+      .put("sourceId", referenceIds.holdingsSourceId())
+      .put("permanentLocationId", referenceIds.locationId())
+      .put("callNumber", callNumber());
+    sample(sampleHoldingsIds, holdingsCount, holdings.getString("id"));
+    return holdings;
+  }
+
+  private JsonObject item(String holdingsRecordId) {
+    itemCount++;
+    var item = new JsonObject()
+      .put("id", uuid())
+      .put("holdingsRecordId", holdingsRecordId)
+      .put("barcode", "lt" + itemCount)
+      .put("materialTypeId", referenceIds.materialTypeId())
+      .put("permanentLoanTypeId", referenceIds.loanTypeId())
+      .put("status", new JsonObject().put("name", "Available"));
+    if (random.nextInt(5) == 0) {
+      item.put("volume", "v." + (1 + random.nextInt(100)));
+    }
+    sample(sampleItemIds, itemCount, item.getString("id"));
+    return item;
+  }
+
+  /**
+   * Reservoir sampling, each of the {@code count} values has the same chance to be in the sample.
+   */
+  private void sample(List<String> sample, long count, String value) {
+    if (sample.size() < SAMPLE_SIZE) {
+      sample.add(value);
+      return;
+    }
+    var index = (long) (random.nextDouble() * count);
+    if (index < SAMPLE_SIZE) {
+      sample.set((int) index, value);
+    }
+  }
+
+  /**
+   * Pareto distributed count between 1 and max, a smaller alpha has a longer tail.
+   */
+  private int skewed(double alpha, int max) {
+    var value = Math.floor(1 / Math.pow(1 - random.nextDouble(), 1 / alpha));
+    return (int) Math.min(max, value);
+  }
+
+  private String words(int count) {
+    var sb = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        sb.append(' ');
+      }
+      sb.append(WORDS[random.nextInt(WORDS.length)]);
+    }
+    return sb.toString();
+  }
+
+  private String callNumber() {
+    return (char) ('A' + random.nextInt(26)) + String.valueOf(1 + random.nextInt(9999))
+      + " ." + (char) ('A' + random.nextInt(26)) + random.nextInt(100);
+  }
+
+  /**
+   * Random version 4 UUID from the seeded random.
+   */
+  private String uuid() {
+    var msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+    var lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(msb, lsb).toString();
+  }
+
+  public record ReferenceIds(String instanceTypeId, String holdingsSourceId, String locationId,
+                             String materialTypeId, String loanTypeId) { }
+
+  public record Batch(List<JsonObject> instances, List<JsonObject> holdingsRecords, List<JsonObject> items,
+                      List<JsonObject> boundWithParts) { }
+}
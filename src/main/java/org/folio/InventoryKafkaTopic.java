@@ -1,7 +1,10 @@
 package org.folio;
 
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.folio.kafka.services.KafkaTopic;
@@ -54,6 +57,14 @@ public enum InventoryKafkaTopic implements KafkaTopic {
     REINDEX_RECORDS, Pair.of("KAFKA_REINDEX_RECORDS_TOPIC_MAX_MESSAGE_SIZE", "10485760") // 10 MB
   );
 
+  private static final String PRODUCER_PROPERTY_PREFIX = "KAFKA_";
+  private static final String COMPRESSION_TYPE_PROPERTY = "PRODUCER_COMPRESSION_TYPE";
+  private static final String BATCH_SIZE_PROPERTY = "PRODUCER_BATCH_SIZE";
+  private static final String LINGER_MS_PROPERTY = "PRODUCER_LINGER_MS";
+  private static final String COMPACT_UPDATE_EVENTS_PROPERTY = "COMPACT_UPDATE_EVENTS";
+  private static final Set<String> COMPRESSION_TYPES = Set.of("none", "gzip", "snappy", "lz4", "zstd");
+  private static final Set<InventoryKafkaTopic> COMPACT_UPDATE_EVENT_TOPICS = Set.of(INSTANCE, HOLDINGS_RECORD, ITEM);
+
   private final String topic;
 
   InventoryKafkaTopic(String topic) {
@@ -91,6 +102,53 @@ public enum InventoryKafkaTopic implements KafkaTopic {
       .orElse(null);
   }
 
+  /**
+   * Producer properties for the topic: compression codec, batch size and linger.
+   *
+   * <p>Each value is looked up in the topic specific variable first
+   * (e.g. {@code KAFKA_INSTANCE_PRODUCER_COMPRESSION_TYPE}), then in the module wide one
+   * (e.g. {@code KAFKA_PRODUCER_COMPRESSION_TYPE}). Kafka defaults apply to values that are not set.
+   */
+  public Map<String, String> producerProperties() {
+    var properties = new HashMap<String, String>();
+
+    getProducerPropertyValue(COMPRESSION_TYPE_PROPERTY)
+      .map(value -> value.toLowerCase(Locale.ROOT))
+      .map(this::validateCompressionType)
+      .ifPresent(value -> properties.put("compression.type", value));
+    getProducerPropertyValue(BATCH_SIZE_PROPERTY)
+      .map(value -> String.valueOf(Integer.parseInt(value)))
+      .ifPresent(value -> properties.put("batch.size", value));
+    getProducerPropertyValue(LINGER_MS_PROPERTY)
+      .map(value -> String.valueOf(Integer.parseInt(value)))
+      .ifPresent(value -> properties.put("linger.ms", value));
+
+    return properties;
+  }
+
+  /**
+   * Whether update events on the topic carry the new entity and a JSON patch
+   * instead of both the old and the new entity. Supported by instance, holdings and item topics only.
+   */
+  public boolean compactUpdateEvents() {
+    if (!COMPACT_UPDATE_EVENT_TOPICS.contains(this)) {
+      return false;
+    }
+
+    return getProducerPropertyValue(COMPACT_UPDATE_EVENTS_PROPERTY)
+      .map(Boolean::parseBoolean)
+      .orElse(false);
+  }
+
+  public static Optional<InventoryKafkaTopic> byFullTopicName(String fullTopicName) {
+    for (InventoryKafkaTopic kafkaTopic : values()) {
+      if (StringUtils.endsWith(fullTopicName, "." + kafkaTopic.moduleName() + "." + kafkaTopic.topicName())) {
+        return Optional.of(kafkaTopic);
+      }
+    }
+    return Optional.empty();
+  }
+
   public static InventoryKafkaTopic byTopic(String topic) {
     for (InventoryKafkaTopic kafkaTopic : values()) {
       if (kafkaTopic.topicName().equals(topic)) {
@@ -106,4 +164,25 @@ public enum InventoryKafkaTopic implements KafkaTopic {
       System.getProperty(propertyName),
       System.getProperty(propertyName.toLowerCase().replace('_', '-')), defaultNumPartitions));
   }
+
+  private Optional<String> getProducerPropertyValue(String propertyName) {
+    return Optional.ofNullable(StringUtils.firstNonBlank(
+      getStringPropertyValue(PRODUCER_PROPERTY_PREFIX + name() + "_" + propertyName),
+      getStringPropertyValue(PRODUCER_PROPERTY_PREFIX + propertyName)));
+  }
+
+  private String getStringPropertyValue(String propertyName) {
+    return StringUtils.firstNonBlank(
+      System.getenv(propertyName),
+      System.getProperty(propertyName),
+      System.getProperty(propertyName.toLowerCase().replace('_', '-')));
+  }
+
+  private String validateCompressionType(String compressionType) {
+    if (!COMPRESSION_TYPES.contains(compressionType)) {
+      throw new IllegalArgumentException("Unsupported Kafka compression type " + compressionType
+        + " for topic " + topic + ", supported types: " + COMPRESSION_TYPES);
+    }
+    return compressionType;
+  }
 }
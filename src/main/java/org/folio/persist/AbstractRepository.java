@@ -2,22 +2,30 @@ package org.folio.persist;
 
 import static io.vertx.core.Future.succeededFuture;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.Tuple;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.folio.cql2pgjson.CQL2PgJSON;
+import org.folio.dbschema.ObjectMapperTool;
+import org.folio.rest.persist.Conn;
 import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.persist.PostgresClientFuturized;
 import org.folio.rest.persist.SQLConnection;
 import org.folio.rest.persist.interfaces.Results;
+import org.folio.services.metrics.InventoryMetrics;
+import org.folio.util.UuidUtil;
 
 public abstract class AbstractRepository<T> {
 
@@ -35,11 +43,11 @@ public abstract class AbstractRepository<T> {
   }
 
   public Future<String> save(String id, T entity) {
-    return postgresClientFuturized.save(tableName, id, entity);
+    return time("save", postgresClientFuturized.save(tableName, id, entity));
   }
 
   public Future<List<T>> get(Criterion criterion) {
-    return postgresClientFuturized.get(tableName, recordType, criterion);
+    return time("get", postgresClientFuturized.get(tableName, recordType, criterion));
   }
 
   public Future<List<T>> get(AsyncResult<SQLConnection> connection, Criterion criterion) {
@@ -48,11 +56,11 @@ public abstract class AbstractRepository<T> {
   }
 
   public Future<T> getById(String id) {
-    return postgresClientFuturized.getById(tableName, id, recordType);
+    return time("getById", postgresClientFuturized.getById(tableName, id, recordType));
   }
 
   public Future<Map<String, T>> getById(Collection<String> ids) {
-    return postgresClientFuturized.getById(tableName, ids, recordType);
+    return time("getByIds", postgresClientFuturized.getById(tableName, ids, recordType));
   }
 
   public <V> Future<Map<String, T>> getById(Collection<V> records, Function<V, String> mapper) {
@@ -63,6 +71,23 @@ public abstract class AbstractRepository<T> {
     return getById(ids);
   }
 
+  /**
+   * The ids without record in the table, in the order of the ids, with a single query; an id
+   * that is not a UUID is missing.
+   */
+  public Future<List<String>> getMissingIds(List<String> ids) {
+    var uuids = ids.stream().filter(AbstractRepository::isUuid).map(UUID::fromString).distinct()
+      .toArray(UUID[]::new);
+    var sql = "SELECT id FROM unnest($1::uuid[]) AS t(id) WHERE NOT EXISTS"
+      + " (SELECT 1 FROM " + postgresClientFuturized.getFullTableName(tableName) + " r WHERE r.id = t.id)";
+    return time("getMissingIds", postgresClient.execute(sql, Tuple.tuple().addArrayOfUUID(uuids)))
+      .map(rowSet -> {
+        var missing = new HashSet<UUID>();
+        rowSet.forEach(row -> missing.add(row.getUUID(0)));
+        return ids.stream().filter(id -> !isUuid(id) || missing.contains(UUID.fromString(id))).toList();
+      });
+  }
+
   public Future<Boolean> exists(String id) {
     return postgresClient.execute(
         "select 1 from " + postgresClient.getSchemaName() + "." + tableName + " where id = $1 limit 1",
@@ -79,18 +104,74 @@ public abstract class AbstractRepository<T> {
   }
 
   public Future<RowSet<Row>> update(String id, T entity) {
-    return postgresClient.update(tableName, entity, id);
+    return time("update", postgresClient.update(tableName, entity, id));
   }
 
   public Future<RowSet<Row>> updateBatch(List<T> records, SQLConnection connection) {
     return postgresClient.withConn(succeededFuture(connection), conn -> conn.upsertBatch(tableName, records));
   }
 
+  /**
+   * Upserts all records with a single INSERT ... SELECT FROM unnest(...) ON CONFLICT statement,
+   * one round trip instead of one statement per record.
+   */
+  public Future<RowSet<Row>> loadBatch(Conn conn, List<T> records, Function<T, String> idGetter) {
+    var ids = new String[records.size()];
+    var jsons = new String[records.size()];
+    try {
+      for (int i = 0; i < records.size(); i++) {
+        ids[i] = idGetter.apply(records.get(i));
+        jsons[i] = ObjectMapperTool.getMapper().writeValueAsString(records.get(i));
+      }
+    } catch (JsonProcessingException e) {
+      return Future.failedFuture(e);
+    }
+    var sql = "INSERT INTO " + postgresClient.getSchemaName() + "." + tableName + " (id, jsonb)"
+      + " SELECT id::uuid, jsonb::jsonb FROM unnest($1::text[], $2::text[]) AS t(id, jsonb)"
+      + " ON CONFLICT (id) DO UPDATE SET jsonb = EXCLUDED.jsonb";
+    return time("loadBatch", conn.execute(sql, Tuple.of(ids, jsons)));
+  }
+
+  public Future<RowSet<Row>> loadBatch(List<T> records, Function<T, String> idGetter) {
+    return postgresClient.withConn(conn -> loadBatch(conn, records, idGetter));
+  }
+
   public Future<RowSet<Row>> deleteAll() {
-    return postgresClientFuturized.delete(tableName, new Criterion());
+    return time("deleteAll", postgresClientFuturized.delete(tableName, new Criterion()));
+  }
+
+  /**
+   * Deletes up to limit records that match the CQL query and have an id greater than afterId,
+   * in id order; afterId is null for the first chunk.
+   *
+   * @param returning the RETURNING list of the DELETE statement, its first column must be the id
+   */
+  protected Future<RowSet<Row>> deleteChunk(String cql, String afterId, int limit, String returning) {
+    try {
+      var where = new CQL2PgJSON(tableName + ".jsonb").toSql(cql).getWhere();
+      var fullTableName = postgresClientFuturized.getFullTableName(tableName);
+      var sql = "DELETE FROM " + fullTableName + " WHERE id IN (SELECT id FROM " + fullTableName + " " + tableName
+        + " WHERE (" + (where.isBlank() ? "true" : where) + ")" + (afterId == null ? "" : " AND id > $2")
+        + " ORDER BY id LIMIT $1) RETURNING " + returning;
+      var params = afterId == null ? Tuple.of(limit) : Tuple.of(limit, UUID.fromString(afterId));
+      return time("deleteChunk", postgresClient.execute(sql, params));
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
   }
 
   public Future<RowSet<Row>> deleteById(String id) {
-    return postgresClientFuturized.deleteById(tableName, id);
+    return time("deleteById", postgresClientFuturized.deleteById(tableName, id));
+  }
+
+  /**
+   * Records the query duration in the db.query timer of the table.
+   */
+  protected <R> Future<R> time(String method, Future<R> query) {
+    return InventoryMetrics.timeQuery(tableName, method, query);
+  }
+
+  private static boolean isUuid(String id) {
+    return id != null && UuidUtil.isUuid(id);
   }
 }
@@ -1,14 +1,84 @@
 package org.folio.persist;
 
 import static org.folio.rest.impl.BoundWithPartApi.BOUND_WITH_TABLE;
+import static org.folio.rest.impl.HoldingsStorageApi.HOLDINGS_RECORD_TABLE;
 import static org.folio.rest.persist.PgUtil.postgresClient;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.folio.dbschema.ObjectMapperTool;
 import org.folio.rest.jaxrs.model.BoundWithPart;
+import org.folio.rest.persist.Conn;
 
 public class BoundWithRepository extends AbstractRepository<BoundWithPart> {
   public BoundWithRepository(Context context, Map<String, String> okapiHeaders) {
     super(postgresClient(context, okapiHeaders), BOUND_WITH_TABLE, BoundWithPart.class);
   }
+
+  /**
+   * Deletes the parts of the item whose holdings record is not in holdingsRecordIds with a single statement.
+   *
+   * @return the instance id of the holdings record and the deleted part for each deleted part
+   */
+  public Future<List<Pair<String, BoundWithPart>>> deleteOtherParts(Conn conn, String itemId,
+                                                                    List<String> holdingsRecordIds) {
+
+    var sql = "DELETE FROM " + postgresClientFuturized.getFullTableName(tableName)
+      + " WHERE itemid = $1 AND NOT holdingsrecordid = ANY($2)"
+      + returningInstanceIdAndJsonb();
+    var tuple = Tuple.tuple()
+      .addUUID(UUID.fromString(itemId))
+      .addArrayOfUUID(holdingsRecordIds.stream().map(UUID::fromString).toArray(UUID[]::new));
+    return conn.execute(sql, tuple).map(BoundWithRepository::toParts);
+  }
+
+  /**
+   * Inserts the parts whose item and holdings record are not linked yet with a single
+   * INSERT ... SELECT FROM unnest(...) statement.
+   *
+   * @return the instance id of the holdings record and the inserted part for each inserted part
+   */
+  public Future<List<Pair<String, BoundWithPart>>> insertMissingParts(Conn conn, String itemId,
+                                                                      List<BoundWithPart> parts) {
+    var ids = new String[parts.size()];
+    var jsons = new String[parts.size()];
+    try {
+      for (int i = 0; i < parts.size(); i++) {
+        ids[i] = parts.get(i).getId();
+        jsons[i] = ObjectMapperTool.getMapper().writeValueAsString(parts.get(i));
+      }
+    } catch (JsonProcessingException e) {
+      return Future.failedFuture(e);
+    }
+    var table = postgresClientFuturized.getFullTableName(tableName);
+    var sql = "INSERT INTO " + table + " (id, jsonb)"
+      + " SELECT t.id::uuid, t.jsonb::jsonb FROM unnest($2::text[], $3::text[]) AS t(id, jsonb)"
+      + " WHERE NOT EXISTS (SELECT 1 FROM " + table + " p"
+      + "   WHERE p.itemid = $1 AND p.holdingsrecordid = (t.jsonb::jsonb ->> 'holdingsRecordId')::uuid)"
+      + returningInstanceIdAndJsonb();
+    return conn.execute(sql, Tuple.of(UUID.fromString(itemId), ids, jsons)).map(BoundWithRepository::toParts);
+  }
+
+  private String returningInstanceIdAndJsonb() {
+    return " RETURNING (SELECT instanceId::text FROM " + postgresClientFuturized.getFullTableName(HOLDINGS_RECORD_TABLE)
+      + " WHERE id = holdingsRecordId), jsonb";
+  }
+
+  private static List<Pair<String, BoundWithPart>> toParts(RowSet<Row> rowSet) {
+    var parts = new ArrayList<Pair<String, BoundWithPart>>(rowSet.rowCount());
+    for (Row row : rowSet) {
+      parts.add(new ImmutablePair<>(row.getString(0), row.getJsonObject(1).mapTo(BoundWithPart.class)));
+    }
+    return parts;
+  }
 }
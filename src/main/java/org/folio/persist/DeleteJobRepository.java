@@ -0,0 +1,25 @@
+package org.folio.persist;
+
+import static org.folio.rest.persist.PgUtil.postgresClient;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import org.folio.rest.jaxrs.model.DeleteJob;
+
+public class DeleteJobRepository extends AbstractRepository<DeleteJob> {
+
+  private static final String TABLE_NAME = "delete_job";
+
+  public DeleteJobRepository(Context context, Map<String, String> okapiHeaders) {
+    super(postgresClient(context, okapiHeaders), TABLE_NAME, DeleteJob.class);
+  }
+
+  public Future<DeleteJob> fetchAndUpdate(String id, UnaryOperator<DeleteJob> builder) {
+    return getById(id)
+      .map(builder)
+      .compose(response -> update(id, response)
+        .map(response));
+  }
+}
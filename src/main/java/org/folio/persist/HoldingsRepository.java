@@ -12,11 +12,10 @@ import io.vertx.sqlclient.Tuple;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import org.folio.cql2pgjson.CQL2PgJSON;
 import org.folio.rest.jaxrs.model.HoldingsRecord;
-import org.folio.rest.persist.cql.CQLWrapper;
 
 public class HoldingsRepository extends AbstractRepository<HoldingsRecord> {
+
   public HoldingsRepository(Context context, Map<String, String> okapiHeaders) {
     super(postgresClient(context, okapiHeaders), HOLDINGS_RECORD_TABLE, HoldingsRecord.class);
   }
@@ -24,9 +23,21 @@ public class HoldingsRepository extends AbstractRepository<HoldingsRecord> {
   /**
    * Produce a single row where the {@code holdings} column is a text field
    * containing a JSON array with all holdings records; the
-   * {@code total_records} column is the exact totalRecords count.
+   * {@code total_records} column is the exact totalRecords count, read from the
+   * holdings counter of the instance that the database triggers maintain; the okapiHeaders of the
+   * request select the read connection.
+   */
+  public Future<Row> getByInstanceId(String instanceId, String[] sortBys, int offset, int limit,
+                                     Map<String, String> okapiHeaders) {
+    return getByInstanceId(instanceId, sortBys, offset, limit, true, okapiHeaders);
+  }
+
+  /**
+   * Same as {@link #getByInstanceId(String, String[], int, int, Map)} but the {@code total_records}
+   * column is null and the counter lookup is skipped if {@code withCount} is false.
    */
-  public Future<Row> getByInstanceId(String instanceId, String[] sortBys, int offset, int limit) {
+  public Future<Row> getByInstanceId(String instanceId, String[] sortBys, int offset, int limit,
+                                     boolean withCount, Map<String, String> okapiHeaders) {
     var orderBy = new StringBuilder();
     for (var sortBy : sortBys) {
       if (sortBy.isEmpty()) {
@@ -60,36 +71,30 @@ public class HoldingsRepository extends AbstractRepository<HoldingsRecord> {
         + "   ORDER BY " + orderBy
         + "   OFFSET $2"
         + "   LIMIT $3"
-        + " )::text AS holdings, ("
-        + "   SELECT COUNT(*) AS total_records"
-        + "   FROM " + HOLDINGS_RECORD_TABLE
-        + "   WHERE instanceId=$1"
-        + ")";
-    return postgresClient.withReadConn(conn -> conn.execute(sql, Tuple.of(instanceId, offset, limit)))
+        + " )::text AS holdings, "
+        + (withCount
+           ? "COALESCE((SELECT holdings_count FROM " + RecordCountRepository.INSTANCE_RECORD_COUNT_TABLE
+             + " WHERE instance_id=$1), 0)"
+           : "NULL::bigint")
+        + " AS total_records";
+    return new ReadRouter(postgresClient, okapiHeaders)
+        .withReadConn(conn -> conn.execute(sql, Tuple.of(instanceId, offset, limit)))
         .map(rowSet -> rowSet.iterator().next());
   }
 
   /**
-   * Delete by CQL. For each deleted record return a {@link Row} with the instance id String
-   * and with the holdings' jsonb String.
+   * Deletes a chunk of the holdings matching the CQL query, returns id and jsonb of the deleted holdings.
    */
-  public Future<RowSet<Row>> delete(String cql) {
-    try {
-      CQLWrapper cqlWrapper = new CQLWrapper(new CQL2PgJSON(tableName + ".jsonb"), cql, -1, -1);
-      String sql = "DELETE FROM " + postgresClientFuturized.getFullTableName(tableName)
-        + " " + cqlWrapper.getWhereClause()
-        + " RETURNING instanceId::text, jsonb::text";
-      return postgresClient.execute(sql);
-    } catch (Exception e) {
-      return Future.failedFuture(e);
-    }
+  public Future<RowSet<Row>> deleteChunk(String cql, String afterId, int limit) {
+    return deleteChunk(cql, afterId, limit, "id::text, jsonb::text");
   }
 
-  public Future<List<Map<String, Object>>> getReindexHoldingsRecords(String fromId, String toId) {
+  public Future<List<Map<String, Object>>> getReindexHoldingsRecords(String fromId, String toId,
+                                                                     Map<String, String> okapiHeaders) {
     var sql = "SELECT jsonb FROM " + postgresClientFuturized.getFullTableName(HOLDINGS_RECORD_TABLE)
                  + " i WHERE id >= '" + fromId + "' AND id <= '" + toId + "'"
                  + ";";
-    return postgresClient.select(sql).map(rows -> {
+    return new ReadRouter(postgresClient, okapiHeaders).withReadConn(conn -> conn.execute(sql)).map(rows -> {
       var resultList = new LinkedList<Map<String, Object>>();
       for (var row : rows) {
         resultList.add(row.getJsonObject(0).getMap());
@@ -164,11 +164,18 @@ public class InstanceRepository extends AbstractRepository<Instance> {
     }
   }
 
+  /**
+   * Deletes a chunk of the instances matching the CQL query, returns id and jsonb of the deleted instances.
+   */
+  public Future<RowSet<Row>> deleteChunk(String cql, String afterId, int limit) {
+    return deleteChunk(cql, afterId, limit, "id::text, jsonb::text");
+  }
+
   @SuppressWarnings("java:S107") // suppress "Methods should not have too many parameters"
   public Future<Response> getInstanceSet(boolean instance, boolean holdingsRecords, boolean items,
                                          boolean precedingTitles, boolean succeedingTitles,
                                          boolean superInstanceRelationships, boolean subInstanceRelationships,
-                                         int offset, int limit, String query) {
+                                         int offset, int limit, String query, Map<String, String> okapiHeaders) {
 
     try {
       StringBuilder sql = new StringBuilder(200);
@@ -204,7 +211,7 @@ public class InstanceRepository extends AbstractRepository<Instance> {
       var cqlWrapper = new CQLWrapper(field, query, limit, offset, "none");
       sql.append(cqlWrapper);
 
-      return postgresClient.select(sql.toString())
+      return new ReadRouter(postgresClient, okapiHeaders).withReadConn(conn -> conn.execute(sql.toString()))
         .map(rowSet -> {
           StringBuilder json = new StringBuilder("{\"instanceSets\":[\n");
           boolean first = true;
@@ -227,7 +234,8 @@ public class InstanceRepository extends AbstractRepository<Instance> {
   }
 
   public Future<List<Map<String, Object>>> getReindexInstances(String fromId, String toId,
-                                                               boolean notConsortiumRecords) {
+                                                               boolean notConsortiumRecords,
+                                                               Map<String, String> okapiHeaders) {
     var sql = new StringBuilder("WITH bound_instances AS (");
     sql.append("SELECT DISTINCT hr.instanceId FROM ");
     sql.append(postgresClientFuturized.getFullTableName(BOUND_WITH_TABLE));
@@ -246,19 +254,21 @@ public class InstanceRepository extends AbstractRepository<Instance> {
     }
     sql.append(";");
 
-    return postgresClient.select(sql.toString()).map(rows -> {
-      var resultList = new LinkedList<Map<String, Object>>();
-      for (var row : rows) {
-        resultList.add(row.getJsonObject(0).getMap());
-      }
-      return resultList;
-    });
+    return new ReadRouter(postgresClient, okapiHeaders).withReadConn(conn -> conn.execute(sql.toString()))
+      .map(rows -> {
+        var resultList = new LinkedList<Map<String, Object>>();
+        for (var row : rows) {
+          resultList.add(row.getJsonObject(0).getMap());
+        }
+        return resultList;
+      });
   }
 
-  public Future<Response> getInventoryViewInstancesWithBoundedItems(int offset, int limit, String query) {
+  public Future<Response> getInventoryViewInstancesWithBoundedItems(int offset, int limit, String query,
+                                                                   Map<String, String> okapiHeaders) {
     try {
       var sql = buildInventoryViewQueryWithBoundedItems(query, limit, offset);
-      return postgresClient.select(sql.toString())
+      return new ReadRouter(postgresClient, okapiHeaders).withReadConn(conn -> conn.execute(sql.toString()))
         .map(this::buildInventoryViewResponse);
     } catch (CQLQueryValidationException e) {
       return Future.failedFuture(new BadRequestException(e.getMessage()));
@@ -7,19 +7,22 @@ import static org.folio.rest.persist.PgUtil.postgresClient;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import org.folio.cql2pgjson.CQL2PgJSON;
 import org.folio.rest.jaxrs.model.Item;
+import org.folio.rest.jaxrs.model.ItemStatusUpdate;
 import org.folio.rest.persist.Criteria.Criteria;
 import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.rest.persist.SQLConnection;
-import org.folio.rest.persist.cql.CQLWrapper;
 
 public class ItemRepository extends AbstractRepository<Item> {
+
   public ItemRepository(Context context, Map<String, String> okapiHeaders) {
     super(postgresClient(context, okapiHeaders), ITEM_TABLE, Item.class);
   }
@@ -32,29 +35,67 @@ public class ItemRepository extends AbstractRepository<Item> {
   }
 
   /**
-   * Delete by CQL. For each deleted record return a {@link Row} with the instance id String
-   * and with the item's jsonb String.
+   * Deletes a chunk of the items matching the CQL query, returns id, instance id and jsonb of the deleted items.
+   */
+  public Future<RowSet<Row>> deleteChunk(String cql, String afterId, int limit) {
+    return deleteChunk(cql, afterId, limit,
+      "id::text, (SELECT instanceId::text FROM holdings_record WHERE id = holdingsRecordId), jsonb::text");
+  }
+
+  /**
+   * Sets the status name and merges the metadata into the items with a single statement. An item is updated only
+   * if its stored _version matches the expected _version and the status name changes, the database triggers set
+   * the status date and increment the _version.
+   *
+   * <p>Returns a row per update in the order of the updates: id, outcome ({@code updated}, {@code unchanged},
+   * {@code conflict} or {@code notFound}), and for updated items the old jsonb, the new jsonb and the instance id.
    */
-  public Future<RowSet<Row>> delete(String cql) {
-    try {
-      CQLWrapper cqlWrapper = new CQLWrapper(new CQL2PgJSON(tableName + ".jsonb"), cql, -1, -1);
-      String sql = "DELETE FROM " + postgresClientFuturized.getFullTableName(tableName)
-        + " " + cqlWrapper.getWhereClause()
-        + " RETURNING (SELECT instanceId::text FROM holdings_record WHERE id = holdingsRecordId), jsonb::text";
-      return postgresClient.execute(sql);
-    } catch (Exception e) {
-      return Future.failedFuture(e);
-    }
+  public Future<RowSet<Row>> updateStatuses(List<ItemStatusUpdate> updates, JsonObject metadata) {
+    var itemTable = postgresClientFuturized.getFullTableName(ITEM_TABLE);
+    var holdingsTable = postgresClientFuturized.getFullTableName(HOLDINGS_RECORD_TABLE);
+    var sql = """
+      WITH input AS (
+        SELECT * FROM ROWS FROM (jsonb_to_recordset($1::jsonb) AS (id uuid, status text, "_version" int))
+          WITH ORDINALITY AS t(id, status, "_version", n)
+      ), updated AS (
+        UPDATE %1$s AS i
+        SET jsonb = jsonb_set(i.jsonb, '{status,name}', to_jsonb(input.status))
+          || jsonb_build_object('metadata', COALESCE(i.jsonb->'metadata', '{}'::jsonb) || $2::jsonb)
+        FROM input, %1$s AS prev
+        WHERE i.id = input.id AND prev.id = input.id
+          AND (i.jsonb->>'_version')::int = input."_version"
+          AND i.jsonb->'status'->>'name' IS DISTINCT FROM input.status
+        RETURNING i.id, prev.jsonb AS old_jsonb, i.jsonb AS new_jsonb, i.holdingsrecordid
+      )
+      SELECT input.id::text,
+        CASE WHEN updated.id IS NOT NULL THEN 'updated'
+          WHEN stored.id IS NULL THEN 'notFound'
+          WHEN (stored.jsonb->>'_version')::int IS DISTINCT FROM input."_version" THEN 'conflict'
+          ELSE 'unchanged' END,
+        updated.old_jsonb::text, updated.new_jsonb::text, h.instanceid::text
+      FROM input
+      LEFT JOIN updated ON updated.id = input.id
+      LEFT JOIN %1$s AS stored ON stored.id = input.id
+      LEFT JOIN %2$s AS h ON h.id = updated.holdingsrecordid
+      ORDER BY input.n
+      """.formatted(itemTable, holdingsTable);
+    var input = new JsonArray();
+    updates.forEach(update -> input.add(new JsonObject()
+      .put("id", update.getId())
+      .put("status", update.getStatus().value())
+      .put("_version", update.getVersion())));
+    return time("updateStatuses", postgresClient.execute(sql, Tuple.of(input, metadata)));
   }
 
-  public Future<List<Map<String, Object>>> getReindexItemRecords(String fromId, String toId) {
+  public Future<List<Map<String, Object>>> getReindexItemRecords(String fromId, String toId,
+                                                                 Map<String, String> okapiHeaders) {
     var sql = "SELECT i.jsonb || jsonb_build_object('instanceId', hr.instanceId)"
               + " FROM " + postgresClientFuturized.getFullTableName(ITEM_TABLE) + " i"
               + " JOIN " + postgresClientFuturized.getFullTableName(HOLDINGS_RECORD_TABLE)
               + " hr ON i.holdingsrecordid = hr.id"
               + " WHERE i.id >= '" + fromId + "' AND i.id <= '" + toId + "';";
 
-    return postgresClient.select(sql).map(rows -> {
+    return new ReadRouter(postgresClient, okapiHeaders).withReadConn(conn -> conn.execute(sql)).map(rows -> {
       var resultList = new LinkedList<Map<String, Object>>();
       for (var row : rows) {
         resultList.add(row.getJsonObject(0).getMap());
@@ -1,5 +1,16 @@
 package org.folio.persist;
 
+import static org.folio.dbschema.ObjectMapperTool.readValue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.folio.dbschema.ObjectMapperTool;
 import org.folio.persist.entity.NotificationSendingError;
 import org.folio.rest.persist.PostgresClient;
 
@@ -8,4 +19,84 @@ public class NotificationSendingErrorRepository extends AbstractRepository<Notif
     super(postgresClient, "notification_sending_error",
       NotificationSendingError.class);
   }
+
+  public Future<RowSet<Row>> saveBatch(List<NotificationSendingError> errors) {
+    return time("saveBatch", postgresClient.saveBatch(tableName, errors));
+  }
+
+  /**
+   * Returns up to limit undelivered records that are due at the date, the records of the topic and key that
+   * is due first come first. A record waits until the earlier undelivered records of its topic and key are
+   * due too, so that the records of a key are returned in the order of their incidents.
+   */
+  public Future<List<NotificationSendingError>> getUndelivered(int limit, Date now) {
+    try {
+      var sql = """
+        WITH pending AS (
+          SELECT id, jsonb, jsonb ->> 'topicName' AS topic, jsonb ->> 'partitionKey' AS key,
+                 coalesce(jsonb -> 'nextAttemptDateTime', jsonb -> 'incidentDateTime') AS due
+          FROM %s
+          WHERE NOT jsonb ? 'deliveredDateTime' AND NOT jsonb ? 'parkedDateTime'
+        ), ordered AS (
+          SELECT id, jsonb, topic, key,
+                 bool_or(due > $2::jsonb) OVER (PARTITION BY topic, key
+                   ORDER BY jsonb -> 'incidentDateTime', id) AS waiting,
+                 min(due) OVER (PARTITION BY topic, key) AS keyDue
+          FROM pending
+        )
+        SELECT jsonb::text FROM ordered
+        WHERE NOT waiting
+        ORDER BY keyDue, topic, key, jsonb -> 'incidentDateTime', id
+        LIMIT $1
+        """.formatted(postgresClientFuturized.getFullTableName(tableName));
+      return time("getUndelivered", postgresClient.execute(sql, Tuple.of(limit, dateJson(now))))
+        .map(rowSet -> {
+          var errors = new ArrayList<NotificationSendingError>(rowSet.rowCount());
+          rowSet.forEach(row -> errors.add(readValue(row.getString(0), NotificationSendingError.class)));
+          return errors;
+        });
+    } catch (JsonProcessingException e) {
+      return Future.failedFuture(e);
+    }
+  }
+
+  /**
+   * Counts the records that are neither delivered nor parked.
+   */
+  public Future<Long> countUndelivered() {
+    var sql = "SELECT count(*) FROM " + postgresClientFuturized.getFullTableName(tableName)
+      + " WHERE NOT jsonb ? 'deliveredDateTime' AND NOT jsonb ? 'parkedDateTime'";
+    return time("countUndelivered", postgresClient.execute(sql))
+      .map(rowSet -> rowSet.iterator().next().getLong(0));
+  }
+
+  /**
+   * Counts the records that are parked because they failed too often.
+   */
+  public Future<Long> countParked() {
+    var sql = "SELECT count(*) FROM " + postgresClientFuturized.getFullTableName(tableName)
+      + " WHERE jsonb ? 'parkedDateTime'";
+    return time("countParked", postgresClient.execute(sql))
+      .map(rowSet -> rowSet.iterator().next().getLong(0));
+  }
+
+  /**
+   * Deletes the records delivered before the date.
+   */
+  public Future<RowSet<Row>> deleteDeliveredBefore(Date date) {
+    try {
+      var sql = "DELETE FROM " + postgresClientFuturized.getFullTableName(tableName)
+        + " WHERE jsonb -> 'deliveredDateTime' < $1::jsonb";
+      return time("deleteDeliveredBefore", postgresClient.execute(sql, Tuple.of(dateJson(date))));
+    } catch (JsonProcessingException e) {
+      return Future.failedFuture(e);
+    }
+  }
+
+  /**
+   * The date serialized like the stored dates so that they compare as jsonb, whatever their format is.
+   */
+  private static String dateJson(Date date) throws JsonProcessingException {
+    return ObjectMapperTool.getMapper().writeValueAsString(date);
+  }
 }
@@ -0,0 +1,159 @@
+package org.folio.persist;
+
+import static org.folio.rest.persist.PgUtil.postgresClient;
+
+import io.micrometer.core.instrument.Metrics;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.pgclient.PgException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.persist.Conn;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.utils.Environment;
+
+/**
+ * Routes heavy reads to the read-only replica configured with DB_HOST_READER.
+ *
+ * <p>A read goes to the primary if the client requests read-your-writes with the {@link #READ_YOUR_WRITES_HEADER}
+ * header, if no replica is configured, or if the replica lag exceeds DB_READER_MAX_LAG_SECONDS. The header
+ * starts with X-Okapi- because RMB passes only those headers to the API implementation.
+ * A read that fails on the replica with an error that is not an SQL error is retried on the primary.
+ */
+public class ReadRouter {
+  public static final String READ_YOUR_WRITES_HEADER = "X-Okapi-Read-Your-Writes";
+  static final String MAX_LAG_SECONDS = "DB_READER_MAX_LAG_SECONDS";
+  private static final String DEFAULT_MAX_LAG_SECONDS = "5";
+  private static final long LAG_CHECK_INTERVAL_MILLIS = 5000;
+  private static final String LAG_SQL =
+    "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+    + " ELSE COALESCE(EXTRACT(EPOCH FROM clock_timestamp() - pg_last_xact_replay_timestamp()), 0) END::float8";
+  private static final Logger log = LogManager.getLogger();
+  private static final AtomicReference<Lag> LAG = new AtomicReference<>(new Lag(0, 0));
+
+  static {
+    Metrics.gauge("inventory.storage.db.replica.lag.seconds", LAG, lag -> lag.get().seconds());
+  }
+
+  private final PostgresClient postgresClient;
+  private final boolean readYourWrites;
+
+  public ReadRouter(Context vertxContext, Map<String, String> okapiHeaders) {
+    this(postgresClient(vertxContext, okapiHeaders), okapiHeaders);
+  }
+
+  public ReadRouter(PostgresClient postgresClient, Map<String, String> okapiHeaders) {
+    this.postgresClient = postgresClient;
+    this.readYourWrites = isReadYourWrites(okapiHeaders);
+  }
+
+  enum Route {
+    NO_REPLICA, READ_YOUR_WRITES, LAG, REPLICA
+  }
+
+  /**
+   * The route of a read: the replica if configured, not lagging behind and read-your-writes isn't requested.
+   *
+   * @param lagSeconds the replica lag, null if unknown because the lag check has failed
+   */
+  static Route route(boolean replicaConfigured, boolean readYourWrites, Double lagSeconds, double maxLagSeconds) {
+    if (readYourWrites) {
+      return Route.READ_YOUR_WRITES;
+    }
+    if (!replicaConfigured) {
+      return Route.NO_REPLICA;
+    }
+    if (lagSeconds == null || lagSeconds > maxLagSeconds) {
+      return Route.LAG;
+    }
+    return Route.REPLICA;
+  }
+
+  static boolean isReadYourWrites(Map<String, String> okapiHeaders) {
+    if (okapiHeaders == null) {
+      return false;
+    }
+    return okapiHeaders.entrySet().stream()
+      .anyMatch(header -> READ_YOUR_WRITES_HEADER.equalsIgnoreCase(header.getKey())
+        && "true".equalsIgnoreCase(StringUtils.trim(header.getValue())));
+  }
+
+  /**
+   * Runs the function with a connection of the replica or the primary, see {@link ReadRouter}.
+   *
+   * <p>The function must not write. If it fails on the replica before it has produced any output it may
+   * be called again with a primary connection.
+   */
+  public <T> Future<T> withReadConn(Function<Conn, Future<T>> function) {
+    var replicaConfigured = StringUtils.isNotBlank(Environment.getEnvVar("DB_HOST_READER", null));
+    if (readYourWrites || !replicaConfigured) {
+      return onPrimary(route(replicaConfigured, readYourWrites, null, 0), function);
+    }
+    return lagSeconds().compose(lag -> {
+      var route = route(true, readYourWrites, lag, maxLagSeconds());
+      if (route != Route.REPLICA) {
+        return onPrimary(route, function);
+      }
+      count("replica", route);
+      return postgresClient.withReadConn(function)
+        .recover(e -> {
+          if (e instanceof PgException) {
+            return Future.failedFuture(e);
+          }
+          log.warn("withReadConn:: Read on replica failed, retrying on primary: {}", e.getMessage());
+          return onPrimary(null, function);
+        });
+    });
+  }
+
+  private <T> Future<T> onPrimary(Route route, Function<Conn, Future<T>> function) {
+    count("primary", route);
+    return postgresClient.withConn(function);
+  }
+
+  private static void count(String target, Route route) {
+    Metrics.counter("inventory.storage.db.read.routing",
+      "target", target, "reason", route == null ? "fallback" : route.name().toLowerCase(Locale.ROOT)).increment();
+  }
+
+  private static double maxLagSeconds() {
+    return Double.parseDouble(Environment.getEnvVar(MAX_LAG_SECONDS, DEFAULT_MAX_LAG_SECONDS));
+  }
+
+  /**
+   * The replica lag, checked at most every {@link #LAG_CHECK_INTERVAL_MILLIS}; null if the check failed.
+   */
+  private Future<Double> lagSeconds() {
+    var lag = LAG.get();
+    var now = System.currentTimeMillis();
+    if (now - lag.checkedAt() < LAG_CHECK_INTERVAL_MILLIS) {
+      return Future.succeededFuture(lag.known() ? lag.seconds() : null);
+    }
+    // one request checks, the others use the previous value in the meantime
+    if (!LAG.compareAndSet(lag, new Lag(lag.seconds(), now, lag.known()))) {
+      return Future.succeededFuture(lag.known() ? lag.seconds() : null);
+    }
+    return postgresClient.withReadConn(conn -> conn.execute(LAG_SQL))
+      .map(rowSet -> {
+        var seconds = rowSet.iterator().next().getDouble(0);
+        LAG.set(new Lag(seconds, now));
+        return seconds;
+      })
+      .otherwise(e -> {
+        log.warn("lagSeconds:: Unable to check the replica lag, reading from primary: {}", e.getMessage());
+        LAG.set(new Lag(Double.NaN, now, false));
+        return null;
+      });
+  }
+
+  private record Lag(double seconds, long checkedAt, boolean known) {
+    Lag(double seconds, long checkedAt) {
+      this(seconds, checkedAt, true);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package org.folio.persist;
+
+import static org.folio.rest.persist.PgUtil.postgresClient;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Tuple;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.folio.rest.jaxrs.model.HoldingsRecordCount;
+import org.folio.rest.jaxrs.model.InstanceRecordCount;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.services.metrics.InventoryMetrics;
+
+/**
+ * Reads the holdings, item and bound-with item counters that the database triggers maintain
+ * on insert, delete and move of holdings records, items and bound-with parts.
+ */
+public class RecordCountRepository {
+  public static final String INSTANCE_RECORD_COUNT_TABLE = "instance_record_count";
+  public static final String HOLDINGS_RECORD_COUNT_TABLE = "holdings_record_count";
+
+  private final PostgresClient postgresClient;
+
+  public RecordCountRepository(Context context, Map<String, String> okapiHeaders) {
+    this.postgresClient = postgresClient(context, okapiHeaders);
+  }
+
+  /**
+   * Returns the counts of the instances in the order of the ids, zero counts for unknown ids.
+   */
+  public Future<List<InstanceRecordCount>> getInstanceCounts(List<String> instanceIds) {
+    if (instanceIds.isEmpty()) {
+      return Future.succeededFuture(List.of());
+    }
+    var sql = "SELECT ids.id::text, COALESCE(c.holdings_count, 0), COALESCE(c.item_count, 0),"
+      + " COALESCE(c.bound_with_item_count, 0)"
+      + " FROM unnest($1::uuid[]) WITH ORDINALITY AS ids(id, n)"
+      + " LEFT JOIN " + fullTableName(INSTANCE_RECORD_COUNT_TABLE) + " c ON c.instance_id = ids.id"
+      + " ORDER BY ids.n";
+    return InventoryMetrics.timeQuery("RecordCountRepository", "getInstanceCounts",
+        postgresClient.execute(sql, Tuple.of(toUuids(instanceIds))))
+      .map(rowSet -> {
+        var counts = new ArrayList<InstanceRecordCount>(rowSet.rowCount());
+        rowSet.forEach(row -> counts.add(new InstanceRecordCount()
+          .withId(row.getString(0))
+          .withHoldingsCount(row.getLong(1).intValue())
+          .withItemsCount(row.getLong(2).intValue())
+          .withBoundWithItemsCount(row.getLong(3).intValue())));
+        return counts;
+      });
+  }
+
+  /**
+   * Returns the counts of the holdings records in the order of the ids, zero counts for unknown ids.
+   */
+  public Future<List<HoldingsRecordCount>> getHoldingsCounts(List<String> holdingsIds) {
+    if (holdingsIds.isEmpty()) {
+      return Future.succeededFuture(List.of());
+    }
+    var sql = "SELECT ids.id::text, COALESCE(c.item_count, 0), COALESCE(c.bound_with_item_count, 0)"
+      + " FROM unnest($1::uuid[]) WITH ORDINALITY AS ids(id, n)"
+      + " LEFT JOIN " + fullTableName(HOLDINGS_RECORD_COUNT_TABLE) + " c ON c.holdings_id = ids.id"
+      + " ORDER BY ids.n";
+    return InventoryMetrics.timeQuery("RecordCountRepository", "getHoldingsCounts",
+        postgresClient.execute(sql, Tuple.of(toUuids(holdingsIds))))
+      .map(rowSet -> {
+        var counts = new ArrayList<HoldingsRecordCount>(rowSet.rowCount());
+        rowSet.forEach(row -> counts.add(new HoldingsRecordCount()
+          .withId(row.getString(0))
+          .withItemsCount(row.getLong(1).intValue())
+          .withBoundWithItemsCount(row.getLong(2).intValue())));
+        return counts;
+      });
+  }
+
+  private String fullTableName(String tableName) {
+    return postgresClient.getSchemaName() + "." + tableName;
+  }
+
+  private static UUID[] toUuids(List<String> ids) {
+    return ids.stream().map(UUID::fromString).toArray(UUID[]::new);
+  }
+}
@@ -1,6 +1,7 @@
 package org.folio.persist.entity;
 
 import java.util.Date;
+import java.util.Map;
 
 public class NotificationSendingError {
   private String id;
@@ -9,6 +10,11 @@ public class NotificationSendingError {
   private String payload;
   private String error;
   private Date incidentDateTime;
+  private Map<String, String> headers;
+  private int attempts;
+  private Date nextAttemptDateTime;
+  private Date deliveredDateTime;
+  private Date parkedDateTime;
 
   public NotificationSendingError() { }
 
@@ -70,4 +76,44 @@ public class NotificationSendingError {
   public void setIncidentDateTime(Date incidentDateTime) {
     this.incidentDateTime = incidentDateTime;
   }
+
+  public Map<String, String> getHeaders() {
+    return headers;
+  }
+
+  public void setHeaders(Map<String, String> headers) {
+    this.headers = headers;
+  }
+
+  public int getAttempts() {
+    return attempts;
+  }
+
+  public void setAttempts(int attempts) {
+    this.attempts = attempts;
+  }
+
+  public Date getNextAttemptDateTime() {
+    return nextAttemptDateTime;
+  }
+
+  public void setNextAttemptDateTime(Date nextAttemptDateTime) {
+    this.nextAttemptDateTime = nextAttemptDateTime;
+  }
+
+  public Date getDeliveredDateTime() {
+    return deliveredDateTime;
+  }
+
+  public void setDeliveredDateTime(Date deliveredDateTime) {
+    this.deliveredDateTime = deliveredDateTime;
+  }
+
+  public Date getParkedDateTime() {
+    return parkedDateTime;
+  }
+
+  public void setParkedDateTime(Date parkedDateTime) {
+    this.parkedDateTime = parkedDateTime;
+  }
 }
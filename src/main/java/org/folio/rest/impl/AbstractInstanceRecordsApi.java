@@ -6,9 +6,11 @@ import static org.folio.rest.jaxrs.resource.OaiPmhView.GetOaiPmhViewInstancesRes
 
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.sqlclient.Row;
@@ -16,63 +18,225 @@ import io.vertx.sqlclient.RowStream;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.impl.ArrayTuple;
 import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.folio.rest.persist.PgUtil;
-import org.folio.rest.persist.PostgresClient;
+import org.folio.persist.ReadRouter;
+import org.folio.rest.persist.Conn;
+import org.folio.rest.support.AdmissionControl;
+import org.folio.rest.support.ChunkedResponseWriter;
+import org.folio.rest.support.CollectionStreamer;
+import org.folio.services.enrichment.InstanceEnrichmentService;
+import org.folio.utils.Environment;
 
 public abstract class AbstractInstanceRecordsApi {
 
   protected static final Logger log = LogManager.getLogger();
 
+  /**
+   * The number of rows the row stream fetches from the cursor at a time.
+   */
+  private static final int STREAM_FETCH_SIZE = 100;
+  /**
+   * The jsonb columns that {@link #jsonRows} embeds as JSON instead of converting them to a string.
+   */
+  private static final Set<String> JSON_COLUMNS =
+    Set.of("natureOfContent", "holdings", "items", "itemsandholdingsfields");
+  /**
+   * The timestamptz columns that {@link #jsonRows} formats in UTC with milliseconds and Z, independent of
+   * the session time zone.
+   */
+  private static final Set<String> TIMESTAMP_COLUMNS = Set.of("updatedDate", "updateddate");
+  static final String CHANGE_LOG_LAG_SECONDS = "INSTANCE_CHANGE_LOG_LAG_SECONDS";
+  /**
+   * The last change of each instance in instance_change_log after the seq cursor, oldest first.
+   *
+   * <p>The triggers take the seq at commit time, but a transaction can still be committing with a seq
+   * smaller than the seq of a change that another transaction has committed, for example a big batch
+   * that runs many deferred triggers. Changes younger than the lag are skipped to make this unlikely;
+   * it isn't ruled out for a commit that takes longer than the lag. Capping at the changes of the
+   * transactions older than pg_snapshot_xmin doesn't rule it out either because the seq order isn't the
+   * xid order.
+   */
+  protected static final String SQL_CHANGE_LOG =
+    "WITH changes AS (\n"
+    + "  SELECT instance_id, max(seq) AS seq\n"
+    + "  FROM instance_change_log\n"
+    + "  WHERE seq > $5::bigint\n"
+    + "    AND changed_at < clock_timestamp() - $8::int * interval '1 second'\n"
+    + "    AND changed_at BETWEEN dateOrMin($1::timestamptz) AND dateOrMax($2::timestamptz)\n"
+    + "    AND (NOT $6::bool OR change_kind LIKE 'INSTANCE%')\n"
+    + "  GROUP BY instance_id)\n"
+    + "SELECT log.instance_id AS \"instanceId\",\n"
+    + "       log.source,\n"
+    + "       log.changed_at AS \"updatedDate\",\n"
+    + "       log.suppressed AS \"suppressFromDiscovery\",\n"
+    + "       log.deleted,\n"
+    + "       log.seq\n"
+    + "FROM changes\n"
+    + "JOIN instance_change_log log ON log.seq = changes.seq\n"
+    + "WHERE ($3::bool OR NOT log.deleted)\n"
+    + "  AND (NOT $4::bool OR NOT log.suppressed)\n"
+    + "  AND ($7::varchar IS NULL OR log.source = $7::varchar)\n"
+    + "ORDER BY log.seq";
+
+  /**
+   * Wraps the query so that each row is a single text column holding the JSON object of the row.
+   *
+   * <p>The database builds the JSON with {@code json_build_object}: a column becomes a JSON string,
+   * null becomes an empty string, a jsonb column of {@link #JSON_COLUMNS} is embedded as is, a timestamptz
+   * column of {@link #TIMESTAMP_COLUMNS} becomes a string like {@code 2024-01-31T10:15:00.000Z}.
+   * The response writes the text without parsing it.
+   *
+   * @param sql the query, without trailing semicolon
+   * @param columns the column names of the query, used as JSON keys
+   */
+  protected static String jsonRows(String sql, String... columns) {
+    return Arrays.stream(columns)
+      .map(column -> "'" + column + "', " + jsonValue(column))
+      .collect(Collectors.joining(", ", "SELECT json_build_object(", ")::text FROM (" + sql + ") t"));
+  }
+
+  private static String jsonValue(String column) {
+    var value = "t.\"" + column + "\"";
+    if (JSON_COLUMNS.contains(column)) {
+      return "COALESCE(" + value + ", '\"\"')";
+    }
+    if (TIMESTAMP_COLUMNS.contains(column)) {
+      return "COALESCE(to_char(" + value + " AT TIME ZONE 'UTC', 'YYYY-MM-DD\"T\"HH24:MI:SS.MS\"Z\"'), '')";
+    }
+    return "COALESCE(to_json(" + value + ") #>> '{}', '')";
+  }
+
+  /**
+   * Streams the rows of a {@link #jsonRows} query: concatenated JSON objects as application/json,
+   * or one object per line if the client accepts application/x-ndjson; gzip compressed if the
+   * client accepts gzip. The query runs on the read replica if {@link ReadRouter} allows it.
+   */
   protected void fetchRecordsByQuery(String sql, Supplier<Tuple> paramsSupplier, RoutingContext routingContext,
                                      Map<String, String> okapiHeaders,
                                      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    final HttpServerResponse response = getResponse(routingContext);
+    AdmissionControl.getInstance().admit(vertxContext, okapiHeaders, routingContext.request().path(), routingContext,
+      asyncResultHandler,
+      handler -> queryRecords(sql, paramsSupplier, routingContext, okapiHeaders, handler, vertxContext));
+  }
+
+  private static void queryRecords(String sql, Supplier<Tuple> paramsSupplier, RoutingContext routingContext,
+                                   Map<String, String> okapiHeaders,
+                                   Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    final HttpServerResponse response = routingContext.response();
     try {
       Tuple params = paramsSupplier.get();
       log.debug("postgres params: {}", params);
 
-      PostgresClient postgresClient = PgUtil.postgresClient(vertxContext, okapiHeaders);
-      ConnectionErrorHandler handleError = new ConnectionErrorHandler(postgresClient);
+      new ReadRouter(vertxContext, okapiHeaders)
+        .withReadConn(conn -> streamRows(conn, sql, params, routingContext, asyncResultHandler))
+        .onFailure(e -> respondWithError(response, e, asyncResultHandler));
+    } catch (IllegalArgumentException e) {
+      log.error(e);
+      asyncResultHandler.handle(succeededFuture(respond400WithTextPlain(e.getMessage())));
+    } catch (Exception e) {
+      respondWithError(response, e, asyncResultHandler);
+    }
+  }
 
-      postgresClient.startTx(tx -> postgresClient.selectStream(tx, sql, params, ar -> {
-        if (ar.failed()) {
-          respondWithError(response, ar.cause(), asyncResultHandler);
-          return;
-        }
+  /**
+   * Streams the rows to the response within a transaction, required for the cursor. The prepared
+   * statement is closed when the row stream ends or fails, before the transaction is rolled back.
+   *
+   * <p>Fails only if the query fails before anything has been written so that the read can be retried,
+   * a later failure is reported by closing the response.
+   */
+  private static Future<Void> streamRows(Conn conn, String sql, Tuple params, RoutingContext routingContext,
+                                         Handler<AsyncResult<Response>> asyncResultHandler) {
 
-        RowStream<Row> rowStream = ar.result();
+    var pgConnection = conn.getPgConnection();
+    return pgConnection.begin().compose(tx -> pgConnection.prepare(sql)
+      .compose(preparedStatement -> {
+        Promise<Void> promise = Promise.promise();
+        RowStream<Row> rowStream = preparedStatement.createStream(STREAM_FETCH_SIZE, params);
+        var writer = new AtomicReference<RecordWriter>();
+        Supplier<RecordWriter> startedWriter = () -> {
+          if (writer.get() == null) {
+            writer.set(new RecordWriter(routingContext, true));
+            writer.get().drainHandler(rowStream::resume);
+          }
+          return writer.get();
+        };
         rowStream
-          .exceptionHandler(e -> handleError.writeErrorAndCloseConn(e, tx, response, asyncResultHandler))
-          .endHandler(end -> postgresClient.endTx(tx, h -> {
-            if (h.failed()) {
-              respondWithError(response, h.cause(), asyncResultHandler);
+          .exceptionHandler(e -> {
+            if (writer.get() == null) {
+              promise.tryFail(e);
               return;
             }
-            response.end();
-          })).handler(row -> {
-            response.write(createJsonFromRow(row));
-            if (response.writeQueueFull()) {
+            respondWithError(routingContext.response(), e, asyncResultHandler);
+            promise.tryComplete();
+          })
+          .endHandler(end -> {
+            startedWriter.get().end();
+            promise.tryComplete();
+          })
+          .handler(row -> {
+            if (startedWriter.get().write(row.getString(0))) {
               rowStream.pause();
             }
           });
-        response.drainHandler(drain -> rowStream.resume());
-      }));
-    } catch (IllegalArgumentException e) {
-      log.error(e);
-      asyncResultHandler.handle(succeededFuture(respond400WithTextPlain(e.getMessage())));
-    } catch (Exception e) {
-      respondWithError(response, e, asyncResultHandler);
+        return promise.future()
+          .transform(ar -> preparedStatement.close().transform(notUsed -> ar.succeeded()
+            ? Future.<Void>succeededFuture() : Future.<Void>failedFuture(ar.cause())));
+      })
+      .transform(ar -> tx.rollback().transform(notUsed -> ar.succeeded()
+        ? Future.<Void>succeededFuture() : Future.<Void>failedFuture(ar.cause()))));
+  }
+
+  /**
+   * Writes the records in the same format as {@link #fetchRecordsByQuery}, batch by batch: the records function
+   * gets the batch handler and passes the next batch when the response has been drained.
+   */
+  protected void writeRecords(Function<InstanceEnrichmentService.BatchHandler, Future<Void>> records,
+                              RoutingContext routingContext, Map<String, String> okapiHeaders,
+                              Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    AdmissionControl.getInstance().admit(vertxContext, okapiHeaders, routingContext.request().path(), routingContext,
+      asyncResultHandler, handler -> {
+        var writer = new AtomicReference<RecordWriter>();
+        Supplier<RecordWriter> startedWriter = () -> {
+          if (writer.get() == null) {
+            writer.set(new RecordWriter(routingContext, false));
+          }
+          return writer.get();
+        };
+        records.apply(rows -> writeBatch(startedWriter.get(), rows))
+          .onSuccess(notUsed -> startedWriter.get().end())
+          .onFailure(e -> respondWithError(routingContext.response(), e, handler));
+      });
+  }
+
+  private static Future<Void> writeBatch(RecordWriter writer, List<JsonObject> rows) {
+    var full = false;
+    for (var json : rows) {
+      full |= writer.write(json.encode());
     }
+    if (!full) {
+      return succeededFuture();
+    }
+    Promise<Void> drained = Promise.promise();
+    writer.drainHandler(drained::tryComplete);
+    return drained.future();
   }
 
   protected Tuple createPostgresParams(String startDate, String endDate, boolean deletedRecordSupport,
@@ -110,6 +274,27 @@ public abstract class AbstractInstanceRecordsApi {
     return tuple;
   }
 
+  /**
+   * Parameters of {@link #SQL_CHANGE_LOG}.
+   *
+   * @param afterSeq the seq of the last change the client has seen, 0 to start at the beginning of the log
+   * @param onlyInstanceChanges whether to skip the changes of holdings and items
+   * @throws IllegalArgumentException if a parameter is malformed
+   */
+  protected Tuple createChangeLogParams(String afterSeq, String startDate, String endDate,
+                                        boolean deletedRecordSupport, boolean skipSuppressedFromDiscoveryRecords,
+                                        boolean onlyInstanceChanges, String source) {
+
+    return createPostgresParams(startDate, endDate, deletedRecordSupport, skipSuppressedFromDiscoveryRecords,
+      tuple -> {
+        tuple.addLong(Long.parseLong(afterSeq));
+        tuple.addBoolean(onlyInstanceChanges);
+        tuple.addValue(source);
+        tuple.addInteger(Integer.parseInt(StringUtils.firstNonBlank(
+          Environment.getEnvVar(CHANGE_LOG_LAG_SECONDS, null), System.getProperty(CHANGE_LOG_LAG_SECONDS), "5")));
+      });
+  }
+
   protected Tuple createPostgresParams(UUID[] instancesIds, boolean skipSuppressedFromDiscoveryRecords) {
 
     Tuple tuple = new ArrayTuple(2);
@@ -140,29 +325,36 @@ public abstract class AbstractInstanceRecordsApi {
     asyncResultHandler.handle(succeededFuture(respond500WithTextPlain(t.getMessage())));
   }
 
-  private static String createJsonFromRow(Row row) {
-    if (row == null) {
-      return "";
+  /**
+   * True if the Accept header lists application/x-ndjson.
+   */
+  static boolean acceptsNdjson(String accept) {
+    return accept != null && accept.toLowerCase(Locale.ROOT).contains(CollectionStreamer.NDJSON);
+  }
+
+  /**
+   * Writes the JSON objects of the records with the framing the client accepts.
+   */
+  private static final class RecordWriter {
+    private final ChunkedResponseWriter writer;
+    private final boolean ndjson;
+
+    RecordWriter(RoutingContext routingContext, boolean compressible) {
+      ndjson = acceptsNdjson(routingContext.request().getHeader(HttpHeaders.ACCEPT));
+      writer = ChunkedResponseWriter.start(routingContext,
+        ndjson ? CollectionStreamer.NDJSON : "application/json", compressible);
     }
-    JsonObject json = new JsonObject();
-    for (int i = 0; i < row.size(); i++) {
-      json.put(row.getColumnName(i), convertRowValue(row.getValue(i)));
+
+    boolean write(String json) {
+      return writer.write(ndjson ? json + "\n" : json);
     }
-    return json.toString();
-  }
 
-  private static Object convertRowValue(Object value) {
-    if (value == null) {
-      return "";
+    void drainHandler(Runnable handler) {
+      writer.drainHandler(handler);
     }
-    return value instanceof JsonObject
-           || value instanceof JsonArray ? value : value.toString();
-  }
 
-  private HttpServerResponse getResponse(RoutingContext routingContext) {
-    final HttpServerResponse response = routingContext.response();
-    response.setChunked(true);
-    response.putHeader("Content-Type", "application/json");
-    return response;
+    void end() {
+      writer.end();
+    }
   }
 }
@@ -10,7 +10,8 @@ import javax.ws.rs.core.Response;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.HoldingsrecordsPost;
 import org.folio.rest.jaxrs.resource.HoldingsStorageBatchSynchronous;
-import org.folio.services.holding.HoldingsService;
+import org.folio.rest.support.AdmissionControl;
+import org.folio.services.TenantServices;
 
 public class HoldingsBatchSyncApi implements HoldingsStorageBatchSynchronous {
   @Validate
@@ -19,9 +20,14 @@ public class HoldingsBatchSyncApi implements HoldingsStorageBatchSynchronous {
                                                   Map<String, String> okapiHeaders,
                                                   Handler<AsyncResult<Response>> asyncResultHandler,
                                                   Context vertxContext) {
+    AdmissionControl.getInstance().admit(vertxContext, okapiHeaders, "/holdings-storage/batch/synchronous", null,
+      asyncResultHandler, handler -> sync(upsert, entity, okapiHeaders, handler, vertxContext));
+  }
 
-    new HoldingsService(vertxContext, okapiHeaders)
-      .createHoldings(entity.getHoldingsRecords(), upsert, true)
+  private void sync(boolean upsert, HoldingsrecordsPost entity, Map<String, String> okapiHeaders,
+                    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    TenantServices.of(vertxContext, okapiHeaders).holdingsService()
+      .createHoldings(entity.getHoldingsRecords(), upsert, true, okapiHeaders, vertxContext)
       .otherwise(cause -> respond500WithTextPlain(cause.getMessage()))
       .onComplete(asyncResultHandler);
   }
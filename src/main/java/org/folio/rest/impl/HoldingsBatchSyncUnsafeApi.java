@@ -10,17 +10,33 @@ import javax.ws.rs.core.Response;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.HoldingsrecordsPost;
 import org.folio.rest.jaxrs.resource.HoldingsStorageBatchSynchronousUnsafe;
-import org.folio.services.holding.HoldingsService;
+import org.folio.rest.support.AdmissionControl;
+import org.folio.rest.support.EndpointFailureHandler;
+import org.folio.services.TenantServices;
 
 public class HoldingsBatchSyncUnsafeApi implements HoldingsStorageBatchSynchronousUnsafe {
   @Validate
   @Override
-  public void postHoldingsStorageBatchSynchronousUnsafe(HoldingsrecordsPost entity, Map<String, String> okapiHeaders,
+  public void postHoldingsStorageBatchSynchronousUnsafe(boolean load, HoldingsrecordsPost entity,
+                                                        Map<String, String> okapiHeaders,
                                                         Handler<AsyncResult<Response>> asyncResultHandler,
                                                         Context vertxContext) {
+    AdmissionControl.getInstance().admit(vertxContext, okapiHeaders, "/holdings-storage/batch/synchronous-unsafe", null,
+      asyncResultHandler, handler -> sync(load, entity, okapiHeaders, handler, vertxContext));
+  }
+
+  private void sync(boolean load, HoldingsrecordsPost entity, Map<String, String> okapiHeaders,
+                    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    if (load) {
+      TenantServices.of(vertxContext, okapiHeaders).holdingsService()
+        .loadHoldings(entity.getHoldingsRecords(), okapiHeaders)
+        .otherwise(EndpointFailureHandler::failureResponse)
+        .onComplete(asyncResultHandler);
+      return;
+    }
 
-    new HoldingsService(vertxContext, okapiHeaders)
-      .createHoldings(entity.getHoldingsRecords(), true, false)
+    TenantServices.of(vertxContext, okapiHeaders).holdingsService()
+      .createHoldings(entity.getHoldingsRecords(), true, false, okapiHeaders, vertxContext)
       .otherwise(cause -> respond500WithTextPlain(cause.getMessage()))
       .onComplete(asyncResultHandler);
   }
@@ -12,12 +12,13 @@ import java.util.Map;
 import javax.ws.rs.core.Response;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.HoldingsRecord;
-import org.folio.rest.jaxrs.model.HoldingsRecordView;
 import org.folio.rest.jaxrs.model.RetrieveDto;
 import org.folio.rest.jaxrs.resource.HoldingsStorage;
 import org.folio.rest.persist.PgUtil;
+import org.folio.rest.support.AdmissionControl;
+import org.folio.rest.support.CollectionStreamer;
 import org.folio.rest.support.EndpointFailureHandler;
-import org.folio.services.holding.HoldingsService;
+import org.folio.services.TenantServices;
 
 public class HoldingsStorageApi implements HoldingsStorage {
 
@@ -25,19 +26,34 @@ public class HoldingsStorageApi implements HoldingsStorage {
 
   @Validate
   @Override
-  public void getHoldingsStorageHoldings(String totalRecords, int offset, int limit, String query,
-                                         RoutingContext routingContext, Map<String, String> okapiHeaders,
+  public void getHoldingsStorageHoldings(String after, String fields, String totalRecords, int offset, int limit,
+                                         String query, RoutingContext routingContext,
+                                         Map<String, String> okapiHeaders,
                                          Handler<AsyncResult<Response>> asyncResultHandler,
                                          Context vertxContext) {
-    new HoldingsService(vertxContext, okapiHeaders)
-      .getByInstanceId(offset, limit, query)
+    AdmissionControl.getInstance().admit(vertxContext, okapiHeaders, "/holdings-storage/holdings", routingContext,
+      asyncResultHandler, handler -> getHoldings(after, fields, totalRecords, offset, limit, query, routingContext,
+        okapiHeaders, handler, vertxContext));
+  }
+
+  private void getHoldings(String after, String fields, String totalRecords, int offset, int limit, String query,
+                           RoutingContext routingContext, Map<String, String> okapiHeaders,
+                           Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    if (after != null || fields != null) {
+      new CollectionStreamer(vertxContext, okapiHeaders).withFields(fields, HoldingsRecord.class)
+        .streamGet(HOLDINGS_RECORD_TABLE, query, after, totalRecords, offset, limit, "holdingsRecords",
+          routingContext, asyncResultHandler);
+      return;
+    }
+    TenantServices.of(vertxContext, okapiHeaders).holdingsService()
+      .getByInstanceId(totalRecords, offset, limit, query, okapiHeaders)
       .onSuccess(response -> {
         if (response != null) {
           asyncResultHandler.handle(succeededFuture(response));
           return;
         }
-        PgUtil.streamGet(HOLDINGS_RECORD_TABLE, HoldingsRecordView.class, query, offset,
-            limit, null, "holdingsRecords", routingContext, okapiHeaders, vertxContext);
+        new CollectionStreamer(vertxContext, okapiHeaders).streamGet(HOLDINGS_RECORD_TABLE, query, totalRecords,
+            offset, limit, "holdingsRecords", routingContext, asyncResultHandler);
       })
       .onFailure(handleFailure(asyncResultHandler));
   }
@@ -50,8 +66,8 @@ public class HoldingsStorageApi implements HoldingsStorage {
                                           Handler<AsyncResult<Response>> asyncResultHandler,
                                           Context vertxContext) {
 
-    new HoldingsService(vertxContext, okapiHeaders)
-      .createHolding(entity)
+    TenantServices.of(vertxContext, okapiHeaders).holdingsService()
+      .createHolding(entity, okapiHeaders, vertxContext)
       .onSuccess(response -> asyncResultHandler.handle(succeededFuture(response)))
       .onFailure(handleFailure(asyncResultHandler));
   }
@@ -63,7 +79,7 @@ public class HoldingsStorageApi implements HoldingsStorage {
                                             Handler<AsyncResult<Response>> asyncResultHandler,
                                             Context vertxContext) {
 
-    new HoldingsService(vertxContext, okapiHeaders).deleteHoldings(query)
+    TenantServices.of(vertxContext, okapiHeaders).holdingsService().deleteHoldings(query, okapiHeaders)
       .otherwise(EndpointFailureHandler::failureResponse)
       .onComplete(asyncResultHandler);
   }
@@ -72,10 +88,23 @@ public class HoldingsStorageApi implements HoldingsStorage {
   @Override
   public void getHoldingsStorageHoldingsByHoldingsRecordId(
     String holdingsRecordId,
+    String fields,
     Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
+    AdmissionControl.getInstance().admit(vertxContext, okapiHeaders, "/holdings-storage/holdings/{id}", null,
+      asyncResultHandler, handler -> getHoldingsById(holdingsRecordId, fields, okapiHeaders, handler, vertxContext));
+  }
 
+  private void getHoldingsById(String holdingsRecordId, String fields, Map<String, String> okapiHeaders,
+                               Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    if (fields != null) {
+      new CollectionStreamer(vertxContext, okapiHeaders)
+        .withFields(fields, HoldingsRecord.class)
+        .getById(HOLDINGS_RECORD_TABLE, holdingsRecordId)
+        .onComplete(asyncResultHandler);
+      return;
+    }
     PgUtil.getById(HOLDINGS_RECORD_TABLE, HoldingsRecord.class, holdingsRecordId,
       okapiHeaders, vertxContext, GetHoldingsStorageHoldingsByHoldingsRecordIdResponse.class,
       asyncResultHandler);
@@ -89,7 +118,8 @@ public class HoldingsStorageApi implements HoldingsStorage {
     Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    new HoldingsService(vertxContext, okapiHeaders).deleteHolding(holdingsRecordId)
+    TenantServices.of(vertxContext, okapiHeaders).holdingsService()
+      .deleteHolding(holdingsRecordId, okapiHeaders, vertxContext)
       .otherwise(EndpointFailureHandler::failureResponse)
       .onComplete(asyncResultHandler);
   }
@@ -101,8 +131,8 @@ public class HoldingsStorageApi implements HoldingsStorage {
                                                   Map<String, String> okapiHeaders,
                                                   Handler<AsyncResult<Response>> asyncResultHandler,
                                                   Context vertxContext) {
-    PgUtil.streamGet(HOLDINGS_RECORD_TABLE, HoldingsRecordView.class, entity.getQuery(), entity.getOffset(),
-      entity.getLimit(), null, "holdingsRecords", routingContext, okapiHeaders, vertxContext);
+    new CollectionStreamer(vertxContext, okapiHeaders)
+      .streamRetrieve(HOLDINGS_RECORD_TABLE, entity, "holdingsRecords", routingContext, asyncResultHandler);
   }
 
   @Validate
@@ -114,8 +144,8 @@ public class HoldingsStorageApi implements HoldingsStorage {
     Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    new HoldingsService(vertxContext, okapiHeaders)
-      .updateHoldingRecord(holdingsRecordId, entity)
+    TenantServices.of(vertxContext, okapiHeaders).holdingsService()
+      .updateHoldingRecord(holdingsRecordId, entity, okapiHeaders, vertxContext)
       .onSuccess(notUsed -> asyncResultHandler.handle(Future.succeededFuture(
         PutHoldingsStorageHoldingsByHoldingsRecordIdResponse.respond204())))
       .onFailure(handleFailure(asyncResultHandler));
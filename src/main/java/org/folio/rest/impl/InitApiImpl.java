@@ -15,6 +15,7 @@ import org.folio.services.caches.ConsortiumDataCache;
 import org.folio.services.consortium.ServicePointSynchronizationVerticle;
 import org.folio.services.consortium.ShadowInstanceSynchronizationVerticle;
 import org.folio.services.consortium.SynchronizationVerticle;
+import org.folio.services.metrics.MetricsServer;
 import org.folio.services.migration.async.AsyncMigrationConsumerVerticle;
 
 public class InitApiImpl implements InitAPI {
@@ -28,6 +29,7 @@ public class InitApiImpl implements InitAPI {
       .compose(v -> initShadowInstanceSynchronizationVerticle(vertx, getConsortiumDataCache(context)))
       .compose(v -> initSynchronizationVerticle(vertx, getConsortiumDataCache(context)))
       .compose(v -> initServicePointSynchronizationVerticle(vertx, getConsortiumDataCache(context)))
+      .compose(v -> MetricsServer.start(vertx))
       .map(true)
       .onComplete(handler);
   }
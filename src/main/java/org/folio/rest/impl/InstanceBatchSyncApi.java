@@ -10,7 +10,8 @@ import javax.ws.rs.core.Response;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.InstancesPost;
 import org.folio.rest.jaxrs.resource.InstanceStorageBatchSynchronous;
-import org.folio.services.instance.InstanceService;
+import org.folio.rest.support.AdmissionControl;
+import org.folio.services.TenantServices;
 
 public class InstanceBatchSyncApi implements InstanceStorageBatchSynchronous {
   @Validate
@@ -19,9 +20,14 @@ public class InstanceBatchSyncApi implements InstanceStorageBatchSynchronous {
                                                   Map<String, String> okapiHeaders,
                                                   Handler<AsyncResult<Response>> asyncResultHandler,
                                                   Context vertxContext) {
+    AdmissionControl.getInstance().admit(vertxContext, okapiHeaders, "/instance-storage/batch/synchronous", null,
+      asyncResultHandler, handler -> sync(upsert, entity, okapiHeaders, handler, vertxContext));
+  }
 
-    new InstanceService(vertxContext, okapiHeaders)
-      .createInstances(entity.getInstances(), upsert, true, true)
+  private void sync(boolean upsert, InstancesPost entity, Map<String, String> okapiHeaders,
+                    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    TenantServices.of(vertxContext, okapiHeaders).instanceService()
+      .createInstances(entity.getInstances(), upsert, true, true, okapiHeaders)
       .onFailure(handleFailure(asyncResultHandler))
       .onComplete(asyncResultHandler);
   }
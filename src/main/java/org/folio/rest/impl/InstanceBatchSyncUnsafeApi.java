@@ -4,23 +4,35 @@ import static org.folio.rest.support.EndpointFailureHandler.handleFailure;
 
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import java.util.Map;
 import javax.ws.rs.core.Response;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.InstancesPost;
 import org.folio.rest.jaxrs.resource.InstanceStorageBatchSynchronousUnsafe;
-import org.folio.services.instance.InstanceService;
+import org.folio.rest.support.AdmissionControl;
+import org.folio.services.TenantServices;
 
 public class InstanceBatchSyncUnsafeApi implements InstanceStorageBatchSynchronousUnsafe {
   @Validate
   @Override
-  public void postInstanceStorageBatchSynchronousUnsafe(InstancesPost entity, Map<String, String> okapiHeaders,
+  public void postInstanceStorageBatchSynchronousUnsafe(boolean load, InstancesPost entity,
+                                                        Map<String, String> okapiHeaders,
                                                         Handler<AsyncResult<Response>> asyncResultHandler,
                                                         Context vertxContext) {
+    AdmissionControl.getInstance().admit(vertxContext, okapiHeaders, "/instance-storage/batch/synchronous-unsafe", null,
+      asyncResultHandler, handler -> sync(load, entity, okapiHeaders, handler, vertxContext));
+  }
 
-    new InstanceService(vertxContext, okapiHeaders)
-      .createInstances(entity.getInstances(), true, false, true)
+  private void sync(boolean load, InstancesPost entity, Map<String, String> okapiHeaders,
+                    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    var instanceService = TenantServices.of(vertxContext, okapiHeaders).instanceService();
+    var instances = entity.getInstances();
+    Future<Response> result = load
+      ? instanceService.loadInstances(instances, okapiHeaders)
+      : instanceService.createInstances(instances, true, false, true, okapiHeaders);
+    result
       .onFailure(handleFailure(asyncResultHandler))
       .onComplete(asyncResultHandler);
   }
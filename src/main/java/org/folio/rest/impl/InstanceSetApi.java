@@ -8,7 +8,7 @@ import javax.ws.rs.core.Response;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.resource.InventoryViewInstanceSet;
 import org.folio.rest.support.EndpointHandler;
-import org.folio.services.instance.InstanceService;
+import org.folio.services.TenantServices;
 
 public class InstanceSetApi implements InventoryViewInstanceSet {
 
@@ -21,10 +21,10 @@ public class InstanceSetApi implements InventoryViewInstanceSet {
                                           Map<String, String> okapiHeaders,
                                           Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    new InstanceService(vertxContext, okapiHeaders)
+    TenantServices.of(vertxContext, okapiHeaders).instanceService()
       .getInstanceSet(instance, holdingsRecords, items,
         precedingTitles, succeedingTitles, superInstanceRelationships, subInstanceRelationships,
-        offset, limit, query)
+        offset, limit, query, okapiHeaders)
       .onComplete(EndpointHandler.handle(asyncResultHandler));
   }
 }
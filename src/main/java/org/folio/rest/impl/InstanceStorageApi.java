@@ -29,11 +29,13 @@ import org.folio.rest.persist.PgExceptionUtil;
 import org.folio.rest.persist.PgUtil;
 import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.persist.cql.CQLWrapper;
+import org.folio.rest.support.AdmissionControl;
+import org.folio.rest.support.CollectionStreamer;
 import org.folio.rest.support.EndpointFailureHandler;
 import org.folio.rest.tools.messages.MessageConsts;
 import org.folio.rest.tools.messages.Messages;
 import org.folio.rest.tools.utils.TenantTool;
-import org.folio.services.instance.InstanceService;
+import org.folio.services.TenantServices;
 
 public class InstanceStorageApi implements InstanceStorage {
   private static final Logger log = LogManager.getLogger();
@@ -191,11 +193,23 @@ public class InstanceStorageApi implements InstanceStorage {
 
   @Validate
   @Override
-  public void getInstanceStorageInstances(String totalRecords, int offset, int limit, String query,
-                                          RoutingContext routingContext, Map<String, String> okapiHeaders,
+  public void getInstanceStorageInstances(String after, String fields, String totalRecords, int offset, int limit,
+                                          String query, RoutingContext routingContext,
+                                          Map<String, String> okapiHeaders,
                                           Handler<AsyncResult<Response>> asyncResultHandler,
                                           Context vertxContext) {
-    fetchInstances(query, limit, offset, routingContext, okapiHeaders, vertxContext);
+    AdmissionControl.getInstance().admit(vertxContext, okapiHeaders, "/instance-storage/instances", routingContext,
+      asyncResultHandler, handler -> getInstances(after, fields, totalRecords, offset, limit, query, routingContext,
+        okapiHeaders, handler, vertxContext));
+  }
+
+  private void getInstances(String after, String fields, String totalRecords, int offset, int limit, String query,
+                            RoutingContext routingContext, Map<String, String> okapiHeaders,
+                            Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    new CollectionStreamer(vertxContext, okapiHeaders)
+      .withFields(fields, Instance.class)
+      .streamGet(INSTANCE_TABLE, query, after, totalRecords, offset, limit, "instances", routingContext,
+        asyncResultHandler);
   }
 
   @Validate
@@ -206,8 +220,8 @@ public class InstanceStorageApi implements InstanceStorage {
     Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    new InstanceService(vertxContext, okapiHeaders)
-      .createInstance(entity)
+    TenantServices.of(vertxContext, okapiHeaders).instanceService()
+      .createInstance(entity, okapiHeaders)
       .onSuccess(response -> asyncResultHandler.handle(succeededFuture(response)))
       .onFailure(handleFailure(asyncResultHandler));
   }
@@ -220,7 +234,7 @@ public class InstanceStorageApi implements InstanceStorage {
     Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    new InstanceService(vertxContext, okapiHeaders).deleteInstances(query)
+    TenantServices.of(vertxContext, okapiHeaders).instanceService().deleteInstances(query, okapiHeaders)
       .otherwise(EndpointFailureHandler::failureResponse)
       .onComplete(asyncResultHandler);
   }
@@ -229,12 +243,25 @@ public class InstanceStorageApi implements InstanceStorage {
   @Override
   public void getInstanceStorageInstancesByInstanceId(
     String instanceId,
-
+    String fields,
     Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    new InstanceService(vertxContext, okapiHeaders).getInstance(instanceId)
+    AdmissionControl.getInstance().admit(vertxContext, okapiHeaders, "/instance-storage/instances/{id}", null,
+      asyncResultHandler, handler -> getInstanceById(instanceId, fields, okapiHeaders, handler, vertxContext));
+  }
+
+  private void getInstanceById(String instanceId, String fields, Map<String, String> okapiHeaders,
+                               Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    if (fields != null) {
+      new CollectionStreamer(vertxContext, okapiHeaders)
+        .withFields(fields, Instance.class)
+        .getById(INSTANCE_TABLE, instanceId)
+        .onComplete(asyncResultHandler);
+      return;
+    }
+    TenantServices.of(vertxContext, okapiHeaders).instanceService().getInstance(instanceId)
       .otherwise(EndpointFailureHandler::failureResponse)
       .onComplete(asyncResultHandler);
   }
@@ -248,8 +275,8 @@ public class InstanceStorageApi implements InstanceStorage {
     Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    new InstanceService(vertxContext, okapiHeaders)
-      .deleteInstance(instanceId)
+    TenantServices.of(vertxContext, okapiHeaders).instanceService()
+      .deleteInstance(instanceId, okapiHeaders)
       .onSuccess(response -> asyncResultHandler.handle(succeededFuture(response)))
       .onFailure(handleFailure(asyncResultHandler));
   }
@@ -264,8 +291,8 @@ public class InstanceStorageApi implements InstanceStorage {
     Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    new InstanceService(vertxContext, okapiHeaders)
-      .updateInstance(instanceId, entity)
+    TenantServices.of(vertxContext, okapiHeaders).instanceService()
+      .updateInstance(instanceId, entity, okapiHeaders, vertxContext)
       .onSuccess(response -> asyncResultHandler.handle(succeededFuture(response)))
       .onFailure(handleFailure(asyncResultHandler));
   }
@@ -373,16 +400,8 @@ public class InstanceStorageApi implements InstanceStorage {
                                                    Map<String, String> okapiHeaders,
                                                    Handler<AsyncResult<Response>> asyncResultHandler,
                                                    Context vertxContext) {
-    fetchInstances(entity.getQuery(), entity.getLimit(), entity.getOffset(),
-      routingContext, okapiHeaders, vertxContext);
-  }
-
-  private void fetchInstances(String query, int limit, int offset,
-                              RoutingContext routingContext,
-                              Map<String, String> okapiHeaders,
-                              Context vertxContext) {
-    PgUtil.streamGet(INSTANCE_TABLE, Instance.class, query, offset, limit, null,
-      "instances", routingContext, okapiHeaders, vertxContext);
+    new CollectionStreamer(vertxContext, okapiHeaders)
+      .streamRetrieve(INSTANCE_TABLE, entity, "instances", routingContext, asyncResultHandler);
   }
 
   private static CQLWrapper createCqlWrapper(String query, int limit, int offset, String tableName)
@@ -7,6 +7,7 @@ import java.util.Map;
 import javax.ws.rs.core.Response;
 import org.folio.rest.jaxrs.model.BulkUpsertRequest;
 import org.folio.rest.jaxrs.resource.InstanceStorageInstancesBulk;
+import org.folio.rest.support.AdmissionControl;
 import org.folio.rest.support.EndpointFailureHandler;
 import org.folio.services.bulkprocessing.InstanceS3Service;
 import org.folio.services.s3storage.FolioS3ClientFactory;
@@ -17,6 +18,12 @@ public class InstanceStorageInstancesBulkApi implements InstanceStorageInstances
   public void postInstanceStorageInstancesBulk(BulkUpsertRequest bulkRequest, Map<String, String> okapiHeaders,
                                                Handler<AsyncResult<Response>> asyncResultHandler,
                                                Context vertxContext) {
+    AdmissionControl.getInstance().admit(vertxContext, okapiHeaders, "/instance-storage/instances/bulk", null,
+      asyncResultHandler, handler -> upsert(bulkRequest, okapiHeaders, handler, vertxContext));
+  }
+
+  private void upsert(BulkUpsertRequest bulkRequest, Map<String, String> okapiHeaders,
+                      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     new InstanceS3Service(new FolioS3ClientFactory(), vertxContext.owner(), okapiHeaders)
       .processBulkUpsert(bulkRequest)
       .map(PostInstanceStorageInstancesBulkResponse::respond201WithApplicationJson)
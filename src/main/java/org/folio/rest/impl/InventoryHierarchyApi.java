@@ -14,12 +14,18 @@ import org.apache.commons.lang3.StringUtils;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.InventoryInstanceIds;
 import org.folio.rest.jaxrs.resource.InventoryHierarchy;
+import org.folio.services.enrichment.InstanceEnrichmentService;
 
 public class InventoryHierarchyApi extends AbstractInstanceRecordsApi implements InventoryHierarchy {
 
-  private static final String SQL_UPDATED_INSTANCES_IDS =
-    "select * from get_updated_instance_ids_view($1,$2,$3,$4,$5,$6);";
-  private static final String SQL_INSTANCES = "select * from get_items_and_holdings_view($1,$2);";
+  private static final String[] UPDATED_INSTANCE_IDS_COLUMNS =
+    {"instanceId", "source", "updatedDate", "suppressFromDiscovery", "deleted"};
+  private static final String SQL_UPDATED_INSTANCES_IDS = jsonRows(
+    "select * from get_updated_instance_ids_view($1,$2,$3,$4,$5,$6)", UPDATED_INSTANCE_IDS_COLUMNS);
+  private static final String SQL_INSTANCES = jsonRows("select * from get_items_and_holdings_view($1,$2)",
+    "instanceId", "source", "modeOfIssuance", "natureOfContent", "holdings", "items");
+  private static final String SQL_CHANGES = jsonRows(SQL_CHANGE_LOG,
+    "instanceId", "source", "updatedDate", "suppressFromDiscovery", "deleted", "seq");
   private static final String SUPPRESSED_TRUE_FILTER = "(instance.jsonb ->> 'discoverySuppress')::bool = false";
   private static final String SQL_INITIAL_LOAD =
     "SELECT id as \"instanceId\",\n"
@@ -33,7 +39,7 @@ public class InventoryHierarchyApi extends AbstractInstanceRecordsApi implements
     " UNION ALL\n"
     + "\t(SELECT (jsonb #>> '{record,id}')::uuid            AS \"instanceId\",\n"
     + "        jsonb #>> '{record,source}'                 AS source,\n"
-    + "        strToTimestamp(jsonb ->> 'createdDate')     AS \"updatedDate\",\n"
+    + "        created_date                                AS \"updatedDate\",\n"
     + "        false                                       AS \"suppressFromDiscovery\",\n"
     + "        true                                        AS deleted\n"
     + "\tFROM audit_instance"
@@ -44,10 +50,17 @@ public class InventoryHierarchyApi extends AbstractInstanceRecordsApi implements
   public void getInventoryHierarchyUpdatedInstanceIds(String startDate, String endDate, boolean deletedRecordSupport,
                                                       boolean skipSuppressedFromDiscoveryRecords,
                                                       boolean onlyInstanceUpdateDate, String source,
+                                                      String afterSeq,
                                                       RoutingContext routingContext, Map<String, String> okapiHeaders,
                                                       Handler<AsyncResult<Response>> asyncResultHandler,
                                                       Context vertxContext) {
-    if (StringUtils.isEmpty(startDate) && StringUtils.isEmpty(endDate)) {
+    if (afterSeq != null) {
+      fetchRecordsByQuery(SQL_CHANGES,
+        () -> createChangeLogParams(afterSeq, startDate, endDate, deletedRecordSupport,
+          skipSuppressedFromDiscoveryRecords, onlyInstanceUpdateDate, source),
+        routingContext, okapiHeaders, asyncResultHandler, vertxContext
+      );
+    } else if (StringUtils.isEmpty(startDate) && StringUtils.isEmpty(endDate)) {
       String sql = SQL_INITIAL_LOAD;
       if (skipSuppressedFromDiscoveryRecords) {
         sql += " AND " + SUPPRESSED_TRUE_FILTER;
@@ -56,7 +69,7 @@ public class InventoryHierarchyApi extends AbstractInstanceRecordsApi implements
         sql += SQL_INITIAL_LOAD_DELETED_RECORDS_SUPPORT_PART;
       }
       Tuple tuple = new ArrayTuple(1).addValue(source);
-      fetchRecordsByQuery(sql, () -> tuple,
+      fetchRecordsByQuery(jsonRows(sql, UPDATED_INSTANCE_IDS_COLUMNS), () -> tuple,
         routingContext, okapiHeaders, asyncResultHandler, vertxContext
       );
     } else {
@@ -84,6 +97,12 @@ public class InventoryHierarchyApi extends AbstractInstanceRecordsApi implements
 
     UUID[] ids = entity.getInstanceIds().stream().map(UUID::fromString).toArray(UUID[]::new);
 
+    if (InstanceEnrichmentService.isEnabled()) {
+      writeRecords(batchHandler -> new InstanceEnrichmentService(vertxContext, okapiHeaders)
+          .getItemsAndHoldings(ids, entity.getSkipSuppressedFromDiscoveryRecords(), batchHandler),
+        routingContext, okapiHeaders, asyncResultHandler, vertxContext);
+      return;
+    }
     fetchRecordsByQuery(SQL_INSTANCES,
       () -> createPostgresParams(ids, entity.getSkipSuppressedFromDiscoveryRecords()),
       routingContext, okapiHeaders, asyncResultHandler, vertxContext
@@ -11,9 +11,7 @@ import java.util.Map;
 import javax.ws.rs.core.Response;
 import org.folio.rest.jaxrs.model.PublishReindexRecords;
 import org.folio.rest.jaxrs.resource.InventoryReindexRecordsPublish;
-import org.folio.services.holding.HoldingsService;
-import org.folio.services.instance.InstanceService;
-import org.folio.services.item.ItemService;
+import org.folio.services.TenantServices;
 
 public class InventoryReindexRecordsPublishApi implements InventoryReindexRecordsPublish {
 
@@ -29,14 +27,14 @@ public class InventoryReindexRecordsPublishApi implements InventoryReindexRecord
     Future<Void> publishFuture;
     switch (entity.getRecordType()) {
       case INSTANCE ->
-        publishFuture = new InstanceService(vertxContext, okapiHeaders)
-          .publishReindexInstanceRecords(rangeId, fromId, toId);
+        publishFuture = TenantServices.of(vertxContext, okapiHeaders).instanceService()
+          .publishReindexInstanceRecords(rangeId, fromId, toId, okapiHeaders);
       case ITEM ->
-        publishFuture = new ItemService(vertxContext, okapiHeaders)
-          .publishReindexItemRecords(rangeId, fromId, toId);
+        publishFuture = TenantServices.of(vertxContext, okapiHeaders).itemService()
+          .publishReindexItemRecords(rangeId, fromId, toId, okapiHeaders);
       case HOLDINGS ->
-        publishFuture = new HoldingsService(vertxContext, okapiHeaders)
-          .publishReindexHoldingsRecords(rangeId, fromId, toId);
+        publishFuture = TenantServices.of(vertxContext, okapiHeaders).holdingsService()
+          .publishReindexHoldingsRecords(rangeId, fromId, toId, okapiHeaders);
       default -> publishFuture = Future.failedFuture(
         "Not supported record type is provided: %s"
           .formatted(entity.getRecordType().value()));
@@ -0,0 +1,27 @@
+package org.folio.rest.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import java.util.Map;
+import javax.ws.rs.core.Response;
+import org.folio.rest.jaxrs.resource.InventoryStorageAuditMaintenance;
+import org.folio.services.audit.AuditPartitionService;
+import org.folio.services.instance.InstanceChangeLogService;
+
+public class InventoryStorageAuditMaintenanceApi implements InventoryStorageAuditMaintenance {
+
+  @Override
+  public void postInventoryStorageAuditMaintenance(Map<String, String> okapiHeaders,
+                                                   Handler<AsyncResult<Response>> asyncResultHandler,
+                                                   Context vertxContext) {
+
+    new AuditPartitionService(vertxContext, okapiHeaders).maintainPartitions()
+      .compose(notUsed -> new InstanceChangeLogService(vertxContext, okapiHeaders).compact())
+      .onSuccess(notUsed -> asyncResultHandler.handle(Future.succeededFuture(
+        PostInventoryStorageAuditMaintenanceResponse.respond204())))
+      .onFailure(error -> asyncResultHandler.handle(Future.succeededFuture(
+        PostInventoryStorageAuditMaintenanceResponse.respond500WithTextPlain(error.getMessage()))));
+  }
+}
@@ -0,0 +1,95 @@
+package org.folio.rest.impl;
+
+import static io.vertx.core.Future.succeededFuture;
+import static javax.ws.rs.core.Response.Status.NOT_FOUND;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import java.util.Map;
+import java.util.Optional;
+import javax.ws.rs.core.Response;
+import org.folio.rest.annotations.Validate;
+import org.folio.rest.exceptions.BadRequestException;
+import org.folio.rest.jaxrs.model.DeleteJob;
+import org.folio.rest.jaxrs.model.DeleteJobParams;
+import org.folio.rest.jaxrs.resource.InventoryStorageDeleteJobs;
+import org.folio.services.deletion.DeleteJobService;
+
+public class InventoryStorageDeleteJobsApi implements InventoryStorageDeleteJobs {
+
+  private static Handler<DeleteJob> posted(Handler<AsyncResult<Response>> resultHandler) {
+    return response -> resultHandler.handle(succeededFuture(
+      PostInventoryStorageDeleteJobsResponse.respond201WithApplicationJson(response)));
+  }
+
+  private static Handler<Throwable> postFailed(Handler<AsyncResult<Response>> resultHandler) {
+    return error -> resultHandler.handle(succeededFuture(error instanceof BadRequestException
+      ? PostInventoryStorageDeleteJobsResponse.respond400WithTextPlain(error.getMessage())
+      : PostInventoryStorageDeleteJobsResponse.respond500WithTextPlain(error.getMessage())));
+  }
+
+  private static Handler<Optional<DeleteJob>> getOk(Handler<AsyncResult<Response>> resultHandler) {
+    return result -> result.ifPresentOrElse(
+      deleteJob -> resultHandler.handle(succeededFuture(
+        GetInventoryStorageDeleteJobsByIdResponse.respond200WithApplicationJson(deleteJob))),
+      () -> resultHandler.handle(succeededFuture(
+        GetInventoryStorageDeleteJobsByIdResponse.respond404WithTextPlain(NOT_FOUND.getReasonPhrase())))
+    );
+  }
+
+  private static Handler<Throwable> getFailed(Handler<AsyncResult<Response>> resultHandler) {
+    return error -> resultHandler.handle(succeededFuture(
+      GetInventoryStorageDeleteJobsByIdResponse.respond500WithTextPlain(error.getMessage())));
+  }
+
+  private static Handler<Void> deleted(Handler<AsyncResult<Response>> resultHandler) {
+    return response -> resultHandler.handle(succeededFuture(
+      DeleteInventoryStorageDeleteJobsByIdResponse.respond204()));
+  }
+
+  private static Handler<Throwable> deleteFailed(Handler<AsyncResult<Response>> resultHandler) {
+    return error -> resultHandler.handle(succeededFuture(
+      DeleteInventoryStorageDeleteJobsByIdResponse.respond500WithTextPlain(error.getMessage())));
+  }
+
+  @Validate
+  @Override
+  public void postInventoryStorageDeleteJobs(DeleteJobParams jobParams, Map<String, String> okapiHeaders,
+                                             Handler<AsyncResult<Response>> resultHandler,
+                                             Context vertxContext) {
+
+    getService(okapiHeaders, vertxContext)
+      .submitDeleteJob(jobParams)
+      .onSuccess(posted(resultHandler))
+      .onFailure(postFailed(resultHandler));
+  }
+
+  @Validate
+  @Override
+  public void getInventoryStorageDeleteJobsById(String id, Map<String, String> okapiHeaders,
+                                                Handler<AsyncResult<Response>> resultHandler,
+                                                Context vertxContext) {
+
+    getService(okapiHeaders, vertxContext)
+      .getDeleteJob(id)
+      .onSuccess(getOk(resultHandler))
+      .onFailure(getFailed(resultHandler));
+  }
+
+  @Validate
+  @Override
+  public void deleteInventoryStorageDeleteJobsById(String id, Map<String, String> okapiHeaders,
+                                                   Handler<AsyncResult<Response>> resultHandler,
+                                                   Context vertxContext) {
+
+    getService(okapiHeaders, vertxContext)
+      .cancelDeleteJob(id)
+      .onSuccess(deleted(resultHandler))
+      .onFailure(deleteFailed(resultHandler));
+  }
+
+  private DeleteJobService getService(Map<String, String> okapiHeaders, Context vertxContext) {
+    return new DeleteJobService(vertxContext, okapiHeaders);
+  }
+}
@@ -0,0 +1,37 @@
+package org.folio.rest.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import java.util.Map;
+import javax.ws.rs.core.Response;
+import org.folio.rest.jaxrs.resource.InventoryStorageKafkaFailureLog;
+import org.folio.services.domainevent.FailedEventReplayService;
+
+public class InventoryStorageKafkaFailureLogApi implements InventoryStorageKafkaFailureLog {
+
+  @Override
+  public void getInventoryStorageKafkaFailureLog(Map<String, String> okapiHeaders,
+                                                 Handler<AsyncResult<Response>> asyncResultHandler,
+                                                 Context vertxContext) {
+
+    new FailedEventReplayService(vertxContext, okapiHeaders).getStatus()
+      .onSuccess(status -> asyncResultHandler.handle(Future.succeededFuture(
+        GetInventoryStorageKafkaFailureLogResponse.respond200WithApplicationJson(status))))
+      .onFailure(error -> asyncResultHandler.handle(Future.succeededFuture(
+        GetInventoryStorageKafkaFailureLogResponse.respond500WithTextPlain(error.getMessage()))));
+  }
+
+  @Override
+  public void postInventoryStorageKafkaFailureLogReplay(Map<String, String> okapiHeaders,
+                                                        Handler<AsyncResult<Response>> asyncResultHandler,
+                                                        Context vertxContext) {
+
+    new FailedEventReplayService(vertxContext, okapiHeaders).replay()
+      .onSuccess(status -> asyncResultHandler.handle(Future.succeededFuture(
+        PostInventoryStorageKafkaFailureLogReplayResponse.respond200WithApplicationJson(status))))
+      .onFailure(error -> asyncResultHandler.handle(Future.succeededFuture(
+        PostInventoryStorageKafkaFailureLogReplayResponse.respond500WithTextPlain(error.getMessage()))));
+  }
+}
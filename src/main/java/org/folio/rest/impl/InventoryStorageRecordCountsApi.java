@@ -0,0 +1,28 @@
+package org.folio.rest.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import java.util.Map;
+import javax.ws.rs.core.Response;
+import org.folio.rest.annotations.Validate;
+import org.folio.rest.jaxrs.model.RecordCountsRequest;
+import org.folio.rest.jaxrs.resource.InventoryStorageRecordCountsRetrieve;
+import org.folio.services.recordcount.RecordCountService;
+
+public class InventoryStorageRecordCountsApi implements InventoryStorageRecordCountsRetrieve {
+
+  @Validate
+  @Override
+  public void postInventoryStorageRecordCountsRetrieve(RecordCountsRequest entity, Map<String, String> okapiHeaders,
+                                                       Handler<AsyncResult<Response>> asyncResultHandler,
+                                                       Context vertxContext) {
+
+    new RecordCountService(vertxContext, okapiHeaders).getRecordCounts(entity)
+      .onSuccess(counts -> asyncResultHandler.handle(Future.succeededFuture(
+        PostInventoryStorageRecordCountsRetrieveResponse.respond200WithApplicationJson(counts))))
+      .onFailure(error -> asyncResultHandler.handle(Future.succeededFuture(
+        PostInventoryStorageRecordCountsRetrieveResponse.respond500WithTextPlain(error.getMessage()))));
+  }
+}
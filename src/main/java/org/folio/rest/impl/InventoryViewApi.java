@@ -12,7 +12,7 @@ import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.InventoryViewInstance;
 import org.folio.rest.jaxrs.resource.InventoryViewInstances;
 import org.folio.rest.support.EndpointHandler;
-import org.folio.services.instance.InstanceService;
+import org.folio.services.TenantServices;
 
 public class InventoryViewApi implements InventoryViewInstances {
   @Validate
@@ -22,10 +22,9 @@ public class InventoryViewApi implements InventoryViewInstances {
     String query, RoutingContext routingContext,
     Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    var instanceService = new InstanceService(vertxContext, okapiHeaders);
     if (withBoundedItems) {
-      instanceService
-        .getInventoryViewInstancesWithBoundedItems(offset, limit, query)
+      TenantServices.of(vertxContext, okapiHeaders).instanceService()
+        .getInventoryViewInstancesWithBoundedItems(offset, limit, query, okapiHeaders)
         .onComplete(EndpointHandler.handle(asyncResultHandler));
     } else {
       streamGet("instance_holdings_item_view", InventoryViewInstance.class, query,
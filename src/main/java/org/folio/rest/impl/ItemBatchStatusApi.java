@@ -0,0 +1,35 @@
+package org.folio.rest.impl;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import java.util.Map;
+import javax.ws.rs.core.Response;
+import org.folio.rest.annotations.Validate;
+import org.folio.rest.jaxrs.model.ItemStatusUpdates;
+import org.folio.rest.jaxrs.resource.ItemStorageBatchStatus;
+import org.folio.rest.support.AdmissionControl;
+import org.folio.rest.support.EndpointFailureHandler;
+import org.folio.services.TenantServices;
+
+public class ItemBatchStatusApi implements ItemStorageBatchStatus {
+  @Validate
+  @Override
+  public void postItemStorageBatchStatus(ItemStatusUpdates entity, Map<String, String> okapiHeaders,
+                                         Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    AdmissionControl.getInstance().admit(vertxContext, okapiHeaders, "/item-storage/batch/status", null,
+      asyncResultHandler, handler -> updateStatuses(entity, okapiHeaders, handler, vertxContext));
+  }
+
+  private void updateStatuses(ItemStatusUpdates entity, Map<String, String> okapiHeaders,
+                              Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    TenantServices.of(vertxContext, okapiHeaders).itemService().updateItemStatuses(entity.getItems(), okapiHeaders)
+      .onSuccess(result -> asyncResultHandler.handle(succeededFuture(
+        PostItemStorageBatchStatusResponse.respond200WithApplicationJson(result))))
+      .onFailure(EndpointFailureHandler.handleFailure(asyncResultHandler,
+        PostItemStorageBatchStatusResponse::respond422WithApplicationJson,
+        PostItemStorageBatchStatusResponse::respond500WithTextPlain));
+  }
+}
@@ -10,16 +10,23 @@ import javax.ws.rs.core.Response;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.ItemsPost;
 import org.folio.rest.jaxrs.resource.ItemStorageBatchSynchronous;
+import org.folio.rest.support.AdmissionControl;
 import org.folio.rest.support.EndpointFailureHandler;
-import org.folio.services.item.ItemService;
+import org.folio.services.TenantServices;
 
 public class ItemBatchSyncApi implements ItemStorageBatchSynchronous {
   @Validate
   @Override
   public void postItemStorageBatchSynchronous(boolean upsert, ItemsPost entity, Map<String, String> okapiHeaders,
                                               Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    AdmissionControl.getInstance().admit(vertxContext, okapiHeaders, "/item-storage/batch/synchronous", null,
+      asyncResultHandler, handler -> sync(upsert, entity, okapiHeaders, handler, vertxContext));
+  }
 
-    new ItemService(vertxContext, okapiHeaders).createItems(entity.getItems(), upsert, true)
+  private void sync(boolean upsert, ItemsPost entity, Map<String, String> okapiHeaders,
+                    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    TenantServices.of(vertxContext, okapiHeaders).itemService()
+      .createItems(entity.getItems(), upsert, true, okapiHeaders, vertxContext)
       .onSuccess(response -> asyncResultHandler.handle(succeededFuture(response)))
       .onFailure(EndpointFailureHandler.handleFailure(asyncResultHandler,
         PostItemStorageBatchSynchronousResponse::respond422WithApplicationJson,
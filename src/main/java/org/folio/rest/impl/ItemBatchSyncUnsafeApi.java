@@ -10,17 +10,31 @@ import javax.ws.rs.core.Response;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.ItemsPost;
 import org.folio.rest.jaxrs.resource.ItemStorageBatchSynchronousUnsafe;
+import org.folio.rest.support.AdmissionControl;
 import org.folio.rest.support.EndpointFailureHandler;
-import org.folio.services.item.ItemService;
+import org.folio.services.TenantServices;
 
 public class ItemBatchSyncUnsafeApi implements ItemStorageBatchSynchronousUnsafe {
   @Validate
   @Override
-  public void postItemStorageBatchSynchronousUnsafe(ItemsPost entity, Map<String, String> okapiHeaders,
+  public void postItemStorageBatchSynchronousUnsafe(boolean load, ItemsPost entity, Map<String, String> okapiHeaders,
                                                     Handler<AsyncResult<Response>> asyncResultHandler,
                                                     Context vertxContext) {
+    AdmissionControl.getInstance().admit(vertxContext, okapiHeaders, "/item-storage/batch/synchronous-unsafe", null,
+      asyncResultHandler, handler -> sync(load, entity, okapiHeaders, handler, vertxContext));
+  }
+
+  private void sync(boolean load, ItemsPost entity, Map<String, String> okapiHeaders,
+                    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    if (load) {
+      TenantServices.of(vertxContext, okapiHeaders).itemService().loadItems(entity.getItems(), okapiHeaders)
+        .onSuccess(response -> asyncResultHandler.handle(succeededFuture(response)))
+        .onFailure(EndpointFailureHandler.handleFailure(asyncResultHandler));
+      return;
+    }
 
-    new ItemService(vertxContext, okapiHeaders).createItems(entity.getItems(), true, false)
+    TenantServices.of(vertxContext, okapiHeaders).itemService()
+      .createItems(entity.getItems(), true, false, okapiHeaders, vertxContext)
       .onSuccess(response -> asyncResultHandler.handle(succeededFuture(response)))
       .onFailure(EndpointFailureHandler.handleFailure(asyncResultHandler,
         PostItemStorageBatchSynchronousUnsafeResponse::respond422WithApplicationJson,
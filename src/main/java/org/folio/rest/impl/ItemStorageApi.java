@@ -14,8 +14,10 @@ import org.folio.rest.jaxrs.model.Item;
 import org.folio.rest.jaxrs.model.RetrieveDto;
 import org.folio.rest.jaxrs.resource.ItemStorage;
 import org.folio.rest.persist.PgUtil;
+import org.folio.rest.support.AdmissionControl;
+import org.folio.rest.support.CollectionStreamer;
 import org.folio.rest.support.EndpointFailureHandler;
-import org.folio.services.item.ItemService;
+import org.folio.services.TenantServices;
 
 /**
  * CRUD for Item.
@@ -25,13 +27,21 @@ public class ItemStorageApi implements ItemStorage {
 
   @Validate
   @Override
-  public void getItemStorageItems(String totalRecords, int offset, int limit, String query,
-                                  RoutingContext routingContext, Map<String, String> okapiHeaders,
+  public void getItemStorageItems(String after, String fields, String totalRecords, int offset, int limit,
+                                  String query, RoutingContext routingContext, Map<String, String> okapiHeaders,
                                   Handler<AsyncResult<Response>> asyncResultHandler,
                                   Context vertxContext) {
+    AdmissionControl.getInstance().admit(vertxContext, okapiHeaders, "/item-storage/items", routingContext,
+      asyncResultHandler, handler -> getItems(after, fields, totalRecords, offset, limit, query, routingContext,
+        okapiHeaders, handler, vertxContext));
+  }
 
-    PgUtil.streamGet(ITEM_TABLE, Item.class, query, offset, limit, null, "items",
-      routingContext, okapiHeaders, vertxContext);
+  private void getItems(String after, String fields, String totalRecords, int offset, int limit, String query,
+                        RoutingContext routingContext, Map<String, String> okapiHeaders,
+                        Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    new CollectionStreamer(vertxContext, okapiHeaders)
+      .withFields(fields, Item.class)
+      .streamGet(ITEM_TABLE, query, after, totalRecords, offset, limit, "items", routingContext, asyncResultHandler);
   }
 
   @Validate
@@ -39,12 +49,8 @@ public class ItemStorageApi implements ItemStorage {
   public void postItemStorageItemsRetrieve(RetrieveDto entity, RoutingContext routingContext,
                                            Map<String, String> okapiHeaders,
                                            Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    String query = entity.getQuery();
-    Integer offset = entity.getOffset();
-    Integer limit = entity.getLimit();
-
-    PgUtil.streamGet(ITEM_TABLE, Item.class, query, offset, limit, null, "items",
-            routingContext, okapiHeaders, vertxContext);
+    new CollectionStreamer(vertxContext, okapiHeaders)
+      .streamRetrieve(ITEM_TABLE, entity, "items", routingContext, asyncResultHandler);
   }
 
   @Validate
@@ -55,7 +61,7 @@ public class ItemStorageApi implements ItemStorage {
     Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    new ItemService(vertxContext, okapiHeaders).createItem(entity)
+    TenantServices.of(vertxContext, okapiHeaders).itemService().createItem(entity, okapiHeaders, vertxContext)
       .onSuccess(response -> asyncResultHandler.handle(succeededFuture(response)))
       .onFailure(handleFailure(asyncResultHandler));
   }
@@ -66,7 +72,7 @@ public class ItemStorageApi implements ItemStorage {
                                      RoutingContext routingContext, Map<String, String> okapiHeaders,
                                      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    new ItemService(vertxContext, okapiHeaders).deleteItems(query)
+    TenantServices.of(vertxContext, okapiHeaders).itemService().deleteItems(query, okapiHeaders)
       .otherwise(EndpointFailureHandler::failureResponse)
       .onComplete(asyncResultHandler);
   }
@@ -74,10 +80,22 @@ public class ItemStorageApi implements ItemStorage {
   @Validate
   @Override
   public void getItemStorageItemsByItemId(
-    String itemId, java.util.Map<String, String> okapiHeaders,
+    String itemId, String fields, java.util.Map<String, String> okapiHeaders,
     io.vertx.core.Handler<io.vertx.core.AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
+    AdmissionControl.getInstance().admit(vertxContext, okapiHeaders, "/item-storage/items/{id}", null,
+      asyncResultHandler, handler -> getItemById(itemId, fields, okapiHeaders, handler, vertxContext));
+  }
 
+  private void getItemById(String itemId, String fields, Map<String, String> okapiHeaders,
+                           Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    if (fields != null) {
+      new CollectionStreamer(vertxContext, okapiHeaders)
+        .withFields(fields, Item.class)
+        .getById(ITEM_TABLE, itemId)
+        .onComplete(asyncResultHandler);
+      return;
+    }
     PgUtil.getById(ITEM_TABLE, Item.class, itemId, okapiHeaders, vertxContext,
       GetItemStorageItemsByItemIdResponse.class, asyncResultHandler);
   }
@@ -89,7 +107,7 @@ public class ItemStorageApi implements ItemStorage {
     io.vertx.core.Handler<io.vertx.core.AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    new ItemService(vertxContext, okapiHeaders).deleteItem(itemId)
+    TenantServices.of(vertxContext, okapiHeaders).itemService().deleteItem(itemId, okapiHeaders, vertxContext)
       .onSuccess(response -> asyncResultHandler.handle(succeededFuture(response)))
       .onFailure(handleFailure(asyncResultHandler));
   }
@@ -101,7 +119,7 @@ public class ItemStorageApi implements ItemStorage {
     io.vertx.core.Handler<io.vertx.core.AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    new ItemService(vertxContext, okapiHeaders).updateItem(itemId, entity)
+    TenantServices.of(vertxContext, okapiHeaders).itemService().updateItem(itemId, entity, okapiHeaders)
       .onSuccess(response -> asyncResultHandler.handle(succeededFuture(response)))
       .onFailure(handleFailure(asyncResultHandler));
   }
@@ -10,12 +10,24 @@ import javax.ws.rs.core.Response;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.OaipmhInstanceIds;
 import org.folio.rest.jaxrs.resource.OaiPmhView;
+import org.folio.services.enrichment.InstanceEnrichmentService;
 
 public class OaiPmhViewInstancesApi extends AbstractInstanceRecordsApi implements OaiPmhView {
 
-  private static final String SQL = "select * from pmh_view_function($1,$2,$3,$4);";
-  private static final String SQL_UPDATED_INSTANCES_IDS = "select * from pmh_get_updated_instances_ids($1,$2,$3,$4);";
-  private static final String SQL_INSTANCES = "select * from pmh_instance_view_function($1,$2);";
+  private static final String SQL = jsonRows("select * from pmh_view_function($1,$2,$3,$4)",
+    "instanceid", "updateddate", "deleted", "itemsandholdingsfields");
+  private static final String SQL_UPDATED_INSTANCES_IDS = jsonRows(
+    "select * from pmh_get_updated_instances_ids($1,$2,$3,$4)",
+    "instanceid", "updateddate", "suppressfromdiscovery", "deleted");
+  private static final String SQL_INSTANCES = jsonRows("select * from pmh_instance_view_function($1,$2)",
+    "instanceid", "itemsandholdingsfields");
+  /**
+   * The change feed with the lower case keys of pmh_get_updated_instances_ids.
+   */
+  private static final String SQL_CHANGES = jsonRows(
+    "SELECT \"instanceId\" AS instanceid, \"updatedDate\" AS updateddate,"
+      + " \"suppressFromDiscovery\" AS suppressfromdiscovery, deleted, seq FROM (" + SQL_CHANGE_LOG + ") log",
+    "instanceid", "updateddate", "suppressfromdiscovery", "deleted", "seq");
 
   @Validate
   @Override
@@ -33,11 +45,19 @@ public class OaiPmhViewInstancesApi extends AbstractInstanceRecordsApi implement
   @Validate
   @Override
   public void getOaiPmhViewUpdatedInstanceIds(String startDate, String endDate, boolean deletedRecordSupport,
-                                              boolean skipSuppressedFromDiscoveryRecords,
+                                              boolean skipSuppressedFromDiscoveryRecords, String afterSeq,
                                               RoutingContext routingContext,
                                               Map<String, String> okapiHeaders,
                                               Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
+    if (afterSeq != null) {
+      fetchRecordsByQuery(SQL_CHANGES,
+        () -> createChangeLogParams(afterSeq, startDate, endDate, deletedRecordSupport,
+          skipSuppressedFromDiscoveryRecords, false, null),
+        routingContext, okapiHeaders, asyncResultHandler, vertxContext
+      );
+      return;
+    }
     fetchRecordsByQuery(SQL_UPDATED_INSTANCES_IDS,
       () -> createPostgresParams(startDate, endDate, deletedRecordSupport, skipSuppressedFromDiscoveryRecords),
       routingContext, okapiHeaders, asyncResultHandler, vertxContext
@@ -52,6 +72,12 @@ public class OaiPmhViewInstancesApi extends AbstractInstanceRecordsApi implement
 
     UUID[] ids = entity.getInstanceIds().stream().map(UUID::fromString).toArray(UUID[]::new);
 
+    if (InstanceEnrichmentService.isEnabled()) {
+      writeRecords(batchHandler -> new InstanceEnrichmentService(vertxContext, okapiHeaders)
+          .getOaiPmhEnrichedInstances(ids, entity.getSkipSuppressedFromDiscoveryRecords(), batchHandler),
+        routingContext, okapiHeaders, asyncResultHandler, vertxContext);
+      return;
+    }
     fetchRecordsByQuery(SQL_INSTANCES,
       () -> createPostgresParams(ids, entity.getSkipSuppressedFromDiscoveryRecords()),
       routingContext, okapiHeaders, asyncResultHandler, vertxContext
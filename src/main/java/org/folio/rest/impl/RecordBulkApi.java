@@ -13,9 +13,12 @@ import org.apache.logging.log4j.Logger;
 import org.folio.cql2pgjson.exception.FieldException;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.RecordBulkIdsGetField;
+import org.folio.rest.jaxrs.model.RecordBulkIdsGetFormat;
 import org.folio.rest.jaxrs.model.RecordBulkIdsGetRecordType;
 import org.folio.rest.persist.PgUtil;
 import org.folio.rest.persist.cql.CQLWrapper;
+import org.folio.rest.support.AdmissionControl;
+import org.folio.rest.support.CollectionStreamer;
 import org.folio.rest.support.RecordId;
 
 public class RecordBulkApi implements org.folio.rest.jaxrs.resource.RecordBulk {
@@ -28,18 +31,30 @@ public class RecordBulkApi implements org.folio.rest.jaxrs.resource.RecordBulk {
   @Validate
   @Override
   public void getRecordBulkIds(RecordBulkIdsGetField field,
-                               RecordBulkIdsGetRecordType recordType, int limit, String query,
-                               String totalRecords, int offset, RoutingContext routingContext,
+                               RecordBulkIdsGetRecordType recordType, int limit, RecordBulkIdsGetFormat format,
+                               String query, String totalRecords, int offset, RoutingContext routingContext,
                                Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
                                Context vertxContext) {
+    AdmissionControl.getInstance().admit(vertxContext, okapiHeaders, routingContext.request().path(), routingContext,
+      asyncResultHandler, handler -> getIds(recordType, limit, format, query, offset, routingContext, okapiHeaders,
+        handler, vertxContext));
+  }
+
+  private void getIds(RecordBulkIdsGetRecordType recordType, int limit, RecordBulkIdsGetFormat format,
+                      String query, int offset, RoutingContext routingContext, Map<String, String> okapiHeaders,
+                      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     try {
       if (StringUtils.isNotBlank(query)) {
         query = query.replace("items.effectiveLocationId", "item.effectiveLocationId");
       }
       var tableName = recordType.toString().equalsIgnoreCase(HOLDING_TYPE) ? HOLDING_TABLE : INSTANCE_TABLE;
       var wrapper = getCql(query, tableName, limit, offset);
-      PgUtil.streamGet(tableName, RecordId.class, wrapper, null,
-        "ids", routingContext, okapiHeaders, vertxContext);
+      if (format == null || format == RecordBulkIdsGetFormat.JSON) {
+        PgUtil.streamGet(tableName, RecordId.class, wrapper, null,
+          "ids", routingContext, okapiHeaders, vertxContext);
+        return;
+      }
+      streamIds(tableName, wrapper, format, routingContext, okapiHeaders, asyncResultHandler, vertxContext);
     } catch (Exception e) {
       LOG.error(e.getMessage(), e);
       asyncResultHandler.handle(Future.succeededFuture(GetRecordBulkIdsResponse
@@ -47,6 +62,21 @@ public class RecordBulkApi implements org.folio.rest.jaxrs.resource.RecordBulk {
     }
   }
 
+  /**
+   * Streams one id per line, as NDJSON or plain text, without POJO mapping.
+   */
+  private void streamIds(String tableName, CQLWrapper wrapper, RecordBulkIdsGetFormat format,
+                         RoutingContext routingContext, Map<String, String> okapiHeaders,
+                         Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    var postgresClient = PgUtil.postgresClient(vertxContext, okapiHeaders);
+    var ndjson = format == RecordBulkIdsGetFormat.NDJSON;
+    var column = ndjson ? "json_build_object('id', id)::text" : "id::text";
+    var sql = "SELECT " + column + " FROM " + postgresClient.getSchemaName() + "." + tableName + " " + wrapper;
+    new CollectionStreamer(vertxContext, okapiHeaders)
+      .streamLines(sql, ndjson ? CollectionStreamer.NDJSON : "text/plain", routingContext, asyncResultHandler);
+  }
+
   private CQLWrapper getCql(String query, String table, int limit, int offset) throws FieldException {
     return StorageHelper.getCql(query, limit, offset, table);
   }
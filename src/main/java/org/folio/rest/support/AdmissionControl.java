@@ -0,0 +1,295 @@
+package org.folio.rest.support;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.RoutingContext;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import javax.ws.rs.core.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.tools.utils.TenantTool;
+import org.folio.services.metrics.InventoryMetrics;
+import org.folio.utils.Environment;
+
+/**
+ * Admission control that separates interactive requests from bulk requests like batch sync,
+ * S3 bulk upsert, record-bulk export and harvesting.
+ *
+ * <p>An endpoint belongs to the bulk lane if its path starts with one of ADMISSION_BULK_ENDPOINTS,
+ * otherwise to the interactive lane. Each tenant has its own lanes because each tenant has its own
+ * connection pool: a lane of a tenant runs at most its concurrency limit of requests, capped at its share
+ * of the DB_MAXPOOLSIZE connections of the tenant pool, further requests wait in the queue of the lane.
+ * While the moving average of the interactive latency of a tenant exceeds
+ * ADMISSION_INTERACTIVE_LATENCY_THRESHOLD_MS no bulk request of that tenant is started.
+ *
+ * <p>Queue depth and active requests per lane, summed over all tenants, are exported as the gauges
+ * {@code admission.queued} and {@code admission.active}, the time spent in the queue as the timer
+ * {@code admission.wait}.
+ */
+public class AdmissionControl {
+  public static final String ADMISSION_CONTROL_ENABLED = "ADMISSION_CONTROL_ENABLED";
+  public static final String ADMISSION_BULK_ENDPOINTS = "ADMISSION_BULK_ENDPOINTS";
+  public static final String ADMISSION_INTERACTIVE_CONCURRENCY = "ADMISSION_INTERACTIVE_CONCURRENCY";
+  public static final String ADMISSION_BULK_CONCURRENCY = "ADMISSION_BULK_CONCURRENCY";
+  public static final String ADMISSION_INTERACTIVE_POOL_PERCENT = "ADMISSION_INTERACTIVE_POOL_PERCENT";
+  public static final String ADMISSION_BULK_POOL_PERCENT = "ADMISSION_BULK_POOL_PERCENT";
+  public static final String ADMISSION_INTERACTIVE_LATENCY_THRESHOLD_MS =
+    "ADMISSION_INTERACTIVE_LATENCY_THRESHOLD_MS";
+  static final String DEFAULT_BULK_ENDPOINTS = "/instance-storage/batch,/holdings-storage/batch,"
+    + "/item-storage/batch,/instance-storage/instances/bulk,/record-bulk,/inventory-hierarchy,/oai-pmh-view";
+  static final long RECHECK_MILLIS = 100;
+  /**
+   * An interactive latency older than this is ignored so that bulk requests don't wait forever
+   * after the interactive traffic has stopped.
+   */
+  static final long STALE_LATENCY_MILLIS = 5000;
+  private static final double LATENCY_WEIGHT = 0.2;
+  private static final Logger log = LogManager.getLogger(AdmissionControl.class);
+  private static volatile AdmissionControl instance = new AdmissionControl(Map.of());
+
+  public enum Lane {
+    INTERACTIVE, BULK;
+
+    String tag() {
+      return name().toLowerCase();
+    }
+  }
+
+  private final boolean enabled;
+  private final List<String> bulkEndpoints;
+  private final long latencyThresholdMillis;
+  private final int interactiveLimit;
+  private final int bulkLimit;
+  private final Map<String, TenantLanes> tenants = new ConcurrentHashMap<>();
+
+  private AdmissionControl(Map<String, String> variables) {
+    this((key, defaultValue) -> variables.getOrDefault(key, Environment.getEnvVar(key, defaultValue)));
+  }
+
+  private AdmissionControl(BinaryOperator<String> env) {
+    this(Boolean.parseBoolean(env.apply(ADMISSION_CONTROL_ENABLED, "false")),
+      env.apply(ADMISSION_BULK_ENDPOINTS, DEFAULT_BULK_ENDPOINTS),
+      limit(env, ADMISSION_INTERACTIVE_CONCURRENCY, "100", ADMISSION_INTERACTIVE_POOL_PERCENT, "100"),
+      limit(env, ADMISSION_BULK_CONCURRENCY, "4", ADMISSION_BULK_POOL_PERCENT, "50"),
+      Long.parseLong(env.apply(ADMISSION_INTERACTIVE_LATENCY_THRESHOLD_MS, "250")));
+  }
+
+  AdmissionControl(boolean enabled, String bulkEndpoints, int interactiveLimit, int bulkLimit,
+                   long latencyThresholdMillis) {
+    this.enabled = enabled;
+    this.bulkEndpoints = Arrays.stream(bulkEndpoints.split(","))
+      .map(String::trim)
+      .filter(endpoint -> !endpoint.isEmpty())
+      .toList();
+    this.latencyThresholdMillis = latencyThresholdMillis;
+    this.interactiveLimit = interactiveLimit;
+    this.bulkLimit = bulkLimit;
+  }
+
+  public static AdmissionControl getInstance() {
+    return instance;
+  }
+
+  /**
+   * Replaces the instance by one configured from the variables, a variable not in the map is taken from
+   * the environment. Requests already admitted or queued continue to use the old instance.
+   */
+  public static void configure(Map<String, String> variables) {
+    instance = new AdmissionControl(Map.copyOf(variables));
+  }
+
+  /**
+   * The concurrency limit of a lane of a tenant, at most the percentage of the DB_MAXPOOLSIZE connections
+   * of the tenant pool, at least 1.
+   */
+  static int limit(BinaryOperator<String> env, String concurrencyVar, String defaultConcurrency,
+                   String percentVar, String defaultPercent) {
+    var concurrency = Integer.parseInt(env.apply(concurrencyVar, defaultConcurrency));
+    var poolSize = Integer.parseInt(env.apply("DB_MAXPOOLSIZE", "4"));
+    var percent = Integer.parseInt(env.apply(percentVar, defaultPercent));
+    return Math.max(1, Math.min(concurrency, poolSize * percent / 100));
+  }
+
+  public Lane lane(String endpoint) {
+    return bulkEndpoints.stream().anyMatch(endpoint::startsWith) ? Lane.BULK : Lane.INTERACTIVE;
+  }
+
+  /**
+   * Runs the work once the lane of the endpoint of the tenant admits it. The lane slot is released when
+   * the work calls the handler it gets or, if routingContext is not null, when the response ends.
+   *
+   * @param okapiHeaders the headers of the request, they select the tenant
+   * @param routingContext the routing context of a streaming endpoint, null otherwise
+   */
+  public void admit(Context context, Map<String, String> okapiHeaders, String endpoint,
+                    RoutingContext routingContext,
+                    Handler<AsyncResult<Response>> asyncResultHandler,
+                    Consumer<Handler<AsyncResult<Response>>> work) {
+
+    if (!enabled) {
+      work.accept(asyncResultHandler);
+      return;
+    }
+    var tenantLanes = tenantLanes(TenantTool.tenantId(okapiHeaders));
+    var entry = new Entry(tenantLanes.lanes.get(lane(endpoint)), context, release -> {
+      if (routingContext != null) {
+        routingContext.addEndHandler(notUsed -> release.run());
+      }
+      try {
+        work.accept(result -> {
+          release.run();
+          asyncResultHandler.handle(result);
+        });
+      } catch (RuntimeException e) {
+        log.error("admit:: {} failed", endpoint, e);
+        release.run();
+        asyncResultHandler.handle(Future.failedFuture(e));
+      }
+    });
+    synchronized (tenantLanes) {
+      entry.lane.queue.add(entry);
+      entry.lane.queued.incrementAndGet();
+    }
+    drain(tenantLanes, context.owner());
+  }
+
+  boolean isInteractiveSlow(String tenantId) {
+    return tenantLanes(tenantId).isInteractiveSlow();
+  }
+
+  void recordInteractiveLatency(String tenantId, long millis) {
+    tenantLanes(tenantId).recordInteractiveLatency(millis);
+  }
+
+  private TenantLanes tenantLanes(String tenantId) {
+    return tenants.computeIfAbsent(tenantId, notUsed -> new TenantLanes());
+  }
+
+  private void drain(TenantLanes tenantLanes, Vertx vertx) {
+    var ready = new ArrayList<Entry>();
+    synchronized (tenantLanes) {
+      for (var lane : tenantLanes.lanes.values()) {
+        while (lane.active < lane.limit && !lane.queue.isEmpty()) {
+          if (lane.lane == Lane.BULK && tenantLanes.isInteractiveSlow()) {
+            scheduleRecheck(tenantLanes, vertx);
+            break;
+          }
+          var entry = lane.queue.poll();
+          lane.queued.decrementAndGet();
+          lane.active++;
+          lane.activeGauge.incrementAndGet();
+          ready.add(entry);
+        }
+      }
+    }
+    ready.forEach(entry -> entry.context.runOnContext(notUsed -> start(tenantLanes, entry, vertx)));
+  }
+
+  private void start(TenantLanes tenantLanes, Entry entry, Vertx vertx) {
+    var startNanos = System.nanoTime();
+    InventoryMetrics.record("admission.wait", Duration.ofNanos(startNanos - entry.enqueuedNanos),
+      "lane", entry.lane.lane.tag());
+    var released = new AtomicBoolean();
+    entry.work.accept(() -> {
+      if (!released.compareAndSet(false, true)) {
+        return;
+      }
+      synchronized (tenantLanes) {
+        entry.lane.active--;
+        entry.lane.activeGauge.decrementAndGet();
+      }
+      if (entry.lane.lane == Lane.INTERACTIVE) {
+        tenantLanes.recordInteractiveLatency(
+          Duration.ofNanos(System.nanoTime() - entry.enqueuedNanos).toMillis());
+      }
+      drain(tenantLanes, vertx);
+    });
+  }
+
+  private void scheduleRecheck(TenantLanes tenantLanes, Vertx vertx) {
+    synchronized (tenantLanes) {
+      if (tenantLanes.recheckScheduled) {
+        return;
+      }
+      tenantLanes.recheckScheduled = true;
+      log.debug("scheduleRecheck:: interactive latency {} ms above threshold, bulk requests queued",
+        tenantLanes.interactiveLatencyMillis);
+    }
+    vertx.setTimer(RECHECK_MILLIS, timerId -> {
+      synchronized (tenantLanes) {
+        tenantLanes.recheckScheduled = false;
+      }
+      drain(tenantLanes, vertx);
+    });
+  }
+
+  /**
+   * The lanes and the interactive latency of a tenant, guarded by its own monitor.
+   */
+  private final class TenantLanes {
+    private final Map<Lane, LaneState> lanes = new EnumMap<>(Lane.class);
+    private double interactiveLatencyMillis;
+    private long interactiveLatencyNanos;
+    private boolean recheckScheduled;
+
+    private TenantLanes() {
+      lanes.put(Lane.INTERACTIVE, new LaneState(Lane.INTERACTIVE, interactiveLimit));
+      lanes.put(Lane.BULK, new LaneState(Lane.BULK, bulkLimit));
+    }
+
+    private synchronized boolean isInteractiveSlow() {
+      return interactiveLatencyMillis > latencyThresholdMillis
+        && System.nanoTime() - interactiveLatencyNanos < Duration.ofMillis(STALE_LATENCY_MILLIS).toNanos();
+    }
+
+    private synchronized void recordInteractiveLatency(long millis) {
+      interactiveLatencyMillis = interactiveLatencyNanos == 0 ? millis
+        : LATENCY_WEIGHT * millis + (1 - LATENCY_WEIGHT) * interactiveLatencyMillis;
+      interactiveLatencyNanos = System.nanoTime();
+    }
+  }
+
+  private static final class LaneState {
+    private final Lane lane;
+    private final int limit;
+    private final Queue<Entry> queue = new ArrayDeque<>();
+    private final AtomicLong queued;
+    private final AtomicLong activeGauge;
+    private int active;
+
+    private LaneState(Lane lane, int limit) {
+      this.lane = lane;
+      this.limit = Math.max(1, limit);
+      this.queued = InventoryMetrics.gauge("admission.queued", "lane", lane.tag());
+      this.activeGauge = InventoryMetrics.gauge("admission.active", "lane", lane.tag());
+    }
+  }
+
+  private static final class Entry {
+    private final LaneState lane;
+    private final Context context;
+    private final Consumer<Runnable> work;
+    private final long enqueuedNanos = System.nanoTime();
+
+    private Entry(LaneState lane, Context context, Consumer<Runnable> work) {
+      this.lane = lane;
+      this.context = context;
+      this.work = work;
+    }
+  }
+}
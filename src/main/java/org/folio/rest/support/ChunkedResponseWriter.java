@@ -0,0 +1,125 @@
+package org.folio.rest.support;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Collects small writes into chunks of about {@link #CHUNK_SIZE} bytes before writing them
+ * to the chunked HTTP response, optionally gzip compressed.
+ *
+ * <p>The caller must pause its source when {@link #write(String)} returns true and resume it
+ * in the {@link #drainHandler(Runnable)}.
+ */
+public final class ChunkedResponseWriter {
+  static final int CHUNK_SIZE = 64 * 1024;
+
+  private final HttpServerResponse response;
+  private final ByteArrayOutputStream gzipBytes;
+  private final GZIPOutputStream gzip;
+  private Buffer buffer = Buffer.buffer(CHUNK_SIZE);
+
+  private ChunkedResponseWriter(HttpServerResponse response, boolean compress) {
+    this.response = response;
+    if (compress) {
+      gzipBytes = new ByteArrayOutputStream(CHUNK_SIZE);
+      try {
+        gzip = new GZIPOutputStream(gzipBytes, 8192, true);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    } else {
+      gzipBytes = null;
+      gzip = null;
+    }
+  }
+
+  /**
+   * Sets status 200, the content type and chunked transfer encoding; compresses if the client
+   * accepts gzip and {@code compressible} is true.
+   */
+  public static ChunkedResponseWriter start(RoutingContext routingContext, String contentType, boolean compressible) {
+    var compress = compressible && acceptsGzip(routingContext.request().getHeader(HttpHeaders.ACCEPT_ENCODING));
+    var response = routingContext.response();
+    response.setStatusCode(200);
+    response.setChunked(true);
+    response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+    if (compress) {
+      response.putHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    return new ChunkedResponseWriter(response, compress);
+  }
+
+  /**
+   * True if the Accept-Encoding header value allows gzip.
+   */
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (var coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+      var parts = coding.split(";");
+      if (!"gzip".equals(parts[0].trim())) {
+        continue;
+      }
+      return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+    }
+    return false;
+  }
+
+  /**
+   * Appends the string, writes a chunk if enough data has been collected.
+   *
+   * @return true if the response write queue is full and the caller should pause
+   */
+  public boolean write(String s) {
+    if (gzip == null) {
+      buffer.appendString(s);
+      if (buffer.length() < CHUNK_SIZE) {
+        return false;
+      }
+      response.write(buffer);
+      buffer = Buffer.buffer(CHUNK_SIZE);
+      return response.writeQueueFull();
+    }
+    try {
+      gzip.write(s.getBytes(StandardCharsets.UTF_8));
+      if (gzipBytes.size() < CHUNK_SIZE) {
+        return false;
+      }
+      gzip.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    response.write(Buffer.buffer(gzipBytes.toByteArray()));
+    gzipBytes.reset();
+    return response.writeQueueFull();
+  }
+
+  public void drainHandler(Runnable handler) {
+    response.drainHandler(notUsed -> handler.run());
+  }
+
+  /**
+   * Writes the remaining data and ends the response.
+   */
+  public void end() {
+    if (gzip == null) {
+      response.end(buffer);
+      return;
+    }
+    try {
+      gzip.finish();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    response.end(Buffer.buffer(gzipBytes.toByteArray()));
+  }
+}
@@ -0,0 +1,331 @@
+package org.folio.rest.support;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.folio.rest.persist.PgUtil.postgresClient;
+import static org.folio.rest.support.EndpointFailureHandler.failureResponse;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowStream;
+import io.vertx.sqlclient.Tuple;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.cql2pgjson.CQL2PgJSON;
+import org.folio.cql2pgjson.model.SqlSelect;
+import org.folio.rest.exceptions.BadRequestException;
+import org.folio.rest.jaxrs.model.RetrieveDto;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.persist.SQLConnection;
+import org.folio.services.TotalRecordsService;
+import org.folio.services.TotalRecordsService.Count;
+import org.folio.util.UuidUtil;
+
+/**
+ * Streams a page of a CQL query result as JSON collection without mapping the records to POJOs,
+ * calculates {@code totalRecords} according to the {@link TotalRecordsMode}.
+ *
+ * <p>The count starts after the page has been streamed, and only if the page is not the last one;
+ * for the last page of offset pagination the exact count is known from the offset and the number
+ * of records on the page.
+ *
+ * <p>{@link #streamLines(String, String, RoutingContext, Handler)} streams one line per row instead
+ * of a JSON collection, for exports that don't need totalRecords.
+ *
+ * <p>If the {@code after} parameter is not null the page is selected by the {@link KeysetCursor}
+ * instead of the offset, and {@code resultInfo.nextCursor} is returned if the page is full.
+ *
+ * <p>{@link #withFields(String, Class)} selects a {@link FieldProjection} of the records instead of
+ * the complete records.
+ */
+public class CollectionStreamer {
+  public static final String NDJSON = "application/x-ndjson";
+  private static final Logger log = LogManager.getLogger(CollectionStreamer.class);
+
+  private final PostgresClient postgresClient;
+  private final TotalRecordsService totalRecordsService;
+  private String fields;
+  private Class<?> recordType;
+
+  public CollectionStreamer(Context vertxContext, Map<String, String> okapiHeaders) {
+    this.postgresClient = postgresClient(vertxContext, okapiHeaders);
+    this.totalRecordsService = new TotalRecordsService(vertxContext, okapiHeaders);
+  }
+
+  /**
+   * Returns only the comma separated top-level fields of the records, all fields if fields is blank.
+   * The fields are validated against the properties of the record type, an unknown field results
+   * in a 400 response.
+   */
+  public CollectionStreamer withFields(String fields, Class<?> recordType) {
+    this.fields = fields;
+    this.recordType = recordType;
+    return this;
+  }
+
+  /**
+   * The record with the id, or only the fields of it if {@link #withFields(String, Class)} has been
+   * called; 404 if not found.
+   */
+  public Future<Response> getById(String table, String id) {
+    String select;
+    try {
+      select = select();
+    } catch (Exception e) {
+      return succeededFuture(failureResponse(e));
+    }
+    if (!UuidUtil.isUuid(id)) {
+      return succeededFuture(notFound());
+    }
+    var sql = "SELECT " + select + " FROM " + postgresClient.getSchemaName() + "." + table + " WHERE id = $1";
+    return postgresClient.execute(sql, Tuple.of(UUID.fromString(id)))
+      .map(rowSet -> rowSet.size() == 0
+        ? notFound()
+        : Response.ok(rowSet.iterator().next().getString(0), MediaType.APPLICATION_JSON_TYPE).build())
+      .otherwise(EndpointFailureHandler::failureResponse);
+  }
+
+  public void streamGet(String table, String query, String totalRecords, int offset, int limit,
+                        String element, RoutingContext routingContext,
+                        Handler<AsyncResult<Response>> asyncResultHandler) {
+    streamGet(table, query, null, totalRecords, offset, limit, element, routingContext, asyncResultHandler);
+  }
+
+  /**
+   * Same as {@link #streamGet(String, String, String, int, int, String, RoutingContext, Handler)}
+   * but uses keyset pagination if {@code after} is not null, an empty {@code after} selects
+   * the first page. The offset is ignored in this case.
+   */
+  public void streamGet(String table, String query, String after, String totalRecords, int offset, int limit,
+                        String element, RoutingContext routingContext,
+                        Handler<AsyncResult<Response>> asyncResultHandler) {
+
+    TotalRecordsMode mode;
+    SqlSelect sqlSelect;
+    KeysetCursor cursor;
+    String select;
+    try {
+      select = select();
+      mode = TotalRecordsMode.of(totalRecords);
+      sqlSelect = toSql(table, query);
+      cursor = after == null ? null : KeysetCursor.of(after, query, sqlSelect.getOrderBy());
+    } catch (Exception e) {
+      asyncResultHandler.handle(succeededFuture(failureResponse(e)));
+      return;
+    }
+
+    var whereClause = StringUtils.isEmpty(sqlSelect.getWhere()) ? "" : "WHERE " + sqlSelect.getWhere();
+    var countWhereClause = whereClause;
+    Supplier<Future<Count>> count = () -> totalRecordsService.count(table, countWhereClause, mode);
+    var fromClause = " FROM " + postgresClient.getSchemaName() + "." + table + " ";
+    String sql;
+    if (cursor == null) {
+      var orderByClause = StringUtils.isEmpty(sqlSelect.getOrderBy()) ? "" : " ORDER BY " + sqlSelect.getOrderBy();
+      sql = "SELECT " + select + fromClause + whereClause + orderByClause + " LIMIT " + limit + " OFFSET " + offset;
+    } else {
+      var condition = cursor.condition();
+      if (!condition.isEmpty()) {
+        whereClause = whereClause.isEmpty() ? "WHERE " + condition : whereClause + " AND " + condition;
+      }
+      sql = "SELECT " + select + cursor.selectColumns() + fromClause + whereClause
+        + " ORDER BY " + cursor.orderBy() + " LIMIT " + limit;
+    }
+
+    postgresClient.startTx(tx -> postgresClient.selectStream(tx, sql, ar -> {
+      if (ar.failed()) {
+        respondWithError(routingContext.response(), ar.cause(), asyncResultHandler);
+        postgresClient.endTx(tx, notUsed -> { });
+        return;
+      }
+      stream(ar.result(), tx, new Page(element, offset, limit, mode, count, cursor), routingContext.response(),
+        asyncResultHandler);
+    }));
+  }
+
+  /**
+   * Streams the records of a retrieve request, as NDJSON if {@link RetrieveDto#getFormat()} is ndjson,
+   * as JSON collection otherwise.
+   */
+  public void streamRetrieve(String table, RetrieveDto retrieveDto, String element, RoutingContext routingContext,
+                             Handler<AsyncResult<Response>> asyncResultHandler) {
+
+    if (retrieveDto.getFormat() != RetrieveDto.Format.NDJSON) {
+      streamGet(table, retrieveDto.getQuery(), null, retrieveDto.getOffset(), retrieveDto.getLimit(), element,
+        routingContext, asyncResultHandler);
+      return;
+    }
+
+    SqlSelect sqlSelect;
+    try {
+      sqlSelect = toSql(table, retrieveDto.getQuery());
+    } catch (Exception e) {
+      asyncResultHandler.handle(succeededFuture(failureResponse(e)));
+      return;
+    }
+    var whereClause = StringUtils.isEmpty(sqlSelect.getWhere()) ? "" : " WHERE " + sqlSelect.getWhere();
+    var orderByClause = StringUtils.isEmpty(sqlSelect.getOrderBy()) ? "" : " ORDER BY " + sqlSelect.getOrderBy();
+    var sql = "SELECT jsonb::text FROM " + postgresClient.getSchemaName() + "." + table + whereClause
+      + orderByClause + " LIMIT " + retrieveDto.getLimit() + " OFFSET " + retrieveDto.getOffset();
+    streamLines(sql, NDJSON, routingContext, asyncResultHandler);
+  }
+
+  /**
+   * Streams the first column of each row of the SQL query result as a line, gzip compressed
+   * if the client accepts it. The rows are written without POJO mapping, and the row stream is
+   * paused while the response write queue is full.
+   *
+   * @param sql a SELECT with a single text column
+   */
+  public void streamLines(String sql, String contentType, RoutingContext routingContext,
+                          Handler<AsyncResult<Response>> asyncResultHandler) {
+
+    postgresClient.startTx(tx -> postgresClient.selectStream(tx, sql, ar -> {
+      if (ar.failed()) {
+        respondWithError(routingContext.response(), ar.cause(), asyncResultHandler);
+        postgresClient.endTx(tx, notUsed -> { });
+        return;
+      }
+      var rowStream = ar.result();
+      var writer = ChunkedResponseWriter.start(routingContext, contentType, true);
+      rowStream
+        .exceptionHandler(e -> {
+          respondWithError(routingContext.response(), e, asyncResultHandler);
+          postgresClient.endTx(tx, notUsed -> { });
+        })
+        .endHandler(end -> postgresClient.endTx(tx, notUsed -> writer.end()))
+        .handler(row -> {
+          if (writer.write(row.getString(0) + "\n")) {
+            rowStream.pause();
+          }
+        });
+      writer.drainHandler(rowStream::resume);
+    }));
+  }
+
+  private void stream(RowStream<Row> rowStream, AsyncResult<SQLConnection> tx, Page page,
+                      HttpServerResponse response, Handler<AsyncResult<Response>> asyncResultHandler) {
+
+    response.setChunked(true);
+    response.putHeader("Content-Type", "application/json");
+    response.write("{\n  \"" + page.element + "\" : [");
+
+    rowStream
+      .exceptionHandler(e -> {
+        respondWithError(response, e, asyncResultHandler);
+        postgresClient.endTx(tx, notUsed -> { });
+      })
+      .endHandler(end -> postgresClient.endTx(tx, notUsed -> page.totalRecords()
+        .onSuccess(count -> response.end(footer(count, page.nextCursor())))
+        .onFailure(e -> respondWithError(response, e, asyncResultHandler))))
+      .handler(row -> {
+        response.write(page.records++ == 0 ? "\n" : ",\n");
+        response.write(row.getString(0));
+        page.lastRow = row;
+        if (response.writeQueueFull()) {
+          rowStream.pause();
+        }
+      });
+    response.drainHandler(drain -> rowStream.resume());
+  }
+
+  private String select() {
+    var projection = FieldProjection.of(fields, recordType);
+    return projection == null ? "jsonb::text" : projection.toSql();
+  }
+
+  private static Response notFound() {
+    return Response.status(404).header("Content-Type", MediaType.TEXT_PLAIN).entity("Not found").build();
+  }
+
+  private static SqlSelect toSql(String table, String query) {
+    try {
+      return new CQL2PgJSON(table + ".jsonb").toSql(StringUtils.isBlank(query) ? "cql.allRecords=1" : query);
+    } catch (Exception e) {
+      throw new BadRequestException(e.getMessage());
+    }
+  }
+
+  private static String footer(Count count, String nextCursor) {
+    var footer = new StringBuilder("\n  ],\n");
+    if (count != null) {
+      footer.append("  \"totalRecords\" : ").append(count.totalRecords()).append(",\n");
+    }
+    footer.append("  \"resultInfo\" : {\n");
+    if (count != null) {
+      footer.append("    \"totalRecords\" : ").append(count.totalRecords()).append(",\n")
+        .append("    \"totalRecordsEstimated\" : ").append(count.estimated()).append(",\n");
+    }
+    if (nextCursor != null) {
+      footer.append("    \"nextCursor\" : \"").append(nextCursor).append("\",\n");
+    }
+    return footer.append("    \"facets\" : [ ],\n    \"diagnostics\" : [ ]\n  }\n}").toString();
+  }
+
+  /**
+   * Return a 500 response about Throwable t via the handler,
+   * but if the response's head has already been written
+   * close the TCP connection to signal the error and return null via the handler.
+   */
+  private static void respondWithError(HttpServerResponse response, Throwable t,
+                                       Handler<AsyncResult<Response>> asyncResultHandler) {
+    log.error(t.getMessage(), t);
+    if (response.headWritten()) {
+      log.error("HTTP head has already been written, closing TCP connection to signal error");
+      response.reset();
+      asyncResultHandler.handle(succeededFuture());
+      return;
+    }
+    asyncResultHandler.handle(succeededFuture(failureResponse(t)));
+  }
+
+  private static final class Page {
+    private final String element;
+    private final int offset;
+    private final int limit;
+    private final TotalRecordsMode mode;
+    private final Supplier<Future<Count>> count;
+    private final KeysetCursor cursor;
+    private int records;
+    private Row lastRow;
+
+    private Page(String element, int offset, int limit, TotalRecordsMode mode, Supplier<Future<Count>> count,
+                 KeysetCursor cursor) {
+      this.element = element;
+      this.offset = offset;
+      this.limit = limit;
+      this.mode = mode;
+      this.count = count;
+      this.cursor = cursor;
+    }
+
+    /**
+     * The cursor of the next page if keyset pagination is used and the page is full, null otherwise.
+     */
+    private String nextCursor() {
+      if (cursor == null || lastRow == null || records < limit) {
+        return null;
+      }
+      return cursor.next(lastRow, 1);
+    }
+
+    /**
+     * The exact count if this is the last page of offset pagination, otherwise starts the count.
+     */
+    private Future<Count> totalRecords() {
+      if (cursor == null && mode != TotalRecordsMode.NONE && records < limit && (records > 0 || offset == 0)) {
+        return succeededFuture(Count.exact((long) offset + records));
+      }
+      return count.get();
+    }
+  }
+}
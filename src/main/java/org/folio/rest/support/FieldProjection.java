@@ -0,0 +1,86 @@
+package org.folio.rest.support;
+
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.dbschema.ObjectMapperTool;
+import org.folio.rest.exceptions.BadRequestException;
+
+/**
+ * The top-level properties selected by the {@code fields} parameter, for example {@code id,title,hrid},
+ * as SQL projection of the jsonb column.
+ *
+ * <p>The properties are validated against the properties of the record class that has been generated from
+ * the JSON schema, this makes them safe to be used as SQL literals.
+ */
+public final class FieldProjection {
+  static final int MAX_FIELDS = 50;
+  private static final Pattern NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+  private final List<String> fields;
+
+  private FieldProjection(List<String> fields) {
+    this.fields = fields;
+  }
+
+  /**
+   * The projection of the comma separated fields, null if fields is blank.
+   *
+   * @throws BadRequestException if a field is not a property of the record type or there are more than
+   *     {@link #MAX_FIELDS} fields
+   */
+  public static FieldProjection of(String fields, Class<?> recordType) {
+    if (StringUtils.isBlank(fields)) {
+      return null;
+    }
+    var selected = new LinkedHashSet<String>();
+    for (var field : fields.split(",")) {
+      if (!field.isBlank()) {
+        selected.add(field.trim());
+      }
+    }
+    if (selected.size() > MAX_FIELDS) {
+      throw new BadRequestException("fields must not have more than " + MAX_FIELDS + " properties");
+    }
+    var properties = properties(recordType);
+    for (var field : selected) {
+      if (!properties.contains(field) || !NAME.matcher(field).matches()) {
+        throw new BadRequestException("fields contains unknown property: " + field);
+      }
+    }
+    return selected.isEmpty() ? null : new FieldProjection(List.copyOf(selected));
+  }
+
+  public List<String> getFields() {
+    return fields;
+  }
+
+  /**
+   * SQL text expression with the selected properties of the jsonb column, built with
+   * {@code jsonb_build_object} from the selected keys only; a property missing in the record is removed
+   * from the result, the values are returned as stored, including nested nulls.
+   */
+  public String toSql() {
+    var keys = fields.stream()
+      .map(field -> "'" + field + "'")
+      .collect(Collectors.joining(", "));
+    return fields.stream()
+      .map(field -> "'" + field + "', jsonb->'" + field + "'")
+      .collect(Collectors.joining(", ", "(jsonb_build_object(",
+        ") - ARRAY(SELECT key FROM unnest(ARRAY[" + keys + "]) key WHERE NOT jsonb ? key))::text"));
+  }
+
+  private static Set<String> properties(Class<?> recordType) {
+    var mapper = ObjectMapperTool.getMapper();
+    return mapper.getSerializationConfig()
+      .introspect(mapper.constructType(recordType))
+      .findProperties()
+      .stream()
+      .map(BeanPropertyDefinition::getName)
+      .collect(Collectors.toSet());
+  }
+}
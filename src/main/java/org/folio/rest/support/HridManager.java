@@ -23,6 +23,7 @@ import org.folio.rest.jaxrs.model.Item;
 import org.folio.rest.persist.Conn;
 import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.rest.persist.PostgresClient;
+import org.folio.services.metrics.InventoryMetrics;
 
 public class HridManager {
   private static final String HRID_SETTINGS_TABLE = "hrid_settings";
@@ -89,7 +90,7 @@ public class HridManager {
         n++;
       }
     }
-    return getNextHrids(inventoryType, n)
+    return InventoryMetrics.time("hrid.allocation", getNextHrids(inventoryType, n), "type", inventoryType.name())
       .map(List::iterator)
       .map(hrids -> {
         for (T t : list) {
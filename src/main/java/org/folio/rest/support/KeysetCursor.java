@@ -0,0 +1,222 @@
+package org.folio.rest.support;
+
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.sqlclient.Row;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.rest.exceptions.BadRequestException;
+import org.z3950.zing.cql.CQLParser;
+import org.z3950.zing.cql.CQLSortNode;
+
+/**
+ * Opaque {@code after} cursor of keyset (seek) pagination.
+ *
+ * <p>The cursor contains the sort key values and the id of the last record of the previous page.
+ * The next page is {@code WHERE (sortkey, id) > (value, lastId) ORDER BY sortkey, id LIMIT n}
+ * and doesn't need to scan and discard the records before it like {@code OFFSET n} does.
+ *
+ * <p>The sort key is the ORDER BY expression that CQL2PgJSON generates for the sortBy of the
+ * CQL query so that the same indexes are used. Only a single ascending sortBy field is supported;
+ * without sortBy the records are sorted by id. Records without a value for the sortBy field
+ * come last, sorted by id.
+ */
+public final class KeysetCursor {
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  private final List<String> sortKeys;
+  private final List<String> values;
+
+  private KeysetCursor(List<String> sortKeys, List<String> values) {
+    this.sortKeys = sortKeys;
+    this.values = values;
+  }
+
+  /**
+   * Creates the cursor for the {@code after} query parameter value, an empty value starts at the
+   * first record.
+   *
+   * @param cql the CQL query
+   * @param orderBy the ORDER BY clause CQL2PgJSON has generated for the CQL query, without the keywords
+   * @throws BadRequestException if the cursor is malformed or the sortBy is not supported
+   */
+  public static KeysetCursor of(String after, String cql, String orderBy) {
+    validateSortBy(cql);
+    var sortKeys = splitOrderBy(orderBy);
+    if (StringUtils.isEmpty(after)) {
+      return new KeysetCursor(sortKeys, null);
+    }
+    var values = decode(after);
+    if (values.size() != sortKeys.size() + 1) {
+      throw new BadRequestException("after cursor doesn't match the sortBy of the query: " + after);
+    }
+    validateId(values.get(values.size() - 1), after);
+    validateSortKeyValues(values.subList(0, sortKeys.size()), after);
+    return new KeysetCursor(sortKeys, values);
+  }
+
+  /**
+   * The additional SELECT columns required to build the next cursor, starting with a comma.
+   */
+  public String selectColumns() {
+    var columns = new StringBuilder();
+    sortKeys.forEach(sortKey -> columns.append(", (").append(sortKey).append(")::text"));
+    return columns.append(", id::text").toString();
+  }
+
+  /**
+   * The condition that selects the records after the cursor, empty for the first page.
+   */
+  public String condition() {
+    if (values == null) {
+      return "";
+    }
+    var id = literal(values.get(values.size() - 1));
+    if (sortKeys.isEmpty()) {
+      return "id > " + id + "::uuid";
+    }
+    if (values.get(0) == null) {
+      return "(" + sortKeys.get(0) + ") IS NULL AND id > " + id + "::uuid";
+    }
+    var keys = new StringBuilder("(");
+    var literals = new StringBuilder("(");
+    for (int i = 0; i < sortKeys.size(); i++) {
+      keys.append(sortKeys.get(i)).append(", ");
+      literals.append(literal(values.get(i))).append(", ");
+    }
+    keys.append("id)");
+    literals.append(id).append("::uuid)");
+    return "(" + keys + " > " + literals + " OR (" + sortKeys.get(0) + ") IS NULL)";
+  }
+
+  /**
+   * The ORDER BY clause without the keywords.
+   */
+  public String orderBy() {
+    if (sortKeys.isEmpty()) {
+      return "id";
+    }
+    return String.join(", ", sortKeys) + ", id";
+  }
+
+  /**
+   * The cursor of the page after the row.
+   *
+   * @param firstColumn index of the first column added by {@link #selectColumns()}
+   */
+  public String next(Row row, int firstColumn) {
+    var next = new JsonArray();
+    for (int i = 0; i <= sortKeys.size(); i++) {
+      next.add(row.getString(firstColumn + i));
+    }
+    return encode(next);
+  }
+
+  static String encode(JsonArray values) {
+    return ENCODER.encodeToString(values.encode().getBytes(StandardCharsets.UTF_8));
+  }
+
+  static List<String> decode(String cursor) {
+    try {
+      var json = new JsonArray(new String(DECODER.decode(cursor), StandardCharsets.UTF_8));
+      var values = new ArrayList<String>(json.size());
+      for (int i = 0; i < json.size(); i++) {
+        values.add(json.getString(i));
+      }
+      return values;
+    } catch (IllegalArgumentException | DecodeException | ClassCastException e) {
+      throw new BadRequestException("Malformed after cursor: " + cursor);
+    }
+  }
+
+  /**
+   * Split the ORDER BY clause at the top level commas into the sort keys.
+   *
+   * @throws BadRequestException on descending order
+   */
+  static List<String> splitOrderBy(String orderBy) {
+    var sortKeys = new ArrayList<String>();
+    if (StringUtils.isBlank(orderBy)) {
+      return sortKeys;
+    }
+    int depth = 0;
+    boolean quoted = false;
+    int start = 0;
+    for (int i = 0; i < orderBy.length(); i++) {
+      char c = orderBy.charAt(i);
+      if (c == '\'') {
+        quoted = !quoted;
+      } else if (!quoted && c == '(') {
+        depth++;
+      } else if (!quoted && c == ')') {
+        depth--;
+      } else if (!quoted && depth == 0 && c == ',') {
+        sortKeys.add(sortKey(orderBy.substring(start, i)));
+        start = i + 1;
+      }
+    }
+    sortKeys.add(sortKey(orderBy.substring(start)));
+    return sortKeys;
+  }
+
+  private static String sortKey(String orderByItem) {
+    var sortKey = orderByItem.trim();
+    var upperCase = sortKey.toUpperCase(Locale.ROOT);
+    if (upperCase.endsWith(" DESC")) {
+      throw new BadRequestException("after requires ascending sortBy");
+    }
+    if (upperCase.endsWith(" ASC")) {
+      sortKey = sortKey.substring(0, sortKey.length() - " ASC".length()).trim();
+    }
+    return sortKey;
+  }
+
+  private static void validateSortBy(String cql) {
+    if (StringUtils.isBlank(cql)) {
+      return;
+    }
+    try {
+      if (new CQLParser().parse(cql) instanceof CQLSortNode sortNode && sortNode.getSortIndexes().size() > 1) {
+        throw new BadRequestException("after supports a single sortBy field only");
+      }
+    } catch (BadRequestException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new BadRequestException(e.getMessage());
+    }
+  }
+
+  private static void validateId(String id, String after) {
+    try {
+      UUID.fromString(id);
+    } catch (IllegalArgumentException | NullPointerException e) {
+      throw new BadRequestException("Malformed after cursor: " + after);
+    }
+  }
+
+  /**
+   * The sort key values are either all null or all non-null because they are derived from the same field.
+   */
+  private static void validateSortKeyValues(List<String> sortKeyValues, String after) {
+    var nulls = sortKeyValues.stream().filter(Objects::isNull).count();
+    if (nulls != 0 && nulls != sortKeyValues.size()
+        || sortKeyValues.stream().anyMatch(value -> value != null && value.indexOf('\0') >= 0)) {
+      throw new BadRequestException("Malformed after cursor: " + after);
+    }
+  }
+
+  /**
+   * SQL string literal, the value cannot break out of it because single quotes are doubled
+   * and standard_conforming_strings is on.
+   */
+  private static String literal(String value) {
+    return "'" + value.replace("'", "''") + "'";
+  }
+}
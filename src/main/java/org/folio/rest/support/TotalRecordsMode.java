@@ -0,0 +1,43 @@
+package org.folio.rest.support;
+
+import java.util.Locale;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.rest.exceptions.BadRequestException;
+
+/**
+ * Value of the {@code totalRecords} query parameter of the collection endpoints.
+ */
+public enum TotalRecordsMode {
+  /**
+   * Exact count for small results, planner estimate for large results.
+   */
+  AUTO,
+  /**
+   * Exact count, memoized for a short time.
+   */
+  EXACT,
+  /**
+   * Planner estimate.
+   */
+  ESTIMATED,
+  /**
+   * No count, {@code totalRecords} is omitted from the response.
+   */
+  NONE;
+
+  /**
+   * Returns the mode for the parameter value, {@link #AUTO} if the value is blank.
+   *
+   * @throws BadRequestException if the value is not a known mode
+   */
+  public static TotalRecordsMode of(String totalRecords) {
+    if (StringUtils.isBlank(totalRecords)) {
+      return AUTO;
+    }
+    try {
+      return valueOf(totalRecords.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException("totalRecords must be one of auto, exact, estimated, none: " + totalRecords);
+    }
+  }
+}
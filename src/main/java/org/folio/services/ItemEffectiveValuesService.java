@@ -11,9 +11,10 @@ import static org.folio.rest.tools.utils.ValidationHelper.createValidationErrorM
 
 import io.vertx.core.Context;
 import io.vertx.core.Future;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.folio.persist.HoldingsRepository;
@@ -28,17 +29,18 @@ public class ItemEffectiveValuesService {
     this.holdingsRepository = new HoldingsRepository(context, okapiHeaders);
   }
 
-  public Future<List<Item>> populateEffectiveValues(List<Item> items) {
+  /**
+   * Populates the effective values of the items and returns the instanceId of the holdings record of each item
+   * by holdings record id, so that publishing the item events doesn't need to read the holdings records again.
+   */
+  public Future<Map<String, String>> populateEffectiveValuesAndGetInstanceIds(List<Item> items) {
     return getHoldingsRecordsForItems(items)
-      .map(holdingsRecordMap -> items.stream()
-        .map(item -> populateEffectiveValues(item, holdingsRecordMap.get(item.getHoldingsRecordId())))
-        .toList());
-  }
-
-  public Future<Item> populateEffectiveValues(Item item) {
-    return populateEffectiveValues(Collections.singletonList(item))
-      // item is stateful - ok to return the passed object
-      .map(items -> item);
+      .map(holdingsRecordMap -> {
+        items.forEach(item -> populateEffectiveValues(item, holdingsRecordMap.get(item.getHoldingsRecordId())));
+        var instanceIds = new HashMap<String, String>();
+        holdingsRecordMap.forEach((id, holdingsRecord) -> instanceIds.put(id, holdingsRecord.getInstanceId()));
+        return instanceIds;
+      });
   }
 
   public Item populateEffectiveValues(Item item, HoldingsRecord hr) {
@@ -48,13 +50,21 @@ public class ItemEffectiveValuesService {
     return item;
   }
 
+  /**
+   * Reads the holdings records of all items, the event publishing needs their instanceId, but fails
+   * only if a holdings record that is needed for the effective values doesn't exist.
+   */
   private Future<Map<String, HoldingsRecord>> getHoldingsRecordsForItems(List<Item> items) {
     final Set<String> holdingsIds = items.stream()
       .filter(this::shouldRetrieveHoldingsRecord)
       .map(Item::getHoldingsRecordId)
       .collect(Collectors.toSet());
+    final Set<String> allHoldingsIds = items.stream()
+      .map(Item::getHoldingsRecordId)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toSet());
 
-    return holdingsRepository.getById(holdingsIds)
+    return holdingsRepository.getById(allHoldingsIds)
       .compose(holdingsRecordMap -> {
         if (holdingsRecordMap.keySet().containsAll(holdingsIds)) {
           return succeededFuture(holdingsRecordMap);
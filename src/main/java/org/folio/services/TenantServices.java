@@ -0,0 +1,72 @@
+package org.folio.services;
+
+import static org.folio.rest.persist.PgUtil.postgresClient;
+import static org.folio.rest.tools.utils.TenantTool.tenantId;
+
+import io.vertx.core.Context;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.collections4.map.CaseInsensitiveMap;
+import org.folio.okapi.common.XOkapiHeaders;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.services.holding.HoldingsService;
+import org.folio.services.instance.InstanceService;
+import org.folio.services.item.ItemService;
+
+/**
+ * The item, holdings and instance services of a tenant with their repositories, HRID managers and event
+ * publishers. The services are built on first use and shared by all requests of the tenant in the Vert.x
+ * context; they don't hold request state, the Okapi headers and the Vert.x context of the request are passed
+ * to each call.
+ */
+public final class TenantServices {
+
+  private final Context vertxContext;
+  private final Map<String, String> tenantHeaders;
+  private final PostgresClient postgresClient;
+  private ItemService itemService;
+  private HoldingsService holdingsService;
+  private InstanceService instanceService;
+
+  private TenantServices(Context vertxContext, String tenantId) {
+    this.vertxContext = vertxContext;
+    this.tenantHeaders = new CaseInsensitiveMap<>(Map.of(XOkapiHeaders.TENANT, tenantId));
+    this.postgresClient = postgresClient(vertxContext, tenantHeaders);
+  }
+
+  /**
+   * Returns the services of the tenant of the okapiHeaders stored in the Vert.x context, creates and stores
+   * them if missing; they are created again if the PostgresClient of the tenant has been replaced.
+   */
+  public static TenantServices of(Context vertxContext, Map<String, String> okapiHeaders) {
+    Map<String, TenantServices> servicesByTenant = vertxContext.get(TenantServices.class.getName());
+    if (servicesByTenant == null) {
+      servicesByTenant = new ConcurrentHashMap<>();
+      vertxContext.put(TenantServices.class.getName(), servicesByTenant);
+    }
+    var current = postgresClient(vertxContext, okapiHeaders);
+    return servicesByTenant.compute(tenantId(okapiHeaders), (tenantId, services) ->
+      services != null && services.postgresClient == current ? services : new TenantServices(vertxContext, tenantId));
+  }
+
+  public synchronized ItemService itemService() {
+    if (itemService == null) {
+      itemService = new ItemService(vertxContext, tenantHeaders);
+    }
+    return itemService;
+  }
+
+  public synchronized HoldingsService holdingsService() {
+    if (holdingsService == null) {
+      holdingsService = new HoldingsService(vertxContext, tenantHeaders, itemService());
+    }
+    return holdingsService;
+  }
+
+  public synchronized InstanceService instanceService() {
+    if (instanceService == null) {
+      instanceService = new InstanceService(vertxContext, tenantHeaders);
+    }
+    return instanceService;
+  }
+}
@@ -0,0 +1,116 @@
+package org.folio.services;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.folio.rest.persist.PgUtil.postgresClient;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.support.TotalRecordsMode;
+import org.folio.rest.tools.utils.TenantTool;
+import org.folio.services.caches.TotalRecordsCache;
+import org.folio.utils.Environment;
+
+/**
+ * Calculates {@code totalRecords} of collection queries according to the {@link TotalRecordsMode}.
+ *
+ * <p>Estimates come from the query planner, exact counts are memoized per tenant, table and
+ * WHERE clause in the {@link TotalRecordsCache}.
+ */
+public class TotalRecordsService {
+  static final String EXACT_COUNT_THRESHOLD = "TOTAL_RECORDS_EXACT_COUNT_THRESHOLD";
+  private static final String DEFAULT_EXACT_COUNT_THRESHOLD = "1000";
+  private static final Logger log = LogManager.getLogger(TotalRecordsService.class);
+
+  private final PostgresClient postgresClient;
+  private final TotalRecordsCache cache;
+  private final String tenantId;
+  private final long exactCountThreshold;
+
+  public TotalRecordsService(Context context, Map<String, String> okapiHeaders) {
+    this.postgresClient = postgresClient(context, okapiHeaders);
+    this.cache = TotalRecordsCache.getInstance(context);
+    this.tenantId = TenantTool.tenantId(okapiHeaders);
+    this.exactCountThreshold = Long.parseLong(
+      Environment.getEnvVar(EXACT_COUNT_THRESHOLD, DEFAULT_EXACT_COUNT_THRESHOLD));
+  }
+
+  /**
+   * Counts the records of {@code table} that match {@code whereClause}.
+   *
+   * @param whereClause SQL WHERE clause including the WHERE keyword, or empty to count all records
+   * @return the count, or null for {@link TotalRecordsMode#NONE}
+   */
+  public Future<Count> count(String table, String whereClause, TotalRecordsMode mode) {
+    return switch (mode) {
+      case NONE -> succeededFuture();
+      case EXACT -> exactCount(table, whereClause);
+      case ESTIMATED -> estimateCount(table, whereClause).map(Count::estimated);
+      case AUTO -> cache.get(tenantId, table, whereClause)
+        .map(totalRecords -> succeededFuture(Count.exact(totalRecords)))
+        .orElseGet(() -> estimateCount(table, whereClause)
+          .compose(estimate -> estimate < exactCountThreshold
+                               ? exactCount(table, whereClause)
+                               : succeededFuture(Count.estimated(estimate))));
+    };
+  }
+
+  /**
+   * Returns the memoized exact count, if any.
+   */
+  public Count getCached(String table, String key) {
+    return cache.get(tenantId, table, key).map(Count::exact).orElse(null);
+  }
+
+  /**
+   * Memoizes an exact count that the caller has calculated itself.
+   */
+  public void putCached(String table, String key, long totalRecords) {
+    cache.put(tenantId, table, key, totalRecords);
+  }
+
+  private Future<Count> exactCount(String table, String whereClause) {
+    var cached = getCached(table, whereClause);
+    if (cached != null) {
+      return succeededFuture(cached);
+    }
+
+    var sql = "SELECT count(*) FROM " + fullTableName(table) + " " + whereClause;
+    return postgresClient.withReadConn(conn -> conn.execute(sql))
+      .map(rowSet -> rowSet.iterator().next().getLong(0))
+      .onSuccess(totalRecords -> putCached(table, whereClause, totalRecords))
+      .map(Count::exact);
+  }
+
+  private Future<Long> estimateCount(String table, String whereClause) {
+    var sql = "EXPLAIN (FORMAT JSON) SELECT 1 FROM " + fullTableName(table) + " " + whereClause;
+    return postgresClient.withReadConn(conn -> conn.execute(sql))
+      .map(rowSet -> {
+        var plan = new JsonArray(String.valueOf(rowSet.iterator().next().getValue(0)));
+        return plan.getJsonObject(0).getJsonObject("Plan").getLong("Plan Rows");
+      })
+      .onFailure(e -> log.warn("estimateCount:: Unable to estimate count of {} {}", table, whereClause, e));
+  }
+
+  private String fullTableName(String table) {
+    return postgresClient.getSchemaName() + "." + table;
+  }
+
+  /**
+   * The {@code totalRecords} value and whether it is an estimate.
+   */
+  public record Count(long totalRecords, boolean estimated) {
+
+    public static Count exact(long totalRecords) {
+      return new Count(totalRecords, false);
+    }
+
+    public static Count estimated(long totalRecords) {
+      return new Count(totalRecords, true);
+    }
+  }
+}
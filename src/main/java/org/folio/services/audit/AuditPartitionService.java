@@ -0,0 +1,48 @@
+package org.folio.services.audit;
+
+import static org.folio.rest.persist.PgUtil.postgresClient;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Tuple;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.utils.Environment;
+
+/**
+ * Maintains the monthly partitions of audit_instance, audit_holdings_record and audit_item:
+ * creates the partitions of the next months and drops the partitions older than AUDIT_RETENTION_MONTHS.
+ */
+public class AuditPartitionService {
+  static final String RETENTION_MONTHS = "AUDIT_RETENTION_MONTHS";
+  private static final String DEFAULT_RETENTION_MONTHS = "0";
+  private static final Logger log = LogManager.getLogger(AuditPartitionService.class);
+
+  private final PostgresClient postgresClient;
+
+  public AuditPartitionService(Context vertxContext, Map<String, String> okapiHeaders) {
+    this.postgresClient = postgresClient(vertxContext, okapiHeaders);
+  }
+
+  /**
+   * Returns the number of dropped partitions.
+   */
+  public Future<Integer> maintainPartitions() {
+    var retentionMonths = retentionMonths();
+    return postgresClient.execute("SELECT " + postgresClient.getSchemaName() + ".audit_maintain_partitions($1)",
+        Tuple.of(retentionMonths))
+      .map(rowSet -> rowSet.iterator().next().getInteger(0))
+      .onSuccess(dropped -> log.info("maintainPartitions:: retentionMonths: {}, dropped partitions: {}",
+        retentionMonths, dropped))
+      .onFailure(e -> log.error("maintainPartitions:: Unable to maintain audit partitions", e));
+  }
+
+  /**
+   * AUDIT_RETENTION_MONTHS, 0 keeps the audit records forever.
+   */
+  public static int retentionMonths() {
+    return Math.max(0, Integer.parseInt(Environment.getEnvVar(RETENTION_MONTHS, DEFAULT_RETENTION_MONTHS)));
+  }
+}
@@ -0,0 +1,62 @@
+package org.folio.services.batch;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+
+import io.vertx.core.Future;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import javax.ws.rs.core.Response;
+import org.folio.rest.tools.client.exceptions.ResponseException;
+import org.folio.rest.tools.utils.MetadataUtil;
+import org.folio.rest.tools.utils.OptimisticLockingUtil;
+import org.folio.utils.Environment;
+
+/**
+ * Load mode of the batch synchronous unsafe APIs for initial migrations: the records are
+ * upserted with a single statement, see {@link org.folio.persist.AbstractRepository#loadBatch}.
+ */
+public final class BatchLoad {
+  static final String MAX_ENTITIES = "BATCH_LOAD_MAX_ENTITIES";
+  private static final String DEFAULT_MAX_ENTITIES = "100000";
+
+  private BatchLoad() { }
+
+  public static int maxEntities() {
+    return Integer.parseInt(Environment.getEnvVar(MAX_ENTITIES, DEFAULT_MAX_ENTITIES));
+  }
+
+  /**
+   * Fails with a 413 {@link ResponseException} if the batch is too large or DB_ALLOW_SUPPRESS_OPTIMISTIC_LOCKING
+   * doesn't allow to disable optimistic locking, otherwise assigns a random id to records without id,
+   * sets {@code _version} to -1 and populates the metadata.
+   */
+  public static <T> Future<List<T>> prepare(List<T> records, Function<T, String> idGetter,
+                                            BiConsumer<T, String> idSetter, Map<String, String> okapiHeaders) {
+    if (records.size() > maxEntities()) {
+      return payloadTooLarge("Expected a maximum of " + maxEntities() + " records in load mode, got "
+        + records.size() + "; increase " + MAX_ENTITIES + " or split the batch");
+    }
+    if (!OptimisticLockingUtil.isSuppressingOptimisticLockingAllowed()) {
+      return payloadTooLarge(
+        "DB_ALLOW_SUPPRESS_OPTIMISTIC_LOCKING environment variable doesn't allow to disable optimistic locking");
+    }
+    records.stream()
+      .filter(entity -> idGetter.apply(entity) == null)
+      .forEach(entity -> idSetter.accept(entity, UUID.randomUUID().toString()));
+    try {
+      OptimisticLockingUtil.setVersionToMinusOne(records);
+      MetadataUtil.populateMetadata(records, okapiHeaders);
+      return Future.succeededFuture(records);
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+  }
+
+  private static <T> Future<T> payloadTooLarge(String message) {
+    return Future.failedFuture(new ResponseException(
+      Response.status(413).header(CONTENT_TYPE, "text/plain").entity(message).build()));
+  }
+}
@@ -19,6 +19,9 @@ import org.folio.rest.jaxrs.model.BulkUpsertResponse;
 import org.folio.rest.support.BulkProcessingErrorFileWriter;
 import org.folio.s3.client.FolioS3Client;
 import org.folio.services.BulkProcessingContext;
+import org.folio.services.executor.JobExecutor;
+import org.folio.services.executor.JobExecutor.JobType;
+import org.folio.services.metrics.InventoryMetrics;
 import org.folio.services.s3storage.FolioS3ClientFactory;
 
 /**
@@ -62,13 +65,17 @@ public abstract class AbstractEntityS3Service<T, R> {
     log.debug("processBulkUpsert:: Processing bulk entities request, filename: '{}'", bulkRequest.getRecordsFileName());
     return loadEntities(bulkRequest)
       .compose(entities -> ensureEntitiesWithNonMarcControlledFieldsData(entities).map(entities))
-      .compose(entities -> upsertEntities(entities, bulkRequest))
+      .compose(entities -> upsertEntities(entities, bulkRequest)
+        .onSuccess(response -> {
+          InventoryMetrics.counter("job.records", "job", "bulk-s3").increment(entities.size());
+          InventoryMetrics.counter("job.errors", "job", "bulk-s3").increment(response.getErrorsNumber());
+        }))
       .onFailure(e -> log.warn("processBulkUpsert:: Failed to process bulk entities request, filename: '{}'",
         bulkRequest.getRecordsFileName(), e));
   }
 
   private Future<List<T>> loadEntities(BulkUpsertRequest bulkRequest) {
-    return vertx.executeBlocking(() -> {
+    return JobExecutor.executeBlocking(vertx.getOrCreateContext(), JobType.S3, () -> {
       InputStream inputStream = s3Client.read(bulkRequest.getRecordsFileName());
       try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
         return mapToEntities(reader.lines());
@@ -130,9 +137,9 @@ public abstract class AbstractEntityS3Service<T, R> {
 
   private Future<Void> uploadErrorsFiles(BulkProcessingContext bulkContext) {
     return Future.join(
-      vertx.executeBlocking(() ->
+      JobExecutor.executeBlocking(vertx.getOrCreateContext(), JobType.S3, () ->
         s3Client.upload(bulkContext.getErrorEntitiesFileLocalPath(), bulkContext.getErrorEntitiesFilePath())),
-      vertx.executeBlocking(() ->
+      JobExecutor.executeBlocking(vertx.getOrCreateContext(), JobType.S3, () ->
         s3Client.upload(bulkContext.getErrorsFileLocalPath(), bulkContext.getErrorsFilePath()))
     )
     .compose(v -> Future.join(
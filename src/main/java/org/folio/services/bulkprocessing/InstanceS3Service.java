@@ -26,6 +26,7 @@ import org.folio.rest.jaxrs.model.PrecedingSucceedingTitle;
 import org.folio.rest.persist.Conn;
 import org.folio.rest.persist.cql.CQLWrapper;
 import org.folio.rest.support.InstanceBulkProcessingUtil;
+import org.folio.services.TenantServices;
 import org.folio.services.instance.InstanceService;
 import org.folio.services.s3storage.FolioS3ClientFactory;
 
@@ -50,10 +51,12 @@ public class InstanceS3Service extends AbstractEntityS3Service<InstanceS3Service
 
   private final InstanceService instanceService;
   private final InstanceRepository instanceRepository;
+  private final Map<String, String> okapiHeaders;
 
   public InstanceS3Service(FolioS3ClientFactory folioS3ClientFactory, Vertx vertx, Map<String, String> okapiHeaders) {
     super(folioS3ClientFactory, vertx);
-    this.instanceService = new InstanceService(vertx.getOrCreateContext(), okapiHeaders);
+    this.instanceService = TenantServices.of(vertx.getOrCreateContext(), okapiHeaders).instanceService();
+    this.okapiHeaders = okapiHeaders;
     this.instanceRepository = new InstanceRepository(vertx.getOrCreateContext(), okapiHeaders);
   }
 
@@ -100,7 +103,7 @@ public class InstanceS3Service extends AbstractEntityS3Service<InstanceS3Service
     List<Instance> instances = instanceWrappers.stream().map(InstanceWrapper::instance).toList();
 
     return instanceService.createInstances(instances, APPLY_UPSERT, APPLY_OPTIMISTIC_LOCKING, publishEvents,
-        conn -> updatePrecedingSucceedingTitles(conn, instanceWrappers))
+        conn -> updatePrecedingSucceedingTitles(conn, instanceWrappers), okapiHeaders)
       .compose(response -> {
         if (!isCreateSuccessResponse(response)) {
           String msg = String.format("Failed to update instances, status: '%s', message: '%s'",
@@ -0,0 +1,60 @@
+package org.folio.services.caches;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Context;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived memo of the instance ids that exist in the tenant, keyed by tenant and instance id,
+ * so that a holdings record of a known local instance doesn't need an existence check and
+ * a shadow instance.
+ */
+public class LocalInstanceCache {
+
+  private static final String EXPIRATION_TIME_PARAM = "cache.local-instance.expiration.time.seconds";
+  private static final String DEFAULT_EXPIRATION_TIME_SECONDS = "60";
+  private static final String MAXIMUM_SIZE_PARAM = "cache.local-instance.maximum.size";
+  private static final String DEFAULT_MAXIMUM_SIZE = "100000";
+
+  private final Cache<String, Boolean> cache;
+
+  public LocalInstanceCache() {
+    int expirationTime = Integer.parseInt(System.getProperty(EXPIRATION_TIME_PARAM, DEFAULT_EXPIRATION_TIME_SECONDS));
+    int maximumSize = Integer.parseInt(System.getProperty(MAXIMUM_SIZE_PARAM, DEFAULT_MAXIMUM_SIZE));
+    this.cache = Caffeine.newBuilder()
+      .expireAfterWrite(expirationTime, TimeUnit.SECONDS)
+      .maximumSize(maximumSize)
+      .build();
+  }
+
+  /**
+   * Returns the cache stored in the Vert.x context, creates and stores it if missing.
+   */
+  public static LocalInstanceCache getInstance(Context context) {
+    LocalInstanceCache localInstanceCache = context.get(LocalInstanceCache.class.getName());
+    if (localInstanceCache == null) {
+      localInstanceCache = new LocalInstanceCache();
+      context.put(LocalInstanceCache.class.getName(), localInstanceCache);
+    }
+    return localInstanceCache;
+  }
+
+  /**
+   * The instance ids that are not known to exist in the tenant.
+   */
+  public List<String> unknown(String tenantId, List<String> instanceIds) {
+    return instanceIds.stream()
+      .filter(instanceId -> cache.getIfPresent(key(tenantId, instanceId)) == null)
+      .toList();
+  }
+
+  public void put(String tenantId, String instanceId) {
+    cache.put(key(tenantId, instanceId), Boolean.TRUE);
+  }
+
+  private static String key(String tenantId, String instanceId) {
+    return tenantId + ':' + instanceId;
+  }
+}
@@ -0,0 +1,48 @@
+package org.folio.services.caches;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.folio.services.enrichment.ReferenceSnapshot;
+
+/**
+ * Per-tenant {@link ReferenceSnapshot}, reloaded after the expiration time so that changes of the
+ * reference data become visible.
+ */
+public class ReferenceSnapshotCache {
+
+  private static final String EXPIRATION_TIME_PARAM = "cache.reference-snapshot.expiration.time.seconds";
+  private static final String DEFAULT_EXPIRATION_TIME_SECONDS = "60";
+
+  private final Cache<String, Future<ReferenceSnapshot>> cache;
+
+  public ReferenceSnapshotCache() {
+    int expirationTime = Integer.parseInt(System.getProperty(EXPIRATION_TIME_PARAM, DEFAULT_EXPIRATION_TIME_SECONDS));
+    this.cache = Caffeine.newBuilder()
+      .expireAfterWrite(expirationTime, TimeUnit.SECONDS)
+      .build();
+  }
+
+  /**
+   * Returns the cache stored in the Vert.x context, creates and stores it if missing.
+   */
+  public static ReferenceSnapshotCache getInstance(Context context) {
+    ReferenceSnapshotCache referenceSnapshotCache = context.get(ReferenceSnapshotCache.class.getName());
+    if (referenceSnapshotCache == null) {
+      referenceSnapshotCache = new ReferenceSnapshotCache();
+      context.put(ReferenceSnapshotCache.class.getName(), referenceSnapshotCache);
+    }
+    return referenceSnapshotCache;
+  }
+
+  /**
+   * Returns the snapshot of the tenant, concurrent requests share the same load; a failed load is not cached.
+   */
+  public Future<ReferenceSnapshot> get(String tenantId, Supplier<Future<ReferenceSnapshot>> loader) {
+    var snapshot = cache.get(tenantId, tenant -> loader.get());
+    return snapshot.onFailure(e -> cache.asMap().remove(tenantId, snapshot));
+  }
+}
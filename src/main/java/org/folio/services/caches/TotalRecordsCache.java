@@ -0,0 +1,54 @@
+package org.folio.services.caches;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Context;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived memo of exact collection counts, keyed by tenant, table and the SQL WHERE clause
+ * that the CQL query has been translated to.
+ */
+public class TotalRecordsCache {
+
+  private static final String EXPIRATION_TIME_PARAM = "cache.total-records.expiration.time.seconds";
+  private static final String DEFAULT_EXPIRATION_TIME_SECONDS = "30";
+  private static final String MAXIMUM_SIZE_PARAM = "cache.total-records.maximum.size";
+  private static final String DEFAULT_MAXIMUM_SIZE = "10000";
+
+  private final Cache<String, Long> cache;
+
+  public TotalRecordsCache() {
+    int expirationTime = Integer.parseInt(System.getProperty(EXPIRATION_TIME_PARAM, DEFAULT_EXPIRATION_TIME_SECONDS));
+    int maximumSize = Integer.parseInt(System.getProperty(MAXIMUM_SIZE_PARAM, DEFAULT_MAXIMUM_SIZE));
+    this.cache = Caffeine.newBuilder()
+      .expireAfterWrite(expirationTime, TimeUnit.SECONDS)
+      .maximumSize(maximumSize)
+      .build();
+  }
+
+  /**
+   * Returns the cache stored in the Vert.x context, creates and stores it if missing.
+   */
+  public static TotalRecordsCache getInstance(Context context) {
+    TotalRecordsCache totalRecordsCache = context.get(TotalRecordsCache.class.getName());
+    if (totalRecordsCache == null) {
+      totalRecordsCache = new TotalRecordsCache();
+      context.put(TotalRecordsCache.class.getName(), totalRecordsCache);
+    }
+    return totalRecordsCache;
+  }
+
+  public Optional<Long> get(String tenantId, String table, String whereClause) {
+    return Optional.ofNullable(cache.getIfPresent(key(tenantId, table, whereClause)));
+  }
+
+  public void put(String tenantId, String table, String whereClause, long totalRecords) {
+    cache.put(key(tenantId, table, whereClause), totalRecords);
+  }
+
+  private static String key(String tenantId, String table, String whereClause) {
+    return tenantId + ':' + table + ':' + whereClause;
+  }
+}
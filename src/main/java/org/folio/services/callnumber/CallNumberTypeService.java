@@ -52,14 +52,14 @@ public class CallNumberTypeService {
 
   public Future<Response> create(CallNumberType type) {
     return post(CALL_NUMBER_TYPE_TABLE, type, okapiHeaders, context, PostCallNumberTypesResponse.class)
-      .onSuccess(domainEventService.publishCreated());
+      .onSuccess(domainEventService.publishCreated(okapiHeaders));
   }
 
   public Future<Response> update(String id, CallNumberType type) {
     return getIfNotSystemCallNumberType(id, "System call number type couldn't be updated")
       .compose(oldType -> put(CALL_NUMBER_TYPE_TABLE, type, id, okapiHeaders, context,
         PutCallNumberTypesByIdResponse.class)
-        .onSuccess(domainEventService.publishUpdated(oldType))
+        .onSuccess(domainEventService.publishUpdated(oldType, okapiHeaders))
       );
   }
 
@@ -67,7 +67,7 @@ public class CallNumberTypeService {
     return getIfNotSystemCallNumberType(id, "System call number type couldn't be deleted")
       .compose(oldType -> deleteById(CALL_NUMBER_TYPE_TABLE, id, okapiHeaders, context,
         DeleteCallNumberTypesByIdResponse.class)
-        .onSuccess(domainEventService.publishRemoved(oldType))
+        .onSuccess(domainEventService.publishRemoved(oldType, okapiHeaders))
       );
   }
 
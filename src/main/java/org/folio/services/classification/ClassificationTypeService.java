@@ -49,14 +49,14 @@ public class ClassificationTypeService {
 
   public Future<Response> create(ClassificationType type) {
     return post(CLASSIFICATION_TYPE_TABLE, type, okapiHeaders, context, PostClassificationTypesResponse.class)
-      .onSuccess(domainEventService.publishCreated());
+      .onSuccess(domainEventService.publishCreated(okapiHeaders));
   }
 
   public Future<Response> update(String id, ClassificationType type) {
     return repository.getById(id)
       .compose(oldType -> put(CLASSIFICATION_TYPE_TABLE, type, id, okapiHeaders, context,
         PutClassificationTypesByClassificationTypeIdResponse.class)
-        .onSuccess(domainEventService.publishUpdated(oldType))
+        .onSuccess(domainEventService.publishUpdated(oldType, okapiHeaders))
       );
   }
 
@@ -64,7 +64,7 @@ public class ClassificationTypeService {
     return repository.getById(id)
       .compose(oldType -> deleteById(CLASSIFICATION_TYPE_TABLE, id, okapiHeaders, context,
         DeleteClassificationTypesByClassificationTypeIdResponse.class)
-        .onSuccess(domainEventService.publishRemoved(oldType))
+        .onSuccess(domainEventService.publishRemoved(oldType, okapiHeaders))
       );
   }
 }
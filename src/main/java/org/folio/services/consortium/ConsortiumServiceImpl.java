@@ -4,6 +4,7 @@ import static java.net.HttpURLConnection.HTTP_CREATED;
 import static org.folio.okapi.common.XOkapiHeaders.TENANT;
 import static org.folio.okapi.common.XOkapiHeaders.URL;
 
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
@@ -37,6 +38,20 @@ public class ConsortiumServiceImpl implements ConsortiumService {
     this.consortiumDataCache = consortiumDataCache;
   }
 
+  /**
+   * Returns the service stored in the Vert.x context, creates and stores it if missing,
+   * so that all requests of the context share one HTTP client.
+   */
+  public static ConsortiumService getInstance(Context context) {
+    ConsortiumService consortiumService = context.get(ConsortiumServiceImpl.class.getName());
+    if (consortiumService == null) {
+      consortiumService = new ConsortiumServiceImpl(context.owner().createHttpClient(),
+        context.get(ConsortiumDataCache.class.getName()));
+      context.put(ConsortiumServiceImpl.class.getName(), consortiumService);
+    }
+    return consortiumService;
+  }
+
   @Override
   public Future<SharingInstance> createShadowInstance(String instanceId, ConsortiumData consortiumData,
                                                       Map<String, String> headers) {
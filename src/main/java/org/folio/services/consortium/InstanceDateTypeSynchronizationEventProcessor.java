@@ -28,17 +28,18 @@ public class InstanceDateTypeSynchronizationEventProcessor implements Synchroniz
       var dateType = PostgresClient.pojo2JsonObject(event.getNewEntity()).mapTo(InstanceDateType.class);
       var vertxContext = context.vertx().getOrCreateContext();
       var headers = context.headers();
-      var future = Future.succeededFuture(typeId);
-      for (String memberTenant : context.consortiaData().memberTenants()) {
-        LOG.info("process:: propagate instance date type id={} to tenant='{}'", typeId, memberTenant);
-        future = future.eventually(() -> prepareHeaders(headers, memberTenant)
-          .compose(newHeaders -> new InstanceDateTypeService(vertxContext, newHeaders)
-            .putInstanceDateType(dateType.getId(), dateType))
-          .onFailure(e -> LOG.warn("process:: propagate instance date type id={} to tenant='{}' failed",
-            typeId, memberTenant, e))
-        );
-      }
-      return future;
+      return new TenantFanOut(context.vertx())
+        .run(context.consortiaData().memberTenants(), memberTenant -> {
+          LOG.info("process:: propagate instance date type id={} to tenant='{}'", typeId, memberTenant);
+          return prepareHeaders(headers, memberTenant)
+            .compose(newHeaders -> new InstanceDateTypeService(vertxContext, newHeaders)
+              .putInstanceDateType(dateType.getId(), dateType));
+        })
+        .map(result -> {
+          result.getFailed().forEach((memberTenant, e) ->
+            LOG.warn("process:: propagate instance date type id={} to tenant='{}' failed", typeId, memberTenant, e));
+          return typeId;
+        });
     } catch (Exception e) {
       return Future.failedFuture(e);
     }
@@ -18,6 +18,7 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.client.HttpRequest;
 import io.vertx.ext.web.client.WebClient;
 import io.vertx.kafka.client.consumer.KafkaConsumerRecord;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -36,6 +37,7 @@ import org.folio.rest.persist.PostgresClient;
 import org.folio.services.caches.ConsortiumData;
 import org.folio.services.caches.ConsortiumDataCache;
 import org.folio.services.domainevent.DomainEvent;
+import org.folio.services.metrics.InventoryMetrics;
 
 public class ShadowInstanceSynchronizationHandler implements AsyncRecordHandler<String, String> {
 
@@ -88,6 +90,8 @@ public class ShadowInstanceSynchronizationHandler implements AsyncRecordHandler<
           .orElse(false))
         .compose(isCentralTenant -> Boolean.TRUE.equals(isCentralTenant)
           ? synchronizeShadowInstances(event, instanceId, consortiumDataFuture.result().get(), headers)
+            .onSuccess(notUsed -> InventoryMetrics.record("shadow.instance.sync.lag",
+              Duration.ofMillis(Math.max(0, System.currentTimeMillis() - kafkaRecord.timestamp()))))
             .map(kafkaRecord.key())
           : Future.succeededFuture(kafkaRecord.key()))
         .onFailure(e -> LOG.warn(EVENT_HANDLING_ERROR_MSG, event.getTenant(), instanceId, e));
@@ -0,0 +1,119 @@
+package org.folio.services.consortium;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.utils.Environment;
+
+/**
+ * Runs a task for each member tenant of a consortium with at most {@code parallelism} tenants in flight.
+ *
+ * <p>A failed tenant is retried up to {@code retries} times, the delay starts with {@code backoffMillis}
+ * and doubles with each attempt. A failure of one tenant doesn't stop the other tenants, the result
+ * lists the tenants that succeeded and the last failure of each tenant that failed.
+ */
+public class TenantFanOut {
+  public static final String CONSORTIUM_FAN_OUT_PARALLELISM = "CONSORTIUM_FAN_OUT_PARALLELISM";
+  public static final String CONSORTIUM_FAN_OUT_RETRIES = "CONSORTIUM_FAN_OUT_RETRIES";
+  static final long BACKOFF_MILLIS = 1000;
+  private static final Logger log = LogManager.getLogger(TenantFanOut.class);
+
+  private final Vertx vertx;
+  private final int parallelism;
+  private final int retries;
+  private final long backoffMillis;
+
+  public TenantFanOut(Vertx vertx) {
+    this(vertx,
+      Integer.parseInt(Environment.getEnvVar(CONSORTIUM_FAN_OUT_PARALLELISM, "8")),
+      Integer.parseInt(Environment.getEnvVar(CONSORTIUM_FAN_OUT_RETRIES, "2")),
+      BACKOFF_MILLIS);
+  }
+
+  TenantFanOut(Vertx vertx, int parallelism, int retries, long backoffMillis) {
+    this.vertx = vertx;
+    this.parallelism = Math.max(1, parallelism);
+    this.retries = Math.max(0, retries);
+    this.backoffMillis = backoffMillis;
+  }
+
+  /**
+   * Runs the task for each tenant, the returned future always succeeds.
+   */
+  public Future<Result> run(Collection<String> tenants, Function<String, Future<?>> task) {
+    var queue = new ArrayDeque<>(tenants);
+    var result = new Result();
+    var workers = new ArrayList<Future<Void>>();
+    for (int i = 0; i < Math.min(parallelism, queue.size()); i++) {
+      workers.add(next(queue, task, result));
+    }
+    return Future.join(workers).map(result);
+  }
+
+  private Future<Void> next(Queue<String> queue, Function<String, Future<?>> task, Result result) {
+    var tenant = queue.poll();
+    if (tenant == null) {
+      return Future.succeededFuture();
+    }
+    return attempt(tenant, task, 0)
+      .onSuccess(notUsed -> result.succeeded(tenant))
+      .onFailure(e -> result.failed(tenant, e))
+      .otherwiseEmpty()
+      .compose(notUsed -> next(queue, task, result));
+  }
+
+  private Future<Void> attempt(String tenant, Function<String, Future<?>> task, int attempt) {
+    Future<?> future;
+    try {
+      future = task.apply(tenant);
+    } catch (Exception e) {
+      future = Future.failedFuture(e);
+    }
+    return future.<Void>mapEmpty().recover(e -> {
+      if (attempt >= retries) {
+        return Future.failedFuture(e);
+      }
+      var delay = backoffMillis << attempt;
+      log.warn("attempt:: tenant {} failed, retry {} of {} in {} ms: {}",
+        tenant, attempt + 1, retries, delay, e.getMessage());
+      Promise<Void> promise = Promise.promise();
+      vertx.setTimer(delay, timerId -> attempt(tenant, task, attempt + 1).onComplete(promise));
+      return promise.future();
+    });
+  }
+
+  /**
+   * The outcome of the tenants, in the order of completion.
+   */
+  public static class Result {
+    private final List<String> succeeded = new ArrayList<>();
+    private final Map<String, Throwable> failed = new LinkedHashMap<>();
+
+    synchronized void succeeded(String tenant) {
+      succeeded.add(tenant);
+    }
+
+    synchronized void failed(String tenant, Throwable e) {
+      failed.put(tenant, e);
+    }
+
+    public synchronized List<String> getSucceeded() {
+      return Collections.unmodifiableList(new ArrayList<>(succeeded));
+    }
+
+    public synchronized Map<String, Throwable> getFailed() {
+      return Collections.unmodifiableMap(new LinkedHashMap<>(failed));
+    }
+  }
+}
@@ -12,6 +12,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.rest.jaxrs.model.Servicepoint;
 import org.folio.services.consortium.SynchronizationContext;
+import org.folio.services.consortium.TenantFanOut;
 import org.folio.services.domainevent.DomainEvent;
 import org.folio.services.domainevent.ServicePointEventType;
 import org.folio.services.servicepoint.ServicePointService;
@@ -47,17 +48,20 @@ public abstract class ServicePointSynchronizationEventProcessor {
     }
     var vertxContext = context.vertx().getOrCreateContext();
     var headers = context.headers();
-    for (String memberTenant : context.consortiaData().memberTenants()) {
-      log.info("process:: tenant {} servicePointId {}", memberTenant, eventKey);
-      future = future.eventually(() -> prepareHeaders(headers, memberTenant)
-        .compose(lendingTenantHeader -> {
-          var servicePointService = new ServicePointService(vertxContext, lendingTenantHeader);
-          return processEvent(servicePointService, eventKey);
-        })
-        .onFailure(e ->
-          log.warn("process:: tenant {} servicePointId {} failed", memberTenant, eventKey, e)));
-    }
-    return future;
+    return new TenantFanOut(context.vertx())
+      .run(context.consortiaData().memberTenants(), memberTenant -> {
+        log.info("process:: tenant {} servicePointId {}", memberTenant, eventKey);
+        return prepareHeaders(headers, memberTenant)
+          .compose(lendingTenantHeader -> {
+            var servicePointService = new ServicePointService(vertxContext, lendingTenantHeader);
+            return processEvent(servicePointService, eventKey);
+          });
+      })
+      .map(result -> {
+        result.getFailed().forEach((memberTenant, e) ->
+          log.warn("process:: tenant {} servicePointId {} failed", memberTenant, eventKey, e));
+        return eventKey;
+      });
   }
 
   protected abstract Future<String> processEvent(ServicePointService servicePointService,
@@ -0,0 +1,95 @@
+package org.folio.services.deletion;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Deletes the records matching a CQL query in chunks of {@link #CHUNK_SIZE} records in id order.
+ *
+ * <p>The delete events of a chunk are published before the next chunk is deleted, so that neither the
+ * deleted records nor the events of the whole match are held in memory at once.
+ */
+public class ChunkedDeleter {
+  public static final int CHUNK_SIZE = 1000;
+
+  private final ChunkDelete chunkDelete;
+  private final Function<Row, Pair<String, String>> toEvent;
+  private final Function<List<Pair<String, String>>, Future<Void>> publisher;
+
+  /**
+   * Deletes a chunk of records.
+   */
+  @FunctionalInterface
+  public interface ChunkDelete {
+    /**
+     * Deletes up to limit records with an id greater than afterId, null for the first chunk;
+     * the first column of each returned row is the id.
+     */
+    Future<RowSet<Row>> delete(String afterId, int limit);
+  }
+
+  /**
+   * Creates the deleter.
+   *
+   * @param toEvent maps a deleted row to the event key and the raw record
+   * @param publisher publishes the events of a chunk
+   */
+  public ChunkedDeleter(ChunkDelete chunkDelete, Function<Row, Pair<String, String>> toEvent,
+                        Function<List<Pair<String, String>>, Future<Void>> publisher) {
+    this.chunkDelete = chunkDelete;
+    this.toEvent = toEvent;
+    this.publisher = publisher;
+  }
+
+  /**
+   * Deletes all matching records, returns the number of deleted records.
+   */
+  public Future<Long> delete() {
+    return delete(deleted -> succeededFuture(true));
+  }
+
+  /**
+   * Deletes the matching records, returns the number of deleted records.
+   *
+   * @param progressHandler called after each chunk with the number of records deleted so far,
+   *     deletion stops if it returns false
+   */
+  public Future<Long> delete(Function<Long, Future<Boolean>> progressHandler) {
+    return deleteChunks(null, 0, progressHandler);
+  }
+
+  private Future<Long> deleteChunks(String afterId, long deleted, Function<Long, Future<Boolean>> progressHandler) {
+    return chunkDelete.delete(afterId, CHUNK_SIZE)
+      .compose(rowSet -> {
+        var count = rowSet.rowCount();
+        if (count == 0) {
+          return succeededFuture(deleted);
+        }
+        var events = new ArrayList<Pair<String, String>>(count);
+        var lastId = afterId;
+        for (var row : rowSet) {
+          var id = row.getString(0);
+          if (lastId == null || id.compareTo(lastId) > 0) {
+            lastId = id;
+          }
+          events.add(toEvent.apply(row));
+        }
+        var total = deleted + count;
+        var nextAfterId = lastId;
+        // a failed event is handled by the publisher's failure handler, it doesn't stop the deletion
+        return publisher.apply(events)
+          .otherwiseEmpty()
+          .compose(notUsed -> progressHandler.apply(total))
+          .compose(proceed -> Boolean.TRUE.equals(proceed) && count == CHUNK_SIZE
+            ? deleteChunks(nextAfterId, total, progressHandler)
+            : succeededFuture(total));
+      });
+  }
+}
@@ -0,0 +1,84 @@
+package org.folio.services.deletion;
+
+import static org.folio.rest.jaxrs.model.DeleteJob.JobStatus.CANCELLATION_PENDING;
+import static org.folio.rest.jaxrs.model.DeleteJob.JobStatus.CANCELLED;
+import static org.folio.rest.jaxrs.model.DeleteJob.JobStatus.COMPLETED;
+import static org.folio.rest.jaxrs.model.DeleteJob.JobStatus.FAILED;
+
+import io.micrometer.core.instrument.Counter;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.persist.DeleteJobRepository;
+import org.folio.rest.jaxrs.model.DeleteJob;
+import org.folio.services.TenantServices;
+import org.folio.services.metrics.InventoryMetrics;
+
+/**
+ * Runs a delete job: deletes the matching records chunk by chunk, updates the number of deleted records
+ * of the job after each chunk and stops after the current chunk when the job is cancelled.
+ */
+public class DeleteJobRunner {
+
+  private static final Logger log = LogManager.getLogger(DeleteJobRunner.class);
+  private static final Counter RECORDS = InventoryMetrics.counter("job.records", "job", "delete");
+
+  private final Context vertxContext;
+  private final Map<String, String> okapiHeaders;
+  private final DeleteJobRepository jobRepository;
+
+  public DeleteJobRunner(Context vertxContext, Map<String, String> okapiHeaders) {
+    this(vertxContext, okapiHeaders, new DeleteJobRepository(vertxContext, okapiHeaders));
+  }
+
+  public DeleteJobRunner(Context vertxContext, Map<String, String> okapiHeaders, DeleteJobRepository repository) {
+    this.vertxContext = vertxContext;
+    this.okapiHeaders = okapiHeaders;
+    this.jobRepository = repository;
+  }
+
+  public void startDeletion(DeleteJob job) {
+    var recordsDeleted = new long[] {0};
+    chunkedDeleter(job)
+      .delete(deleted -> {
+        RECORDS.increment((double) deleted - recordsDeleted[0]);
+        recordsDeleted[0] = deleted;
+        return jobRepository.fetchAndUpdate(job.getId(), resp -> resp.withRecordsDeleted(deleted.intValue()))
+          .map(updated -> updated.getJobStatus() != CANCELLATION_PENDING);
+      })
+      .compose(deleted -> {
+        log.info("startDeletion:: Delete job {} finished: recordsDeleted = {}", job.getId(), deleted);
+        return logJobFinished(job.getId(), deleted);
+      })
+      .recover(error -> {
+        log.warn("startDeletion:: Delete job {} failed", job.getId(), error);
+        return logFailedJob(job.getId(), recordsDeleted[0], error);
+      })
+      .onFailure(error -> log.warn("startDeletion:: Unable to update delete job {}", job.getId(), error));
+  }
+
+  private ChunkedDeleter chunkedDeleter(DeleteJob job) {
+    var query = job.getJobParams().getQuery();
+    var services = TenantServices.of(vertxContext, okapiHeaders);
+    return switch (job.getJobParams().getRecordType()) {
+      case INSTANCE -> services.instanceService().chunkedDeleter(query, okapiHeaders);
+      case HOLDINGS -> services.holdingsService().chunkedDeleter(query, okapiHeaders);
+      case ITEM -> services.itemService().chunkedDeleter(query, okapiHeaders);
+    };
+  }
+
+  private Future<DeleteJob> logJobFinished(String jobId, Long recordsDeleted) {
+    return jobRepository.fetchAndUpdate(jobId,
+      resp -> resp.withRecordsDeleted(recordsDeleted.intValue())
+        .withJobStatus(resp.getJobStatus() == CANCELLATION_PENDING ? CANCELLED : COMPLETED));
+  }
+
+  private Future<DeleteJob> logFailedJob(String jobId, long recordsDeleted, Throwable error) {
+    return jobRepository.fetchAndUpdate(jobId,
+      resp -> resp.withRecordsDeleted((int) recordsDeleted)
+        .withJobStatus(FAILED)
+        .withErrorMessage(error.getMessage()));
+  }
+}
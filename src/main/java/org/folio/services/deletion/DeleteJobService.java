@@ -0,0 +1,67 @@
+package org.folio.services.deletion;
+
+import static java.util.UUID.randomUUID;
+import static org.folio.rest.jaxrs.model.DeleteJob.JobStatus.CANCELLATION_PENDING;
+import static org.folio.rest.jaxrs.model.DeleteJob.JobStatus.IN_PROGRESS;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import org.folio.cql2pgjson.CQL2PgJSON;
+import org.folio.persist.DeleteJobRepository;
+import org.folio.rest.exceptions.BadRequestException;
+import org.folio.rest.jaxrs.model.DeleteJob;
+import org.folio.rest.jaxrs.model.DeleteJobParams;
+
+public final class DeleteJobService {
+
+  private final DeleteJobRepository repository;
+  private final DeleteJobRunner jobRunner;
+
+  public DeleteJobService(Context vertxContext, Map<String, String> okapiHeaders) {
+    this(new DeleteJobRepository(vertxContext, okapiHeaders),
+      new DeleteJobRunner(vertxContext, okapiHeaders));
+  }
+
+  public DeleteJobService(DeleteJobRepository repository, DeleteJobRunner runner) {
+    this.repository = repository;
+    this.jobRunner = runner;
+  }
+
+  public Future<Optional<DeleteJob>> getDeleteJob(String jobId) {
+    return repository.getById(jobId).map(Optional::ofNullable);
+  }
+
+  public Future<DeleteJob> submitDeleteJob(DeleteJobParams jobParams) {
+    try {
+      new CQL2PgJSON("record.jsonb").toSql(jobParams.getQuery());
+    } catch (Exception e) {
+      return Future.failedFuture(new BadRequestException(e.getMessage()));
+    }
+
+    var job = buildInitialJob(jobParams);
+
+    return repository.save(job.getId(), job)
+      .map(notUsed -> {
+        jobRunner.startDeletion(job);
+
+        return job;
+      });
+  }
+
+  public Future<Void> cancelDeleteJob(String jobId) {
+    return repository.fetchAndUpdate(jobId,
+      resp -> resp.withJobStatus(CANCELLATION_PENDING)).mapEmpty();
+  }
+
+  private DeleteJob buildInitialJob(DeleteJobParams jobParams) {
+    return new DeleteJob()
+      .withJobParams(jobParams)
+      .withJobStatus(IN_PROGRESS)
+      .withRecordsDeleted(0)
+      .withSubmittedDate(new Date())
+      .withId(randomUUID().toString());
+  }
+}
@@ -12,6 +12,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.ImmutableTriple;
@@ -22,6 +23,10 @@ import org.folio.persist.AbstractRepository;
 import org.folio.rest.support.CollectionUtil;
 import org.folio.services.batch.BatchOperationContext;
 
+/**
+ * Publishes the domain events of a record type. A publisher doesn't hold request state and can be shared
+ * by all requests of a tenant, each publish call takes the Okapi headers of its request.
+ */
 abstract class AbstractDomainEventPublisher<D, E> {
   private static final Logger log = getLogger(AbstractDomainEventPublisher.class);
 
@@ -44,18 +49,19 @@ abstract class AbstractDomainEventPublisher<D, E> {
   }
 
   @SuppressWarnings("unchecked")
-  public Handler<Response> publishCreated() {
+  public Handler<Response> publishCreated(Map<String, String> okapiHeaders) {
     return response -> {
       if (!isCreateSuccessResponse(response)) {
         log.warn("Record create failed, skipping event publishing");
         return;
       }
 
-      publishRecordsCreated(singletonList((D) response.getEntity()));
+      publishRecordsCreated(singletonList((D) response.getEntity()), okapiHeaders);
     };
   }
 
-  public Handler<Response> publishCreatedOrUpdated(BatchOperationContext<D> batchOperation) {
+  public Handler<Response> publishCreatedOrUpdated(BatchOperationContext<D> batchOperation,
+                                                   Map<String, String> okapiHeaders) {
 
     return response -> {
       if (!isCreateSuccessResponse(response)) {
@@ -67,13 +73,13 @@ abstract class AbstractDomainEventPublisher<D, E> {
         batchOperation.existingRecords().size());
 
       if (batchOperation.publishEvents()) {
-        publishRecordsCreated(batchOperation.recordsToBeCreated()).compose(
-          notUsed -> publishUpdated(batchOperation.existingRecords()));
+        publishRecordsCreated(batchOperation.recordsToBeCreated(), okapiHeaders).compose(
+          notUsed -> publishUpdated(batchOperation.existingRecords(), okapiHeaders));
       }
     };
   }
 
-  public Handler<Response> publishRemoved(D removedRecord) {
+  public Handler<Response> publishRemoved(D removedRecord, Map<String, String> okapiHeaders) {
     return response -> {
       if (!isDeleteSuccessResponse(response)) {
         log.warn("Record removal failed, no event will be sent");
@@ -81,30 +87,39 @@ abstract class AbstractDomainEventPublisher<D, E> {
       }
 
       getInstanceId(removedRecord).compose(instanceId -> domainEventService.publishRecordRemoved(instanceId,
-        convertDomainToEvent(instanceId, removedRecord)));
+        convertDomainToEvent(instanceId, removedRecord), okapiHeaders));
     };
   }
 
-  public void publishRemoved(String instanceId, String rawRecord) {
-    domainEventService.publishRecordRemoved(instanceId, rawRecord);
+  public void publishRemoved(String instanceId, String rawRecord, Map<String, String> okapiHeaders) {
+    domainEventService.publishRecordRemoved(instanceId, rawRecord, okapiHeaders);
   }
 
-  public Future<Void> publishAllRemoved() {
-    return domainEventService.publishAllRecordsRemoved();
+  /**
+   * Publishes the delete events of a chunk of deleted records, the key of each pair is the event key,
+   * the value the raw record; completes when all events have been sent.
+   */
+  public Future<Void> publishRemoved(List<Pair<String, String>> keysAndRawRecords,
+                                     Map<String, String> okapiHeaders) {
+    return domainEventService.publishRawRecordsRemoved(keysAndRawRecords, okapiHeaders);
   }
 
-  public Handler<Response> publishUpdated(D oldRecord) {
+  public Future<Void> publishAllRemoved(Map<String, String> okapiHeaders) {
+    return domainEventService.publishAllRecordsRemoved(okapiHeaders);
+  }
+
+  public Handler<Response> publishUpdated(D oldRecord, Map<String, String> okapiHeaders) {
     return response -> {
       if (!isUpdateSuccessResponse(response)) {
         log.warn("Record update failed, skipping event publishing");
         return;
       }
 
-      publishUpdated(singletonList(oldRecord));
+      publishUpdated(singletonList(oldRecord), okapiHeaders);
     };
   }
 
-  protected Future<Void> publishUpdated(Collection<D> oldRecords) {
+  protected Future<Void> publishUpdated(Collection<D> oldRecords, Map<String, String> okapiHeaders) {
     if (oldRecords.isEmpty()) {
       log.info("No records were updated, skipping event sending");
       return succeededFuture();
@@ -114,7 +129,7 @@ abstract class AbstractDomainEventPublisher<D, E> {
 
     return repository.getById(oldRecords, this::getId)
       .compose(updatedItems -> convertDomainsToEvents(updatedItems.values(), oldRecords))
-      .compose(domainEventService::publishRecordsUpdated);
+      .compose(events -> domainEventService.publishRecordsUpdated(events, okapiHeaders));
   }
 
   protected abstract Future<List<Pair<String, D>>> getRecordIds(Collection<D> domainTypes);
@@ -135,8 +150,9 @@ abstract class AbstractDomainEventPublisher<D, E> {
     }).toList();
   }
 
-  private Future<Void> publishRecordsCreated(Collection<D> records) {
-    return convertDomainsToEvents(records).compose(domainEventService::publishRecordsCreated);
+  private Future<Void> publishRecordsCreated(Collection<D> records, Map<String, String> okapiHeaders) {
+    return convertDomainsToEvents(records)
+      .compose(events -> domainEventService.publishRecordsCreated(events, okapiHeaders));
   }
 
   protected Future<List<Pair<String, E>>> convertDomainsToEvents(Collection<D> domains) {
@@ -25,6 +25,21 @@ public class BoundWithDomainEventPublisher extends AbstractDomainEventPublisher<
     holdingsRepository = new HoldingsRepository(context, okapiHeaders);
   }
 
+  /**
+   * Publishes the events of the parts created and removed by a bound-with update as one batch.
+   *
+   * @param created the instance id of the holdings record and the part for each created part
+   * @param removed the instance id of the holdings record and the part for each removed part
+   */
+  public Future<Void> publishReplaced(List<Pair<String, BoundWithPart>> created,
+                                      List<Pair<String, BoundWithPart>> removed,
+                                      Map<String, String> okapiHeaders) {
+    return Future.all(
+        domainEventService.publishRecordsCreated(toEvents(created), okapiHeaders),
+        domainEventService.publishRecordsRemoved(toEvents(removed), okapiHeaders))
+      .mapEmpty();
+  }
+
   @Override
   protected Future<List<Pair<String, BoundWithPart>>> getRecordIds(Collection<BoundWithPart> boundWithParts) {
     return holdingsRepository.getById(boundWithParts, BoundWithPart::getHoldingsRecordId)
@@ -43,6 +58,12 @@ public class BoundWithDomainEventPublisher extends AbstractDomainEventPublisher<
     return boundWithPart.getId();
   }
 
+  private List<Pair<String, BoundWithInstanceId>> toEvents(List<Pair<String, BoundWithPart>> parts) {
+    return parts.stream()
+      .map(pair -> pair(pair.getKey(), convertDomainToEvent(pair.getKey(), pair.getValue())))
+      .toList();
+  }
+
   private String getInstanceId(Map<String, HoldingsRecord> holdings, BoundWithPart bound) {
     return holdings.get(bound.getHoldingsRecordId()).getInstanceId();
   }
@@ -13,17 +13,21 @@ import static org.folio.services.domainevent.DomainEvent.updateEvent;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.kafka.client.producer.KafkaProducer;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.LongFunction;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.apache.logging.log4j.Logger;
+import org.folio.InventoryKafkaTopic;
 import org.folio.kafka.KafkaConfig;
 import org.folio.kafka.KafkaProducerManager;
 import org.folio.kafka.SimpleKafkaProducerManager;
@@ -31,50 +35,86 @@ import org.folio.kafka.services.KafkaEnvironmentProperties;
 import org.folio.kafka.services.KafkaProducerRecordBuilder;
 import org.folio.rest.jaxrs.model.PublishReindexRecords;
 import org.folio.rest.tools.utils.TenantTool;
+import org.folio.services.metrics.InventoryMetrics;
 
+/**
+ * Publishes the domain events of a topic. A publisher doesn't depend on a request and can be shared by
+ * all requests of the tenant, the Okapi headers of the request are passed to each publish call and are
+ * propagated to the Kafka record.
+ */
 public class CommonDomainEventPublisher<T> {
   public static final String NULL_ID = "00000000-0000-0000-0000-000000000000";
   private static final Logger log = getLogger(CommonDomainEventPublisher.class);
+  private static final Map<ProducerManagerKey, KafkaProducerManager> PRODUCER_MANAGERS = new ConcurrentHashMap<>();
 
-  private final Map<String, String> okapiHeaders;
   private final KafkaProducerManager producerManager;
   private final FailureHandler failureHandler;
   private final String kafkaTopic;
+  private final boolean compactUpdateEvents;
 
-  CommonDomainEventPublisher(Map<String, String> okapiHeaders, String kafkaTopic,
-                             KafkaProducerManager kafkaProducerManager, FailureHandler failureHandler) {
+  CommonDomainEventPublisher(String kafkaTopic, KafkaProducerManager kafkaProducerManager,
+                             FailureHandler failureHandler) {
 
-    this.okapiHeaders = okapiHeaders;
     this.kafkaTopic = kafkaTopic;
     this.producerManager = kafkaProducerManager;
     this.failureHandler = failureHandler;
+    this.compactUpdateEvents = InventoryKafkaTopic.byFullTopicName(kafkaTopic)
+      .map(InventoryKafkaTopic::compactUpdateEvents)
+      .orElse(false);
   }
 
+  /**
+   * A publisher of the tenant of the okapiHeaders, the okapiHeaders are used only to select the tenant.
+   */
   public CommonDomainEventPublisher(Context vertxContext, Map<String, String> okapiHeaders,
                                     String kafkaTopic) {
     this(vertxContext, okapiHeaders, kafkaTopic, 0);
   }
 
+  /**
+   * A publisher of the tenant of the okapiHeaders, the okapiHeaders are used only to select the tenant.
+   */
   public CommonDomainEventPublisher(Context vertxContext, Map<String, String> okapiHeaders,
                                     String kafkaTopic, int maxRequestSize) {
 
-    this(okapiHeaders, kafkaTopic, createProducerManager(vertxContext, maxRequestSize),
-      new LogToDbFailureHandler(vertxContext, okapiHeaders));
+    this(kafkaTopic, createProducerManager(vertxContext, kafkaTopic, maxRequestSize),
+      LogToDbFailureHandler.forTenant(vertxContext, okapiHeaders));
   }
 
-  private static KafkaProducerManager createProducerManager(Context vertxContext, int maxRequestSize) {
+  /**
+   * The producer manager of the topic, created once per Vert.x instance, topic and max request size
+   * and reused by the publishers of all requests.
+   */
+  static KafkaProducerManager createProducerManager(Context vertxContext, String kafkaTopic,
+                                                    int maxRequestSize) {
+    return PRODUCER_MANAGERS.computeIfAbsent(
+      new ProducerManagerKey(vertxContext.owner(), kafkaTopic, maxRequestSize),
+      key -> newProducerManager(key.vertx(), key.kafkaTopic(), key.maxRequestSize()));
+  }
+
+  private static KafkaProducerManager newProducerManager(Vertx vertx, String kafkaTopic, int maxRequestSize) {
     var kafkaConfig = KafkaConfig.builder()
       .kafkaPort(KafkaEnvironmentProperties.port())
       .kafkaHost(KafkaEnvironmentProperties.host())
       .maxRequestSize(maxRequestSize)
       .build();
 
-    return new SimpleKafkaProducerManager(vertxContext.owner(), kafkaConfig);
+    var topicProducerProperties = InventoryKafkaTopic.byFullTopicName(kafkaTopic)
+      .map(InventoryKafkaTopic::producerProperties)
+      .orElse(Map.of());
+    if (topicProducerProperties.isEmpty()) {
+      return new SimpleKafkaProducerManager(vertx, kafkaConfig);
+    }
+
+    var producerProperties = new HashMap<>(kafkaConfig.getProducerProps());
+    producerProperties.putAll(topicProducerProperties);
+    return new ConfigurableKafkaProducerManager(vertx, producerProperties);
   }
 
   public <R> Future<Long> publishStream(ReadStream<R> readStream,
                                         Function<R, KafkaProducerRecordBuilder<String, Object>> mapper,
-                                        LongFunction<Future<?>> progressHandler) {
+                                        LongFunction<Future<?>> progressHandler,
+                                        Map<String, String> okapiHeaders) {
 
     var promise = Promise.<Long>promise();
     var kafkaProducer = getOrCreateProducer(kafkaTopic, "stream_");
@@ -87,7 +127,7 @@ public class CommonDomainEventPublisher<T> {
       var producerRecord = mapper.apply(rec)
         .topic(kafkaTopic).propagateOkapiHeaders(okapiHeaders).build();
 
-      kafkaProducer.send(producerRecord)
+      send(kafkaTopic, kafkaProducer.send(producerRecord))
         .onFailure(error -> {
           log.error("Unable to send event [{}]", producerRecord.value(), error);
 
@@ -105,6 +145,7 @@ public class CommonDomainEventPublisher<T> {
 
       if (kafkaProducer.writeQueueFull()) {
         log.info("Producer write queue full...");
+        InventoryMetrics.counter("kafka.write.queue.full", "topic", topicName(kafkaTopic)).increment();
         readStream.pause();
 
         kafkaProducer.drainHandler(notUsed -> {
@@ -118,68 +159,96 @@ public class CommonDomainEventPublisher<T> {
       .onSuccess(records -> log.info("Total records published from stream {}", records));
   }
 
-  Future<Void> publishRecordUpdated(String instanceId, T oldRecord, T newRecord) {
+  Future<Void> publishRecordUpdated(String instanceId, T oldRecord, T newRecord, Map<String, String> okapiHeaders) {
+    if (compactUpdateEvents) {
+      return publish(instanceId, DomainEventCompact.updateEvent(oldRecord, newRecord, tenantId(okapiHeaders)),
+        okapiHeaders);
+    }
+
     final DomainEvent<T> domainEvent = updateEvent(oldRecord, newRecord, tenantId(okapiHeaders));
 
-    return publish(instanceId, domainEvent);
+    return publish(instanceId, domainEvent, okapiHeaders);
   }
 
-  Future<Void> publishRecordsUpdated(Collection<Triple<String, T, T>> updatedRecords) {
+  Future<Void> publishRecordsUpdated(Collection<Triple<String, T, T>> updatedRecords,
+                                     Map<String, String> okapiHeaders) {
     if (updatedRecords.isEmpty()) {
       return succeededFuture();
     }
 
     return all(updatedRecords.stream()
-      .map(triple -> publishRecordUpdated(triple.getLeft(), triple.getMiddle(), triple.getRight()))
+      .map(triple -> publishRecordUpdated(triple.getLeft(), triple.getMiddle(), triple.getRight(), okapiHeaders))
       .toList())
       .map(notUsed -> null);
   }
 
-  Future<Void> publishRecordCreated(String instanceId, T newRecord) {
+  Future<Void> publishRecordCreated(String instanceId, T newRecord, Map<String, String> okapiHeaders) {
     final DomainEvent<T> domainEvent = createEvent(newRecord, tenantId(okapiHeaders));
 
-    return publish(instanceId, domainEvent);
+    return publish(instanceId, domainEvent, okapiHeaders);
   }
 
-  Future<Void> publishRecordsCreated(List<Pair<String, T>> records) {
+  Future<Void> publishRecordsCreated(List<Pair<String, T>> records, Map<String, String> okapiHeaders) {
     if (records.isEmpty()) {
       return succeededFuture();
     }
 
     return all(records.stream()
-      .map(pair -> publishRecordCreated(pair.getKey(), pair.getValue()))
+      .map(pair -> publishRecordCreated(pair.getKey(), pair.getValue(), okapiHeaders))
       .toList())
       .map(notUsed -> null);
   }
 
   public Future<Void> publishReindexRecords(String key,
                                             PublishReindexRecords.RecordType recordType,
-                                            List<T> records) {
+                                            List<T> records, Map<String, String> okapiHeaders) {
     var domainEvent = ReindexRecordEvent.reindexEvent(tenantId(okapiHeaders), recordType, records);
-    return publish(reindexKafkaTopic(), key, domainEvent);
+    return publish(reindexKafkaTopic(okapiHeaders), key, domainEvent, okapiHeaders);
   }
 
-  Future<Void> publishRecordRemoved(String instanceId, T oldEntity) {
+  Future<Void> publishRecordRemoved(String instanceId, T oldEntity, Map<String, String> okapiHeaders) {
     final DomainEvent<T> domainEvent = deleteEvent(oldEntity, tenantId(okapiHeaders));
 
-    return publish(instanceId, domainEvent);
+    return publish(instanceId, domainEvent, okapiHeaders);
+  }
+
+  Future<Void> publishRecordsRemoved(List<Pair<String, T>> records, Map<String, String> okapiHeaders) {
+    if (records.isEmpty()) {
+      return succeededFuture();
+    }
+
+    return all(records.stream()
+      .map(pair -> publishRecordRemoved(pair.getKey(), pair.getValue(), okapiHeaders))
+      .toList())
+      .map(notUsed -> null);
   }
 
-  Future<Void> publishRecordRemoved(String instanceId, String oldEntity) {
+  Future<Void> publishRecordRemoved(String instanceId, String oldEntity, Map<String, String> okapiHeaders) {
     final DomainEventRaw domainEvent = DomainEventRaw.deleteEvent(oldEntity, tenantId(okapiHeaders));
 
-    return publish(instanceId, domainEvent);
+    return publish(instanceId, domainEvent, okapiHeaders);
   }
 
-  Future<Void> publishAllRecordsRemoved() {
-    return publish(NULL_ID, deleteAllEvent(tenantId(okapiHeaders)));
+  Future<Void> publishRawRecordsRemoved(List<Pair<String, String>> records, Map<String, String> okapiHeaders) {
+    if (records.isEmpty()) {
+      return succeededFuture();
+    }
+
+    return all(records.stream()
+      .map(pair -> publishRecordRemoved(pair.getKey(), pair.getValue(), okapiHeaders))
+      .toList())
+      .map(notUsed -> null);
   }
 
-  private Future<Void> publish(String key, Object value) {
-    return publish(kafkaTopic, key, value);
+  Future<Void> publishAllRecordsRemoved(Map<String, String> okapiHeaders) {
+    return publish(NULL_ID, deleteAllEvent(tenantId(okapiHeaders)), okapiHeaders);
   }
 
-  private Future<Void> publish(String topic, String key, Object value) {
+  private Future<Void> publish(String key, Object value, Map<String, String> okapiHeaders) {
+    return publish(kafkaTopic, key, value, okapiHeaders);
+  }
+
+  private Future<Void> publish(String topic, String key, Object value, Map<String, String> okapiHeaders) {
     log.debug("Sending domain event [{}], payload [{}]", key, value);
 
     var producerRecord = new KafkaProducerRecordBuilder<String, Object>(TenantTool.tenantId(okapiHeaders))
@@ -191,7 +260,7 @@ public class CommonDomainEventPublisher<T> {
 
     KafkaProducer<String, String> producer = getOrCreateProducer(topic);
 
-    return producer.send(producerRecord)
+    return send(topic, producer.send(producerRecord))
       .<Void>mapEmpty()
       .eventually(() -> producer.flush())
       .eventually(() -> producer.close())
@@ -203,6 +272,20 @@ public class CommonDomainEventPublisher<T> {
       });
   }
 
+  /**
+   * Records send latency, in-flight sends and send errors of the topic.
+   */
+  private static <R> Future<R> send(String topic, Future<R> send) {
+    var topicName = topicName(topic);
+    return InventoryMetrics.time("kafka.send",
+        InventoryMetrics.inFlight("kafka.send.in.flight", "topic", topicName, send), "topic", topicName)
+      .onFailure(e -> InventoryMetrics.counter("kafka.send.errors", "topic", topicName).increment());
+  }
+
+  private static String topicName(String topic) {
+    return InventoryKafkaTopic.byFullTopicName(topic).map(InventoryKafkaTopic::topicName).orElse(topic);
+  }
+
   private KafkaProducer<String, String> getOrCreateProducer(String topic) {
     return getOrCreateProducer(topic, "");
   }
@@ -211,7 +294,9 @@ public class CommonDomainEventPublisher<T> {
     return producerManager.createShared(prefix + topic);
   }
 
-  private String reindexKafkaTopic() {
+  private static String reindexKafkaTopic(Map<String, String> okapiHeaders) {
     return REINDEX_RECORDS.fullTopicName(tenantId(okapiHeaders));
   }
+
+  private record ProducerManagerKey(Vertx vertx, String kafkaTopic, int maxRequestSize) { }
 }
@@ -0,0 +1,25 @@
+package org.folio.services.domainevent;
+
+import io.vertx.core.Vertx;
+import io.vertx.kafka.client.producer.KafkaProducer;
+import java.util.Map;
+import org.folio.kafka.KafkaProducerManager;
+
+/**
+ * Producer manager that creates shared producers with the given producer properties,
+ * used for topics that override compression, batch size or linger.
+ */
+final class ConfigurableKafkaProducerManager implements KafkaProducerManager {
+  private final Vertx vertx;
+  private final Map<String, String> producerProperties;
+
+  ConfigurableKafkaProducerManager(Vertx vertx, Map<String, String> producerProperties) {
+    this.vertx = vertx;
+    this.producerProperties = producerProperties;
+  }
+
+  @Override
+  public <K, V> KafkaProducer<K, V> createShared(String producerName) {
+    return KafkaProducer.createShared(vertx, producerName, producerProperties);
+  }
+}
@@ -0,0 +1,81 @@
+package org.folio.services.domainevent;
+
+import static org.folio.services.domainevent.DomainEventType.UPDATE;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import java.util.UUID;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.folio.dbschema.ObjectMapperTool;
+
+/**
+ * Update domain event that carries the new entity and a JSON patch instead of the old entity.
+ *
+ * <p>The {@code patch} is an RFC 6902 JSON patch that transforms the new entity into the old one,
+ * so consumers that need the old state can restore it by applying the patch to {@code new}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DomainEventCompact {
+  private final UUID eventId;
+  private final Long eventTs;
+  @JsonProperty("new")
+  private final JsonNode newEntity;
+  private final ArrayNode patch;
+  private final DomainEventType type;
+  private final String tenant;
+
+  public DomainEventCompact(JsonNode newEntity, ArrayNode patch, DomainEventType type, String tenant) {
+    this.eventId = UUID.randomUUID();
+    this.eventTs = System.currentTimeMillis();
+    this.newEntity = newEntity;
+    this.patch = patch;
+    this.type = type;
+    this.tenant = tenant;
+  }
+
+  public static <T> DomainEventCompact updateEvent(T oldEntity, T newEntity, String tenant) {
+    var mapper = ObjectMapperTool.getMapper();
+    JsonNode newNode = mapper.valueToTree(newEntity);
+    JsonNode oldNode = mapper.valueToTree(oldEntity);
+
+    return new DomainEventCompact(newNode, JsonPatchDiff.diff(newNode, oldNode), UPDATE, tenant);
+  }
+
+  public UUID getEventId() {
+    return eventId;
+  }
+
+  public Long getEventTs() {
+    return eventTs;
+  }
+
+  public JsonNode getNewEntity() {
+    return newEntity;
+  }
+
+  public ArrayNode getPatch() {
+    return patch;
+  }
+
+  public DomainEventType getType() {
+    return type;
+  }
+
+  public String getTenant() {
+    return tenant;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+      .append("eventId", eventId)
+      .append("eventTs", eventTs)
+      .append("newEntity", newEntity)
+      .append("patch", patch)
+      .append("type", type)
+      .append("tenant", tenant)
+      .toString();
+  }
+}
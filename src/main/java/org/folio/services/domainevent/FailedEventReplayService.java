@@ -0,0 +1,190 @@
+package org.folio.services.domainevent;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace;
+import static org.folio.rest.persist.PgUtil.postgresClient;
+import static org.folio.rest.tools.utils.TenantTool.tenantId;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.kafka.client.producer.KafkaProducer;
+import io.vertx.kafka.client.producer.KafkaProducerRecord;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.collections4.map.CaseInsensitiveMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.kafka.KafkaProducerManager;
+import org.folio.okapi.common.XOkapiHeaders;
+import org.folio.persist.NotificationSendingErrorRepository;
+import org.folio.persist.entity.NotificationSendingError;
+import org.folio.rest.jaxrs.model.KafkaFailureLogStatus;
+import org.folio.services.metrics.InventoryMetrics;
+
+/**
+ * Re-publishes the events that failed to send, see {@link LogToDbFailureHandler}.
+ *
+ * <p>The events are sent one after the other, the oldest first. An event that fails again is retried
+ * with exponential backoff, and the later events with the same topic and key wait for it so that
+ * they are delivered in order. An event that fails {@link #MAX_ATTEMPTS} times is parked: it is no longer
+ * replayed and no longer holds back the later events of its key. The replay stops after
+ * {@link #MAX_CONSECUTIVE_FAILURES} failures in a row, Kafka is unlikely to be healthy then.
+ */
+public class FailedEventReplayService {
+  static final int BATCH_SIZE = 500;
+  static final int MAX_CONSECUTIVE_FAILURES = 3;
+  static final int MAX_ATTEMPTS = 20;
+  static final Duration INITIAL_BACKOFF = Duration.ofSeconds(30);
+  static final Duration MAX_BACKOFF = Duration.ofHours(1);
+  static final Duration KEEP_DELIVERED = Duration.ofDays(7);
+  private static final Logger log = LogManager.getLogger(FailedEventReplayService.class);
+
+  private final Context vertxContext;
+  private final Map<String, String> okapiHeaders;
+  private final NotificationSendingErrorRepository repository;
+  private final Map<String, KafkaProducerManager> producerManagers = new HashMap<>();
+  private final Map<String, KafkaProducer<String, String>> producers = new HashMap<>();
+
+  public FailedEventReplayService(Context vertxContext, Map<String, String> okapiHeaders) {
+    this(vertxContext, okapiHeaders,
+      new NotificationSendingErrorRepository(postgresClient(vertxContext, okapiHeaders)));
+  }
+
+  FailedEventReplayService(Context vertxContext, Map<String, String> okapiHeaders,
+                           NotificationSendingErrorRepository repository) {
+    this.vertxContext = vertxContext;
+    this.okapiHeaders = okapiHeaders;
+    this.repository = repository;
+  }
+
+  /**
+   * Returns the number of undelivered and of parked events.
+   */
+  public Future<KafkaFailureLogStatus> getStatus() {
+    return countUndelivered()
+      .compose(undelivered -> repository.countParked()
+        .map(parked -> new KafkaFailureLogStatus()
+          .withUndelivered(undelivered.intValue())
+          .withParked(parked.intValue())));
+  }
+
+  /**
+   * Re-publishes up to {@link #BATCH_SIZE} undelivered events that are due and deletes the events
+   * delivered more than {@link #KEEP_DELIVERED} ago.
+   */
+  public Future<KafkaFailureLogStatus> replay() {
+    var state = new ReplayState();
+    return repository.getUndelivered(BATCH_SIZE, new Date())
+      .compose(errors -> replayNext(errors.iterator(), state))
+      .eventually(this::closeProducers)
+      .compose(notUsed -> repository.deleteDeliveredBefore(new Date(System.currentTimeMillis()
+        - KEEP_DELIVERED.toMillis())))
+      .compose(notUsed -> getStatus())
+      .map(status -> status
+        .withReplayed(state.replayed)
+        .withFailed(state.failed))
+      .onSuccess(status -> log.info("replay:: replayed: {}, failed: {}, undelivered: {}, parked: {}",
+        status.getReplayed(), status.getFailed(), status.getUndelivered(), status.getParked()))
+      .onFailure(e -> log.error("replay:: Unable to replay failed events", e));
+  }
+
+  static Duration backoff(int attempts) {
+    var shift = Math.min(Math.max(attempts - 1, 0), 20);
+    var backoff = INITIAL_BACKOFF.multipliedBy(1L << shift);
+    return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+  }
+
+  private Future<Void> replayNext(Iterator<NotificationSendingError> errors, ReplayState state) {
+    if (!errors.hasNext() || state.consecutiveFailures >= MAX_CONSECUTIVE_FAILURES) {
+      return succeededFuture();
+    }
+    var error = errors.next();
+    var key = error.getTopicName() + '|' + error.getPartitionKey();
+    if (state.blockedKeys.contains(key)) {
+      return replayNext(errors, state);
+    }
+    return send(error)
+      .compose(notUsed -> {
+        state.replayed++;
+        state.consecutiveFailures = 0;
+        error.setDeliveredDateTime(new Date());
+        return repository.update(error.getId(), error);
+      }, e -> {
+        state.failed++;
+        state.consecutiveFailures++;
+        error.setAttempts(error.getAttempts() + 1);
+        error.setError(getStackTrace(e));
+        if (error.getAttempts() >= MAX_ATTEMPTS) {
+          log.warn("replayNext:: Parking event {} of topic {} after {} attempts",
+            error.getId(), error.getTopicName(), error.getAttempts());
+          error.setParkedDateTime(new Date());
+        } else {
+          state.blockedKeys.add(key);
+          error.setNextAttemptDateTime(new Date(System.currentTimeMillis()
+            + backoff(error.getAttempts()).toMillis()));
+        }
+        return repository.update(error.getId(), error);
+      })
+      .compose(notUsed -> replayNext(errors, state));
+  }
+
+  private Future<Void> send(NotificationSendingError error) {
+    var topic = error.getTopicName();
+    var producerRecord = KafkaProducerRecord.create(topic, error.getPartitionKey(), error.getPayload());
+    headers(error).forEach(producerRecord::addHeader);
+    return producer(topic).send(producerRecord).mapEmpty();
+  }
+
+  /**
+   * The producer of the topic, created on first use and closed at the end of the replay.
+   */
+  private KafkaProducer<String, String> producer(String topic) {
+    return producers.computeIfAbsent(topic, t -> producerManagers
+      .computeIfAbsent(t, notUsed -> CommonDomainEventPublisher.createProducerManager(vertxContext, t, 0))
+      .createShared(t));
+  }
+
+  private Future<Void> closeProducers() {
+    var closed = new ArrayList<Future<Void>>();
+    producers.values().forEach(producer -> closed.add(producer.close()));
+    producers.clear();
+    return Future.join(closed).mapEmpty();
+  }
+
+  /**
+   * The stored headers with the tenant, and the URL and token of the replay request.
+   */
+  private Map<String, String> headers(NotificationSendingError error) {
+    var headers = new CaseInsensitiveMap<String, String>();
+    if (error.getHeaders() != null) {
+      headers.putAll(error.getHeaders());
+    }
+    headers.putIfAbsent(XOkapiHeaders.TENANT, tenantId(okapiHeaders));
+    for (var header : new String[] {XOkapiHeaders.URL, XOkapiHeaders.TOKEN}) {
+      var value = okapiHeaders.get(header);
+      if (value != null) {
+        headers.put(header, value);
+      }
+    }
+    return headers;
+  }
+
+  private Future<Long> countUndelivered() {
+    return repository.countUndelivered()
+      .onSuccess(undelivered -> InventoryMetrics.gauge("kafka.failure.log.undelivered", "tenant",
+        tenantId(okapiHeaders)).set(undelivered));
+  }
+
+  private static final class ReplayState {
+    private final Set<String> blockedKeys = new HashSet<>();
+    private int replayed;
+    private int failed;
+    private int consecutiveFailures;
+  }
+}
@@ -0,0 +1,68 @@
+package org.folio.services.domainevent;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.persist.NotificationSendingErrorRepository;
+import org.folio.persist.entity.NotificationSendingError;
+import org.folio.services.metrics.InventoryMetrics;
+
+/**
+ * Buffers the events that failed to send and saves them with a single batch insert
+ * when maxSize events are buffered or flushDelayMillis after the first buffered event.
+ */
+final class FailureLogBuffer {
+  static final int MAX_SIZE = 100;
+  static final long FLUSH_DELAY_MILLIS = 1000;
+  private static final Logger log = LogManager.getLogger(FailureLogBuffer.class);
+
+  private final Vertx vertx;
+  private final NotificationSendingErrorRepository repository;
+  private final int maxSize;
+  private final long flushDelayMillis;
+  private List<NotificationSendingError> buffered = new ArrayList<>();
+  private long timerId = -1;
+
+  FailureLogBuffer(Vertx vertx, NotificationSendingErrorRepository repository) {
+    this(vertx, repository, MAX_SIZE, FLUSH_DELAY_MILLIS);
+  }
+
+  FailureLogBuffer(Vertx vertx, NotificationSendingErrorRepository repository, int maxSize, long flushDelayMillis) {
+    this.vertx = vertx;
+    this.repository = repository;
+    this.maxSize = maxSize;
+    this.flushDelayMillis = flushDelayMillis;
+  }
+
+  synchronized void add(NotificationSendingError error) {
+    buffered.add(error);
+    if (buffered.size() >= maxSize) {
+      flush();
+      return;
+    }
+    if (timerId < 0) {
+      timerId = vertx.setTimer(flushDelayMillis, id -> flush());
+    }
+  }
+
+  synchronized Future<Void> flush() {
+    if (timerId >= 0) {
+      vertx.cancelTimer(timerId);
+      timerId = -1;
+    }
+    if (buffered.isEmpty()) {
+      return succeededFuture();
+    }
+    var batch = buffered;
+    buffered = new ArrayList<>();
+    return repository.saveBatch(batch)
+      .<Void>mapEmpty()
+      .onSuccess(notUsed -> InventoryMetrics.counter("kafka.failure.log.records").increment(batch.size()))
+      .onFailure(e -> log.error("flush:: Unable to save {} events that failed to send", batch.size(), e));
+  }
+}
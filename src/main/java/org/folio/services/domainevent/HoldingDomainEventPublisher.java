@@ -30,12 +30,14 @@ public class HoldingDomainEventPublisher
       REINDEX_RECORDS.fullTopicName(tenantId(okapiHeaders)), getKafkaProducerMaxRequestSize());
   }
 
-  public Future<Void> publishReindexHoldings(String key, List<Map<String, Object>> holdings) {
+  public Future<Void> publishReindexHoldings(String key, List<Map<String, Object>> holdings,
+                                             Map<String, String> okapiHeaders) {
     if (StringUtils.isBlank(key)) {
       return succeededFuture();
     }
 
-    return holdingsReindexPublisher.publishReindexRecords(key, PublishReindexRecords.RecordType.HOLDINGS, holdings);
+    return holdingsReindexPublisher.publishReindexRecords(key, PublishReindexRecords.RecordType.HOLDINGS, holdings,
+      okapiHeaders);
   }
 
   @Override
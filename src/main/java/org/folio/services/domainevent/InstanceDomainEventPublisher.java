@@ -33,15 +33,17 @@ public class InstanceDomainEventPublisher extends AbstractDomainEventPublisher<I
       REINDEX_RECORDS.fullTopicName(tenantId(okapiHeaders)), getKafkaProducerMaxRequestSize());
   }
 
-  public Future<Void> publishReindexInstances(String key, List<Map<String, Object>> instances) {
+  public Future<Void> publishReindexInstances(String key, List<Map<String, Object>> instances,
+                                              Map<String, String> okapiHeaders) {
     if (StringUtils.isBlank(key)) {
       return succeededFuture();
     }
 
-    return instanceReindexPublisher.publishReindexRecords(key, PublishReindexRecords.RecordType.INSTANCE, instances);
+    return instanceReindexPublisher.publishReindexRecords(key, PublishReindexRecords.RecordType.INSTANCE, instances,
+      okapiHeaders);
   }
 
-  public Future<Void> publishInstancesCreated(List<Instance> instances) {
+  public Future<Void> publishInstancesCreated(List<Instance> instances, Map<String, String> okapiHeaders) {
     if (instances.isEmpty()) {
       log.info("No instances were created, skipping event sending");
       return succeededFuture();
@@ -51,7 +53,7 @@ public class InstanceDomainEventPublisher extends AbstractDomainEventPublisher<I
 
     return domainEventService.publishRecordsCreated(instances.stream()
       .map(instance -> pair(instance.getId(), instance))
-      .toList());
+      .toList(), okapiHeaders);
   }
 
   @Override
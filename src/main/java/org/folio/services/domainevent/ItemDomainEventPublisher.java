@@ -2,6 +2,7 @@ package org.folio.services.domainevent;
 
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 import static org.apache.logging.log4j.LogManager.getLogger;
 import static org.folio.InventoryKafkaTopic.ITEM;
 import static org.folio.InventoryKafkaTopic.REINDEX_RECORDS;
@@ -32,6 +33,7 @@ public class ItemDomainEventPublisher extends AbstractDomainEventPublisher<Item,
 
   private final HoldingsRepository holdingsRepository;
   private final CommonDomainEventPublisher<Map<String, Object>> itemReindexPublisher;
+  private final Map<String, String> knownInstanceIds;
 
   public ItemDomainEventPublisher(Context context, Map<String, String> okapiHeaders) {
     super(new ItemRepository(context, okapiHeaders),
@@ -41,17 +43,35 @@ public class ItemDomainEventPublisher extends AbstractDomainEventPublisher<Item,
     holdingsRepository = new HoldingsRepository(context, okapiHeaders);
     itemReindexPublisher = new CommonDomainEventPublisher<>(context, okapiHeaders,
       REINDEX_RECORDS.fullTopicName(tenantId(okapiHeaders)), getKafkaProducerMaxRequestSize());
+    knownInstanceIds = Map.of();
+  }
+
+  private ItemDomainEventPublisher(ItemDomainEventPublisher publisher, Map<String, String> knownInstanceIds) {
+    super(publisher.repository, publisher.domainEventService);
+
+    this.holdingsRepository = publisher.holdingsRepository;
+    this.itemReindexPublisher = publisher.itemReindexPublisher;
+    this.knownInstanceIds = knownInstanceIds;
+  }
+
+  /**
+   * A publisher for a single request that takes the instanceId of the holdings records that have been
+   * read already from {@code instanceIdsByHoldingsId} instead of reading the holdings records again.
+   */
+  public ItemDomainEventPublisher withInstanceIds(Map<String, String> instanceIdsByHoldingsId) {
+    return new ItemDomainEventPublisher(this, instanceIdsByHoldingsId);
   }
 
   public Future<Void> publishUpdated(Item newItem, Item oldItem, HoldingsRecord newHoldings,
-                                     HoldingsRecord oldHoldings) {
+                                     HoldingsRecord oldHoldings, Map<String, String> okapiHeaders) {
     ItemWithInstanceId oldItemWithId = new ItemWithInstanceId(oldItem, oldHoldings.getInstanceId());
     ItemWithInstanceId newItemWithId = new ItemWithInstanceId(newItem, newHoldings.getInstanceId());
 
-    return domainEventService.publishRecordUpdated(newItem.getId(), oldItemWithId, newItemWithId);
+    return domainEventService.publishRecordUpdated(newItem.getId(), oldItemWithId, newItemWithId, okapiHeaders);
   }
 
-  public Future<Void> publishUpdated(HoldingsRecord oldHoldings, HoldingsRecord newHoldings, List<Item> oldItems) {
+  public Future<Void> publishUpdated(HoldingsRecord oldHoldings, HoldingsRecord newHoldings, List<Item> oldItems,
+                                     Map<String, String> okapiHeaders) {
     if (oldItems.isEmpty()) {
       log.info("No items were updated, skipping event sending");
       return succeededFuture();
@@ -61,19 +81,34 @@ public class ItemDomainEventPublisher extends AbstractDomainEventPublisher<Item,
 
     return repository.getById(oldItems, Item::getId)
       .map(updatedItems -> mapOldItemsToNew(oldHoldings, newHoldings, oldItems, updatedItems.values()))
-      .compose(domainEventService::publishRecordsUpdated);
+      .compose(events -> domainEventService.publishRecordsUpdated(events, okapiHeaders));
   }
 
-  public Future<Void> publishReindexItems(String key, List<Map<String, Object>> items) {
+  /**
+   * Publishes the update events of items that stayed in their holdings record, the left of each triple
+   * is the instanceId, the middle the old and the right the new item.
+   */
+  public Future<Void> publishStatusesUpdated(List<Triple<String, Item, Item>> updatedItems,
+                                             Map<String, String> okapiHeaders) {
+    return domainEventService.publishRecordsUpdated(updatedItems.stream()
+      .map(updated -> triple(updated.getRight().getId(),
+        convertDomainToEvent(updated.getLeft(), updated.getMiddle()),
+        convertDomainToEvent(updated.getLeft(), updated.getRight())))
+      .toList(), okapiHeaders);
+  }
+
+  public Future<Void> publishReindexItems(String key, List<Map<String, Object>> items,
+                                          Map<String, String> okapiHeaders) {
     if (StringUtils.isBlank(key)) {
       return succeededFuture();
     }
 
-    return itemReindexPublisher.publishReindexRecords(key, PublishReindexRecords.RecordType.ITEM, items);
+    return itemReindexPublisher.publishReindexRecords(key, PublishReindexRecords.RecordType.ITEM, items,
+      okapiHeaders);
   }
 
   @Override
-  public Handler<Response> publishRemoved(Item removedRecord) {
+  public Handler<Response> publishRemoved(Item removedRecord, Map<String, String> okapiHeaders) {
     return response -> {
       if (!isDeleteSuccessResponse(response)) {
         log.warn("Item record removal failed, no event will be sent");
@@ -83,13 +118,22 @@ public class ItemDomainEventPublisher extends AbstractDomainEventPublisher<Item,
         .map(CollectionUtil::getFirst)
         .map(Pair::getKey)
         .compose(instanceId -> domainEventService.publishRecordRemoved(
-          removedRecord.getId(), convertDomainToEvent(instanceId, removedRecord)));
+          removedRecord.getId(), convertDomainToEvent(instanceId, removedRecord), okapiHeaders));
     };
   }
 
   @Override
   protected Future<List<Pair<String, Item>>> getRecordIds(Collection<Item> items) {
-    return holdingsRepository.getById(items, Item::getHoldingsRecordId)
+    var unknownHoldingsIds = items.stream()
+      .map(Item::getHoldingsRecordId)
+      .filter(holdingsId -> !knownInstanceIds.containsKey(holdingsId))
+      .collect(toSet());
+    if (unknownHoldingsIds.isEmpty()) {
+      return succeededFuture(items.stream()
+        .map(item -> pair(knownInstanceIds.get(item.getHoldingsRecordId()), item))
+        .toList());
+    }
+    return holdingsRepository.getById(unknownHoldingsIds)
       .map(holdings -> items.stream()
         .map(item -> pair(getInstanceId(holdings, item), item))
         .toList());
@@ -136,6 +180,7 @@ public class ItemDomainEventPublisher extends AbstractDomainEventPublisher<Item,
   }
 
   private String getInstanceId(Map<String, HoldingsRecord> holdings, Item item) {
-    return holdings.get(item.getHoldingsRecordId()).getInstanceId();
+    var instanceId = knownInstanceIds.get(item.getHoldingsRecordId());
+    return instanceId != null ? instanceId : holdings.get(item.getHoldingsRecordId()).getInstanceId();
   }
 }
@@ -0,0 +1,79 @@
+package org.folio.services.domainevent;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Creates RFC 6902 JSON patches between two JSON documents.
+ *
+ * <p>Objects are compared field by field, arrays and scalar values are replaced as a whole.
+ */
+final class JsonPatchDiff {
+
+  private JsonPatchDiff() {
+    throw new UnsupportedOperationException("Cannot instantiate utility class.");
+  }
+
+  /**
+   * Creates the patch that transforms {@code source} into {@code target}.
+   */
+  static ArrayNode diff(JsonNode source, JsonNode target) {
+    var patch = JsonNodeFactory.instance.arrayNode();
+    diff(source, target, "", patch);
+    return patch;
+  }
+
+  private static void diff(JsonNode source, JsonNode target, String path, ArrayNode patch) {
+    if (source.equals(target)) {
+      return;
+    }
+
+    if (source.isObject() && target.isObject()) {
+      diffObjects((ObjectNode) source, (ObjectNode) target, path, patch);
+    } else {
+      addOperation(patch, "replace", path, target);
+    }
+  }
+
+  private static void diffObjects(ObjectNode source, ObjectNode target, String path, ArrayNode patch) {
+    for (Iterator<String> names = source.fieldNames(); names.hasNext(); ) {
+      var name = names.next();
+      if (!target.has(name)) {
+        addOperation(patch, "remove", path + "/" + escape(name), null);
+      }
+    }
+
+    for (Iterator<Map.Entry<String, JsonNode>> fields = target.fields(); fields.hasNext(); ) {
+      var field = fields.next();
+      var fieldPath = path + "/" + escape(field.getKey());
+      var sourceValue = source.get(field.getKey());
+
+      if (sourceValue == null) {
+        addOperation(patch, "add", fieldPath, field.getValue());
+      } else {
+        diff(sourceValue, field.getValue(), fieldPath, patch);
+      }
+    }
+  }
+
+  private static void addOperation(ArrayNode patch, String op, String path, JsonNode value) {
+    var operation = patch.addObject()
+      .put("op", op)
+      .put("path", path);
+
+    if (value != null) {
+      operation.set("value", value);
+    }
+  }
+
+  /**
+   * Escapes a field name as RFC 6901 JSON pointer reference token.
+   */
+  private static String escape(String name) {
+    return name.replace("~", "~0").replace("/", "~1");
+  }
+}
@@ -2,24 +2,35 @@ package org.folio.services.domainevent;
 
 import static org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace;
 import static org.folio.rest.persist.PgUtil.postgresClient;
+import static org.folio.rest.tools.utils.TenantTool.tenantId;
 
 import io.vertx.core.Context;
 import io.vertx.kafka.client.producer.KafkaProducerRecord;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.folio.okapi.common.XOkapiHeaders;
 import org.folio.persist.NotificationSendingErrorRepository;
 import org.folio.persist.entity.NotificationSendingError;
 
 final class LogToDbFailureHandler implements FailureHandler {
-  private final NotificationSendingErrorRepository repository;
+  private static final Map<String, LogToDbFailureHandler> HANDLERS = new ConcurrentHashMap<>();
 
-  LogToDbFailureHandler(NotificationSendingErrorRepository repository) {
-    this.repository = repository;
+  private final FailureLogBuffer buffer;
+
+  LogToDbFailureHandler(FailureLogBuffer buffer) {
+    this.buffer = buffer;
   }
 
-  LogToDbFailureHandler(Context context, Map<String, String> okapiHeaders) {
-    this(new NotificationSendingErrorRepository(postgresClient(context, okapiHeaders)));
+  /**
+   * The handler of the tenant, all publishers of the tenant share it and its buffer.
+   */
+  static LogToDbFailureHandler forTenant(Context context, Map<String, String> okapiHeaders) {
+    return HANDLERS.computeIfAbsent(tenantId(okapiHeaders), tenant -> new LogToDbFailureHandler(
+      new FailureLogBuffer(context.owner(),
+        new NotificationSendingErrorRepository(postgresClient(context, okapiHeaders)))));
   }
 
   @Override
@@ -27,7 +38,19 @@ final class LogToDbFailureHandler implements FailureHandler {
     var errorLog = new NotificationSendingError(UUID.randomUUID().toString(),
       producerRecord.topic(), producerRecord.key(), producerRecord.value(),
       getStackTrace(error), new Date());
+    errorLog.setHeaders(headers(producerRecord));
+
+    buffer.add(errorLog);
+  }
 
-    repository.save(errorLog.getId(), errorLog);
+  /**
+   * The headers of the record without the token, it expires before the record is replayed.
+   */
+  private static Map<String, String> headers(KafkaProducerRecord<String, String> producerRecord) {
+    var headers = new HashMap<String, String>();
+    producerRecord.headers().stream()
+      .filter(header -> !XOkapiHeaders.TOKEN.equalsIgnoreCase(header.key()))
+      .forEach(header -> headers.put(header.key(), header.value().toString()));
+    return headers;
   }
 }
@@ -14,15 +14,16 @@ public class ServicePointDomainEventPublisher extends CommonDomainEventPublisher
     super(context, okapiHeaders, SERVICE_POINT.fullTopicName(tenantId(okapiHeaders)));
   }
 
-  public Future<Void> publishUpdated(Servicepoint servicePoint, Servicepoint updatedServicePoint) {
-    return publishRecordUpdated(servicePoint.getId(), servicePoint, updatedServicePoint);
+  public Future<Void> publishUpdated(Servicepoint servicePoint, Servicepoint updatedServicePoint,
+                                     Map<String, String> okapiHeaders) {
+    return publishRecordUpdated(servicePoint.getId(), servicePoint, updatedServicePoint, okapiHeaders);
   }
 
-  public Future<Void> publishDeleted(Servicepoint servicePoint) {
-    return publishRecordRemoved(servicePoint.getId(), servicePoint);
+  public Future<Void> publishDeleted(Servicepoint servicePoint, Map<String, String> okapiHeaders) {
+    return publishRecordRemoved(servicePoint.getId(), servicePoint, okapiHeaders);
   }
 
-  public Future<Void> publishCreated(Servicepoint servicePoint) {
-    return publishRecordCreated(servicePoint.getId(), servicePoint);
+  public Future<Void> publishCreated(Servicepoint servicePoint, Map<String, String> okapiHeaders) {
+    return publishRecordCreated(servicePoint.getId(), servicePoint, okapiHeaders);
   }
 }
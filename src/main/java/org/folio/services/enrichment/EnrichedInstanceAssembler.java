@@ -0,0 +1,395 @@
+package org.folio.services.enrichment;
+
+import static org.folio.services.enrichment.ReferenceSnapshot.CALL_NUMBER_TYPE;
+import static org.folio.services.enrichment.ReferenceSnapshot.ELECTRONIC_ACCESS_RELATIONSHIP;
+import static org.folio.services.enrichment.ReferenceSnapshot.HOLDINGS_NOTE_TYPE;
+import static org.folio.services.enrichment.ReferenceSnapshot.HOLDINGS_TYPE;
+import static org.folio.services.enrichment.ReferenceSnapshot.ILL_POLICY;
+import static org.folio.services.enrichment.ReferenceSnapshot.ITEM_DAMAGED_STATUS;
+import static org.folio.services.enrichment.ReferenceSnapshot.ITEM_NOTE_TYPE;
+import static org.folio.services.enrichment.ReferenceSnapshot.LOAN_TYPE;
+import static org.folio.services.enrichment.ReferenceSnapshot.MATERIAL_TYPE;
+import static org.folio.services.enrichment.ReferenceSnapshot.MODE_OF_ISSUANCE;
+import static org.folio.services.enrichment.ReferenceSnapshot.NATURE_OF_CONTENT_TERM;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Builds the rows of {@code get_items_and_holdings_view} and {@code pmh_instance_view_function}
+ * from the raw instance, holdings and item records and a {@link ReferenceSnapshot}.
+ *
+ * <p>The JSON has the same fields and values as the database functions return; the order of the
+ * elements of the holdings, items, notes and statistical codes arrays is not specified.
+ */
+final class EnrichedInstanceAssembler {
+  private static final String ID = "id";
+  private static final String NAME = "name";
+  private static final String NOTES = "notes";
+  private static final String ELECTRONIC_ACCESS = "electronicAccess";
+  private static final String STATISTICAL_CODES = "statisticalCodes";
+  private static final String SUPPRESS_FROM_DISCOVERY = "suppressFromDiscovery";
+  private static final String DISCOVERY_SUPPRESS = "discoverySuppress";
+  private static final String CALL_NUMBER = "callNumber";
+  private static final String COPY_NUMBER = "copyNumber";
+  private static final String LOCATION = "location";
+  private static final String PERMANENT_LOCATION = "permanentLocation";
+  private static final String TEMPORARY_LOCATION = "temporaryLocation";
+
+  private final ReferenceSnapshot ref;
+  private final boolean skipSuppressedFromDiscoveryRecords;
+
+  EnrichedInstanceAssembler(ReferenceSnapshot ref, boolean skipSuppressedFromDiscoveryRecords) {
+    this.ref = ref;
+    this.skipSuppressedFromDiscoveryRecords = skipSuppressedFromDiscoveryRecords;
+  }
+
+  /**
+   * The row of {@code get_items_and_holdings_view} for the instance, null values are empty strings
+   * like in the streamed database rows.
+   *
+   * @param itemsByHoldingsId the items of each holdings record including its bound-with items
+   */
+  JsonObject itemsAndHoldings(String instanceId, JsonObject instance, List<JsonObject> holdingsRecords,
+                              Map<String, List<JsonObject>> itemsByHoldingsId) {
+
+    var holdings = new LinkedHashSet<JsonObject>();
+    var items = new LinkedHashSet<JsonObject>();
+    for (var holdingsRecord : holdingsRecords) {
+      if (isSkipped(holdingsRecord)) {
+        continue;
+      }
+      holdings.add(stripNulls(hierarchyHoldings(instance, holdingsRecord)));
+      for (var item : items(itemsByHoldingsId, holdingsRecord)) {
+        if (!isSkipped(item)) {
+          items.add(stripNulls(hierarchyItem(instance, holdingsRecord, item)));
+        }
+      }
+    }
+    var natureOfContent = new TreeSet<String>();
+    for (var id : strings(instance.getJsonArray("natureOfContentTermIds"))) {
+      var name = ref.name(NATURE_OF_CONTENT_TERM, id);
+      if (name != null) {
+        natureOfContent.add(name);
+      }
+    }
+    return new JsonObject()
+      .put("instanceId", instanceId)
+      .put("source", emptyIfNull(text(instance, "source")))
+      .put("modeOfIssuance", emptyIfNull(ref.name(MODE_OF_ISSUANCE, text(instance, "modeOfIssuanceId"))))
+      .put("natureOfContent", new JsonArray(new ArrayList<>(natureOfContent)))
+      .put("holdings", new JsonArray(new ArrayList<>(holdings)))
+      .put("items", new JsonArray(new ArrayList<>(items)));
+  }
+
+  /**
+   * The row of {@code pmh_instance_view_function} for the instance; {@code itemsandholdingsfields} is an
+   * empty string if the instance has no items with an active location.
+   */
+  JsonObject oaiPmhInstance(String instanceId, List<JsonObject> holdingsRecords,
+                            Map<String, List<JsonObject>> itemsByHoldingsId) {
+
+    var items = new JsonArray();
+    for (var holdingsRecord : holdingsRecords) {
+      if (isSkipped(holdingsRecord)) {
+        continue;
+      }
+      for (var item : items(itemsByHoldingsId, holdingsRecord)) {
+        if (!isSkipped(item)) {
+          var oaiPmhItem = oaiPmhItem(holdingsRecord, item);
+          if (oaiPmhItem != null) {
+            items.add(oaiPmhItem);
+          }
+        }
+      }
+    }
+    var fields = items.isEmpty() ? "" : new JsonObject().put("instanceid", instanceId).put("items", items);
+    return new JsonObject()
+      .put("instanceid", instanceId)
+      .put("itemsandholdingsfields", fields);
+  }
+
+  private static List<JsonObject> items(Map<String, List<JsonObject>> itemsByHoldingsId, JsonObject holdingsRecord) {
+    return itemsByHoldingsId.getOrDefault(holdingsRecord.getString(ID).toLowerCase(Locale.ROOT), List.of());
+  }
+
+  static boolean isSuppressed(JsonObject json) {
+    return bool(json, DISCOVERY_SUPPRESS);
+  }
+
+  private boolean isSkipped(JsonObject json) {
+    return skipSuppressedFromDiscoveryRecords && isSuppressed(json);
+  }
+
+  private JsonObject hierarchyHoldings(JsonObject instance, JsonObject holdingsRecord) {
+    return new JsonObject()
+      .put(ID, holdingsRecord.getString(ID))
+      .put("hrId", text(holdingsRecord, "hrId"))
+      .put(SUPPRESS_FROM_DISCOVERY, isSuppressed(instance) || isSuppressed(holdingsRecord))
+      .put("holdingsType", ref.name(HOLDINGS_TYPE, text(holdingsRecord, "holdingsTypeId")))
+      .put("formerIds", holdingsRecord.getValue("formerIds"))
+      .put(LOCATION, new JsonObject()
+        .put(PERMANENT_LOCATION, hierarchyLocation(text(holdingsRecord, "permanentLocationId")))
+        .put(TEMPORARY_LOCATION, hierarchyLocation(text(holdingsRecord, "temporaryLocationId")))
+        .put("effectiveLocation", hierarchyLocation(text(holdingsRecord, "effectiveLocationId"))))
+      .put(CALL_NUMBER, new JsonObject()
+        .put("prefix", text(holdingsRecord, "callNumberPrefix"))
+        .put("suffix", text(holdingsRecord, "callNumberSuffix"))
+        .put("typeId", text(holdingsRecord, "callNumberTypeId"))
+        .put("typeName", ref.name(CALL_NUMBER_TYPE, text(holdingsRecord, "callNumberTypeId")))
+        .put(CALL_NUMBER, text(holdingsRecord, CALL_NUMBER)))
+      .put("shelvingTitle", text(holdingsRecord, "shelvingTitle"))
+      .put("acquisitionFormat", text(holdingsRecord, "acquisitionFormat"))
+      .put("acquisitionMethod", text(holdingsRecord, "acquisitionMethod"))
+      .put("receiptStatus", text(holdingsRecord, "receiptStatus"))
+      .put(ELECTRONIC_ACCESS, emptyIfNull(electronicAccess(holdingsRecord.getJsonArray(ELECTRONIC_ACCESS))))
+      .put(NOTES, emptyIfNull(notes(holdingsRecord.getJsonArray(NOTES), "holdingsNoteTypeId",
+        "holdingsNoteTypeName", HOLDINGS_NOTE_TYPE)))
+      .put("illPolicy", ref.name(ILL_POLICY, text(holdingsRecord, "illPolicyId")))
+      .put("retentionPolicy", text(holdingsRecord, "retentionPolicy"))
+      .put("digitizationPolicy", text(holdingsRecord, "digitizationPolicy"))
+      .put("holdingsStatements", holdingsRecord.getValue("holdingsStatements"))
+      .put("holdingsStatementsForIndexes", holdingsRecord.getValue("holdingsStatementsForIndexes"))
+      .put("holdingsStatementsForSupplements", holdingsRecord.getValue("holdingsStatementsForSupplements"))
+      .put(COPY_NUMBER, text(holdingsRecord, COPY_NUMBER))
+      .put("numberOfItems", text(holdingsRecord, "numberOfItems"))
+      .put("receivingHistory", holdingsRecord.getValue("receivingHistory"))
+      .put("tags", holdingsRecord.getValue("tags"))
+      .put(STATISTICAL_CODES, emptyIfNull(statisticalCodes(holdingsRecord.getJsonArray("statisticalCodeIds"))));
+  }
+
+  private JsonObject hierarchyItem(JsonObject instance, JsonObject holdingsRecord, JsonObject item) {
+    var materialType = ref.get(MATERIAL_TYPE, text(item, "materialTypeId"));
+    return new JsonObject()
+      .put(ID, item.getString(ID))
+      .put("hrId", text(item, "hrId"))
+      .put("holdingsRecordId", text(item, "holdingsRecordId"))
+      .put(SUPPRESS_FROM_DISCOVERY, isSuppressed(instance) || isSuppressed(holdingsRecord) || isSuppressed(item))
+      .put("status", item.getJsonObject("status") == null ? null : text(item.getJsonObject("status"), NAME))
+      .put("formerIds", item.getValue("formerIds"))
+      .put(LOCATION, new JsonObject()
+        .put(LOCATION, hierarchyLocation(text(item, "effectiveLocationId")))
+        .put(PERMANENT_LOCATION, hierarchyLocation(text(item, "permanentLocationId")))
+        .put(TEMPORARY_LOCATION, hierarchyLocation(text(item, "temporaryLocationId"))))
+      .put(CALL_NUMBER, effectiveCallNumberComponents(item))
+      .put("accessionNumber", text(item, "accessionNumber"))
+      .put("barcode", text(item, "barcode"))
+      .put(COPY_NUMBER, text(item, COPY_NUMBER))
+      .put("volume", text(item, "volume"))
+      .put("enumeration", text(item, "enumeration"))
+      .put("chronology", text(item, "chronology"))
+      .put("displaySummary", text(item, "displaySummary"))
+      .put("yearCaption", item.getValue("yearCaption"))
+      .put("itemIdentifier", text(item, "itemIdentifier"))
+      .put("numberOfPieces", text(item, "numberOfPieces"))
+      .put("descriptionOfPieces", text(item, "descriptionOfPieces"))
+      .put("numberOfMissingPieces", text(item, "numberOfMissingPieces"))
+      .put("missingPieces", text(item, "missingPieces"))
+      .put("missingPiecesDate", text(item, "missingPiecesDate"))
+      .put("itemDamagedStatus", ref.name(ITEM_DAMAGED_STATUS, text(item, "itemDamagedStatusId")))
+      .put("itemDamagedStatusDate", text(item, "itemDamagedStatusDate"))
+      .put("materialType", materialType == null ? null : text(materialType, NAME))
+      .put("materialTypeId", materialType == null ? null : text(materialType, ID))
+      .put("permanentLoanType", ref.name(LOAN_TYPE, text(item, "permanentLoanTypeId")))
+      .put("temporaryLoanType", ref.name(LOAN_TYPE, text(item, "temporaryLoanTypeId")))
+      .put(ELECTRONIC_ACCESS, emptyIfNull(electronicAccess(item.getJsonArray(ELECTRONIC_ACCESS))))
+      .put(NOTES, emptyIfNull(notes(item.getJsonArray(NOTES), "itemNoteTypeId", "itemNoteTypeName", ITEM_NOTE_TYPE)))
+      .put("tags", item.getValue("tags"))
+      .put(STATISTICAL_CODES, emptyIfNull(statisticalCodes(item.getJsonArray("statisticalCodeIds"))));
+  }
+
+  /**
+   * The item as shown by the OAI-PMH view, null if its effective location is not active
+   * or has no institution, campus or library.
+   */
+  private JsonObject oaiPmhItem(JsonObject holdingsRecord, JsonObject item) {
+    var location = ref.activeLocation(text(item, "effectiveLocationId"));
+    if (location == null || location.institution() == null || location.campus() == null
+        || location.library() == null) {
+      return null;
+    }
+    var electronicAccess = new JsonArray();
+    addAll(electronicAccess, item.getJsonArray(ELECTRONIC_ACCESS));
+    addAll(electronicAccess, holdingsRecord.getJsonArray(ELECTRONIC_ACCESS));
+    return new JsonObject()
+      .put(ID, item.getString(ID))
+      .put(CALL_NUMBER, effectiveCallNumberComponents(item))
+      .put(LOCATION, new JsonObject()
+        .put(LOCATION, new JsonObject()
+          .put("institutionId", location.institution().getString(ID))
+          .put("institutionName", location.institution().getString(NAME))
+          .put("campusId", location.campus().getString(ID))
+          .put("campusName", location.campus().getString(NAME))
+          .put("libraryId", location.library().getString(ID))
+          .put("libraryName", location.library().getString(NAME)))
+        .put(NAME, location.displayName()))
+      .put("volume", item.getValue("volume"))
+      .put("enumeration", item.getValue("enumeration"))
+      .put("materialType", ref.name(MATERIAL_TYPE, text(item, "materialTypeId")))
+      .put(ELECTRONIC_ACCESS, electronicAccess(electronicAccess))
+      .put(SUPPRESS_FROM_DISCOVERY, isSuppressed(holdingsRecord) || isSuppressed(item))
+      .put(NOTES, notes(item.getJsonArray(NOTES), "itemNoteTypeId", "itemNoteTypeName", ITEM_NOTE_TYPE))
+      .put("barcode", text(item, "barcode"))
+      .put("chronology", text(item, "chronology"))
+      .put(COPY_NUMBER, text(item, COPY_NUMBER))
+      .put("holdingsRecordId", holdingsRecord.getString(ID));
+  }
+
+  private JsonObject hierarchyLocation(String id) {
+    var location = ref.activeLocation(id);
+    if (location == null) {
+      return new JsonObject();
+    }
+    return new JsonObject()
+      .put(NAME, location.displayName())
+      .put("code", text(location.location(), "code"))
+      .put(ID, text(location.location(), ID))
+      .put("campusName", nameOf(location.campus()))
+      .put("libraryName", nameOf(location.library()))
+      .put("libraryCode", location.library() == null ? null : text(location.library(), "code"))
+      .put("institutionName", nameOf(location.institution()))
+      .put("locationName", text(location.location(), NAME));
+  }
+
+  private JsonObject effectiveCallNumberComponents(JsonObject item) {
+    var components = item.getValue("effectiveCallNumberComponents");
+    if (!(components instanceof JsonObject json)) {
+      return null;
+    }
+    return json.copy().put("typeName", ref.name(CALL_NUMBER_TYPE, text(json, "typeId")));
+  }
+
+  /**
+   * Like {@code getElectronicAccessName}: adds the relationship name, null if there is no electronic access.
+   */
+  private JsonArray electronicAccess(JsonArray electronicAccess) {
+    if (electronicAccess == null || electronicAccess.isEmpty()) {
+      return null;
+    }
+    var result = new JsonArray();
+    for (var element : electronicAccess) {
+      var json = element instanceof JsonObject jsonObject ? jsonObject.copy() : new JsonObject();
+      result.add(json.put(NAME, ref.name(ELECTRONIC_ACCESS_RELATIONSHIP, text(json, "relationshipId"))));
+    }
+    return result;
+  }
+
+  /**
+   * Like {@code getItemNoteTypeName} and {@code getHoldingNoteTypeName}: the distinct notes with
+   * {@code staffOnly} false, the note type id replaced by its name; null if there are none.
+   */
+  private JsonArray notes(JsonArray notes, String noteTypeIdField, String noteTypeNameField, String noteTypeTable) {
+    if (notes == null) {
+      return null;
+    }
+    var result = new LinkedHashSet<JsonObject>();
+    for (var element : notes) {
+      if (!(element instanceof JsonObject note) || !"false".equals(text(note, "staffOnly"))) {
+        continue;
+      }
+      var json = note.copy();
+      json.remove(noteTypeIdField);
+      json.remove("staffOnly");
+      result.add(json.put(noteTypeNameField, ref.name(noteTypeTable, text(note, noteTypeIdField))));
+    }
+    return result.isEmpty() ? null : new JsonArray(new ArrayList<>(result));
+  }
+
+  /**
+   * Like {@code getStatisticalCodes}: the distinct statistical codes with their type, null if there are none.
+   */
+  private JsonArray statisticalCodes(JsonArray statisticalCodeIds) {
+    var result = new LinkedHashSet<JsonObject>();
+    for (var id : strings(statisticalCodeIds)) {
+      var statisticalCode = ref.statisticalCode(id);
+      if (statisticalCode != null) {
+        result.add(statisticalCode);
+      }
+    }
+    return result.isEmpty() ? null : new JsonArray(new ArrayList<>(result));
+  }
+
+  /**
+   * Like {@code jsonb_strip_nulls}: removes all object fields with null value, recursively.
+   */
+  static JsonObject stripNulls(JsonObject json) {
+    var result = new JsonObject();
+    json.forEach(entry -> {
+      if (entry.getValue() != null) {
+        result.put(entry.getKey(), stripNulls(entry.getValue()));
+      }
+    });
+    return result;
+  }
+
+  private static Object stripNulls(Object value) {
+    if (value instanceof JsonObject json) {
+      return stripNulls(json);
+    }
+    if (value instanceof JsonArray array) {
+      var result = new JsonArray();
+      array.forEach(element -> result.add(stripNulls(element)));
+      return result;
+    }
+    return value;
+  }
+
+  /**
+   * Like the {@code ->>} operator: the value as text, JSON encoded if it is an object or array.
+   */
+  static String text(JsonObject json, String field) {
+    var value = json.getValue(field);
+    if (value == null || value instanceof String) {
+      return (String) value;
+    }
+    if (value instanceof JsonObject jsonObject) {
+      return jsonObject.encode();
+    }
+    if (value instanceof JsonArray jsonArray) {
+      return jsonArray.encode();
+    }
+    return value.toString();
+  }
+
+  private static boolean bool(JsonObject json, String field) {
+    return Boolean.parseBoolean(text(json, field));
+  }
+
+  private static String nameOf(JsonObject json) {
+    return json == null ? null : text(json, NAME);
+  }
+
+  private static String emptyIfNull(String value) {
+    return value == null ? "" : value;
+  }
+
+  private static JsonArray emptyIfNull(JsonArray value) {
+    return value == null ? new JsonArray() : value;
+  }
+
+  private static Collection<String> strings(JsonArray array) {
+    var strings = new ArrayList<String>();
+    if (array == null) {
+      return strings;
+    }
+    for (var element : array) {
+      if (element != null) {
+        strings.add(element instanceof String s ? s : element.toString());
+      }
+    }
+    return strings;
+  }
+
+  private static void addAll(JsonArray target, JsonArray source) {
+    if (source != null) {
+      source.forEach(target::add);
+    }
+  }
+}
@@ -0,0 +1,214 @@
+package org.folio.services.enrichment;
+
+import static org.folio.rest.persist.PgUtil.postgresClient;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.tools.utils.TenantTool;
+import org.folio.services.caches.ReferenceSnapshotCache;
+import org.folio.utils.Environment;
+
+/**
+ * Java-side alternative to the {@code get_items_and_holdings_view} and {@code pmh_instance_view_function}
+ * database functions: fetches the raw instances, holdings and items by id, resolves the reference data
+ * names from the per-tenant {@link ReferenceSnapshot} and assembles the payload in parallel on worker
+ * threads, so that the harvest CPU load is on the module instead of the database.
+ *
+ * <p>The instances are processed in batches of {@link #BATCH_SIZE}: a batch is fetched, assembled and passed
+ * to the {@link BatchHandler}, the next batch is fetched when the future of the handler completes.
+ */
+public class InstanceEnrichmentService {
+  public static final String ENRICHMENT_ENGINE = "ENRICHMENT_ENGINE";
+  static final int BATCH_SIZE = 500;
+  private static final int CHUNK_SIZE = 50;
+
+  private final Context vertxContext;
+  private final PostgresClient postgresClient;
+  private final ReferenceSnapshotCache referenceSnapshotCache;
+  private final String tenantId;
+
+  public InstanceEnrichmentService(Context vertxContext, Map<String, String> okapiHeaders) {
+    this.vertxContext = vertxContext;
+    this.postgresClient = postgresClient(vertxContext, okapiHeaders);
+    this.referenceSnapshotCache = ReferenceSnapshotCache.getInstance(vertxContext);
+    this.tenantId = TenantTool.tenantId(okapiHeaders);
+  }
+
+  /**
+   * True if the ENRICHMENT_ENGINE environment variable or system property is {@code java},
+   * the default {@code database} uses the database functions.
+   */
+  public static boolean isEnabled() {
+    return "java".equals(StringUtils.firstNonBlank(Environment.getEnvVar(ENRICHMENT_ENGINE, null),
+      System.getProperty(ENRICHMENT_ENGINE), "database").toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Passes the rows of {@code get_items_and_holdings_view} for the existing instances, in the order of the ids,
+   * batch by batch to the batch handler.
+   */
+  public Future<Void> getItemsAndHoldings(UUID[] instanceIds, boolean skipSuppressedFromDiscoveryRecords,
+                                          BatchHandler batchHandler) {
+
+    return inBatches(distinct(instanceIds), batchHandler, ids -> {
+      var instances = selectJsonb("SELECT jsonb FROM " + table("instance") + " WHERE id = ANY($1)", ids);
+      return fetch(ids, skipSuppressedFromDiscoveryRecords, true)
+        .compose(records -> instances.compose(instancesList -> {
+          var instanceById = byId(instancesList);
+          var existingIds = ids.stream().filter(instanceById::containsKey).toList();
+          return assemble(existingIds, skipSuppressedFromDiscoveryRecords,
+            (assembler, id) -> assembler.itemsAndHoldings(id, instanceById.get(id),
+              records.holdingsByInstanceId().getOrDefault(id, List.of()), records.itemsByHoldingsId()));
+        }));
+    });
+  }
+
+  /**
+   * Passes the rows of {@code pmh_instance_view_function}, one for each distinct id, in the order of the ids,
+   * batch by batch to the batch handler.
+   */
+  public Future<Void> getOaiPmhEnrichedInstances(UUID[] instanceIds, boolean skipSuppressedFromDiscoveryRecords,
+                                                 BatchHandler batchHandler) {
+
+    return inBatches(distinct(instanceIds), batchHandler,
+      ids -> fetch(ids, skipSuppressedFromDiscoveryRecords, false)
+        .compose(records -> assemble(ids, skipSuppressedFromDiscoveryRecords,
+          (assembler, id) -> assembler.oaiPmhInstance(id,
+            records.holdingsByInstanceId().getOrDefault(id, List.of()), records.itemsByHoldingsId()))));
+  }
+
+  /**
+   * Runs the batch function for each batch of ids, one batch after the other, and passes the rows to the
+   * batch handler.
+   */
+  private static Future<Void> inBatches(List<String> ids, BatchHandler batchHandler,
+                                        Function<List<String>, Future<List<JsonObject>>> batchFunction) {
+
+    Future<Void> future = Future.succeededFuture();
+    for (var batch : ListUtils.partition(ids, BATCH_SIZE)) {
+      future = future.compose(notUsed -> batchFunction.apply(batch)).compose(batchHandler::handle);
+    }
+    return future;
+  }
+
+  /**
+   * Assembles the rows in chunks on worker threads.
+   */
+  private Future<List<JsonObject>> assemble(List<String> ids, boolean skipSuppressedFromDiscoveryRecords,
+                                            AssembleFunction assembleFunction) {
+
+    return referenceSnapshotCache.get(tenantId, () -> ReferenceSnapshot.load(postgresClient))
+      .compose(snapshot -> {
+        var assembler = new EnrichedInstanceAssembler(snapshot, skipSuppressedFromDiscoveryRecords);
+        var chunks = ListUtils.partition(ids, CHUNK_SIZE).stream()
+          .map(chunk -> vertxContext.executeBlocking(
+            () -> chunk.stream().map(id -> assembleFunction.apply(assembler, id)).toList(), false))
+          .toList();
+        return Future.all(chunks).map(all -> {
+          var rows = new ArrayList<JsonObject>(ids.size());
+          chunks.forEach(chunk -> rows.addAll(chunk.result()));
+          return rows;
+        });
+      });
+  }
+
+  /**
+   * Fetches the holdings of the instances and the items of the holdings, with bound-with items if requested.
+   * The items of holdings that are skipped because of discovery suppression are not fetched.
+   */
+  private Future<Records> fetch(List<String> instanceIds, boolean skipSuppressedFromDiscoveryRecords,
+                                boolean withBoundWithItems) {
+
+    return selectJsonb("SELECT jsonb FROM " + table("holdings_record") + " WHERE instanceid = ANY($1)", instanceIds)
+      .compose(holdings -> {
+        var holdingsByInstanceId = new HashMap<String, List<JsonObject>>();
+        var holdingsIds = new ArrayList<String>();
+        for (var holdingsRecord : holdings) {
+          holdingsByInstanceId.computeIfAbsent(lowerCase(holdingsRecord.getString("instanceId")),
+            id -> new ArrayList<>()).add(holdingsRecord);
+          if (!skipSuppressedFromDiscoveryRecords || !EnrichedInstanceAssembler.isSuppressed(holdingsRecord)) {
+            holdingsIds.add(holdingsRecord.getString("id"));
+          }
+        }
+        var sql = "SELECT holdingsrecordid, jsonb FROM " + table("item") + " WHERE holdingsrecordid = ANY($1)";
+        if (withBoundWithItems) {
+          sql += " UNION ALL SELECT bwp.holdingsrecordid, item.jsonb FROM " + table("bound_with_part") + " bwp"
+            + " JOIN " + table("item") + " item ON item.id = bwp.itemid WHERE bwp.holdingsrecordid = ANY($1)";
+        }
+        return postgresClient.execute(sql, Tuple.tuple().addArrayOfUUID(toUuids(holdingsIds)))
+          .map(rowSet -> {
+            var itemsByHoldingsId = new HashMap<String, List<JsonObject>>();
+            for (Row row : rowSet) {
+              itemsByHoldingsId.computeIfAbsent(row.getUUID(0).toString(), id -> new ArrayList<>())
+                .add(row.getJsonObject(1));
+            }
+            return new Records(holdingsByInstanceId, itemsByHoldingsId);
+          });
+      });
+  }
+
+  private Future<List<JsonObject>> selectJsonb(String sql, List<String> ids) {
+    return postgresClient.execute(sql, Tuple.tuple().addArrayOfUUID(toUuids(ids)))
+      .map(rowSet -> {
+        var list = new ArrayList<JsonObject>(rowSet.rowCount());
+        rowSet.forEach(row -> list.add(row.getJsonObject(0)));
+        return list;
+      });
+  }
+
+  private String table(String table) {
+    return postgresClient.getSchemaName() + "." + table;
+  }
+
+  private static Map<String, JsonObject> byId(List<JsonObject> records) {
+    var map = new HashMap<String, JsonObject>();
+    records.forEach(json -> map.put(lowerCase(json.getString("id")), json));
+    return map;
+  }
+
+  private static List<String> distinct(UUID[] ids) {
+    return new ArrayList<>(new LinkedHashSet<>(Arrays.stream(ids).map(UUID::toString).toList()));
+  }
+
+  private static UUID[] toUuids(List<String> ids) {
+    return ids.stream().map(UUID::fromString).toArray(UUID[]::new);
+  }
+
+  private static String lowerCase(String s) {
+    return s == null ? null : s.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Consumer of a batch of rows.
+   */
+  @FunctionalInterface
+  public interface BatchHandler {
+    /**
+     * Handles the rows, the returned future completes when the next batch can be passed.
+     */
+    Future<Void> handle(List<JsonObject> rows);
+  }
+
+  private interface AssembleFunction {
+    JsonObject apply(EnrichedInstanceAssembler assembler, String instanceId);
+  }
+
+  private record Records(Map<String, List<JsonObject>> holdingsByInstanceId,
+                         Map<String, List<JsonObject>> itemsByHoldingsId) {
+  }
+}
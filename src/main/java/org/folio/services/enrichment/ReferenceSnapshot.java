@@ -0,0 +1,125 @@
+package org.folio.services.enrichment;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.rest.persist.PostgresClient;
+
+/**
+ * In-memory copy of the reference data the OAI-PMH and inventory-hierarchy views resolve names from:
+ * locations with their location units, note types, statistical codes, material types and so on.
+ */
+public final class ReferenceSnapshot {
+  static final String LOCATION = "location";
+  static final String CAMPUS = "loccampus";
+  static final String LIBRARY = "loclibrary";
+  static final String INSTITUTION = "locinstitution";
+  static final String ELECTRONIC_ACCESS_RELATIONSHIP = "electronic_access_relationship";
+  static final String ITEM_NOTE_TYPE = "item_note_type";
+  static final String HOLDINGS_NOTE_TYPE = "holdings_note_type";
+  static final String STATISTICAL_CODE = "statistical_code";
+  static final String STATISTICAL_CODE_TYPE = "statistical_code_type";
+  static final String NATURE_OF_CONTENT_TERM = "nature_of_content_term";
+  static final String MODE_OF_ISSUANCE = "mode_of_issuance";
+  static final String MATERIAL_TYPE = "material_type";
+  static final String CALL_NUMBER_TYPE = "call_number_type";
+  static final String ITEM_DAMAGED_STATUS = "item_damaged_status";
+  static final String LOAN_TYPE = "loan_type";
+  static final String HOLDINGS_TYPE = "holdings_type";
+  static final String ILL_POLICY = "ill_policy";
+  private static final List<String> TABLES = List.of(LOCATION, CAMPUS, LIBRARY, INSTITUTION,
+    ELECTRONIC_ACCESS_RELATIONSHIP, ITEM_NOTE_TYPE, HOLDINGS_NOTE_TYPE, STATISTICAL_CODE, STATISTICAL_CODE_TYPE,
+    NATURE_OF_CONTENT_TERM, MODE_OF_ISSUANCE, MATERIAL_TYPE, CALL_NUMBER_TYPE, ITEM_DAMAGED_STATUS, LOAN_TYPE,
+    HOLDINGS_TYPE, ILL_POLICY);
+
+  private final Map<String, Map<String, JsonObject>> records;
+
+  ReferenceSnapshot(Map<String, Map<String, JsonObject>> records) {
+    this.records = records;
+  }
+
+  /**
+   * Loads all reference tables with a single query.
+   */
+  public static Future<ReferenceSnapshot> load(PostgresClient postgresClient) {
+    var schema = postgresClient.getSchemaName();
+    var sql = TABLES.stream()
+      .map(table -> "SELECT '" + table + "' AS tablename, id::text, jsonb FROM " + schema + "." + table)
+      .collect(Collectors.joining(" UNION ALL "));
+    return postgresClient.execute(sql).map(rowSet -> {
+      var records = new HashMap<String, Map<String, JsonObject>>();
+      TABLES.forEach(table -> records.put(table, new HashMap<>()));
+      for (Row row : rowSet) {
+        records.get(row.getString(0)).put(row.getString(1), row.getJsonObject(2));
+      }
+      return new ReferenceSnapshot(records);
+    });
+  }
+
+  /**
+   * The record of the reference table, null if the id is blank or not found.
+   */
+  public JsonObject get(String table, String id) {
+    if (StringUtils.isBlank(id)) {
+      return null;
+    }
+    return records.get(table).get(id.toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * The name of the record of the reference table, null if the id is blank or not found.
+   */
+  public String name(String table, String id) {
+    var json = get(table, id);
+    return json == null ? null : json.getString("name");
+  }
+
+  /**
+   * The active location with its location units, null if the location doesn't exist or isn't active.
+   */
+  public Location activeLocation(String id) {
+    var location = get(LOCATION, id);
+    if (location == null || !Boolean.parseBoolean(String.valueOf(location.getValue("isActive")))) {
+      return null;
+    }
+    return new Location(location, get(CAMPUS, location.getString("campusId")),
+      get(LIBRARY, location.getString("libraryId")), get(INSTITUTION, location.getString("institutionId")));
+  }
+
+  /**
+   * The statistical code with its type as shown in the views, null if the code or its type doesn't exist.
+   */
+  public JsonObject statisticalCode(String id) {
+    var code = get(STATISTICAL_CODE, id);
+    if (code == null) {
+      return null;
+    }
+    var type = get(STATISTICAL_CODE_TYPE, code.getString("statisticalCodeTypeId"));
+    if (type == null) {
+      return null;
+    }
+    return new JsonObject()
+      .put("id", code.getString("id"))
+      .put("code", code.getString("code"))
+      .put("name", code.getString("name"))
+      .put("statisticalCodeType", type.getString("name"))
+      .put("source", type.getString("source"));
+  }
+
+  /**
+   * A location and its campus, library and institution, a location unit is null if it doesn't exist.
+   */
+  public record Location(JsonObject location, JsonObject campus, JsonObject library, JsonObject institution) {
+
+    public String displayName() {
+      return ObjectUtils.firstNonNull(location.getString("discoveryDisplayName"), location.getString("name"));
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package org.folio.services.executor;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import org.folio.services.metrics.InventoryMetrics;
+import org.folio.utils.Environment;
+
+/**
+ * Runs background jobs and blocking transfers on virtual threads instead of the Vert.x worker pool.
+ *
+ * <p>Each {@link JobType} has its own concurrency limit, a job that exceeds it waits on a virtual thread
+ * until a job of the same type completes, so that the jobs of many tenants queue without holding a
+ * platform thread. The number of queued and active jobs per type are exported as the gauges
+ * {@code job.queued} and {@code job.active}, the duration as the timer {@code job.duration}.
+ */
+public final class JobExecutor {
+  private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+  /**
+   * The job types, the concurrency limit of each is configured by its environment variable.
+   */
+  public enum JobType {
+    REINDEX("reindex", "JOB_CONCURRENCY_REINDEX", 4),
+    ITERATION("iteration", "JOB_CONCURRENCY_ITERATION", 4),
+    ASYNC_MIGRATION("async-migration", "JOB_CONCURRENCY_ASYNC_MIGRATION", 4),
+    S3("s3", "JOB_CONCURRENCY_S3", 16);
+
+    private final String tag;
+    private final String envVar;
+    private final int limit;
+    private final Semaphore permits;
+
+    JobType(String tag, String envVar, int defaultLimit) {
+      this.tag = tag;
+      this.envVar = envVar;
+      this.limit = Math.max(1, Integer.parseInt(Environment.getEnvVar(envVar, String.valueOf(defaultLimit))));
+      this.permits = new Semaphore(limit, true);
+    }
+
+    public String getTag() {
+      return tag;
+    }
+
+    public String getEnvVar() {
+      return envVar;
+    }
+
+    public int getLimit() {
+      return limit;
+    }
+  }
+
+  private JobExecutor() { }
+
+  /**
+   * Runs the blocking task on a virtual thread, the returned future completes on the context.
+   */
+  public static <T> Future<T> executeBlocking(Context context, JobType type, Callable<T> task) {
+    Promise<T> promise = Promise.promise();
+    EXECUTOR.execute(() -> {
+      try {
+        acquire(type);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        context.runOnContext(v -> promise.fail(e));
+        return;
+      }
+      try {
+        var result = task.call();
+        context.runOnContext(v -> promise.complete(result));
+      } catch (Exception e) {
+        context.runOnContext(v -> promise.fail(e));
+      } finally {
+        release(type);
+      }
+    });
+    return InventoryMetrics.time("job.duration", promise.future(), "job", type.tag);
+  }
+
+  /**
+   * Starts the asynchronous job on the context once a permit of the job type is available, the permit is
+   * held until the future of the job completes.
+   */
+  public static <T> Future<T> execute(Context context, JobType type, Supplier<Future<T>> job) {
+    Promise<T> promise = Promise.promise();
+    EXECUTOR.execute(() -> {
+      try {
+        acquire(type);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        context.runOnContext(v -> promise.fail(e));
+        return;
+      }
+      context.runOnContext(v -> {
+        Future<T> future;
+        try {
+          future = job.get();
+        } catch (Exception e) {
+          future = Future.failedFuture(e);
+        }
+        future.onComplete(ar -> release(type)).onComplete(promise);
+      });
+    });
+    return InventoryMetrics.time("job.duration", promise.future(), "job", type.tag);
+  }
+
+  private static void acquire(JobType type) throws InterruptedException {
+    var queued = InventoryMetrics.gauge("job.queued", "job", type.tag);
+    queued.incrementAndGet();
+    try {
+      type.permits.acquire();
+    } finally {
+      queued.decrementAndGet();
+    }
+    InventoryMetrics.gauge("job.active", "job", type.tag).incrementAndGet();
+  }
+
+  private static void release(JobType type) {
+    InventoryMetrics.gauge("job.active", "job", type.tag).decrementAndGet();
+    type.permits.release();
+  }
+}
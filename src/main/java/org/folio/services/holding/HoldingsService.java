@@ -9,6 +9,7 @@ import static org.folio.rest.jaxrs.resource.HoldingsStorage.DeleteHoldingsStorag
 import static org.folio.rest.jaxrs.resource.HoldingsStorage.PostHoldingsStorageHoldingsResponse;
 import static org.folio.rest.jaxrs.resource.HoldingsStorage.PutHoldingsStorageHoldingsByHoldingsRecordIdResponse;
 import static org.folio.rest.jaxrs.resource.HoldingsStorageBatchSynchronous.PostHoldingsStorageBatchSynchronousResponse;
+import static org.folio.rest.jaxrs.resource.HoldingsStorageBatchSynchronousUnsafe.PostHoldingsStorageBatchSynchronousUnsafeResponse;
 import static org.folio.rest.persist.PgUtil.deleteById;
 import static org.folio.rest.persist.PgUtil.post;
 import static org.folio.rest.persist.PgUtil.postSync;
@@ -17,46 +18,55 @@ import static org.folio.services.batch.BatchOperationContextFactory.buildBatchOp
 import static org.folio.utils.ComparisonUtils.equalsIgnoringMetadata;
 import static org.folio.validator.HridValidators.refuseWhenHridChanged;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
 import java.util.regex.Pattern;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.Logger;
-import org.folio.dbschema.ObjectMapperTool;
 import org.folio.persist.HoldingsRepository;
 import org.folio.persist.InstanceRepository;
+import org.folio.rest.exceptions.BadRequestException;
 import org.folio.rest.jaxrs.model.HoldingsRecord;
 import org.folio.rest.jaxrs.model.Item;
 import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.persist.SQLConnection;
 import org.folio.rest.support.CqlQuery;
 import org.folio.rest.support.HridManager;
+import org.folio.rest.support.TotalRecordsMode;
+import org.folio.rest.tools.utils.TenantTool;
 import org.folio.services.ResponseHandlerUtil;
+import org.folio.services.batch.BatchLoad;
 import org.folio.services.caches.ConsortiumData;
-import org.folio.services.caches.ConsortiumDataCache;
+import org.folio.services.caches.LocalInstanceCache;
 import org.folio.services.consortium.ConsortiumService;
 import org.folio.services.consortium.ConsortiumServiceImpl;
-import org.folio.services.consortium.entities.SharingInstance;
+import org.folio.services.deletion.ChunkedDeleter;
 import org.folio.services.domainevent.HoldingDomainEventPublisher;
 import org.folio.services.domainevent.ItemDomainEventPublisher;
 import org.folio.services.item.ItemService;
 import org.folio.validator.CommonValidators;
 import org.folio.validator.NotesValidators;
 
+/**
+ * Holdings operations of a tenant. The service doesn't hold request state, one instance is shared by all
+ * requests of the tenant, see {@link org.folio.services.TenantServices}; the Okapi headers and the
+ * Vert.x context of the request are passed to each call.
+ */
 public class HoldingsService {
   private static final Logger log = getLogger(HoldingsService.class);
-  private static final ObjectMapper OBJECT_MAPPER = ObjectMapperTool.getMapper();
   private static final Pattern INSTANCEID_PATTERN = Pattern.compile(
       "^ *instanceId *== *\"?("
       // UUID
@@ -66,38 +76,43 @@ public class HoldingsService {
       // allow any sub-set of the fields and allow the fields in any order
       + "(( +(effectiveLocation\\.name|callNumberPrefix|callNumber|callNumberSuffix))+) *$");
 
-  private final Context vertxContext;
-  private final Map<String, String> okapiHeaders;
+  private static final int SHARING_CONCURRENCY = 5;
+
   private final PostgresClient postgresClient;
   private final HridManager hridManager;
-  private final ItemService itemService;
   private final HoldingsRepository holdingsRepository;
-  private final ItemDomainEventPublisher itemEventService;
   private final HoldingDomainEventPublisher domainEventPublisher;
+  private final ItemService itemService;
+  private final ItemDomainEventPublisher itemEventPublisher;
   private final InstanceRepository instanceRepository;
   private final ConsortiumService consortiumService;
+  private final LocalInstanceCache localInstanceCache;
 
-  public HoldingsService(Context context, Map<String, String> okapiHeaders) {
-    this.vertxContext = context;
-    this.okapiHeaders = okapiHeaders;
-
-    itemService = new ItemService(context, okapiHeaders);
+  /**
+   * The service of the tenant of the okapiHeaders, the okapiHeaders are used only to select the tenant.
+   *
+   * @param itemService the item service of the same tenant, an update of a holdings record cascades to its items
+   */
+  public HoldingsService(Context context, Map<String, String> okapiHeaders, ItemService itemService) {
     postgresClient = postgresClient(context, okapiHeaders);
     hridManager = new HridManager(postgresClient);
     holdingsRepository = new HoldingsRepository(context, okapiHeaders);
-    itemEventService = new ItemDomainEventPublisher(context, okapiHeaders);
     domainEventPublisher = new HoldingDomainEventPublisher(context, okapiHeaders);
+    this.itemService = itemService;
+    itemEventPublisher = new ItemDomainEventPublisher(context, okapiHeaders);
     instanceRepository = new InstanceRepository(context, okapiHeaders);
-    consortiumService = new ConsortiumServiceImpl(context.owner().createHttpClient(),
-      context.get(ConsortiumDataCache.class.getName()));
+    consortiumService = ConsortiumServiceImpl.getInstance(context);
+    localInstanceCache = LocalInstanceCache.getInstance(context);
   }
 
   /**
    * Returns Response if the query is supported by instanceId query, null otherwise.
    *
-   * <p>
+   * <p>The count is skipped for {@link TotalRecordsMode#NONE}, otherwise it is read from the
+   * holdings counter of the instance.
    */
-  public Future<Response> getByInstanceId(int offset, int limit, String query) {
+  public Future<Response> getByInstanceId(String totalRecords, int offset, int limit, String query,
+                                          Map<String, String> okapiHeaders) {
     if (query == null) {
       return Future.succeededFuture();
     }
@@ -105,14 +120,22 @@ public class HoldingsService {
     if (!matcher.find()) {
       return Future.succeededFuture();
     }
+    TotalRecordsMode mode;
+    try {
+      mode = TotalRecordsMode.of(totalRecords);
+    } catch (BadRequestException e) {
+      return Future.failedFuture(e);
+    }
     var instanceId = matcher.group(1);
     var sortBy = matcher.group(2).split(" +");
-    return holdingsRepository.getByInstanceId(instanceId, sortBy, offset, limit)
+    var withCount = mode != TotalRecordsMode.NONE;
+    return holdingsRepository.getByInstanceId(instanceId, sortBy, offset, limit, withCount, okapiHeaders)
         .map(row -> {
+          Long count = withCount ? row.getLong("total_records") : null;
           var json = "{ \"holdingsRecords\": " + row.getString("holdings") + ",\n"
-              + "  \"totalRecords\": " + row.getLong("total_records") + ",\n"
+              + (count == null ? "" : "  \"totalRecords\": " + count + ",\n")
               + "  \"resultInfo\": { \n"
-              + "    \"totalRecords\": " + row.getLong("total_records") + ",\n"
+              + (count == null ? "" : "    \"totalRecords\": " + count + ",\n")
               + "    \"totalRecordsEstimated\": false\n"
               + "  }\n"
               + "}";
@@ -125,27 +148,29 @@ public class HoldingsService {
    * Deletes all holdings but sends only a single domain event (Kafka) message "all records removed",
    * this is much faster than sending one message for each deleted holding.
    */
-  public Future<Response> deleteAllHoldings() {
+  public Future<Response> deleteAllHoldings(Map<String, String> okapiHeaders) {
     return holdingsRepository.deleteAll()
-      .onSuccess(notUsed -> domainEventPublisher.publishAllRemoved())
+      .onSuccess(notUsed -> domainEventPublisher.publishAllRemoved(okapiHeaders))
       .map(Response.noContent().build());
   }
 
-  public Future<Response> updateHoldingRecord(String holdingId, HoldingsRecord holdingsRecord) {
+  public Future<Response> updateHoldingRecord(String holdingId, HoldingsRecord holdingsRecord,
+                                              Map<String, String> okapiHeaders, Context vertxContext) {
     return holdingsRepository.getById(holdingId)
       .compose(existingHoldingsRecord -> {
         if (holdingsRecordFound(existingHoldingsRecord)) {
-          return updateHolding(existingHoldingsRecord, holdingsRecord);
+          return updateHolding(existingHoldingsRecord, holdingsRecord, okapiHeaders);
         } else {
-          return createHolding(holdingsRecord);
+          return createHolding(holdingsRecord, okapiHeaders, vertxContext);
         }
       });
   }
 
-  public Future<Response> createHolding(HoldingsRecord entity) {
+  public Future<Response> createHolding(HoldingsRecord entity, Map<String, String> okapiHeaders,
+                                        Context vertxContext) {
     entity.setEffectiveLocationId(calculateEffectiveLocation(entity));
 
-    return createShadowInstancesIfNeeded(List.of(entity))
+    return createShadowInstancesIfNeeded(List.of(entity), okapiHeaders)
       .compose(v -> hridManager.populateHrid(entity))
       .compose(NotesValidators::refuseLongNotes)
       .compose(hr -> {
@@ -155,12 +180,12 @@ public class HoldingsService {
           PostHoldingsStorageHoldingsResponse.class, postResponse);
 
         return postResponse.future()
-          .onSuccess(domainEventPublisher.publishCreated());
+          .onSuccess(domainEventPublisher.publishCreated(okapiHeaders));
       })
       .map(ResponseHandlerUtil::handleHridError);
   }
 
-  public Future<Response> deleteHolding(String hrId) {
+  public Future<Response> deleteHolding(String hrId, Map<String, String> okapiHeaders, Context vertxContext) {
     return holdingsRepository.getById(hrId)
       .compose(CommonValidators::refuseIfNotFound)
       .compose(hr -> {
@@ -170,62 +195,82 @@ public class HoldingsService {
           DeleteHoldingsStorageHoldingsByHoldingsRecordIdResponse.class, deleteResult);
 
         return deleteResult.future()
-          .onSuccess(domainEventPublisher.publishRemoved(hr));
+          .onSuccess(domainEventPublisher.publishRemoved(hr, okapiHeaders));
       });
   }
 
-  public Future<Response> deleteHoldings(String cql) {
+  public Future<Response> deleteHoldings(String cql, Map<String, String> okapiHeaders) {
     if (StringUtils.isBlank(cql)) {
       return Future.succeededFuture(
         DeleteHoldingsStorageHoldingsResponse.respond400WithTextPlain(
           "Expected CQL but query parameter is empty"));
     }
     if (new CqlQuery(cql).isMatchingAll()) {
-      return deleteAllHoldings();  // faster: sends only one domain event (Kafka) message
+      return deleteAllHoldings(okapiHeaders);  // faster: sends only one domain event (Kafka) message
     }
-    // do not add curly braces for readability, this is to comply with
-    // https://sonarcloud.io/organizations/folio-org/rules?open=java%3AS1602&rule_key=java%3AS1602
-    return holdingsRepository.delete(cql)
-      .onSuccess(rowSet -> vertxContext.runOnContext(runLater ->
-        rowSet.iterator().forEachRemaining(row -> {
-            try {
-              var holdingId = OBJECT_MAPPER.readTree(row.getString(1)).get("id").textValue();
-              domainEventPublisher.publishRemoved(holdingId, row.getString(1));
-            } catch (JsonProcessingException ex) {
-              log.error("deleteHoldings:: Failed to parse json : {}", ex.getMessage(), ex);
-              throw new IllegalArgumentException(ex.getCause());
-            }
-          }
-        )
-      ))
-      .map(Response.noContent().build());
+    return chunkedDeleter(cql, okapiHeaders).delete()
+      .map(deleted -> Response.noContent().build());
+  }
+
+  /**
+   * Deleter of the holdings matching the CQL query that publishes a domain event for each deleted holdings record.
+   */
+  public ChunkedDeleter chunkedDeleter(String cql, Map<String, String> okapiHeaders) {
+    return new ChunkedDeleter((afterId, limit) -> holdingsRepository.deleteChunk(cql, afterId, limit),
+      row -> Pair.of(row.getString(0), row.getString(1)),
+      keysAndRawRecords -> domainEventPublisher.publishRemoved(keysAndRawRecords, okapiHeaders));
   }
 
-  public Future<Response> createHoldings(List<HoldingsRecord> holdings, boolean upsert, boolean optimisticLocking) {
+  public Future<Response> createHoldings(List<HoldingsRecord> holdings, boolean upsert, boolean optimisticLocking,
+                                         Map<String, String> okapiHeaders, Context vertxContext) {
     for (HoldingsRecord holdingsRecord : holdings) {
       holdingsRecord.setEffectiveLocationId(calculateEffectiveLocation(holdingsRecord));
     }
 
-    return createShadowInstancesIfNeeded(holdings)
+    return createShadowInstancesIfNeeded(holdings, okapiHeaders)
       .compose(ar -> hridManager.populateHridForHoldings(holdings)
         .compose(NotesValidators::refuseHoldingLongNotes)
         .compose(result -> buildBatchOperationContext(upsert, holdings,
           holdingsRepository, HoldingsRecord::getId, true))
         .compose(batchOperation -> postSync(HOLDINGS_RECORD_TABLE, holdings, MAX_ENTITIES,
           upsert, optimisticLocking, okapiHeaders, vertxContext, PostHoldingsStorageBatchSynchronousResponse.class)
-          .onSuccess(domainEventPublisher.publishCreatedOrUpdated(batchOperation))))
+          .onSuccess(domainEventPublisher.publishCreatedOrUpdated(batchOperation, okapiHeaders))))
       .map(ResponseHandlerUtil::handleHridError);
   }
 
-  public Future<Void> publishReindexHoldingsRecords(String rangeId, String fromId, String toId) {
-    return holdingsRepository.getReindexHoldingsRecords(fromId, toId)
-      .compose(holdings -> domainEventPublisher.publishReindexHoldings(rangeId, holdings));
+  /**
+   * Load mode of the batch synchronous unsafe API: same as
+   * {@link #createHoldings(List, boolean, boolean, Map, Context)} with upsert and without optimistic locking,
+   * but all holdings are written with a single statement.
+   */
+  public Future<Response> loadHoldings(List<HoldingsRecord> holdings, Map<String, String> okapiHeaders) {
+    for (HoldingsRecord holdingsRecord : holdings) {
+      holdingsRecord.setEffectiveLocationId(calculateEffectiveLocation(holdingsRecord));
+    }
+
+    return BatchLoad.prepare(holdings, HoldingsRecord::getId, HoldingsRecord::setId, okapiHeaders)
+      .compose(prepared -> createShadowInstancesIfNeeded(prepared, okapiHeaders))
+      .compose(ar -> hridManager.populateHridForHoldings(holdings))
+      .compose(NotesValidators::refuseHoldingLongNotes)
+      .compose(result -> buildBatchOperationContext(true, holdings,
+        holdingsRepository, HoldingsRecord::getId, true))
+      .compose(batchOperation -> holdingsRepository.loadBatch(holdings, HoldingsRecord::getId)
+        .map(rowSet -> PostHoldingsStorageBatchSynchronousUnsafeResponse.respond201())
+        .onSuccess(domainEventPublisher.publishCreatedOrUpdated(batchOperation, okapiHeaders)))
+      .map(ResponseHandlerUtil::handleHridError);
   }
 
-  private Future<Response> updateHolding(HoldingsRecord oldHoldings, HoldingsRecord newHoldings) {
+  public Future<Void> publishReindexHoldingsRecords(String rangeId, String fromId, String toId,
+                                                    Map<String, String> okapiHeaders) {
+    return holdingsRepository.getReindexHoldingsRecords(fromId, toId, okapiHeaders)
+      .compose(holdings -> domainEventPublisher.publishReindexHoldings(rangeId, holdings, okapiHeaders));
+  }
+
+  private Future<Response> updateHolding(HoldingsRecord oldHoldings, HoldingsRecord newHoldings,
+                                         Map<String, String> okapiHeaders) {
     newHoldings.setEffectiveLocationId(calculateEffectiveLocation(newHoldings));
 
-    return createShadowInstancesIfNeeded(List.of(newHoldings))
+    return createShadowInstancesIfNeeded(List.of(newHoldings), okapiHeaders)
       .compose(v -> {
         try {
           var noChanges = equalsIgnoringMetadata(oldHoldings, newHoldings);
@@ -248,15 +293,15 @@ public class HoldingsService {
 
             postgresClient.startTx(
               connection -> holdingsRepository.update(connection, oldHoldings.getId(), newHoldings)
-                .compose(updateRes -> itemService.updateItemsOnHoldingChanged(connection, newHoldings))
+                .compose(updateRes -> itemService.updateItemsOnHoldingChanged(connection, newHoldings, okapiHeaders))
                 .onComplete(handleTransaction(connection, overallResult))
             );
 
             return overallResult.future()
-              .compose(itemsBeforeUpdate -> itemEventService
-                .publishUpdated(oldHoldings, newHoldings, itemsBeforeUpdate))
+              .compose(itemsBeforeUpdate -> itemEventPublisher
+                .publishUpdated(oldHoldings, newHoldings, itemsBeforeUpdate, okapiHeaders))
               .<Response>map(res -> PutHoldingsStorageHoldingsByHoldingsRecordIdResponse.respond204())
-              .onSuccess(domainEventPublisher.publishUpdated(oldHoldings));
+              .onSuccess(domainEventPublisher.publishUpdated(oldHoldings, okapiHeaders));
           });
       });
   }
@@ -297,33 +342,61 @@ public class HoldingsService {
     };
   }
 
-  private Future<Void> createShadowInstancesIfNeeded(List<HoldingsRecord> holdingsRecords) {
+  private Future<Void> createShadowInstancesIfNeeded(List<HoldingsRecord> holdingsRecords,
+                                                     Map<String, String> okapiHeaders) {
     return consortiumService.getConsortiumData(okapiHeaders)
         .compose(consortiumDataOptional -> {
           if (consortiumDataOptional.isPresent()) {
-            return createShadowInstancesIfNeeded(holdingsRecords, consortiumDataOptional.get());
+            return createShadowInstancesIfNeeded(holdingsRecords, consortiumDataOptional.get(), okapiHeaders);
           }
           return Future.succeededFuture();
         });
   }
 
+  /**
+   * Creates the shadow instances of the holdings records whose instance doesn't exist in the tenant.
+   *
+   * <p>The instances not known from {@link LocalInstanceCache} are checked with a single query,
+   * at most {@link #SHARING_CONCURRENCY} shadow instances are created at a time.
+   */
   private Future<Void> createShadowInstancesIfNeeded(List<HoldingsRecord> holdingsRecords,
-                                                        ConsortiumData consortiumData) {
-    Map<String, Future<SharingInstance>> instanceFuturesMap = new HashMap<>();
-
-    for (HoldingsRecord holdingRecord : holdingsRecords) {
-      String instanceId = holdingRecord.getInstanceId();
-      instanceFuturesMap.computeIfAbsent(instanceId, v -> createShadowInstanceIfNeeded(instanceId, consortiumData));
+                                                        ConsortiumData consortiumData,
+                                                        Map<String, String> okapiHeaders) {
+    var tenantId = TenantTool.tenantId(okapiHeaders);
+    var instanceIds = holdingsRecords.stream()
+      .map(HoldingsRecord::getInstanceId)
+      .filter(Objects::nonNull)
+      .distinct()
+      .toList();
+    var unknownIds = localInstanceCache.unknown(tenantId, instanceIds);
+    if (unknownIds.isEmpty()) {
+      return Future.succeededFuture();
     }
-    return Future.all(new ArrayList<>(instanceFuturesMap.values()))
-        .mapEmpty();
+    return instanceRepository.getMissingIds(unknownIds)
+      .compose(missingIds -> {
+        var missing = new HashSet<>(missingIds);
+        unknownIds.stream()
+          .filter(instanceId -> !missing.contains(instanceId))
+          .forEach(instanceId -> localInstanceCache.put(tenantId, instanceId));
+        var queue = new ArrayDeque<>(missingIds);
+        var workers = new ArrayList<Future<Void>>();
+        for (int i = 0; i < Math.min(SHARING_CONCURRENCY, queue.size()); i++) {
+          workers.add(createShadowInstances(queue, consortiumData, okapiHeaders));
+        }
+        return Future.all(workers);
+      })
+      .mapEmpty();
   }
 
-  private Future<SharingInstance> createShadowInstanceIfNeeded(String instanceId, ConsortiumData consortiumData) {
-    return instanceRepository.exists(instanceId)
-      .compose(exists -> Boolean.TRUE.equals(exists) ? Future.succeededFuture() :
-        consortiumService.createShadowInstance(instanceId, consortiumData, okapiHeaders)
-      );
+  private Future<Void> createShadowInstances(Queue<String> instanceIds, ConsortiumData consortiumData,
+                                             Map<String, String> okapiHeaders) {
+    var instanceId = instanceIds.poll();
+    if (instanceId == null) {
+      return Future.succeededFuture();
+    }
+    return consortiumService.createShadowInstance(instanceId, consortiumData, okapiHeaders)
+      .onSuccess(sharingInstance -> localInstanceCache.put(TenantTool.tenantId(okapiHeaders), instanceId))
+      .compose(sharingInstance -> createShadowInstances(instanceIds, consortiumData, okapiHeaders));
   }
 
   private boolean holdingsRecordFound(HoldingsRecord holdingsRecord) {
@@ -4,16 +4,21 @@ import static io.vertx.core.Promise.promise;
 import static org.folio.rest.impl.BoundWithPartApi.BOUND_WITH_TABLE;
 import static org.folio.rest.persist.PgUtil.deleteById;
 import static org.folio.rest.persist.PgUtil.post;
+import static org.folio.rest.persist.PgUtil.postgresClient;
 import static org.folio.rest.persist.PgUtil.put;
 
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.tuple.Pair;
 import org.folio.persist.BoundWithRepository;
 import org.folio.rest.jaxrs.model.BoundWithPart;
 import org.folio.rest.jaxrs.resource.InventoryStorageBoundWithParts;
+import org.folio.rest.tools.utils.MetadataUtil;
 import org.folio.services.domainevent.BoundWithDomainEventPublisher;
 import org.folio.validator.CommonValidators;
 
@@ -37,7 +42,33 @@ public class BoundWithPartService {
       InventoryStorageBoundWithParts.PostInventoryStorageBoundWithPartsResponse.class, postResult);
 
     return postResult.future()
-      .onSuccess(domainEventPublisher.publishCreated());
+      .onSuccess(domainEventPublisher.publishCreated(okapiHeaders));
+  }
+
+  /**
+   * Makes the parts of the item the parts of the holdings records in a single transaction: deletes the parts
+   * of other holdings records and inserts the missing parts with one statement each, then publishes the events
+   * of the deleted and inserted parts as one batch without waiting for it.
+   */
+  public Future<Void> replaceParts(String itemId, List<String> holdingsRecordIds) {
+    var parts = holdingsRecordIds.stream()
+      .map(holdingsRecordId -> new BoundWithPart()
+        .withId(UUID.randomUUID().toString())
+        .withItemId(itemId)
+        .withHoldingsRecordId(holdingsRecordId))
+      .toList();
+    try {
+      MetadataUtil.populateMetadata(parts, okapiHeaders);
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+    return postgresClient(vertxContext, okapiHeaders).withTrans(conn ->
+        boundWithRepository.deleteOtherParts(conn, itemId, holdingsRecordIds)
+          .compose(removed -> boundWithRepository.insertMissingParts(conn, itemId, parts)
+            .map(created -> Pair.of(created, removed))))
+      .onSuccess(createdAndRemoved -> domainEventPublisher.publishReplaced(
+        createdAndRemoved.getLeft(), createdAndRemoved.getRight(), okapiHeaders))
+      .mapEmpty();
   }
 
   public Future<Response> update(BoundWithPart entity, String id) {
@@ -46,7 +77,7 @@ public class BoundWithPartService {
       InventoryStorageBoundWithParts.PutInventoryStorageBoundWithPartsByIdResponse.class, putResult);
 
     return putResult.future()
-      .onSuccess(domainEventPublisher.publishUpdated(entity));
+      .onSuccess(domainEventPublisher.publishUpdated(entity, okapiHeaders));
   }
 
   public Future<Response> delete(String id) {
@@ -59,7 +90,7 @@ public class BoundWithPartService {
           InventoryStorageBoundWithParts.DeleteInventoryStorageBoundWithPartsByIdResponse.class, deleteResult);
 
         return deleteResult.future()
-          .onSuccess(domainEventPublisher.publishRemoved(item));
+          .onSuccess(domainEventPublisher.publishRemoved(item, okapiHeaders));
       });
   }
 }
@@ -0,0 +1,38 @@
+package org.folio.services.instance;
+
+import static org.folio.rest.persist.PgUtil.postgresClient;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Tuple;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.services.audit.AuditPartitionService;
+
+/**
+ * Compacts instance_change_log: deletes the rows that the change feed no longer returns and the rows of
+ * the instances deleted before AUDIT_RETENTION_MONTHS.
+ */
+public class InstanceChangeLogService {
+  private static final Logger log = LogManager.getLogger(InstanceChangeLogService.class);
+
+  private final PostgresClient postgresClient;
+
+  public InstanceChangeLogService(Context vertxContext, Map<String, String> okapiHeaders) {
+    this.postgresClient = postgresClient(vertxContext, okapiHeaders);
+  }
+
+  /**
+   * Returns the number of deleted rows.
+   */
+  public Future<Long> compact() {
+    var retentionMonths = AuditPartitionService.retentionMonths();
+    return postgresClient.execute("SELECT " + postgresClient.getSchemaName() + ".instance_change_log_compact($1)",
+        Tuple.of(retentionMonths))
+      .map(rowSet -> rowSet.iterator().next().getLong(0))
+      .onSuccess(deleted -> log.info("compact:: retentionMonths: {}, deleted rows: {}", retentionMonths, deleted))
+      .onFailure(e -> log.error("compact:: Unable to compact the instance change log", e));
+  }
+}
@@ -63,7 +63,7 @@ public class InstanceDateTypeService {
           org.folio.rest.jaxrs.resource.InstanceDateTypes.PatchInstanceDateTypesByIdResponse.class, putResult);
 
         return putResult.future()
-          .onSuccess(eventPublisher.publishUpdated(oldDateType));
+          .onSuccess(eventPublisher.publishUpdated(oldDateType, okapiHeaders));
       });
   }
 
@@ -76,7 +76,7 @@ public class InstanceDateTypeService {
           org.folio.rest.jaxrs.resource.InstanceDateTypes.PatchInstanceDateTypesByIdResponse.class, putResult);
 
         return putResult.future()
-          .onSuccess(eventPublisher.publishUpdated(oldDateType));
+          .onSuccess(eventPublisher.publishUpdated(oldDateType, okapiHeaders));
       });
   }
 }
@@ -12,6 +12,7 @@ import static org.folio.rest.jaxrs.resource.InstanceStorage.PostInstanceStorageI
 import static org.folio.rest.jaxrs.resource.InstanceStorageBatchSynchronous.PostInstanceStorageBatchSynchronousResponse;
 import static org.folio.rest.jaxrs.resource.InstanceStorageBatchSynchronous.PostInstanceStorageBatchSynchronousResponse.respond201;
 import static org.folio.rest.jaxrs.resource.InstanceStorageBatchSynchronous.PostInstanceStorageBatchSynchronousResponse.respond413WithTextPlain;
+import static org.folio.rest.jaxrs.resource.InstanceStorageBatchSynchronousUnsafe.PostInstanceStorageBatchSynchronousUnsafeResponse;
 import static org.folio.rest.persist.PgUtil.postgresClient;
 import static org.folio.rest.persist.PgUtil.put;
 import static org.folio.rest.support.StatusUpdatedDateGenerator.generateStatusUpdatedDate;
@@ -57,15 +58,21 @@ import org.folio.rest.support.HridManager;
 import org.folio.rest.tools.utils.MetadataUtil;
 import org.folio.rest.tools.utils.OptimisticLockingUtil;
 import org.folio.services.ResponseHandlerUtil;
+import org.folio.services.batch.BatchLoad;
 import org.folio.services.caches.ConsortiumData;
-import org.folio.services.caches.ConsortiumDataCache;
 import org.folio.services.consortium.ConsortiumService;
 import org.folio.services.consortium.ConsortiumServiceImpl;
+import org.folio.services.deletion.ChunkedDeleter;
 import org.folio.services.domainevent.InstanceDomainEventPublisher;
 import org.folio.util.StringUtil;
 import org.folio.validator.CommonValidators;
 import org.folio.validator.NotesValidators;
 
+/**
+ * Instance operations of a tenant. The service doesn't hold request state, one instance is shared by all
+ * requests of the tenant, see {@link org.folio.services.TenantServices}; the Okapi headers and the
+ * Vert.x context of the request are passed to each call.
+ */
 public class InstanceService {
   private static final Logger logger = LogManager.getLogger(InstanceService.class);
   private static final String DB_ALLOW_SUPPRESS_OPTIMISTIC_LOCKING =
@@ -74,8 +81,6 @@ public class InstanceService {
     "Expected a maximum of %s records to prevent out of memory but got %s";
   private static final String RESPOND_500_WITH_TEXT_PLAIN = "respond500WithTextPlain";
   private final HridManager hridManager;
-  private final Context vertxContext;
-  private final Map<String, String> okapiHeaders;
   private final PostgresClient postgresClient;
   private final InstanceDomainEventPublisher domainEventPublisher;
   private final InstanceRepository instanceRepository;
@@ -83,18 +88,17 @@ public class InstanceService {
   private final InstanceRelationshipRepository relationshipRepository;
   private final ConsortiumService consortiumService;
 
+  /**
+   * The service of the tenant of the okapiHeaders, the okapiHeaders are used only to select the tenant.
+   */
   public InstanceService(Context vertxContext, Map<String, String> okapiHeaders) {
-    this.vertxContext = vertxContext;
-    this.okapiHeaders = okapiHeaders;
-
     postgresClient = postgresClient(vertxContext, okapiHeaders);
     hridManager = new HridManager(postgresClient);
     domainEventPublisher = new InstanceDomainEventPublisher(vertxContext, okapiHeaders);
     instanceRepository = new InstanceRepository(vertxContext, okapiHeaders);
     marcRepository = new InstanceMarcRepository(vertxContext, okapiHeaders);
     relationshipRepository = new InstanceRelationshipRepository(vertxContext, okapiHeaders);
-    consortiumService = new ConsortiumServiceImpl(vertxContext.owner().createHttpClient(),
-      vertxContext.get(ConsortiumDataCache.class.getName()));
+    consortiumService = ConsortiumServiceImpl.getInstance(vertxContext);
   }
 
   public Future<Response> getInstance(String id) {
@@ -112,18 +116,19 @@ public class InstanceService {
   public Future<Response> getInstanceSet(boolean instance, boolean holdingsRecords, boolean items,
                                          boolean precedingTitles, boolean succeedingTitles,
                                          boolean superInstanceRelationships, boolean subInstanceRelationships,
-                                         int offset, int limit, String query) {
+                                         int offset, int limit, String query, Map<String, String> okapiHeaders) {
 
     return instanceRepository.getInstanceSet(instance, holdingsRecords, items,
       precedingTitles, succeedingTitles, superInstanceRelationships, subInstanceRelationships,
-      offset, limit, query);
+      offset, limit, query, okapiHeaders);
   }
 
-  public Future<Response> getInventoryViewInstancesWithBoundedItems(int offset, int limit, String query) {
-    return instanceRepository.getInventoryViewInstancesWithBoundedItems(offset, limit, query);
+  public Future<Response> getInventoryViewInstancesWithBoundedItems(int offset, int limit, String query,
+                                                                   Map<String, String> okapiHeaders) {
+    return instanceRepository.getInventoryViewInstancesWithBoundedItems(offset, limit, query, okapiHeaders);
   }
 
-  public Future<Response> createInstance(Instance entity) {
+  public Future<Response> createInstance(Instance entity, Map<String, String> okapiHeaders) {
     entity.setStatusUpdatedDate(generateStatusUpdatedDate());
     return hridManager.populateHrid(entity)
       .compose(NotesValidators::refuseLongNotes)
@@ -157,18 +162,20 @@ public class InstanceService {
             // api client invoking this endpoint. The response is returned
             // a little earlier so the api client can continue its processing
             // while the domain event publish is satisfied.
-            .onSuccess(domainEventPublisher.publishCreated());
+            .onSuccess(domainEventPublisher.publishCreated(okapiHeaders));
       })
       .map(ResponseHandlerUtil::handleHridErrorInInstance);
   }
 
   public Future<Response> createInstances(List<Instance> instances, boolean upsert, boolean optimisticLocking,
-                                          boolean publishEvents) {
-    return createInstances(instances, upsert, optimisticLocking, publishEvents, conn -> Future.succeededFuture());
+                                          boolean publishEvents, Map<String, String> okapiHeaders) {
+    return createInstances(instances, upsert, optimisticLocking, publishEvents, conn -> Future.succeededFuture(),
+      okapiHeaders);
   }
 
   public Future<Response> createInstances(List<Instance> instances, boolean upsert, boolean optimisticLocking,
-                                          boolean publishEvents, Function<Conn, Future<?>> additionalOperations) {
+                                          boolean publishEvents, Function<Conn, Future<?>> additionalOperations,
+                                          Map<String, String> okapiHeaders) {
     final String statusUpdatedDate = generateStatusUpdatedDate();
     instances.forEach(instance -> instance.setStatusUpdatedDate(statusUpdatedDate));
 
@@ -178,14 +185,37 @@ public class InstanceService {
         instanceRepository, Instance::getId, publishEvents))
       .compose(batchOperation ->
         postgresClient.withTrans(conn ->
-            postSyncInstance(conn, instances, upsert, optimisticLocking)
+            postSyncInstance(conn, instances, upsert, optimisticLocking, okapiHeaders)
               .compose(response -> batchLinkSubjects(conn, batchOperation.recordsToBeCreated())
                 .compose(v -> additionalOperations.apply(conn)).map(response)))
-          .onSuccess(domainEventPublisher.publishCreatedOrUpdated(batchOperation)))
+          .onSuccess(domainEventPublisher.publishCreatedOrUpdated(batchOperation, okapiHeaders)))
       .map(ResponseHandlerUtil::handleHridError);
   }
 
-  public Future<Response> updateInstance(String id, Instance newInstance) {
+  /**
+   * Load mode of the batch synchronous unsafe API: same as
+   * {@link #createInstances(List, boolean, boolean, boolean, Map)} with upsert and without optimistic locking,
+   * but all instances are written with a single statement.
+   */
+  public Future<Response> loadInstances(List<Instance> instances, Map<String, String> okapiHeaders) {
+    final String statusUpdatedDate = generateStatusUpdatedDate();
+    instances.forEach(instance -> instance.setStatusUpdatedDate(statusUpdatedDate));
+
+    return BatchLoad.prepare(instances, Instance::getId, Instance::setId, okapiHeaders)
+      .compose(hridManager::populateHridForInstances)
+      .compose(NotesValidators::refuseInstanceLongNotes)
+      .compose(notUsed -> buildBatchOperationContext(true, instances, instanceRepository, Instance::getId, true))
+      .compose(batchOperation ->
+        postgresClient.withTrans(conn ->
+            instanceRepository.loadBatch(conn, instances, Instance::getId)
+              .compose(rowSet -> batchLinkSubjects(conn, batchOperation.recordsToBeCreated()))
+              .map(notUsed -> PostInstanceStorageBatchSynchronousUnsafeResponse.respond201()))
+          .onSuccess(domainEventPublisher.publishCreatedOrUpdated(batchOperation, okapiHeaders)))
+      .map(ResponseHandlerUtil::handleHridError);
+  }
+
+  public Future<Response> updateInstance(String id, Instance newInstance, Map<String, String> okapiHeaders,
+                                         Context vertxContext) {
     return refuseLongNotes(newInstance)
       .compose(notUsed -> instanceRepository.getById(id))
       .compose(CommonValidators::refuseIfNotFound)
@@ -208,7 +238,7 @@ public class InstanceService {
 
         final Promise<Response> putResult = promise();
         return postgresClient.withTrans(conn -> {
-          Promise<Response> putPromise = putInstance(newInstance, id);
+          Promise<Response> putPromise = putInstance(newInstance, id, okapiHeaders, vertxContext);
           return putPromise.future()
             .compose(response -> linkOrUnlinkSubjects(conn, newInstance, oldInstance)
               .map(v -> response));
@@ -218,12 +248,12 @@ public class InstanceService {
           } else {
             putResult.fail(transactionResult.cause());
           }
-        }).onSuccess(domainEventPublisher.publishUpdated(oldInstance));
+        }).onSuccess(domainEventPublisher.publishUpdated(oldInstance, okapiHeaders));
       });
   }
 
   private Future<Response> postSyncInstance(Conn conn, List<Instance> instances, boolean upsert,
-                                            boolean optimisticLocking) {
+                                            boolean optimisticLocking, Map<String, String> okapiHeaders) {
     try {
       if (instances != null && instances.size() > MAX_ENTITIES) {
         String message = EXPECTED_A_MAXIMUM_RECORDS_TO_PREVENT_OUT_OF_MEMORY.formatted(MAX_ENTITIES, instances.size());
@@ -263,7 +293,8 @@ public class InstanceService {
     }
   }
 
-  private Promise<Response> putInstance(Instance newInstance, String instanceId) {
+  private static Promise<Response> putInstance(Instance newInstance, String instanceId,
+                                              Map<String, String> okapiHeaders, Context vertxContext) {
     Promise<Response> promise = Promise.promise();
     put(INSTANCE_TABLE, newInstance, instanceId, okapiHeaders, vertxContext,
       InstanceStorage.PutInstanceStorageInstancesByInstanceIdResponse.class, reply -> {
@@ -373,18 +404,18 @@ public class InstanceService {
    * Deletes all instances but sends only a single domain event (Kafka) message "all records removed",
    * this is much faster than sending one message for each deleted instance.
    */
-  public Future<Response> deleteAllInstances() {
+  public Future<Response> deleteAllInstances(Map<String, String> okapiHeaders) {
     return marcRepository.deleteAll()
       .compose(notUsed -> relationshipRepository.deleteAll())
       .compose(notUsed -> instanceRepository.deleteAll())
-      .onSuccess(notUsed -> domainEventPublisher.publishAllRemoved())
+      .onSuccess(notUsed -> domainEventPublisher.publishAllRemoved(okapiHeaders))
       .map(noContent().build());
   }
 
   /**
    * Delete instance, this also deletes connected marc records (ON DELETE CASCADE).
    */
-  public Future<Response> deleteInstance(String id) {
+  public Future<Response> deleteInstance(String id, Map<String, String> okapiHeaders) {
     return instanceRepository.delete("id==" + StringUtil.cqlEncode(id))
       .map(rowSet -> {
         if (!rowSet.iterator().hasNext()) {
@@ -393,7 +424,7 @@ public class InstanceService {
         // do not add curly braces for readability, this is to comply with
         // https://sonarcloud.io/organizations/folio-org/rules?open=java%3AS1602&rule_key=java%3AS1602
         rowSet.iterator().forEachRemaining(row ->
-          domainEventPublisher.publishRemoved(row.getString(0), row.getString(1))
+          domainEventPublisher.publishRemoved(row.getString(0), row.getString(1), okapiHeaders)
         );
         return noContent().build();
       });
@@ -402,36 +433,39 @@ public class InstanceService {
   /**
    * Delete instances, this also deletes connected marc records (ON DELETE CASCADE).
    */
-  public Future<Response> deleteInstances(String cql) {
+  public Future<Response> deleteInstances(String cql, Map<String, String> okapiHeaders) {
     if (StringUtils.isBlank(cql)) {
       return Future.succeededFuture(
         DeleteInstanceStorageInstancesResponse.respond400WithTextPlain(
           "Expected CQL but query parameter is empty"));
     }
     if (new CqlQuery(cql).isMatchingAll()) {
-      return deleteAllInstances();  // faster: sends only one domain event (Kafka) message
+      return deleteAllInstances(okapiHeaders);  // faster: sends only one domain event (Kafka) message
     }
-    // do not add curly braces for readability, this is to comply with
-    // https://sonarcloud.io/organizations/folio-org/rules?open=java%3AS1602&rule_key=java%3AS1602
-    return instanceRepository.delete(cql)
-      .onSuccess(rowSet -> vertxContext.runOnContext(runLater ->
-        rowSet.iterator().forEachRemaining(row ->
-          domainEventPublisher.publishRemoved(row.getString(0), row.getString(1))
-        )
-      ))
-      .map(noContent().build());
+    return chunkedDeleter(cql, okapiHeaders).delete()
+      .map(deleted -> noContent().build());
+  }
+
+  /**
+   * Deleter of the instances matching the CQL query that publishes a domain event for each deleted instance.
+   */
+  public ChunkedDeleter chunkedDeleter(String cql, Map<String, String> okapiHeaders) {
+    return new ChunkedDeleter((afterId, limit) -> instanceRepository.deleteChunk(cql, afterId, limit),
+      row -> Pair.of(row.getString(0), row.getString(1)),
+      keysAndRawRecords -> domainEventPublisher.publishRemoved(keysAndRawRecords, okapiHeaders));
   }
 
-  public Future<Void> publishReindexInstanceRecords(String rangeId, String fromId, String toId) {
+  public Future<Void> publishReindexInstanceRecords(String rangeId, String fromId, String toId,
+                                                    Map<String, String> okapiHeaders) {
     return consortiumService.getConsortiumData(okapiHeaders)
       .map(consortiumDataOptional -> consortiumDataOptional
         .map(consortiumData -> isCentralTenantId(okapiHeaders.get(TENANT), consortiumData))
         .orElse(false))
       .compose(isCentralTenant -> {
         var notConsortiumCentralTenant = Boolean.FALSE.equals(isCentralTenant);
-        return instanceRepository.getReindexInstances(fromId, toId, notConsortiumCentralTenant);
+        return instanceRepository.getReindexInstances(fromId, toId, notConsortiumCentralTenant, okapiHeaders);
       })
-      .onSuccess(instances -> domainEventPublisher.publishReindexInstances(rangeId, instances))
+      .onSuccess(instances -> domainEventPublisher.publishReindexInstances(rangeId, instances, okapiHeaders))
       .map(notUsed -> null);
   }
 
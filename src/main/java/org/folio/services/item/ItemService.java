@@ -15,19 +15,19 @@ import static org.folio.rest.jaxrs.resource.ItemStorage.DeleteItemStorageItemsRe
 import static org.folio.rest.jaxrs.resource.ItemStorage.PostItemStorageItemsResponse;
 import static org.folio.rest.jaxrs.resource.ItemStorage.PutItemStorageItemsByItemIdResponse;
 import static org.folio.rest.jaxrs.resource.ItemStorageBatchSynchronous.PostItemStorageBatchSynchronousResponse;
+import static org.folio.rest.jaxrs.resource.ItemStorageBatchSynchronousUnsafe.PostItemStorageBatchSynchronousUnsafeResponse;
 import static org.folio.rest.persist.PgUtil.deleteById;
 import static org.folio.rest.persist.PgUtil.post;
 import static org.folio.rest.persist.PgUtil.postSync;
 import static org.folio.rest.persist.PgUtil.postgresClient;
 import static org.folio.rest.persist.PostgresClient.pojo2JsonObject;
 import static org.folio.rest.support.CollectionUtil.deepCopy;
+import static org.folio.rest.tools.utils.ValidationHelper.createValidationErrorMessage;
 import static org.folio.services.batch.BatchOperationContextFactory.buildBatchOperationContext;
 import static org.folio.utils.ComparisonUtils.equalsIgnoringMetadata;
 import static org.folio.validator.HridValidators.refuseWhenHridChanged;
 import static org.folio.validator.NotesValidators.refuseLongNotes;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
@@ -36,8 +36,10 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.Tuple;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -46,14 +48,19 @@ import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.logging.log4j.Logger;
-import org.folio.dbschema.ObjectMapperTool;
 import org.folio.okapi.common.XOkapiHeaders;
 import org.folio.persist.HoldingsRepository;
 import org.folio.persist.ItemRepository;
+import org.folio.rest.exceptions.ValidationException;
 import org.folio.rest.jaxrs.model.CirculationNote;
 import org.folio.rest.jaxrs.model.HoldingsRecord;
 import org.folio.rest.jaxrs.model.Item;
+import org.folio.rest.jaxrs.model.ItemStatusUpdate;
+import org.folio.rest.jaxrs.model.ItemStatusUpdateResult;
 import org.folio.rest.jaxrs.model.Metadata;
 import org.folio.rest.persist.PgExceptionUtil;
 import org.folio.rest.persist.PostgresClient;
@@ -64,14 +71,20 @@ import org.folio.rest.support.HridManager;
 import org.folio.rest.tools.client.exceptions.ResponseException;
 import org.folio.services.ItemEffectiveValuesService;
 import org.folio.services.ResponseHandlerUtil;
+import org.folio.services.batch.BatchLoad;
+import org.folio.services.deletion.ChunkedDeleter;
 import org.folio.services.domainevent.ItemDomainEventPublisher;
 import org.folio.validator.CommonValidators;
 import org.folio.validator.NotesValidators;
 
+/**
+ * Item operations of a tenant. The service doesn't hold request state, one instance is shared by all
+ * requests of the tenant, see {@link org.folio.services.TenantServices}; the Okapi headers and the
+ * Vert.x context of the request are passed to each call.
+ */
 public class ItemService {
 
   private static final Logger log = getLogger(ItemService.class);
-  private static final ObjectMapper OBJECT_MAPPER = ObjectMapperTool.getMapper();
   private static final Pattern KEY_ALREADY_EXISTS_PATTERN = Pattern.compile(
     ": Key \\(([^=]+)\\)=\\((.*)\\) already exists.$");
   private static final Pattern KEY_NOT_PRESENT_PATTERN = Pattern.compile(
@@ -82,18 +95,16 @@ public class ItemService {
 
   private final HridManager hridManager;
   private final ItemEffectiveValuesService effectiveValuesService;
-  private final Context vertxContext;
-  private final Map<String, String> okapiHeaders;
   private final ItemDomainEventPublisher domainEventService;
   private final ItemRepository itemRepository;
   private final PostgresClient postgresClient;
   private final PostgresClientFuturized postgresClientFuturized;
   private final HoldingsRepository holdingsRepository;
 
+  /**
+   * The service of the tenant of the okapiHeaders, the okapiHeaders are used only to select the tenant.
+   */
   public ItemService(Context vertxContext, Map<String, String> okapiHeaders) {
-    this.vertxContext = vertxContext;
-    this.okapiHeaders = okapiHeaders;
-
     postgresClient = postgresClient(vertxContext, okapiHeaders);
     postgresClientFuturized = new PostgresClientFuturized(postgresClient);
     hridManager = new HridManager(postgresClient);
@@ -103,47 +114,67 @@ public class ItemService {
     holdingsRepository = new HoldingsRepository(vertxContext, okapiHeaders);
   }
 
-  public Future<Response> createItem(Item entity) {
+  public Future<Response> createItem(Item entity, Map<String, String> okapiHeaders, Context vertxContext) {
     entity.getStatus().setDate(new Date());
 
     return hridManager.populateHrid(entity)
       .compose(NotesValidators::refuseLongNotes)
-      .compose(effectiveValuesService::populateEffectiveValues)
-      .compose(this::populateCirculationNoteId)
-      .compose(item -> {
-        final Promise<Response> postResponse = promise();
+      .compose(item -> effectiveValuesService.populateEffectiveValuesAndGetInstanceIds(List.of(item))
+        .compose(instanceIds -> {
+          populateCirculationNoteId(item);
+          final Promise<Response> postResponse = promise();
 
-        post(ITEM_TABLE, item, okapiHeaders, vertxContext,
-          PostItemStorageItemsResponse.class, postResponse);
+          post(ITEM_TABLE, item, okapiHeaders, vertxContext,
+            PostItemStorageItemsResponse.class, postResponse);
 
-        return postResponse.future()
-          .onSuccess(domainEventService.publishCreated());
-      })
+          return postResponse.future()
+            .onSuccess(domainEventService.withInstanceIds(instanceIds).publishCreated(okapiHeaders));
+        }))
       .map(ResponseHandlerUtil::handleHridError);
   }
 
-  public Future<Response> createItems(List<Item> items, boolean upsert, boolean optimisticLocking) {
-    final Date itemStatusDate = new java.util.Date();
-    items.stream()
-      .filter(item -> item.getStatus().getDate() == null)
-      .forEach(item -> item.getStatus().setDate(itemStatusDate));
+  public Future<Response> createItems(List<Item> items, boolean upsert, boolean optimisticLocking,
+                                      Map<String, String> okapiHeaders, Context vertxContext) {
+    populateStatusDate(items);
 
     return hridManager.populateHridForItems(items)
       .compose(NotesValidators::refuseItemLongNotes)
-      .compose(result -> effectiveValuesService.populateEffectiveValues(items))
-      .compose(this::populateCirculationNoteId)
-      .compose(result -> buildBatchOperationContext(upsert, items, itemRepository, Item::getId, true))
-      .compose(batchOperation -> postSync(ITEM_TABLE, items, MAX_ENTITIES, upsert, optimisticLocking,
-        okapiHeaders, vertxContext, PostItemStorageBatchSynchronousResponse.class)
-        .onSuccess(domainEventService.publishCreatedOrUpdated(batchOperation)))
+      .compose(result -> effectiveValuesService.populateEffectiveValuesAndGetInstanceIds(items))
+      .compose(instanceIds -> populateCirculationNoteId(items)
+        .compose(result -> buildBatchOperationContext(upsert, items, itemRepository, Item::getId, true))
+        .compose(batchOperation -> postSync(ITEM_TABLE, items, MAX_ENTITIES, upsert, optimisticLocking,
+          okapiHeaders, vertxContext, PostItemStorageBatchSynchronousResponse.class)
+          .onSuccess(domainEventService.withInstanceIds(instanceIds)
+            .publishCreatedOrUpdated(batchOperation, okapiHeaders))))
+      .map(ResponseHandlerUtil::handleHridError);
+  }
+
+  /**
+   * Load mode of the batch synchronous unsafe API: same as
+   * {@link #createItems(List, boolean, boolean, Map, Context)} with upsert and without optimistic locking,
+   * but all items are written with a single statement.
+   */
+  public Future<Response> loadItems(List<Item> items, Map<String, String> okapiHeaders) {
+    populateStatusDate(items);
+
+    return BatchLoad.prepare(items, Item::getId, Item::setId, okapiHeaders)
+      .compose(hridManager::populateHridForItems)
+      .compose(NotesValidators::refuseItemLongNotes)
+      .compose(result -> effectiveValuesService.populateEffectiveValuesAndGetInstanceIds(items))
+      .compose(instanceIds -> populateCirculationNoteId(items)
+        .compose(result -> buildBatchOperationContext(true, items, itemRepository, Item::getId, true))
+        .compose(batchOperation -> itemRepository.loadBatch(items, Item::getId)
+          .map(rowSet -> PostItemStorageBatchSynchronousUnsafeResponse.respond201())
+          .onSuccess(domainEventService.withInstanceIds(instanceIds)
+            .publishCreatedOrUpdated(batchOperation, okapiHeaders))))
       .map(ResponseHandlerUtil::handleHridError);
   }
 
-  public Future<Response> updateItems(List<Item> items) {
-    return createItems(items, true, true);
+  public Future<Response> updateItems(List<Item> items, Map<String, String> okapiHeaders, Context vertxContext) {
+    return createItems(items, true, true, okapiHeaders, vertxContext);
   }
 
-  public Future<Response> updateItem(String itemId, Item newItem) {
+  public Future<Response> updateItem(String itemId, Item newItem, Map<String, String> okapiHeaders) {
     newItem.setId(itemId);
     PutData putData = new PutData();
     return refuseLongNotes(newItem)
@@ -167,7 +198,7 @@ public class ItemService {
           } else {
             return doUpdateItem(newItem)
               .onSuccess(finalItem -> domainEventService.publishUpdated(
-                finalItem, putData.oldItem, putData.newHoldings, putData.oldHoldings));
+                finalItem, putData.oldItem, putData.newHoldings, putData.oldHoldings, okapiHeaders));
           }
         } catch (Exception e) {
           return Future.failedFuture(e);
@@ -176,7 +207,56 @@ public class ItemService {
       .map(x -> PutItemStorageItemsByItemIdResponse.respond204());
   }
 
-  public Future<Response> deleteItem(String itemId) {
+  /**
+   * Sets the status of the items with a single statement instead of a PUT per item. An item is updated only
+   * if its stored _version matches the expected _version and its status changes; the events of the updated
+   * items are published after the statement.
+   */
+  public Future<ItemStatusUpdateResult> updateItemStatuses(List<ItemStatusUpdate> updates,
+                                                           Map<String, String> okapiHeaders) {
+    var ids = new HashSet<String>();
+    for (var update : updates) {
+      if (!ids.add(update.getId())) {
+        return Future.failedFuture(new ValidationException(
+          createValidationErrorMessage("id", update.getId(), "Duplicate item id")));
+      }
+    }
+
+    JsonObject metadata;
+    try {
+      metadata = pojo2JsonObject(new Metadata()
+        .withUpdatedDate(new Date())
+        .withUpdatedByUserId(okapiHeaders.get(XOkapiHeaders.USER_ID)));
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+
+    return itemRepository.updateStatuses(updates, metadata)
+      .map(rowSet -> {
+        var result = new ItemStatusUpdateResult();
+        var updatedItems = new ArrayList<Triple<String, Item, Item>>();
+        rowSet.forEach(row -> {
+          var id = row.getString(0);
+          switch (row.getString(1)) {
+            case "updated" -> {
+              result.getUpdatedIds().add(id);
+              updatedItems.add(ImmutableTriple.of(row.getString(4),
+                readValue(row.getString(2), Item.class), readValue(row.getString(3), Item.class)));
+            }
+            case "unchanged" -> result.getUnchangedIds().add(id);
+            case "conflict" -> result.getConflictIds().add(id);
+            default -> result.getNotFoundIds().add(id);
+          }
+        });
+        log.info("updateItemStatuses:: updated {}, unchanged {}, conflict {}, not found {}",
+          result.getUpdatedIds().size(), result.getUnchangedIds().size(), result.getConflictIds().size(),
+          result.getNotFoundIds().size());
+        domainEventService.publishStatusesUpdated(updatedItems, okapiHeaders);
+        return result;
+      });
+  }
+
+  public Future<Response> deleteItem(String itemId, Map<String, String> okapiHeaders, Context vertxContext) {
     return itemRepository.getById(itemId)
       .compose(CommonValidators::refuseIfNotFound)
       .compose(item -> {
@@ -186,47 +266,40 @@ public class ItemService {
           DeleteItemStorageItemsByItemIdResponse.class, deleteResult);
 
         return deleteResult.future()
-          .onSuccess(domainEventService.publishRemoved(item));
+          .onSuccess(domainEventService.publishRemoved(item, okapiHeaders));
       });
   }
 
-  public Future<Response> deleteItems(String cql) {
+  public Future<Response> deleteItems(String cql, Map<String, String> okapiHeaders) {
     if (isBlank(cql)) {
       return Future.succeededFuture(
         DeleteItemStorageItemsResponse.respond400WithTextPlain(
           "Expected CQL but query parameter is empty"));
     }
     if (new CqlQuery(cql).isMatchingAll()) {
-      return deleteAllItems();  // faster: sends only one domain event (Kafka) message
+      return deleteAllItems(okapiHeaders);  // faster: sends only one domain event (Kafka) message
     }
-    // do not add curly braces for readability, this is to comply with
-    // https://sonarcloud.io/organizations/folio-org/rules?open=java%3AS1602&rule_key=java%3AS1602
-    return itemRepository.delete(cql)
-      .onSuccess(rowSet -> vertxContext.runOnContext(runLater ->
-        rowSet.iterator().forEachRemaining(row -> {
-            try {
-              var instanceIdAndItemRaw = INSTANCE_ID_WITH_ITEM_JSON.formatted(
-                row.getString(0), row.getString(1).substring(1));
-              var itemId = OBJECT_MAPPER.readTree(row.getString(1)).get("id").textValue();
-
-              domainEventService.publishRemoved(itemId, instanceIdAndItemRaw);
-            } catch (JsonProcessingException ex) {
-              log.error("deleteItems:: Failed to parse json : {}", ex.getMessage(), ex);
-              throw new IllegalArgumentException(ex.getCause());
-            }
-          }
-        )
-      ))
-      .map(Response.noContent().build());
+    return chunkedDeleter(cql, okapiHeaders).delete()
+      .map(deleted -> Response.noContent().build());
+  }
+
+  /**
+   * Deleter of the items matching the CQL query that publishes a domain event for each deleted item.
+   */
+  public ChunkedDeleter chunkedDeleter(String cql, Map<String, String> okapiHeaders) {
+    return new ChunkedDeleter((afterId, limit) -> itemRepository.deleteChunk(cql, afterId, limit),
+      row -> Pair.of(row.getString(0),
+        INSTANCE_ID_WITH_ITEM_JSON.formatted(row.getString(1), row.getString(2).substring(1))),
+      keysAndRawRecords -> domainEventService.publishRemoved(keysAndRawRecords, okapiHeaders));
   }
 
   /**
    * Deletes all items but sends only a single domain event (Kafka) message "all records removed",
    * this is much faster than sending one message for each deleted item.
    */
-  public Future<Response> deleteAllItems() {
+  public Future<Response> deleteAllItems(Map<String, String> okapiHeaders) {
     return itemRepository.deleteAll()
-      .onSuccess(notUsed -> domainEventService.publishAllRemoved())
+      .onSuccess(notUsed -> domainEventService.publishAllRemoved(okapiHeaders))
       .map(Response.noContent().build());
   }
 
@@ -234,19 +307,21 @@ public class ItemService {
    * Return items before update.
    */
   public Future<List<Item>> updateItemsOnHoldingChanged(AsyncResult<SQLConnection> connection,
-                                                        HoldingsRecord holdingsRecord) {
+                                                        HoldingsRecord holdingsRecord,
+                                                        Map<String, String> okapiHeaders) {
 
     return itemRepository.getItemsForHoldingRecord(connection, holdingsRecord.getId())
       .compose(items -> updateEffectiveCallNumbersAndLocation(connection,
         // have to make deep clone of the items because the items are stateful
         // so that domain events will have proper 'old' item state.
-        deepCopy(items, Item.class), holdingsRecord)
+        deepCopy(items, Item.class), holdingsRecord, okapiHeaders)
         .map(items));
   }
 
-  public Future<Void> publishReindexItemRecords(String rangeId, String fromId, String toId) {
-    return itemRepository.getReindexItemRecords(fromId, toId)
-      .compose(items -> domainEventService.publishReindexItems(rangeId, items));
+  public Future<Void> publishReindexItemRecords(String rangeId, String fromId, String toId,
+                                                Map<String, String> okapiHeaders) {
+    return itemRepository.getReindexItemRecords(fromId, toId, okapiHeaders)
+      .compose(items -> domainEventService.publishReindexItems(rangeId, items, okapiHeaders));
   }
 
   private static Response putFailure(Throwable e) {
@@ -285,14 +360,15 @@ public class ItemService {
   }
 
   private Future<RowSet<Row>> updateEffectiveCallNumbersAndLocation(
-    AsyncResult<SQLConnection> connectionResult, Collection<Item> items, HoldingsRecord holdingsRecord) {
+    AsyncResult<SQLConnection> connectionResult, Collection<Item> items, HoldingsRecord holdingsRecord,
+    Map<String, String> okapiHeaders) {
 
     final Promise<RowSet<Row>> allItemsUpdated = promise();
     final var batchFactories = items.stream()
       .map(item -> {
         effectiveValuesService.populateEffectiveValues(item, holdingsRecord);
         if (isItemFieldsAffected(holdingsRecord, item)) {
-          populateMetadata(item, holdingsRecord.getMetadata());
+          populateMetadata(item, holdingsRecord.getMetadata(), okapiHeaders);
         }
         return item;
       })
@@ -313,6 +389,13 @@ public class ItemService {
     return connection -> itemRepository.update(connection, item.getId(), item);
   }
 
+  private static void populateStatusDate(List<Item> items) {
+    final Date itemStatusDate = new Date();
+    items.stream()
+      .filter(item -> item.getStatus().getDate() == null)
+      .forEach(item -> item.getStatus().setDate(itemStatusDate));
+  }
+
   private Future<PutData> getItemAndHolding(String itemId, String holdingsId) {
     String sql = "SELECT item.jsonb::text, holdings_record.jsonb::text "
                  + "FROM " + postgresClientFuturized.getFullTableName(ITEM_TABLE) + " "
@@ -363,7 +446,7 @@ public class ItemService {
       .recover(e -> Future.failedFuture(new ResponseException(putFailure(e))));
   }
 
-  private void populateMetadata(Item item, Metadata metadata) {
+  private static void populateMetadata(Item item, Metadata metadata, Map<String, String> okapiHeaders) {
     var oldMetadata = item.getMetadata();
     var updatedMetadata = new Metadata()
       .withCreatedByUserId(oldMetadata.getCreatedByUserId())
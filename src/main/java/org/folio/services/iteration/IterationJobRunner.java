@@ -8,9 +8,9 @@ import static org.folio.rest.jaxrs.model.IterationJob.JobStatus.COMPLETED;
 import static org.folio.rest.jaxrs.model.IterationJob.JobStatus.FAILED;
 import static org.folio.rest.tools.utils.TenantTool.tenantId;
 
+import io.micrometer.core.instrument.Counter;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
-import io.vertx.core.WorkerExecutor;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowStream;
 import java.util.Map;
@@ -29,15 +29,17 @@ import org.folio.rest.tools.utils.TenantTool;
 import org.folio.services.domainevent.CommonDomainEventPublisher;
 import org.folio.services.domainevent.DomainEvent;
 import org.folio.services.domainevent.DomainEventType;
+import org.folio.services.executor.JobExecutor;
+import org.folio.services.executor.JobExecutor.JobType;
+import org.folio.services.metrics.InventoryMetrics;
 
 public class IterationJobRunner {
 
   public static final String ITERATION_JOB_ID_HEADER = "iteration-job-id";
 
   private static final Logger log = LogManager.getLogger(IterationJobRunner.class);
-  private static final int POOL_SIZE = 2;
   private static final int UPDATE_PUBLISHED_EVERY = 1000;
-  private static volatile WorkerExecutor workerExecutor;
+  private static final Counter RECORDS = InventoryMetrics.counter("job.records", "job", "iteration");
 
   private final Context vertxContext;
   private final Map<String, String> okapiHeaders;
@@ -63,19 +65,6 @@ public class IterationJobRunner {
     this.postgresClient = postgresClient;
     this.jobRepository = repository;
     this.instanceRepository = instanceRepository;
-
-    initWorker(vertxContext);
-  }
-
-  private static void initWorker(Context vertxContext) {
-    if (workerExecutor == null) {
-      synchronized (IterationJobRunner.class) {
-        if (workerExecutor == null) {
-          workerExecutor = vertxContext.owner()
-            .createSharedWorkerExecutor("instance-iteration", POOL_SIZE);
-        }
-      }
-    }
   }
 
   public void startIteration(IterationJob job) {
@@ -85,11 +74,7 @@ public class IterationJobRunner {
     eventPublisher = new CommonDomainEventPublisher<>(vertxContext, okapiHeaders,
       fullTopicName);
 
-    workerExecutor.executeBlocking(
-        promise -> streamInstanceIds(new IterationContext(job))
-          .map(notUsed -> null)
-          .onComplete(promise))
-      .map(notUsed -> null);
+    JobExecutor.execute(vertxContext, JobType.ITERATION, () -> streamInstanceIds(new IterationContext(job)));
   }
 
   private Future<Long> streamInstanceIds(IterationContext context) {
@@ -129,10 +114,11 @@ public class IterationJobRunner {
   private Future<Long> processStream(IterationContext context) {
     return eventPublisher.publishStream(context.stream,
       row -> rowToProducerRecord(row, context),
-      recordsPublished -> logJobDetails(recordsPublished, context));
+      recordsPublished -> logJobDetails(recordsPublished, context), okapiHeaders);
   }
 
   private Future<IterationJob> logJobDetails(Long records, IterationContext context) {
+    RECORDS.increment();
     if (!shouldLogJobDetails(records)) {
       return succeededFuture(context.job);
     }
@@ -67,7 +67,7 @@ public class LocationService {
       .compose(exceptions -> {
         if (exceptions.isEmpty()) {
           return post(LOCATION_TABLE, location, okapiHeaders, context, PostLocationsResponse.class)
-            .onSuccess(domainEventService.publishCreated());
+            .onSuccess(domainEventService.publishCreated(okapiHeaders));
         } else {
           var errors = toErrors(exceptions);
           return Future.succeededFuture(PostLocationsResponse
@@ -90,7 +90,7 @@ public class LocationService {
           return repository.getById(id)
             .compose(
               oldLocation -> put(LOCATION_TABLE, location, id, okapiHeaders, context, PutLocationsByIdResponse.class)
-                .onSuccess(domainEventService.publishUpdated(oldLocation))
+                .onSuccess(domainEventService.publishUpdated(oldLocation, okapiHeaders))
             );
         } else {
           return Future.succeededFuture(PostLocationsResponse
@@ -103,14 +103,14 @@ public class LocationService {
     return repository.getById(id)
       .compose(oldLocation -> deleteById(LOCATION_TABLE, id, okapiHeaders, context,
         DeleteLocationsByIdResponse.class)
-        .onSuccess(domainEventService.publishRemoved(oldLocation))
+        .onSuccess(domainEventService.publishRemoved(oldLocation, okapiHeaders))
       );
   }
 
   public Future<Response> deleteAll() {
     return repository.deleteAll()
       .transform(prepareDeleteAllResponse())
-      .onSuccess(response -> domainEventService.publishAllRemoved());
+      .onSuccess(response -> domainEventService.publishAllRemoved(okapiHeaders));
   }
 
   private Errors toErrors(List<LocationCheckException> exceptions) {
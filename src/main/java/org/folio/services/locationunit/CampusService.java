@@ -54,7 +54,7 @@ public class CampusService {
   public Future<Response> create(Loccamp loccamp) {
     return PgUtil.post(CAMPUS_TABLE, loccamp, okapiHeaders, context,
         PostLocationUnitsCampusesResponse.class)
-      .onSuccess(domainEventService.publishCreated());
+      .onSuccess(domainEventService.publishCreated(okapiHeaders));
   }
 
   public Future<Response> update(String id, Loccamp loccamp) {
@@ -72,7 +72,7 @@ public class CampusService {
       .compose(oldLoccamp ->
         PgUtil.put(CAMPUS_TABLE, loccamp, id, okapiHeaders, context,
             PutLocationUnitsCampusesByIdResponse.class)
-          .onSuccess(domainEventService.publishUpdated(oldLoccamp))
+          .onSuccess(domainEventService.publishUpdated(oldLoccamp, okapiHeaders))
       );
   }
 
@@ -81,14 +81,14 @@ public class CampusService {
       .compose(oldLoccamp ->
         PgUtil.deleteById(CAMPUS_TABLE, id, okapiHeaders, context,
             DeleteLocationUnitsCampusesByIdResponse.class)
-          .onSuccess(domainEventService.publishRemoved(oldLoccamp))
+          .onSuccess(domainEventService.publishRemoved(oldLoccamp, okapiHeaders))
       );
   }
 
   public Future<Response> deleteAll() {
     return repository.deleteAll()
       .transform(prepareDeleteAllResponse())
-      .onSuccess(response -> domainEventService.publishAllRemoved());
+      .onSuccess(response -> domainEventService.publishAllRemoved(okapiHeaders));
   }
 
   private Function<AsyncResult<RowSet<Row>>, Future<Response>> prepareDeleteAllResponse() {
@@ -60,7 +60,7 @@ public class InstitutionService {
   public Future<Response> create(Locinst institution) {
     return PgUtil.post(INSTITUTION_TABLE, institution, okapiHeaders,
         vertxContext, PostLocationUnitsInstitutionsResponse.class)
-      .onSuccess(domainEventService.publishCreated());
+      .onSuccess(domainEventService.publishCreated(okapiHeaders));
   }
 
   public Future<Response> update(String id, Locinst institution) {
@@ -80,7 +80,7 @@ public class InstitutionService {
         PgUtil.put(INSTITUTION_TABLE, institution, id,
           okapiHeaders, vertxContext,
           PutLocationUnitsInstitutionsByIdResponse.class)
-        .onSuccess(domainEventService.publishUpdated(oldInstitution)));
+        .onSuccess(domainEventService.publishUpdated(oldInstitution, okapiHeaders)));
   }
 
   public Future<Response> delete(String id) {
@@ -89,12 +89,12 @@ public class InstitutionService {
         PgUtil.deleteById(INSTITUTION_TABLE, id, okapiHeaders,
           vertxContext,
           DeleteLocationUnitsInstitutionsByIdResponse.class)
-        .onSuccess(domainEventService.publishRemoved(institution)));
+        .onSuccess(domainEventService.publishRemoved(institution, okapiHeaders)));
   }
 
   public Future<Response> deleteAll() {
     return repository.deleteAll().transform(prepareDeleteAllResponse())
-      .onSuccess(response -> domainEventService.publishAllRemoved());
+      .onSuccess(response -> domainEventService.publishAllRemoved(okapiHeaders));
   }
 
   private Function<AsyncResult<RowSet<Row>>, Future<Response>> prepareDeleteAllResponse() {
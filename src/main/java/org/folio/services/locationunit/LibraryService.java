@@ -54,7 +54,7 @@ public class LibraryService {
   public Future<Response> create(Loclib loclib) {
     return PgUtil.post(LIBRARY_TABLE, loclib, okapiHeaders, context,
         PostLocationUnitsLibrariesResponse.class)
-      .onSuccess(domainEventService.publishCreated());
+      .onSuccess(domainEventService.publishCreated(okapiHeaders));
   }
 
   public Future<Response> update(String id, Loclib loclib) {
@@ -71,7 +71,7 @@ public class LibraryService {
     return repository.getById(id)
       .compose(oldLoclib -> PgUtil.put(LIBRARY_TABLE, loclib, id, okapiHeaders, context,
           PutLocationUnitsLibrariesByIdResponse.class)
-        .onSuccess(domainEventService.publishUpdated(oldLoclib))
+        .onSuccess(domainEventService.publishUpdated(oldLoclib, okapiHeaders))
       );
   }
 
@@ -79,14 +79,14 @@ public class LibraryService {
     return repository.getById(id)
       .compose(oldLibrary -> PgUtil.deleteById(LIBRARY_TABLE, id, okapiHeaders, context,
           DeleteLocationUnitsLibrariesByIdResponse.class)
-        .onSuccess(domainEventService.publishRemoved(oldLibrary))
+        .onSuccess(domainEventService.publishRemoved(oldLibrary, okapiHeaders))
       );
   }
 
   public Future<Response> deleteAll() {
     return repository.deleteAll()
       .transform(prepareDeleteAllResponse())
-      .onSuccess(response -> domainEventService.publishAllRemoved());
+      .onSuccess(response -> domainEventService.publishAllRemoved(okapiHeaders));
   }
 
   private Function<AsyncResult<RowSet<Row>>, Future<Response>> prepareDeleteAllResponse() {
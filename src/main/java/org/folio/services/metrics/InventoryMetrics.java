@@ -0,0 +1,105 @@
+package org.folio.services.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.vertx.core.Future;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Prometheus registry of the module and the meters of the storage hot paths.
+ *
+ * <p>The registry is added to the Micrometer global registry, meters registered there, for example
+ * by {@link org.folio.persist.ReadRouter}, are exported as well.
+ */
+public final class InventoryMetrics {
+  static final String PREFIX = "inventory.storage.";
+  private static final Pattern ID = Pattern.compile(
+    "/([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9]+)(?=/|$)");
+  private static final PrometheusMeterRegistry REGISTRY = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+  private static final Map<String, AtomicInteger> IN_FLIGHT = new ConcurrentHashMap<>();
+  private static final Map<String, AtomicLong> GAUGES = new ConcurrentHashMap<>();
+
+  static {
+    Metrics.addRegistry(REGISTRY);
+  }
+
+  private InventoryMetrics() { }
+
+  public static PrometheusMeterRegistry registry() {
+    return REGISTRY;
+  }
+
+  /**
+   * The request path with ids replaced by {@code {id}} so that it can be used as a tag.
+   */
+  public static String endpoint(String path) {
+    if (path == null) {
+      return "";
+    }
+    var queryStart = path.indexOf('?');
+    var withoutQuery = queryStart < 0 ? path : path.substring(0, queryStart);
+    return ID.matcher(withoutQuery).replaceAll("/{id}");
+  }
+
+  /**
+   * Records the duration of the future in the timer, tagged with the outcome.
+   */
+  public static <T> Future<T> time(String name, Future<T> future, String... tags) {
+    var sample = Timer.start(Metrics.globalRegistry);
+    return future.onComplete(ar -> sample.stop(timer(name, Tags.of(tags).and("outcome",
+      ar.succeeded() ? "success" : "failure"))));
+  }
+
+  /**
+   * Records a duration that has been measured elsewhere.
+   */
+  public static void record(String name, Duration duration, String... tags) {
+    timer(name, Tags.of(tags)).record(duration);
+  }
+
+  public static Counter counter(String name, String... tags) {
+    return Metrics.counter(PREFIX + name, tags);
+  }
+
+  /**
+   * Counts the future as in flight in the gauge until it completes.
+   */
+  public static <T> Future<T> inFlight(String name, String tag, String value, Future<T> future) {
+    var key = name + '|' + tag + '|' + value;
+    var count = IN_FLIGHT.computeIfAbsent(key,
+      k -> Metrics.gauge(PREFIX + name, Tags.of(tag, value), new AtomicInteger()));
+    count.incrementAndGet();
+    return future.onComplete(notUsed -> count.decrementAndGet());
+  }
+
+  /**
+   * The value of the gauge, the gauge is registered on first use.
+   */
+  public static AtomicLong gauge(String name, String tag, String value) {
+    return GAUGES.computeIfAbsent(name + '|' + tag + '|' + value,
+      k -> Metrics.gauge(PREFIX + name, Tags.of(tag, value), new AtomicLong()));
+  }
+
+  /**
+   * Measures the duration of a database query of a repository.
+   */
+  public static <T> Future<T> timeQuery(String repository, String method, Future<T> future) {
+    return time("db.query", future, "repository", repository, "method", method);
+  }
+
+  private static Timer timer(String name, Tags tags) {
+    return Timer.builder(PREFIX + name)
+      .tags(tags)
+      .publishPercentileHistogram()
+      .register(Metrics.globalRegistry);
+  }
+}
@@ -0,0 +1,32 @@
+package org.folio.services.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import io.vertx.core.VertxOptions;
+import io.vertx.micrometer.Label;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import org.folio.rest.RestLauncher;
+import org.folio.utils.Environment;
+
+/**
+ * {@link RestLauncher} that enables the Vert.x metrics if METRICS_PORT is set: HTTP server request latency
+ * per endpoint, PostgreSQL pool wait and usage, event loop and worker pool usage.
+ */
+public class MetricsLauncher extends RestLauncher {
+
+  public static void main(String[] args) {
+    new MetricsLauncher().dispatch(args);
+  }
+
+  @Override
+  public void beforeStartingVertx(VertxOptions options) {
+    super.beforeStartingVertx(options);
+    if (Environment.getEnvVar(MetricsServer.METRICS_PORT, "").isBlank()) {
+      return;
+    }
+    options.setMetricsOptions(new MicrometerMetricsOptions()
+      .setEnabled(true)
+      .setMicrometerRegistry(InventoryMetrics.registry())
+      .addLabels(Label.HTTP_METHOD, Label.HTTP_CODE, Label.POOL_TYPE, Label.POOL_NAME)
+      .setRequestsTagsProvider(request -> Tags.of("endpoint", InventoryMetrics.endpoint(request.uri()))));
+  }
+}
@@ -0,0 +1,51 @@
+package org.folio.services.metrics;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.utils.Environment;
+
+/**
+ * HTTP server for the Prometheus scrape endpoint {@code GET /metrics} on METRICS_PORT,
+ * separate from the module port so that it isn't exposed through Okapi.
+ */
+public final class MetricsServer {
+  static final String METRICS_PORT = "METRICS_PORT";
+  private static final Logger log = LogManager.getLogger(MetricsServer.class);
+  private static final AtomicBoolean STARTED = new AtomicBoolean();
+
+  private MetricsServer() { }
+
+  /**
+   * Starts the server once per JVM if METRICS_PORT is set.
+   */
+  public static Future<Void> start(Vertx vertx) {
+    var port = Environment.getEnvVar(METRICS_PORT, "");
+    if (port.isBlank() || !STARTED.compareAndSet(false, true)) {
+      return Future.succeededFuture();
+    }
+    return vertx.createHttpServer()
+      .requestHandler(request -> {
+        if (request.method() != HttpMethod.GET || !"/metrics".equals(request.path())) {
+          request.response().setStatusCode(404).end();
+          return;
+        }
+        vertx.executeBlocking(() -> InventoryMetrics.registry().scrape(), false)
+          .onSuccess(scrape -> request.response()
+            .putHeader(HttpHeaders.CONTENT_TYPE, "text/plain; version=0.0.4; charset=utf-8")
+            .end(scrape))
+          .onFailure(e -> request.response().setStatusCode(500).end(String.valueOf(e.getMessage())));
+      })
+      .listen(Integer.parseInt(port))
+      .onSuccess(server -> log.info("start:: Metrics server listening on port {}", server.actualPort()))
+      .onFailure(e -> {
+        log.error("start:: Unable to start metrics server on port {}", port, e);
+        STARTED.set(false);
+      })
+      .mapEmpty();
+  }
+}
@@ -4,6 +4,7 @@ import static org.folio.InventoryKafkaTopic.ASYNC_MIGRATION;
 import static org.folio.rest.tools.utils.TenantTool.tenantId;
 import static org.folio.services.domainevent.DomainEvent.asyncMigrationEvent;
 
+import io.micrometer.core.instrument.Counter;
 import io.vertx.core.Future;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowStream;
@@ -15,18 +16,21 @@ import org.folio.rest.persist.PostgresClientFuturized;
 import org.folio.rest.persist.SQLConnection;
 import org.folio.rest.tools.utils.TenantTool;
 import org.folio.services.domainevent.CommonDomainEventPublisher;
+import org.folio.services.executor.JobExecutor;
+import org.folio.services.executor.JobExecutor.JobType;
+import org.folio.services.metrics.InventoryMetrics;
 
 public abstract class AbstractAsyncMigrationJobRunner implements AsyncMigrationJobRunner {
 
   public static final String ASYNC_MIGRATION_JOB_ID_HEADER = "async-migration-job-id";
   public static final String ASYNC_MIGRATION_JOB_NAME = "async-migration-job-name";
+  private static final Counter RECORDS = InventoryMetrics.counter("job.records", "job", "async-migration");
   private final Logger log = LogManager.getLogger(getClass());
 
   @Override
   public void startAsyncMigration(AsyncMigrationJob migrationJob, AsyncMigrationContext context) {
-    context.getVertxContext().executeBlocking(v ->
-      startMigration(migrationJob, context)
-        .onComplete(result -> v.complete()));
+    JobExecutor.execute(context.getVertxContext(), JobType.ASYNC_MIGRATION,
+      () -> startMigration(migrationJob, context));
   }
 
   protected Future<Void> startMigration(AsyncMigrationJob migrationJob, AsyncMigrationContext context) {
@@ -74,8 +78,11 @@ public abstract class AbstractAsyncMigrationJobRunner implements AsyncMigrationJ
   private Future<Long> processStream(StreamingContext context) {
     return context.getPublisher().publishStream(context.stream,
       row -> rowToProducerRecord(row, context),
-      recordsPublished -> context.getAsyncMigrationService()
-        .logJobDetails(context.getMigrationContext().getMigrationName(), context.getJob(), recordsPublished));
+      recordsPublished -> {
+        RECORDS.increment();
+        return context.getAsyncMigrationService()
+          .logJobDetails(context.getMigrationContext().getMigrationName(), context.getJob(), recordsPublished);
+      }, context.getMigrationContext().getOkapiHeaders());
   }
 
   private KafkaProducerRecordBuilder<String, Object> rowToProducerRecord(Row row, StreamingContext context) {
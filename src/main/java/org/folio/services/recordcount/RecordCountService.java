@@ -0,0 +1,32 @@
+package org.folio.services.recordcount;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import java.util.List;
+import java.util.Map;
+import org.folio.persist.RecordCountRepository;
+import org.folio.rest.jaxrs.model.RecordCounts;
+import org.folio.rest.jaxrs.model.RecordCountsRequest;
+
+public class RecordCountService {
+  private final RecordCountRepository repository;
+
+  public RecordCountService(Context vertxContext, Map<String, String> okapiHeaders) {
+    this(new RecordCountRepository(vertxContext, okapiHeaders));
+  }
+
+  public RecordCountService(RecordCountRepository repository) {
+    this.repository = repository;
+  }
+
+  public Future<RecordCounts> getRecordCounts(RecordCountsRequest request) {
+    var instanceIds = request.getInstanceIds() == null ? List.<String>of() : request.getInstanceIds();
+    var holdingsIds = request.getHoldingsRecordIds() == null ? List.<String>of() : request.getHoldingsRecordIds();
+    var instanceCounts = repository.getInstanceCounts(instanceIds);
+    var holdingsCounts = repository.getHoldingsCounts(holdingsIds);
+    return Future.all(instanceCounts, holdingsCounts)
+      .map(notUsed -> new RecordCounts()
+        .withInstances(instanceCounts.result())
+        .withHoldingsRecords(holdingsCounts.result()));
+  }
+}
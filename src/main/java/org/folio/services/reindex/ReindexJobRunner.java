@@ -10,9 +10,9 @@ import static org.folio.rest.jaxrs.model.ReindexJob.JobStatus.PENDING_CANCEL;
 import static org.folio.rest.tools.utils.TenantTool.tenantId;
 import static org.folio.services.domainevent.DomainEvent.reindexEvent;
 
+import io.micrometer.core.instrument.Counter;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
-import io.vertx.core.WorkerExecutor;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowStream;
 import java.util.Map;
@@ -26,16 +26,20 @@ import org.folio.rest.persist.PgUtil;
 import org.folio.rest.persist.PostgresClientFuturized;
 import org.folio.rest.persist.SQLConnection;
 import org.folio.services.domainevent.CommonDomainEventPublisher;
+import org.folio.services.executor.JobExecutor;
+import org.folio.services.executor.JobExecutor.JobType;
+import org.folio.services.metrics.InventoryMetrics;
 
 public class ReindexJobRunner {
   public static final String REINDEX_JOB_ID_HEADER = "reindex-job-id";
   private static final Logger log = LogManager.getLogger(ReindexJobRunner.class);
-  private static final int POOL_SIZE = 2;
-  private static volatile WorkerExecutor workerExecutor;
+  private static final Counter RECORDS = InventoryMetrics.counter("job.records", "job", "reindex");
 
+  private final Context vertxContext;
   private final PostgresClientFuturized postgresClient;
   private final ReindexJobRepository reindexJobRepository;
   private final CommonDomainEventPublisher<Instance> instanceEventPublisher;
+  private final Map<String, String> okapiHeaders;
   private final String tenantId;
 
   public ReindexJobRunner(Context vertxContext, Map<String, String> okapiHeaders) {
@@ -44,46 +48,30 @@ public class ReindexJobRunner {
       vertxContext,
       new CommonDomainEventPublisher<>(vertxContext, okapiHeaders,
         INSTANCE.fullTopicName(tenantId(okapiHeaders))),
-      tenantId(okapiHeaders));
+      okapiHeaders);
   }
 
   public ReindexJobRunner(PostgresClientFuturized postgresClient, ReindexJobRepository repository,
                           Context vertxContext, CommonDomainEventPublisher<Instance> domainEventPublisher,
-                          String tenantId) {
+                          Map<String, String> okapiHeaders) {
 
+    this.vertxContext = vertxContext;
     this.postgresClient = postgresClient;
     this.reindexJobRepository = repository;
     this.instanceEventPublisher = domainEventPublisher;
-    this.tenantId = tenantId;
-
-    initWorker(vertxContext);
-  }
-
-  private static void initWorker(Context vertxContext) {
-    if (workerExecutor == null) {
-      synchronized (ReindexJobRunner.class) {
-        if (workerExecutor == null) {
-          workerExecutor = vertxContext.owner()
-            .createSharedWorkerExecutor("inventory-reindex", POOL_SIZE);
-        }
-      }
-    }
+    this.okapiHeaders = okapiHeaders;
+    this.tenantId = tenantId(okapiHeaders);
   }
 
   public void startReindex(ReindexJob reindexJob) {
-    workerExecutor.executeBlocking(
-        promise -> {
-          if (reindexJob.getResourceName() == ReindexJob.ResourceName.INSTANCE) {
-            streamInstanceIds(new ReindexContext(reindexJob))
-              .map(notUsed -> null)
-              .onComplete(promise);
-          } else {
-            throw new UnsupportedOperationException(
-              "Unknown resource name. Reindex job was not started for: "
-                + reindexJob.getResourceName().name());
-          }
-        })
-      .map(notUsed -> null);
+    JobExecutor.execute(vertxContext, JobType.REINDEX, () -> {
+      if (reindexJob.getResourceName() == ReindexJob.ResourceName.INSTANCE) {
+        return streamInstanceIds(new ReindexContext(reindexJob));
+      }
+      throw new UnsupportedOperationException(
+        "Unknown resource name. Reindex job was not started for: "
+          + reindexJob.getResourceName().name());
+    });
   }
 
   private Future<Long> streamInstanceIds(ReindexContext context) {
@@ -117,10 +105,11 @@ public class ReindexJobRunner {
   private Future<Long> processStream(ReindexContext context) {
     return instanceEventPublisher.publishStream(context.stream,
       row -> rowToInstanceProducerRecord(row, context),
-      recordsPublished -> logJobDetails(recordsPublished, context));
+      recordsPublished -> logJobDetails(recordsPublished, context), okapiHeaders);
   }
 
   private Future<ReindexJob> logJobDetails(Long records, ReindexContext context) {
+    RECORDS.increment();
     if (!shouldLogJobDetails(records)) {
       return succeededFuture(context.reindexJob);
     }
@@ -22,8 +22,10 @@ public class ServicePointService {
   private static final Logger log = LoggerFactory.getLogger(ServicePointService.class);
   private final ServicePointRepository servicePointRepository;
   private final ServicePointDomainEventPublisher servicePointDomainEventPublisher;
+  private final Map<String, String> okapiHeaders;
 
   public ServicePointService(Context vertxContext, Map<String, String> okapiHeaders) {
+    this.okapiHeaders = okapiHeaders;
     this.servicePointRepository = new ServicePointRepository(vertxContext, okapiHeaders);
     this.servicePointDomainEventPublisher = new ServicePointDomainEventPublisher(vertxContext, okapiHeaders);
   }
@@ -44,7 +46,7 @@ public class ServicePointService {
         return Future.failedFuture(new NotFoundException("ServicePoint was not found"));
       })
       .onSuccess(oldServicePoint -> servicePointDomainEventPublisher
-        .publishUpdated(oldServicePoint, entity))
+        .publishUpdated(oldServicePoint, entity, okapiHeaders))
       .map(x -> ItemStorage.PutItemStorageItemsByItemIdResponse.respond204());
   }
 
@@ -52,7 +54,7 @@ public class ServicePointService {
     servicePoint.setId(servicePointId);
     return servicePointRepository.save(servicePointId, servicePoint)
       .compose(notUsed ->
-        servicePointDomainEventPublisher.publishCreated(servicePoint)
+        servicePointDomainEventPublisher.publishCreated(servicePoint, okapiHeaders)
           .map(resp -> respond201WithApplicationJson(servicePoint, headersFor201()
             .withLocation(LOCATION_PREFIX + servicePointId))));
   }
@@ -80,7 +82,7 @@ public class ServicePointService {
           return false;
         }
         log.info("deleteServicePoint:: service point {} was deleted successfully", servicePointId);
-        servicePointDomainEventPublisher.publishDeleted(servicePoint);
+        servicePointDomainEventPublisher.publishDeleted(servicePoint, okapiHeaders);
         return true;
       });
   }
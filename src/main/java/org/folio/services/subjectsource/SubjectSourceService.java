@@ -22,7 +22,6 @@ import org.folio.rest.jaxrs.model.SubjectSources;
 import org.folio.rest.jaxrs.resource.SubjectSources.GetSubjectSourcesBySubjectSourceIdResponse;
 import org.folio.rest.jaxrs.resource.SubjectSources.GetSubjectSourcesResponse;
 import org.folio.rest.persist.PgUtil;
-import org.folio.services.caches.ConsortiumDataCache;
 import org.folio.services.consortium.ConsortiumService;
 import org.folio.services.consortium.ConsortiumServiceImpl;
 import org.folio.services.domainevent.SubjectSourceDomainEventPublisher;
@@ -42,8 +41,7 @@ public class SubjectSourceService {
     this.okapiHeaders = okapiHeaders;
     this.repository = new SubjectSourceRepository(context, okapiHeaders);
     this.domainEventService = new SubjectSourceDomainEventPublisher(context, okapiHeaders);
-    this.consortiumService = new ConsortiumServiceImpl(context.owner().createHttpClient(),
-      context.get(ConsortiumDataCache.class.getName()));
+    this.consortiumService = ConsortiumServiceImpl.getInstance(context);
   }
 
   public Future<Response> getByQuery(String cql, int offset, int limit) {
@@ -85,7 +83,7 @@ public class SubjectSourceService {
         if (oldSubjectSource != null) {
           return deleteById(SUBJECT_SOURCE, id, okapiHeaders, context,
             DeleteSubjectSourcesBySubjectSourceIdResponse.class)
-            .onSuccess(domainEventService.publishRemoved(oldSubjectSource));
+            .onSuccess(domainEventService.publishRemoved(oldSubjectSource, okapiHeaders));
         }
         return Future.failedFuture(new NotFoundException("SubjectSource was not found"));
       });
@@ -93,12 +91,12 @@ public class SubjectSourceService {
 
   private Future<Response> createSubjectSource(SubjectSource subjectSource) {
     return post(SUBJECT_SOURCE, subjectSource, okapiHeaders, context, PostSubjectSourcesResponse.class)
-      .onSuccess(domainEventService.publishCreated());
+      .onSuccess(domainEventService.publishCreated(okapiHeaders));
   }
 
   private Future<Response> updateSubjectSource(String id, SubjectSource subjectSource) {
     return put(SUBJECT_SOURCE, subjectSource, id, okapiHeaders, context,
       PutSubjectSourcesBySubjectSourceIdResponse.class)
-      .onSuccess(domainEventService.publishUpdated(subjectSource));
+      .onSuccess(domainEventService.publishUpdated(subjectSource, okapiHeaders));
   }
 }
@@ -22,7 +22,6 @@ import org.folio.rest.jaxrs.resource.SubjectTypes.GetSubjectTypesResponse;
 import org.folio.rest.jaxrs.resource.SubjectTypes.PostSubjectTypesResponse;
 import org.folio.rest.jaxrs.resource.SubjectTypes.PutSubjectTypesBySubjectTypeIdResponse;
 import org.folio.rest.persist.PgUtil;
-import org.folio.services.caches.ConsortiumDataCache;
 import org.folio.services.consortium.ConsortiumService;
 import org.folio.services.consortium.ConsortiumServiceImpl;
 import org.folio.services.domainevent.SubjectTypeDomainEventPublisher;
@@ -41,8 +40,7 @@ public class SubjectTypeService {
     this.okapiHeaders = okapiHeaders;
     this.repository = new SubjectTypeRepository(context, okapiHeaders);
     this.domainEventService = new SubjectTypeDomainEventPublisher(context, okapiHeaders);
-    this.consortiumService = new ConsortiumServiceImpl(context.owner().createHttpClient(),
-      context.get(ConsortiumDataCache.class.getName()));
+    this.consortiumService = ConsortiumServiceImpl.getInstance(context);
   }
 
   public Future<Response> getByQuery(String cql, int offset, int limit) {
@@ -84,7 +82,7 @@ public class SubjectTypeService {
         if (oldSubjectType != null) {
           return deleteById(SUBJECT_TYPE, id, okapiHeaders, context,
             DeleteSubjectTypesBySubjectTypeIdResponse.class)
-            .onSuccess(domainEventService.publishRemoved(oldSubjectType));
+            .onSuccess(domainEventService.publishRemoved(oldSubjectType, okapiHeaders));
         }
         return Future.failedFuture(new NotFoundException("SubjectSource was not found"));
       });
@@ -92,11 +90,11 @@ public class SubjectTypeService {
 
   private Future<Response> createSubjectType(SubjectType subjectType) {
     return post(SUBJECT_TYPE, subjectType, okapiHeaders, context, PostSubjectTypesResponse.class)
-      .onSuccess(domainEventService.publishCreated());
+      .onSuccess(domainEventService.publishCreated(okapiHeaders));
   }
 
   private Future<Response> updateSubjectType(String id, SubjectType subjectType) {
     return put(SUBJECT_TYPE, subjectType, id, okapiHeaders, context, PutSubjectTypesBySubjectTypeIdResponse.class)
-      .onSuccess(domainEventService.publishUpdated(subjectType));
+      .onSuccess(domainEventService.publishUpdated(subjectType, okapiHeaders));
   }
 }
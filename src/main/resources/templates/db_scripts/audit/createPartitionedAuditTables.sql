@@ -0,0 +1,120 @@
+-- The audit tables of deleted instances, holdings and items are range partitioned by created_date:
+-- <audit table>_pYYYYMM holds the records deleted in that month, <audit table>_default anything else.
+-- created_date defaults to current_timestamp, the same value as the createdDate of the record
+-- written by the audit trigger, so that the trigger doesn't need to change.
+
+-- Creates the partition of the month unless it exists, rows of the month in the default partition
+-- are moved into it. The default partition is locked against inserts until the partition is attached,
+-- otherwise a row of the month inserted after the move makes ATTACH PARTITION fail.
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.audit_create_partition(auditTable text, monthStart date)
+  RETURNS void AS
+$$
+DECLARE
+  fromDate timestamptz := date_trunc('month', monthStart);
+  toDate timestamptz := date_trunc('month', monthStart) + interval '1 month';
+  partitionName text := auditTable || '_p' || to_char(monthStart, 'YYYYMM');
+BEGIN
+  IF to_regclass(format('${myuniversity}_${mymodule}.%I', partitionName)) IS NOT NULL THEN
+    RETURN;
+  END IF;
+  EXECUTE format('CREATE TABLE ${myuniversity}_${mymodule}.%I '
+    '(LIKE ${myuniversity}_${mymodule}.%I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partitionName, auditTable);
+  EXECUTE format('LOCK TABLE ${myuniversity}_${mymodule}.%I IN SHARE ROW EXCLUSIVE MODE', auditTable || '_default');
+  EXECUTE format('WITH moved AS (DELETE FROM ${myuniversity}_${mymodule}.%I '
+    'WHERE created_date >= $1 AND created_date < $2 RETURNING *) '
+    'INSERT INTO ${myuniversity}_${mymodule}.%I SELECT * FROM moved', auditTable || '_default', partitionName)
+    USING fromDate, toDate;
+  EXECUTE format('ALTER TABLE ${myuniversity}_${mymodule}.%I ATTACH PARTITION ${myuniversity}_${mymodule}.%I '
+    'FOR VALUES FROM (%L) TO (%L)', auditTable, partitionName, fromDate, toDate);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Creates the partitions of the current and the next two months and, if retentionMonths > 0,
+-- drops the partitions of the months before the last retentionMonths months and deletes these
+-- months from the default partitions. Returns the number of dropped partitions.
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.audit_maintain_partitions(retentionMonths int)
+  RETURNS int AS
+$$
+DECLARE
+  auditTable text;
+  partitionName text;
+  cutoff date := date_trunc('month', current_date) - make_interval(months => greatest(retentionMonths, 0));
+  dropped int := 0;
+BEGIN
+  FOREACH auditTable IN ARRAY ARRAY['audit_instance', 'audit_holdings_record', 'audit_item'] LOOP
+    FOR m IN 0..2 LOOP
+      PERFORM ${myuniversity}_${mymodule}.audit_create_partition(auditTable,
+        (date_trunc('month', current_date) + make_interval(months => m))::date);
+    END LOOP;
+    CONTINUE WHEN retentionMonths IS NULL OR retentionMonths <= 0;
+    FOR partitionName IN
+      SELECT c.relname
+        FROM pg_inherits inh
+        JOIN pg_class c ON c.oid = inh.inhrelid
+       WHERE inh.inhparent = format('${myuniversity}_${mymodule}.%I', auditTable)::regclass
+         AND c.relname ~ ('^' || auditTable || '_p[0-9]{6}$')
+         AND to_date(right(c.relname, 6), 'YYYYMM') < cutoff
+    LOOP
+      EXECUTE format('DROP TABLE ${myuniversity}_${mymodule}.%I', partitionName);
+      dropped := dropped + 1;
+    END LOOP;
+    EXECUTE format('DELETE FROM ${myuniversity}_${mymodule}.%I WHERE created_date < $1', auditTable || '_default')
+      USING cutoff;
+  END LOOP;
+  RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Replaces the unpartitioned audit table by a partitioned one with the same records.
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.audit_partition_table(auditTable text)
+  RETURNS void AS
+$$
+DECLARE
+  oldTable text := auditTable || '_unpartitioned';
+  pkey text;
+  monthStart date;
+  pmhDate text;
+BEGIN
+  IF EXISTS (SELECT 1 FROM pg_partitioned_table
+              WHERE partrelid = format('${myuniversity}_${mymodule}.%I', auditTable)::regclass) THEN
+    RETURN;
+  END IF;
+  SELECT conname INTO pkey FROM pg_constraint
+   WHERE conrelid = format('${myuniversity}_${mymodule}.%I', auditTable)::regclass AND contype = 'p';
+  EXECUTE format('ALTER TABLE ${myuniversity}_${mymodule}.%I RENAME TO %I', auditTable, oldTable);
+  IF pkey IS NOT NULL THEN
+    EXECUTE format('ALTER TABLE ${myuniversity}_${mymodule}.%I RENAME CONSTRAINT %I TO %I',
+      oldTable, pkey, oldTable || '_pkey');
+  END IF;
+  EXECUTE format('CREATE TABLE ${myuniversity}_${mymodule}.%I ('
+    'id uuid NOT NULL, jsonb jsonb NOT NULL, created_date timestamptz NOT NULL DEFAULT current_timestamp, '
+    'PRIMARY KEY (id, created_date)) PARTITION BY RANGE (created_date)', auditTable);
+  EXECUTE format('CREATE TABLE ${myuniversity}_${mymodule}.%I PARTITION OF ${myuniversity}_${mymodule}.%I DEFAULT',
+    auditTable || '_default', auditTable);
+  FOR monthStart IN EXECUTE format('SELECT DISTINCT date_trunc(''month'', '
+    '${myuniversity}_${mymodule}.strToTimestamp(jsonb ->> ''createdDate''))::date '
+    'FROM ${myuniversity}_${mymodule}.%I WHERE jsonb ->> ''createdDate'' IS NOT NULL', oldTable)
+  LOOP
+    PERFORM ${myuniversity}_${mymodule}.audit_create_partition(auditTable, monthStart);
+  END LOOP;
+  -- a record without createdDate has never matched a harvest date range, -infinity keeps it that way
+  EXECUTE format('INSERT INTO ${myuniversity}_${mymodule}.%I (id, jsonb, created_date) '
+    'SELECT id, jsonb, COALESCE(${myuniversity}_${mymodule}.strToTimestamp(jsonb ->> ''createdDate''), ''-infinity'') '
+    'FROM ${myuniversity}_${mymodule}.%I ON CONFLICT DO NOTHING', auditTable, oldTable);
+  EXECUTE format('DROP TABLE ${myuniversity}_${mymodule}.%I', oldTable);
+  -- the dropped table had the expression index of the OAI-PMH and inventory-hierarchy date filters,
+  -- recreate it on the partitioned table, it is created on each partition
+  IF auditTable = 'audit_instance' THEN
+    pmhDate := 'jsonb ->> ''createdDate''';
+  ELSE
+    pmhDate := 'jsonb -> ''record'' ->> ''updatedDate''';
+  END IF;
+  EXECUTE format('CREATE INDEX IF NOT EXISTS %I ON ${myuniversity}_${mymodule}.%I '
+    '((${myuniversity}_${mymodule}.strToTimestamp(%s)))', auditTable || '_pmh_createddate_idx', auditTable, pmhDate);
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT ${myuniversity}_${mymodule}.audit_partition_table('audit_instance');
+SELECT ${myuniversity}_${mymodule}.audit_partition_table('audit_holdings_record');
+SELECT ${myuniversity}_${mymodule}.audit_partition_table('audit_item');
+SELECT ${myuniversity}_${mymodule}.audit_maintain_partitions(0);
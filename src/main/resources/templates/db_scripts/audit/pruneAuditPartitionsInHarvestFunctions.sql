@@ -0,0 +1,287 @@
+-- The harvest functions filter the partitioned audit tables by created_date, the partition key,
+-- so that only the partitions of the requested date range are scanned.
+-- Otherwise unchanged from updateRecordsViewFunctionToSupportSourceFix.sql,
+-- addNullChecksToRecordsViewFunctions.sql and createOaiPmhViewFunction.sql.
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.get_updated_instance_ids_view(startDate                          timestamptz,
+                                                                                     endDate                            timestamptz,
+                                                                                     deletedRecordSupport               bool DEFAULT TRUE,
+                                                                                     skipSuppressedFromDiscoveryRecords bool DEFAULT TRUE,
+                                                                                     onlyInstanceUpdateDate             bool DEFAULT TRUE,
+                                                                                     source                             varchar DEFAULT NULL)
+    RETURNS TABLE
+            (
+                "instanceId"            uuid,
+                "source"                varchar,
+                "updatedDate"           timestamptz,
+                "suppressFromDiscovery" boolean,
+                "deleted"               boolean
+            )
+AS
+$BODY$
+WITH instanceIdsInRange AS ( SELECT inst.id AS instanceId,
+                                    (strToTimestamp(inst.jsonb -> 'metadata' ->> 'updatedDate')) AS maxDate
+                             FROM ${myuniversity}_${mymodule}.instance inst
+                             WHERE ($6 IS NULL OR inst.jsonb ->> 'source' = $6)
+                             AND (strToTimestamp(inst.jsonb -> 'metadata' ->> 'updatedDate')) BETWEEN dateOrMin($1) AND dateOrMax($2)
+
+                             UNION ALL
+                             SELECT instanceid, MAX(maxdate) as maxdate
+                               FROM (
+                                     SELECT instanceid,(strToTimestamp(hr.jsonb -> 'metadata' ->> 'updatedDate')) as maxdate
+                                       FROM ${myuniversity}_${mymodule}.holdings_record hr
+                                      WHERE ((strToTimestamp(hr.jsonb -> 'metadata' ->> 'updatedDate')) BETWEEN dateOrMin($1) AND dateOrMax($2)
+                                        AND NOT EXISTS (SELECT NULL WHERE $5))
+                                     UNION
+                                     SELECT instanceid, (strToTimestamp(item.jsonb -> 'metadata' ->> 'updatedDate')) AS maxDate
+                                       FROM ${myuniversity}_${mymodule}.holdings_record hr
+                                              INNER JOIN ${myuniversity}_${mymodule}.item item ON item.holdingsrecordid = hr.id
+                                      WHERE (strToTimestamp(item.jsonb -> 'metadata' ->> 'updatedDate')) BETWEEN dateOrMin($1) AND dateOrMax($2)
+                                        AND NOT EXISTS (SELECT NULL WHERE $5)
+                                    ) AS related_hr_items
+                                    GROUP BY instanceid
+                             UNION ALL
+                             SELECT (audit_holdings_record.jsonb #>> '{record,instanceId}')::uuid,
+                                    greatest(audit_item.created_date, audit_holdings_record.created_date) AS maxDate
+                             FROM ${myuniversity}_${mymodule}.audit_holdings_record audit_holdings_record
+                                      JOIN ${myuniversity}_${mymodule}.audit_item audit_item
+                                           ON (audit_item.jsonb ->> '{record,holdingsRecordId}')::uuid =
+                                              (audit_holdings_record.jsonb ->> '{record,id}')::uuid
+                             WHERE (audit_holdings_record.created_date BETWEEN dateOrMin($1) AND dateOrMax($2) OR
+                                    audit_item.created_date BETWEEN dateOrMin($1) AND dateOrMax($2))
+                                    AND audit_holdings_record.created_date <= dateOrMax($2)
+                                    AND audit_item.created_date <= dateOrMax($2)
+                                    AND NOT EXISTS (SELECT NULL WHERE $5)
+                             UNION ALL -- case when only item was deleted
+            						     SELECT hold_rec.instanceId,
+                                    greatest(audit_item.created_date,
+                                             (strToTimestamp(hold_rec.jsonb -> 'metadata' ->> 'updatedDate'))) AS maxDate
+                             FROM ${myuniversity}_${mymodule}.holdings_record hold_rec
+                                      JOIN ${myuniversity}_${mymodule}.audit_item audit_item
+                                          ON (audit_item.jsonb -> 'record' ->> 'holdingsRecordId')::uuid = hold_rec.id
+                             WHERE ((strToTimestamp(hold_rec.jsonb -> 'metadata' ->> 'updatedDate')) BETWEEN dateOrMin($1) AND dateOrMax($2) OR
+                                    audit_item.created_date BETWEEN dateOrMin($1) AND dateOrMax($2))
+                                    AND audit_item.created_date <= dateOrMax($2)
+                                    AND NOT EXISTS (SELECT NULL WHERE $5)
+            						     UNION ALL -- case when only holding was deleted
+            						     SELECT (audit_holdings_record.jsonb #>> '{record,instanceId}')::uuid,
+                                     audit_holdings_record.created_date AS maxDate
+                             FROM ${myuniversity}_${mymodule}.audit_holdings_record audit_holdings_record
+                             WHERE audit_holdings_record.created_date BETWEEN dateOrMin($1) AND dateOrMax($2)
+                                     AND NOT EXISTS (SELECT NULL WHERE $5) )
+SELECT instanceId,
+       instance.jsonb ->> 'source' AS source,
+       MAX(instanceIdsInRange.maxDate) AS maxDate,
+       (instance.jsonb ->> 'discoverySuppress')::bool AS suppressFromDiscovery,
+       false AS deleted
+FROM instanceIdsInRange,
+    ${myuniversity}_${mymodule}.instance
+WHERE instanceIdsInRange.maxDate BETWEEN dateOrMin($1) AND dateOrMax($2)
+      AND instance.id = instanceIdsInRange.instanceId
+      AND NOT ($4 AND COALESCE((instance.jsonb ->> 'discoverySuppress')::bool, false))
+      AND ($6 IS NULL OR instance.jsonb ->> 'source' = $6)
+GROUP BY 1, 2, 4
+
+UNION ALL
+SELECT (jsonb #>> '{record,id}')::uuid              AS instanceId,
+        jsonb #>> '{record,source}'                 AS source,
+        created_date                                AS maxDate,
+        false                                       AS suppressFromDiscovery,
+        true                                        AS deleted
+FROM ${myuniversity}_${mymodule}.audit_instance
+WHERE $3
+      AND created_date BETWEEN dateOrMin($1) AND dateOrMax($2)
+      AND ($6 IS NULL OR jsonb #>> '{record,source}' = $6)
+
+$BODY$ LANGUAGE sql;
+
+create or replace function ${myuniversity}_${mymodule}.pmh_view_function(startDate timestamptz,
+                                                                         endDate timestamptz,
+                                                                         deletedRecordSupport bool default true,
+                                                                         skipSuppressedFromDiscoveryRecords bool default true)
+    returns table
+            (
+                instanceId             uuid,
+                updatedDate    timestamptz,
+                deleted                boolean,
+                itemsAndHoldingsFields jsonb
+            )
+as
+$body$
+with instanceIdsInRange as ( select inst.id                                                      as instanceId,
+                                    (strToTimestamp(inst.jsonb -> 'metadata' ->> 'updatedDate')) as maxDate
+                             from ${myuniversity}_${mymodule}.instance inst
+                             where (strToTimestamp(inst.jsonb -> 'metadata' ->> 'updatedDate')) between dateOrMin($1) and dateOrMax($2)
+
+                             union all
+                             select instanceid,
+                                    greatest((strToTimestamp(item.jsonb -> 'metadata' ->> 'updatedDate')),
+                                             (strToTimestamp(hr.jsonb -> 'metadata' ->> 'updatedDate'))) as maxDate
+                             from holdings_record hr
+                                      join ${myuniversity}_${mymodule}.item item on item.holdingsrecordid = hr.id
+                             where ((strToTimestamp(hr.jsonb -> 'metadata' ->> 'updatedDate')) between dateOrMin($1) and dateOrMax($2) or
+                                    (strToTimestamp(item.jsonb -> 'metadata' ->> 'updatedDate')) between dateOrMin($1) and dateOrMax($2))
+
+                             union all
+                             select (audit_holdings_record.jsonb #>> '{record,instanceId}')::uuid,
+                                    greatest((strtotimestamp(audit_item.jsonb -> 'record' ->> 'updatedDate')),
+                                             (strtotimestamp(audit_holdings_record.jsonb -> 'record' ->> 'updatedDate'))) as maxDate
+                             from audit_holdings_record audit_holdings_record
+                                      join audit_item audit_item
+                                           on (audit_item.jsonb ->> '{record,holdingsRecordId}')::uuid =
+                                              audit_holdings_record.id
+                             where ((strToTimestamp(audit_holdings_record.jsonb -> 'record' ->> 'updatedDate')) between dateOrMin($1) and dateOrMax($2) or
+                                    (strToTimestamp(audit_item.jsonb #>> '{record,updatedDate}')) between dateOrMin($1) and dateOrMax($2))
+                               -- a record is deleted after its last update, items before their holdings
+                               and audit_holdings_record.created_date >= dateOrMin($1) ),
+     instanceIdsAndDatesInRange as ( select instanceId, max(instanceIdsInRange.maxDate) as maxDate,
+                                            (instance.jsonb ->> 'discoverySuppress')::bool as suppressFromDiscovery
+                                     from instanceIdsInRange,
+                                          instance
+                                     where instanceIdsInRange.maxDate between dateOrMin($1) and dateOrMax($2)
+                                       and instance.id = instanceIdsInRange.instanceId
+                                       and not ($4 and coalesce((instance.jsonb ->> 'discoverySuppress')::bool, false))
+                                     group by 1, 3)
+
+select instanceIdsAndDatesInRange.instanceId,
+       instanceIdsAndDatesInRange.maxDate,
+       false as deleted,
+       ( select to_jsonb(itemAndHoldingsAttrs) as instanceFields
+         from ( select hr.instanceid,
+                       instanceIdsAndDatesInRange.suppressFromDiscovery as suppressFromDiscovery,
+                       jsonb_agg(jsonb_build_object('id', item.id, 'callNumber',
+                                                    item.jsonb -> 'effectiveCallNumberComponents'
+                                                        || jsonb_build_object('typeName',cnt.jsonb ->> 'name'),
+                                                    'location',
+                                                    json_build_object('location', jsonb_build_object('institutionId',
+                                                                                                     itemLocInst.id,
+                                                                                                     'institutionName',
+                                                                                                     itemLocInst.jsonb ->> 'name',
+                                                                                                     'campusId',
+                                                                                                     itemLocCamp.id,
+                                                                                                     'campusName',
+                                                                                                     itemLocCamp.jsonb ->> 'name',
+                                                                                                     'libraryId',
+                                                                                                     itemLocLib.id,
+                                                                                                     'libraryName',
+                                                                                                     itemLocLib.jsonb ->> 'name'),
+                                                                                                      'name',
+                                                                                                      coalesce(loc.jsonb ->> 'discoveryDisplayName', loc.jsonb ->> 'name')),
+                                                    'volume',
+                                                    item.jsonb -> 'volume',
+                                                    'enumeration',
+                                                    item.jsonb -> 'enumeration',
+                                                    'materialType',
+                                                    mt.jsonb -> 'name',
+                                                    'electronicAccess',
+                                                    getElectronicAccessName(
+                                                                coalesce(item.jsonb #> '{electronicAccess}', '[]'::jsonb) ||
+                                                                coalesce(hr.jsonb #> '{electronicAccess}', '[]'::jsonb)),
+                                                    'suppressFromDiscovery',
+                                                    case
+                                                        when instanceIdsAndDatesInRange.suppressFromDiscovery
+                                                            then true
+                                                        else
+                                                                coalesce((hr.jsonb ->> 'discoverySuppress')::bool, false) or
+                                                                coalesce((item.jsonb ->> 'discoverySuppress')::bool, false)
+                                                        end,
+                                                    'notes',
+                                                    getItemNoteTypeName(item.jsonb-> 'notes'),
+                                                    'barcode',
+                                                    item.jsonb->>'barcode',
+                                                    'chronology',
+                                                    item.jsonb->>'chronology',
+                                                    'copyNumber',
+                                                    item.jsonb->>'copyNumber',
+                                                    'holdingsRecordId',
+                                                    hr.id
+                           )) items
+                from holdings_record hr
+                         join ${myuniversity}_${mymodule}.item item on item.holdingsrecordid = hr.id
+                         join ${myuniversity}_${mymodule}.location loc
+                              on (item.jsonb ->> 'effectiveLocationId')::uuid = loc.id and
+                                 (loc.jsonb ->> 'isActive')::bool = true
+                         join ${myuniversity}_${mymodule}.locinstitution itemLocInst
+                              on (loc.jsonb ->> 'institutionId')::uuid = itemLocInst.id
+                         join ${myuniversity}_${mymodule}.loccampus itemLocCamp
+                              on (loc.jsonb ->> 'campusId')::uuid = itemLocCamp.id
+                         join ${myuniversity}_${mymodule}.loclibrary itemLocLib
+                              on (loc.jsonb ->> 'libraryId')::uuid = itemLocLib.id
+                         left join ${myuniversity}_${mymodule}.material_type mt on item.materialtypeid = mt.id
+                         left join ${myuniversity}_${mymodule}.call_number_type cnt on nullif(item.jsonb #>> '{effectiveCallNumberComponents, typeId}','')::uuid = cnt.id
+                where instanceId = instanceIdsAndDatesInRange.instanceId
+                  and not ($4 and coalesce((hr.jsonb ->> 'discoverySuppress')::bool, false))
+                  and not ($4 and coalesce((item.jsonb ->> 'discoverySuppress')::bool, false))
+                group by 1) itemAndHoldingsAttrs )
+from instanceIdsAndDatesInRange
+union all
+select (audit_instance.jsonb #>> '{record,id}')::uuid as instanceId,
+       created_date                                    as maxDate,
+       true                                           as deleted,
+       null                                           as itemFields
+from ${myuniversity}_${mymodule}.audit_instance
+where $3
+  and created_date between dateOrMin($1) and dateOrMax($2)
+
+$body$ language sql;
+
+create or replace function ${myuniversity}_${mymodule}.pmh_get_updated_instances_ids(startDate timestamptz,
+                                                                                     endDate timestamptz,
+                                                                                     deletedRecordSupport bool default true,
+                                                                                     skipSuppressedFromDiscoveryRecords bool default true)
+    returns table
+            (
+                instanceId             uuid,
+                updatedDate    timestamptz,
+                suppressFromDiscovery      boolean,
+                deleted                boolean
+            )
+as
+$body$
+with instanceIdsInRange as ( select inst.id                                                       as instanceId,
+                                    (strToTimestamp(inst.jsonb -> 'metadata' ->> 'updatedDate')) as maxDate
+                             from ${myuniversity}_${mymodule}.instance inst
+                             where (strToTimestamp(inst.jsonb -> 'metadata' ->> 'updatedDate')) between dateOrMin($1) and dateOrMax($2)
+
+                             union all
+                             select instanceid,
+                                    greatest((strToTimestamp(item.jsonb -> 'metadata' ->> 'updatedDate')),
+                                             (strToTimestamp(hr.jsonb -> 'metadata' ->> 'updatedDate'))) as maxDate
+                             from holdings_record hr
+                                      join ${myuniversity}_${mymodule}.item item on item.holdingsrecordid = hr.id
+                             where ((strToTimestamp(hr.jsonb -> 'metadata' ->> 'updatedDate')) between dateOrMin($1) and dateOrMax($2) or
+                                    (strToTimestamp(item.jsonb -> 'metadata' ->> 'updatedDate')) between dateOrMin($1) and dateOrMax($2))
+
+                             union all
+                             select (audit_holdings_record.jsonb #>> '{record,instanceId}')::uuid,
+                                    greatest((strtotimestamp(audit_item.jsonb -> 'record' ->> 'updatedDate')),
+                                             (strtotimestamp(audit_holdings_record.jsonb -> 'record' ->> 'updatedDate'))) as maxDate
+                             from audit_holdings_record audit_holdings_record
+                                      join audit_item audit_item
+                                           on (audit_item.jsonb ->> '{record,holdingsRecordId}')::uuid =
+                                              audit_holdings_record.id
+                             where ((strToTimestamp(audit_holdings_record.jsonb -> 'record' ->> 'updatedDate')) between dateOrMin($1) and dateOrMax($2) or
+                                    (strToTimestamp(audit_item.jsonb #>> '{record,updatedDate}')) between dateOrMin($1) and dateOrMax($2))
+                               -- a record is deleted after its last update, items before their holdings
+                               and audit_holdings_record.created_date >= dateOrMin($1) )
+
+select instanceId,
+                    max(instanceIdsInRange.maxDate)    as maxDate,
+        (instance.jsonb ->> 'discoverySuppress')::bool as suppressFromDiscovery,
+                                                 false as deleted
+                                     from instanceIdsInRange,
+                                          instance
+                                     where instanceIdsInRange.maxDate between dateOrMin($1) and dateOrMax($2)
+                                       and instance.id = instanceIdsInRange.instanceId
+                                       and not ($4 and coalesce((instance.jsonb ->> 'discoverySuppress')::bool, false))
+                                     group by 1, 3
+union all
+select (audit_instance.jsonb #>> '{record,id}')::uuid as instanceId,
+       created_date                                   as maxDate,
+       false                                          as suppressFromDiscovery,
+       true                                           as deleted
+from ${myuniversity}_${mymodule}.audit_instance
+where $3
+  and created_date between dateOrMin($1) and dateOrMax($2)
+
+$body$ language sql;
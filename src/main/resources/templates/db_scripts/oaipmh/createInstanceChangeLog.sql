@@ -0,0 +1,117 @@
+-- Append-only change feed of instances for incremental harvesting: each change of an instance,
+-- of its holdings or of its items appends a row with an increasing seq.
+-- The triggers are deferred constraint triggers so that seq is assigned at commit time,
+-- this keeps the seq order close to the commit order.
+CREATE TABLE IF NOT EXISTS ${myuniversity}_${mymodule}.instance_change_log (
+  seq bigserial PRIMARY KEY,
+  instance_id uuid NOT NULL,
+  change_kind varchar(32) NOT NULL,
+  changed_at timestamptz NOT NULL DEFAULT clock_timestamp(),
+  source varchar,
+  suppressed boolean NOT NULL DEFAULT false,
+  deleted boolean NOT NULL DEFAULT false
+);
+
+CREATE INDEX IF NOT EXISTS instance_change_log_instance_id_seq_idx
+  ON ${myuniversity}_${mymodule}.instance_change_log (instance_id, seq);
+
+-- Deletes the rows that the change feed no longer returns, called daily by the maintenance endpoint.
+-- The feed returns the last change of each instance after the cursor, so a row with a later row of the
+-- same instance is never returned again; an instance change is kept until a later instance change
+-- because the feed can be restricted to instance changes. If retentionMonths is greater than 0 the
+-- rows of instances deleted before the last retentionMonths months are deleted too, like their audit
+-- records. Returns the number of deleted rows.
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.instance_change_log_compact(retentionMonths int)
+  RETURNS bigint AS
+$$
+  WITH compacted AS (
+    DELETE FROM ${myuniversity}_${mymodule}.instance_change_log log
+    WHERE EXISTS (
+        SELECT 1
+        FROM ${myuniversity}_${mymodule}.instance_change_log later
+        WHERE later.instance_id = log.instance_id
+          AND later.seq > log.seq
+          AND (later.change_kind LIKE 'INSTANCE%' OR log.change_kind NOT LIKE 'INSTANCE%'))
+      OR (retentionMonths > 0 AND log.deleted
+          AND log.changed_at < date_trunc('month', current_date) - make_interval(months => retentionMonths))
+    RETURNING 1)
+  SELECT count(*) FROM compacted;
+$$ LANGUAGE sql VOLATILE;
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.log_instance_change(instanceId uuid, changeKind varchar)
+  RETURNS void AS
+$$
+  INSERT INTO ${myuniversity}_${mymodule}.instance_change_log (instance_id, change_kind, source, suppressed, deleted)
+  SELECT inst.id, changeKind, inst.jsonb ->> 'source',
+         COALESCE((inst.jsonb ->> 'discoverySuppress')::bool, false),
+         COALESCE((inst.jsonb ->> 'deleted')::bool, false)
+  FROM ${myuniversity}_${mymodule}.instance inst
+  WHERE inst.id = instanceId;
+$$ LANGUAGE sql VOLATILE;
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.instance_change_log_for_instance()
+  RETURNS trigger AS
+$$
+BEGIN
+  IF TG_OP = 'DELETE' THEN
+    INSERT INTO ${myuniversity}_${mymodule}.instance_change_log (instance_id, change_kind, source, suppressed, deleted)
+    VALUES (OLD.id, 'INSTANCE_DELETE', OLD.jsonb ->> 'source',
+            COALESCE((OLD.jsonb ->> 'discoverySuppress')::bool, false), true);
+  ELSE
+    PERFORM ${myuniversity}_${mymodule}.log_instance_change(NEW.id, 'INSTANCE_' || TG_OP);
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.instance_change_log_for_holdings()
+  RETURNS trigger AS
+$$
+BEGIN
+  IF TG_OP <> 'DELETE' THEN
+    PERFORM ${myuniversity}_${mymodule}.log_instance_change(NEW.instanceid, 'HOLDINGS_' || TG_OP);
+  END IF;
+  IF TG_OP = 'DELETE' OR (TG_OP = 'UPDATE' AND OLD.instanceid IS DISTINCT FROM NEW.instanceid) THEN
+    PERFORM ${myuniversity}_${mymodule}.log_instance_change(OLD.instanceid, 'HOLDINGS_' || TG_OP);
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.instance_change_log_for_item()
+  RETURNS trigger AS
+$$
+BEGIN
+  IF TG_OP <> 'DELETE' THEN
+    PERFORM ${myuniversity}_${mymodule}.log_instance_change(hr.instanceid, 'ITEM_' || TG_OP)
+    FROM ${myuniversity}_${mymodule}.holdings_record hr
+    WHERE hr.id = NEW.holdingsrecordid;
+  END IF;
+  IF TG_OP = 'DELETE' OR (TG_OP = 'UPDATE' AND OLD.holdingsrecordid IS DISTINCT FROM NEW.holdingsrecordid) THEN
+    PERFORM ${myuniversity}_${mymodule}.log_instance_change(hr.instanceid, 'ITEM_' || TG_OP)
+    FROM ${myuniversity}_${mymodule}.holdings_record hr
+    WHERE hr.id = OLD.holdingsrecordid
+      AND (TG_OP = 'DELETE' OR hr.instanceid IS DISTINCT FROM
+        (SELECT instanceid FROM ${myuniversity}_${mymodule}.holdings_record WHERE id = NEW.holdingsrecordid));
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS instance_change_log_instance ON ${myuniversity}_${mymodule}.instance;
+CREATE CONSTRAINT TRIGGER instance_change_log_instance
+  AFTER INSERT OR UPDATE OR DELETE ON ${myuniversity}_${mymodule}.instance
+  DEFERRABLE INITIALLY DEFERRED
+  FOR EACH ROW EXECUTE FUNCTION ${myuniversity}_${mymodule}.instance_change_log_for_instance();
+
+DROP TRIGGER IF EXISTS instance_change_log_holdings ON ${myuniversity}_${mymodule}.holdings_record;
+CREATE CONSTRAINT TRIGGER instance_change_log_holdings
+  AFTER INSERT OR UPDATE OR DELETE ON ${myuniversity}_${mymodule}.holdings_record
+  DEFERRABLE INITIALLY DEFERRED
+  FOR EACH ROW EXECUTE FUNCTION ${myuniversity}_${mymodule}.instance_change_log_for_holdings();
+
+DROP TRIGGER IF EXISTS instance_change_log_item ON ${myuniversity}_${mymodule}.item;
+CREATE CONSTRAINT TRIGGER instance_change_log_item
+  AFTER INSERT OR UPDATE OR DELETE ON ${myuniversity}_${mymodule}.item
+  DEFERRABLE INITIALLY DEFERRED
+  FOR EACH ROW EXECUTE FUNCTION ${myuniversity}_${mymodule}.instance_change_log_for_item();
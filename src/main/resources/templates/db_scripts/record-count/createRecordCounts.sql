@@ -0,0 +1,236 @@
+-- Number of holdings, items and bound-with items per instance and number of items and bound-with items
+-- per holdings record, maintained by statement level triggers on holdings_record, item and bound_with_part
+-- so that a batch insert, delete or move updates each counter once.
+-- A bound-with item is an item bound with the holdings record by a bound_with_part.
+
+CREATE TABLE IF NOT EXISTS ${myuniversity}_${mymodule}.instance_record_count (
+  instance_id uuid PRIMARY KEY,
+  holdings_count bigint NOT NULL DEFAULT 0,
+  item_count bigint NOT NULL DEFAULT 0,
+  bound_with_item_count bigint NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS ${myuniversity}_${mymodule}.holdings_record_count (
+  holdings_id uuid PRIMARY KEY,
+  item_count bigint NOT NULL DEFAULT 0,
+  bound_with_item_count bigint NOT NULL DEFAULT 0
+);
+
+-- Adds the item and bound-with item deltas to the holdings records and to their instances.
+-- The counters are updated in id order to avoid deadlocks between concurrent statements.
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.record_count_add_to_holdings(
+    holdingsIds uuid[], itemDeltas bigint[], boundWithItemDeltas bigint[])
+  RETURNS void AS
+$$
+  WITH deltas AS (
+    SELECT holdings_id, sum(items) AS items, sum(bound_with_items) AS bound_with_items
+      FROM unnest(holdingsIds, itemDeltas, boundWithItemDeltas) AS d(holdings_id, items, bound_with_items)
+     WHERE holdings_id IS NOT NULL
+     GROUP BY holdings_id
+  ), holdings_counts AS (
+    INSERT INTO ${myuniversity}_${mymodule}.holdings_record_count AS c
+           (holdings_id, item_count, bound_with_item_count)
+    SELECT holdings_id, items, bound_with_items FROM deltas ORDER BY holdings_id
+    ON CONFLICT (holdings_id) DO UPDATE
+       SET item_count = c.item_count + EXCLUDED.item_count,
+           bound_with_item_count = c.bound_with_item_count + EXCLUDED.bound_with_item_count
+  )
+  INSERT INTO ${myuniversity}_${mymodule}.instance_record_count AS c
+         (instance_id, item_count, bound_with_item_count)
+  SELECT h.instanceId, sum(deltas.items), sum(deltas.bound_with_items)
+    FROM deltas
+    JOIN ${myuniversity}_${mymodule}.holdings_record h ON h.id = deltas.holdings_id
+   GROUP BY h.instanceId
+   ORDER BY h.instanceId
+  ON CONFLICT (instance_id) DO UPDATE
+     SET item_count = c.item_count + EXCLUDED.item_count,
+         bound_with_item_count = c.bound_with_item_count + EXCLUDED.bound_with_item_count;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.record_count_item_inserted() RETURNS trigger AS
+$$
+BEGIN
+  PERFORM ${myuniversity}_${mymodule}.record_count_add_to_holdings(
+    array_agg(holdingsRecordId), array_agg(1::bigint), array_agg(0::bigint)) FROM new_rows;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.record_count_item_deleted() RETURNS trigger AS
+$$
+BEGIN
+  PERFORM ${myuniversity}_${mymodule}.record_count_add_to_holdings(
+    array_agg(holdingsRecordId), array_agg(-1::bigint), array_agg(0::bigint)) FROM old_rows;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.record_count_item_updated() RETURNS trigger AS
+$$
+BEGIN
+  PERFORM ${myuniversity}_${mymodule}.record_count_add_to_holdings(
+    array_agg(holdings_id), array_agg(delta), array_agg(0::bigint))
+    FROM (SELECT o.holdingsRecordId AS holdings_id, -1::bigint AS delta
+            FROM old_rows o JOIN new_rows n ON n.id = o.id
+           WHERE o.holdingsRecordId IS DISTINCT FROM n.holdingsRecordId
+          UNION ALL
+          SELECT n.holdingsRecordId, 1::bigint
+            FROM old_rows o JOIN new_rows n ON n.id = o.id
+           WHERE o.holdingsRecordId IS DISTINCT FROM n.holdingsRecordId) moved;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.record_count_bound_with_part_inserted() RETURNS trigger AS
+$$
+BEGIN
+  PERFORM ${myuniversity}_${mymodule}.record_count_add_to_holdings(
+    array_agg(holdingsRecordId), array_agg(0::bigint), array_agg(1::bigint)) FROM new_rows;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.record_count_bound_with_part_deleted() RETURNS trigger AS
+$$
+BEGIN
+  PERFORM ${myuniversity}_${mymodule}.record_count_add_to_holdings(
+    array_agg(holdingsRecordId), array_agg(0::bigint), array_agg(-1::bigint)) FROM old_rows;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.record_count_bound_with_part_updated() RETURNS trigger AS
+$$
+BEGIN
+  PERFORM ${myuniversity}_${mymodule}.record_count_add_to_holdings(
+    array_agg(holdings_id), array_agg(0::bigint), array_agg(delta))
+    FROM (SELECT o.holdingsRecordId AS holdings_id, -1::bigint AS delta
+            FROM old_rows o JOIN new_rows n ON n.id = o.id
+           WHERE o.holdingsRecordId IS DISTINCT FROM n.holdingsRecordId
+          UNION ALL
+          SELECT n.holdingsRecordId, 1::bigint
+            FROM old_rows o JOIN new_rows n ON n.id = o.id
+           WHERE o.holdingsRecordId IS DISTINCT FROM n.holdingsRecordId) moved;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.record_count_holdings_inserted() RETURNS trigger AS
+$$
+BEGIN
+  INSERT INTO ${myuniversity}_${mymodule}.instance_record_count AS c (instance_id, holdings_count)
+  SELECT instanceId, count(*) FROM new_rows GROUP BY instanceId ORDER BY instanceId
+  ON CONFLICT (instance_id) DO UPDATE SET holdings_count = c.holdings_count + EXCLUDED.holdings_count;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.record_count_holdings_deleted() RETURNS trigger AS
+$$
+BEGIN
+  WITH removed AS (
+    DELETE FROM ${myuniversity}_${mymodule}.holdings_record_count c
+     USING old_rows o
+     WHERE c.holdings_id = o.id
+    RETURNING c.holdings_id, c.item_count, c.bound_with_item_count
+  )
+  INSERT INTO ${myuniversity}_${mymodule}.instance_record_count AS c
+         (instance_id, holdings_count, item_count, bound_with_item_count)
+  SELECT o.instanceId, -count(*), -coalesce(sum(r.item_count), 0), -coalesce(sum(r.bound_with_item_count), 0)
+    FROM old_rows o
+    LEFT JOIN removed r ON r.holdings_id = o.id
+   GROUP BY o.instanceId
+   ORDER BY o.instanceId
+  ON CONFLICT (instance_id) DO UPDATE
+     SET holdings_count = c.holdings_count + EXCLUDED.holdings_count,
+         item_count = c.item_count + EXCLUDED.item_count,
+         bound_with_item_count = c.bound_with_item_count + EXCLUDED.bound_with_item_count;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- a holdings record moved to another instance takes its item and bound-with item counts along
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.record_count_holdings_updated() RETURNS trigger AS
+$$
+BEGIN
+  WITH moved AS (
+    SELECT o.instanceId AS old_instance_id, n.instanceId AS new_instance_id,
+           coalesce(c.item_count, 0) AS items, coalesce(c.bound_with_item_count, 0) AS bound_with_items
+      FROM old_rows o
+      JOIN new_rows n ON n.id = o.id
+      LEFT JOIN ${myuniversity}_${mymodule}.holdings_record_count c ON c.holdings_id = n.id
+     WHERE o.instanceId IS DISTINCT FROM n.instanceId
+  ), deltas AS (
+    SELECT old_instance_id AS instance_id, -1 AS holdings, -items AS items, -bound_with_items AS bound_with_items
+      FROM moved
+    UNION ALL
+    SELECT new_instance_id, 1, items, bound_with_items FROM moved
+  )
+  INSERT INTO ${myuniversity}_${mymodule}.instance_record_count AS c
+         (instance_id, holdings_count, item_count, bound_with_item_count)
+  SELECT instance_id, sum(holdings), sum(items), sum(bound_with_items)
+    FROM deltas
+   WHERE instance_id IS NOT NULL
+   GROUP BY instance_id
+   ORDER BY instance_id
+  ON CONFLICT (instance_id) DO UPDATE
+     SET holdings_count = c.holdings_count + EXCLUDED.holdings_count,
+         item_count = c.item_count + EXCLUDED.item_count,
+         bound_with_item_count = c.bound_with_item_count + EXCLUDED.bound_with_item_count;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.record_count_instance_deleted() RETURNS trigger AS
+$$
+BEGIN
+  DELETE FROM ${myuniversity}_${mymodule}.instance_record_count c USING old_rows o WHERE c.instance_id = o.id;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- transition tables are allowed for a single event only, therefore one trigger per event
+DO $$
+DECLARE
+  t record;
+BEGIN
+  FOR t IN SELECT * FROM (VALUES
+      ('item', 'INSERT', 'NEW TABLE AS new_rows', 'item_inserted'),
+      ('item', 'DELETE', 'OLD TABLE AS old_rows', 'item_deleted'),
+      ('item', 'UPDATE', 'OLD TABLE AS old_rows NEW TABLE AS new_rows', 'item_updated'),
+      ('bound_with_part', 'INSERT', 'NEW TABLE AS new_rows', 'bound_with_part_inserted'),
+      ('bound_with_part', 'DELETE', 'OLD TABLE AS old_rows', 'bound_with_part_deleted'),
+      ('bound_with_part', 'UPDATE', 'OLD TABLE AS old_rows NEW TABLE AS new_rows', 'bound_with_part_updated'),
+      ('holdings_record', 'INSERT', 'NEW TABLE AS new_rows', 'holdings_inserted'),
+      ('holdings_record', 'DELETE', 'OLD TABLE AS old_rows', 'holdings_deleted'),
+      ('holdings_record', 'UPDATE', 'OLD TABLE AS old_rows NEW TABLE AS new_rows', 'holdings_updated'),
+      ('instance', 'DELETE', 'OLD TABLE AS old_rows', 'instance_deleted'))
+    AS v(table_name, event, transition, function_name)
+  LOOP
+    EXECUTE format('DROP TRIGGER IF EXISTS %I ON ${myuniversity}_${mymodule}.%I',
+      'record_count_' || t.function_name, t.table_name);
+    EXECUTE format('CREATE TRIGGER %I AFTER %s ON ${myuniversity}_${mymodule}.%I REFERENCING %s '
+      'FOR EACH STATEMENT EXECUTE FUNCTION ${myuniversity}_${mymodule}.%I()',
+      'record_count_' || t.function_name, t.event, t.table_name, t.transition,
+      'record_count_' || t.function_name);
+  END LOOP;
+END;
+$$;
+
+-- recount the existing records
+TRUNCATE ${myuniversity}_${mymodule}.holdings_record_count, ${myuniversity}_${mymodule}.instance_record_count;
+
+INSERT INTO ${myuniversity}_${mymodule}.holdings_record_count (holdings_id, item_count, bound_with_item_count)
+SELECT h.id, coalesce(i.count, 0), coalesce(b.count, 0)
+  FROM ${myuniversity}_${mymodule}.holdings_record h
+  LEFT JOIN (SELECT holdingsRecordId, count(*) AS count FROM ${myuniversity}_${mymodule}.item
+              GROUP BY holdingsRecordId) i ON i.holdingsRecordId = h.id
+  LEFT JOIN (SELECT holdingsRecordId, count(*) AS count FROM ${myuniversity}_${mymodule}.bound_with_part
+              GROUP BY holdingsRecordId) b ON b.holdingsRecordId = h.id;
+
+INSERT INTO ${myuniversity}_${mymodule}.instance_record_count
+       (instance_id, holdings_count, item_count, bound_with_item_count)
+SELECT h.instanceId, count(*), sum(c.item_count), sum(c.bound_with_item_count)
+  FROM ${myuniversity}_${mymodule}.holdings_record h
+  JOIN ${myuniversity}_${mymodule}.holdings_record_count c ON c.holdings_id = h.id
+ GROUP BY h.instanceId;
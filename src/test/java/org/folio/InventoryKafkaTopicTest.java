@@ -0,0 +1,67 @@
+package org.folio;
+
+import static org.folio.InventoryKafkaTopic.HOLDINGS_RECORD;
+import static org.folio.InventoryKafkaTopic.INSTANCE;
+import static org.folio.InventoryKafkaTopic.ITEM;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class InventoryKafkaTopicTest {
+
+  @AfterEach
+  void clearProperties() {
+    System.clearProperty("KAFKA_PRODUCER_COMPRESSION_TYPE");
+    System.clearProperty("KAFKA_PRODUCER_LINGER_MS");
+    System.clearProperty("KAFKA_ITEM_PRODUCER_COMPRESSION_TYPE");
+    System.clearProperty("KAFKA_ITEM_PRODUCER_BATCH_SIZE");
+    System.clearProperty("KAFKA_INSTANCE_COMPACT_UPDATE_EVENTS");
+  }
+
+  @Test
+  void shouldReturnNoProducerPropertiesByDefault() {
+    assertEquals(Map.of(), INSTANCE.producerProperties());
+  }
+
+  @Test
+  void shouldPreferTopicSpecificProducerProperties() {
+    System.setProperty("KAFKA_PRODUCER_COMPRESSION_TYPE", "snappy");
+    System.setProperty("KAFKA_PRODUCER_LINGER_MS", "5");
+    System.setProperty("KAFKA_ITEM_PRODUCER_COMPRESSION_TYPE", "ZSTD");
+    System.setProperty("KAFKA_ITEM_PRODUCER_BATCH_SIZE", "65536");
+
+    assertEquals(Map.of("compression.type", "zstd", "batch.size", "65536", "linger.ms", "5"),
+      ITEM.producerProperties());
+    assertEquals(Map.of("compression.type", "snappy", "linger.ms", "5"),
+      HOLDINGS_RECORD.producerProperties());
+  }
+
+  @Test
+  void shouldRejectUnknownCompressionType() {
+    System.setProperty("KAFKA_PRODUCER_COMPRESSION_TYPE", "brotli");
+
+    assertThrows(IllegalArgumentException.class, INSTANCE::producerProperties);
+  }
+
+  @Test
+  void shouldEnableCompactUpdateEventsPerTopic() {
+    System.setProperty("KAFKA_INSTANCE_COMPACT_UPDATE_EVENTS", "true");
+
+    assertTrue(INSTANCE.compactUpdateEvents());
+    assertFalse(ITEM.compactUpdateEvents());
+  }
+
+  @Test
+  void shouldResolveTopicByFullTopicName() {
+    assertEquals(Optional.of(INSTANCE), InventoryKafkaTopic.byFullTopicName("folio.diku.inventory.instance"));
+    assertEquals(Optional.of(InventoryKafkaTopic.INSTANCE_CONTRIBUTION),
+      InventoryKafkaTopic.byFullTopicName("folio.diku.inventory.instance-contribution"));
+    assertEquals(Optional.empty(), InventoryKafkaTopic.byFullTopicName("folio.diku.inventory.unknown"));
+  }
+}
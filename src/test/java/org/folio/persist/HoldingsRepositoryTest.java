@@ -16,7 +16,7 @@ class HoldingsRepositoryTest {
     var context = Vertx.vertx().getOrCreateContext();
     var headers = Map.of("X-Okapi-Tenant", "diku");
     var holdingsRepository = new HoldingsRepository(context, headers);
-    var future = holdingsRepository.getByInstanceId(null, sortBys, 0, 0);
+    var future = holdingsRepository.getByInstanceId(null, sortBys, 0, 0, headers);
     assertThat(future.cause(), is(instanceOf(IllegalArgumentException.class)));
     assertThat(future.cause().getMessage(), is("sortBy: foo"));
   }
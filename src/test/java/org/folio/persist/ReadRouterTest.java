@@ -0,0 +1,34 @@
+package org.folio.persist;
+
+import static org.folio.persist.ReadRouter.route;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Map;
+import org.folio.persist.ReadRouter.Route;
+import org.junit.jupiter.api.Test;
+
+class ReadRouterTest {
+
+  @Test
+  void routesToReplica() {
+    assertThat(route(true, false, 1.0, 5), is(Route.REPLICA));
+  }
+
+  @Test
+  void routesToPrimary() {
+    assertThat(route(false, false, 0.0, 5), is(Route.NO_REPLICA));
+    assertThat(route(true, true, 0.0, 5), is(Route.READ_YOUR_WRITES));
+    assertThat(route(false, true, 0.0, 5), is(Route.READ_YOUR_WRITES));
+    assertThat(route(true, false, 6.0, 5), is(Route.LAG));
+    assertThat(route(true, false, null, 5), is(Route.LAG));
+  }
+
+  @Test
+  void isReadYourWrites() {
+    assertThat(ReadRouter.isReadYourWrites(null), is(false));
+    assertThat(ReadRouter.isReadYourWrites(Map.of("X-Okapi-Tenant", "diku")), is(false));
+    assertThat(ReadRouter.isReadYourWrites(Map.of("x-okapi-read-your-writes", "TRUE")), is(true));
+    assertThat(ReadRouter.isReadYourWrites(Map.of("X-Okapi-Read-Your-Writes", "false")), is(false));
+  }
+}
@@ -0,0 +1,68 @@
+package org.folio.rest.api;
+
+import static java.net.HttpURLConnection.HTTP_OK;
+import static org.folio.rest.support.AdmissionControl.ADMISSION_BULK_CONCURRENCY;
+import static org.folio.rest.support.AdmissionControl.ADMISSION_BULK_POOL_PERCENT;
+import static org.folio.rest.support.AdmissionControl.ADMISSION_CONTROL_ENABLED;
+import static org.folio.rest.support.http.InterfaceUrls.recordBulkUrl;
+import static org.folio.utility.ModuleUtility.getClient;
+import static org.folio.utility.ModuleUtility.getVertx;
+import static org.folio.utility.ModuleUtility.prepareTenant;
+import static org.folio.utility.ModuleUtility.removeTenant;
+import static org.folio.utility.RestUtility.TENANT_ID;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import javax.ws.rs.core.Response;
+import lombok.SneakyThrows;
+import org.folio.rest.RestVerticle;
+import org.folio.rest.support.AdmissionControl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(VertxUnitRunner.class)
+public class AdmissionControlApiTest extends TestBaseWithInventoryUtil {
+  private static final String OTHER_TENANT_ID = "admissionother";
+
+  @SneakyThrows
+  @Before
+  public void beforeEach() {
+    prepareTenant(OTHER_TENANT_ID, false);
+    AdmissionControl.configure(Map.of(
+      ADMISSION_CONTROL_ENABLED, "true",
+      ADMISSION_BULK_CONCURRENCY, "1",
+      ADMISSION_BULK_POOL_PERCENT, "100"));
+  }
+
+  @SneakyThrows
+  @After
+  public void afterEach() {
+    AdmissionControl.configure(Map.of());
+    removeTenant(OTHER_TENANT_ID);
+  }
+
+  @Test
+  public void bulkRequestOfTenantDoesNotWaitForBulkLaneOfOtherTenant() {
+    var held = new CompletableFuture<Handler<AsyncResult<Response>>>();
+    AdmissionControl.getInstance().admit(getVertx().getOrCreateContext(),
+      Map.of(RestVerticle.OKAPI_HEADER_TENANT, TENANT_ID), "/record-bulk/ids", null,
+      result -> { }, held::complete);
+    var release = get(held);
+
+    var queued = getClient().get(recordBulkUrl("/ids"), TENANT_ID);
+    var otherTenant = get(getClient().get(recordBulkUrl("/ids"), OTHER_TENANT_ID));
+    assertThat(otherTenant.getStatusCode(), is(HTTP_OK));
+    assertThat(queued.isDone(), is(false));
+
+    release.handle(Future.succeededFuture(Response.ok().build()));
+    assertThat(get(queued).getStatusCode(), is(HTTP_OK));
+  }
+}
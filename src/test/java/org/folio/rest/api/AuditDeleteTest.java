@@ -1,5 +1,6 @@
 package org.folio.rest.api;
 
+import static org.folio.rest.support.http.InterfaceUrls.auditMaintenanceUrl;
 import static org.folio.utility.ModuleUtility.getVertx;
 import static org.folio.utility.RestUtility.TENANT_ID;
 import static org.hamcrest.CoreMatchers.is;
@@ -10,6 +11,8 @@ import io.vertx.core.json.pointer.JsonPointer;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -121,6 +124,35 @@ public class AuditDeleteTest extends TestBaseWithInventoryUtil {
     assertThat(getRecordIdFromAuditTable(AUDIT_HOLDINGS_RECORD), is(holdingsRecordId.toString()));
   }
 
+  @Test
+  public void deletedInstanceIsStoredInPartitionOfCurrentMonth() throws Exception {
+    final JsonObject recordJsonObject = instancesClient.getAll().getFirst();
+    UUID instanceId = UUID.fromString(recordJsonObject.getString("id"));
+    holdingsClient.deleteAll();
+    instancesClient.delete(instanceId);
+
+    var partition = AUDIT_INSTANCE + "_p" + month(0);
+    assertThat(getRecordsFromAuditTable(partition).size(), is(1));
+    assertThat(getRecordsFromAuditTable(AUDIT_INSTANCE + "_default").size(), is(0));
+  }
+
+  @Test
+  public void maintenanceCreatesPartitionsOfNextMonths() throws Exception {
+    var response = getClient().post(auditMaintenanceUrl(), null, TENANT_ID).get(TIMEOUT, TimeUnit.SECONDS);
+    assertThat(response.getStatusCode(), is(204));
+
+    for (var table : Stream.of(AUDIT_INSTANCE, AUDIT_HOLDINGS_RECORD, AUDIT_ITEM).toList()) {
+      for (int month = 0; month <= 2; month++) {
+        var partition = table + "_p" + month(month);
+        assertThat(partition, getRecordsFromAuditTable(partition).size(), is(0));
+      }
+    }
+  }
+
+  private static String month(int monthsFromNow) {
+    return LocalDate.now().plusMonths(monthsFromNow).format(DateTimeFormatter.ofPattern("yyyyMM"));
+  }
+
   private Object getRecordIdFromAuditTable(String tableName)
     throws InterruptedException,
     TimeoutException,
@@ -0,0 +1,80 @@
+package org.folio.rest.api;
+
+import static org.folio.utility.ModuleUtility.tenantOp;
+import static org.folio.utility.RestUtility.TENANT_ID;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.SneakyThrows;
+import org.folio.rest.jaxrs.model.Parameter;
+import org.folio.rest.jaxrs.model.TenantAttributes;
+import org.junit.Test;
+
+public class AuditPartitionMigrationTest extends MigrationTestBase {
+
+  @Test
+  public void pmhIndexesExistAfterPartitioning() {
+    var id = UUID.randomUUID();
+    // the unpartitioned audit table before 29.1.0 with the index of the harvest date filter
+    executeMultipleSqlStatements(replaceSchema(
+      "DROP TABLE ${myuniversity}_${mymodule}.audit_item;\n"
+        + "CREATE TABLE ${myuniversity}_${mymodule}.audit_item (id uuid PRIMARY KEY, jsonb jsonb NOT NULL);\n"
+        + "CREATE INDEX audit_item_pmh_createddate_idx ON ${myuniversity}_${mymodule}.audit_item "
+        + "((${myuniversity}_${mymodule}.strToTimestamp(jsonb -> 'record' ->> 'updatedDate')));\n"
+        + "INSERT INTO ${myuniversity}_${mymodule}.audit_item VALUES ('" + id + "', "
+        + "'{\"createdDate\": \"2024-05-06T07:08:09.000Z\", \"record\": {}}');\n"));
+
+    executeMultipleSqlStatements(loadScript("audit/createPartitionedAuditTables.sql"));
+
+    assertThat(executeSql("SELECT 1 FROM pg_partitioned_table WHERE partrelid = '"
+      + getSchemaName() + ".audit_item'::regclass").rowCount(), is(1));
+    assertThat(executeSql("SELECT 1 FROM " + getSchemaName() + ".audit_item_p202405 WHERE id = '" + id + "'")
+      .rowCount(), is(1));
+    for (var table : new String[] {"audit_instance", "audit_holdings_record", "audit_item"}) {
+      assertThat(table, executeSql("SELECT 1 FROM pg_indexes WHERE schemaname = '" + getSchemaName()
+        + "' AND tablename = '" + table + "' AND indexname = '" + table + "_pmh_createddate_idx'"
+        + " AND indexdef LIKE '%strtotimestamp%'").rowCount(), is(1));
+    }
+  }
+
+  /**
+   * The audit tables are also declared with withAuditing in schema.json; the upgrade must neither
+   * recreate them unpartitioned nor lose their records, and the audit trigger must still write to them.
+   */
+  @SneakyThrows
+  @Test
+  public void partitionedAuditTablesSurviveModuleUpgrade() {
+    var deletedBefore = UUID.randomUUID();
+    instancesClient.create(instance(deletedBefore));
+    instancesClient.delete(deletedBefore);
+
+    tenantOp(TENANT_ID, pojo2JsonObject(new TenantAttributes()
+      .withModuleFrom("29.0.0")
+      .withModuleTo("29.1.1")
+      .withParameters(List.of(
+        new Parameter().withKey("loadSample").withValue("false"),
+        new Parameter().withKey("loadReference").withValue("false")))));
+
+    for (var table : new String[] {"audit_instance", "audit_holdings_record", "audit_item"}) {
+      assertThat(table, executeSql("SELECT 1 FROM pg_partitioned_table WHERE partrelid = '"
+        + getSchemaName() + "." + table + "'::regclass").rowCount(), is(1));
+      // the default partition and the partitions of the current and the next two months
+      assertThat(table, executeSql("SELECT 1 FROM pg_inherits WHERE inhparent = '"
+        + getSchemaName() + "." + table + "'::regclass").rowCount(), greaterThanOrEqualTo(4));
+    }
+
+    var deletedAfter = UUID.randomUUID();
+    instancesClient.create(instance(deletedAfter));
+    instancesClient.delete(deletedAfter);
+
+    for (var id : List.of(deletedBefore, deletedAfter)) {
+      assertThat(id.toString(), executeSql("SELECT 1 FROM " + getSchemaName() + ".audit_instance"
+        + " WHERE jsonb::text LIKE '%" + id + "%'"
+        + " AND tableoid::regclass::text LIKE '%audit_instance_p' || to_char(created_date, 'YYYYMM')")
+        .rowCount(), is(1));
+    }
+  }
+}
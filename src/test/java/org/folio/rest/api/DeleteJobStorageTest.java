@@ -0,0 +1,133 @@
+package org.folio.rest.api;
+
+import static org.awaitility.Awaitility.await;
+import static org.folio.okapi.common.XOkapiHeaders.TENANT;
+import static org.folio.rest.api.InstanceStorageTest.smallAngryPlanet;
+import static org.folio.rest.jaxrs.model.DeleteJob.JobStatus.CANCELLATION_PENDING;
+import static org.folio.rest.jaxrs.model.DeleteJob.JobStatus.CANCELLED;
+import static org.folio.rest.jaxrs.model.DeleteJob.JobStatus.COMPLETED;
+import static org.folio.rest.jaxrs.model.DeleteJob.JobStatus.IN_PROGRESS;
+import static org.folio.rest.support.http.InterfaceUrls.deleteJobs;
+import static org.folio.rest.support.http.InterfaceUrls.instancesStorageSyncUrl;
+import static org.folio.rest.support.http.InterfaceUrls.instancesStorageUrl;
+import static org.folio.services.deletion.ChunkedDeleter.CHUNK_SIZE;
+import static org.folio.util.StringUtil.urlEncode;
+import static org.folio.utility.ModuleUtility.getClient;
+import static org.folio.utility.ModuleUtility.getVertx;
+import static org.folio.utility.RestUtility.TENANT_ID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import io.vertx.core.Context;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.commons.collections4.map.CaseInsensitiveMap;
+import org.folio.persist.DeleteJobRepository;
+import org.folio.rest.jaxrs.model.DeleteJob;
+import org.folio.rest.jaxrs.model.DeleteJobParams;
+import org.folio.rest.jaxrs.model.DeleteJobParams.RecordType;
+import org.folio.rest.support.fixtures.DeleteJobFixture;
+import org.folio.rest.support.messages.InstanceEventMessageChecks;
+import org.folio.services.deletion.DeleteJobRunner;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class DeleteJobStorageTest extends TestBaseWithInventoryUtil {
+
+  private static DeleteJobFixture deleteJob;
+  private final InstanceEventMessageChecks instanceMessageChecks
+    = new InstanceEventMessageChecks(KAFKA_CONSUMER);
+
+  @BeforeClass
+  public static void beforeClass() {
+    deleteJob = new DeleteJobFixture(getClient());
+  }
+
+  private static Map<String, String> okapiHeaders() {
+    return new CaseInsensitiveMap<>(Map.of(TENANT.toLowerCase(), TENANT_ID));
+  }
+
+  private static Context getContext() {
+    return getVertx().getOrCreateContext();
+  }
+
+  @Test
+  public void canDeleteInstancesByQuery() {
+    var deleted1 = instancesClient.create(smallAngryPlanet(UUID.randomUUID()).put("title", "delete me")).getJson();
+    var deleted2 = instancesClient.create(smallAngryPlanet(UUID.randomUUID()).put("title", "delete me")).getJson();
+    var kept = instancesClient.create(smallAngryPlanet(UUID.randomUUID()).put("title", "keep me")).getJson();
+
+    var job = deleteJob.postDeleteJob(new DeleteJobParams()
+      .withRecordType(RecordType.INSTANCE)
+      .withQuery("title==\"delete me\""));
+
+    assertThat(job.getId(), notNullValue());
+    assertThat(job.getSubmittedDate(), notNullValue());
+    assertThat(job.getJobParams().getQuery(), is("title==\"delete me\""));
+
+    await().until(() -> deleteJob.getDeleteJob(job.getId()).getJobStatus() == COMPLETED);
+
+    assertThat(deleteJob.getDeleteJob(job.getId()).getRecordsDeleted(), is(2));
+    assertGetNotFound(instancesStorageUrl("/" + deleted1.getString("id")));
+    assertGetNotFound(instancesStorageUrl("/" + deleted2.getString("id")));
+    assertThat(instancesClient.getById(UUID.fromString(kept.getString("id"))).getStatusCode(), is(200));
+
+    instanceMessageChecks.deletedMessagePublished(deleted1);
+    instanceMessageChecks.deletedMessagePublished(deleted2);
+    instanceMessageChecks.noDeletedMessagePublished(kept.getString("id"));
+  }
+
+  @Test
+  public void canCancelDeleteJob() {
+    var numberOfRecords = CHUNK_SIZE + 500;
+    var instances = new JsonArray();
+    for (int i = 0; i < numberOfRecords; i++) {
+      instances.add(smallAngryPlanet(UUID.randomUUID()).put("title", "cancel me"));
+    }
+    var created = get(getClient().post(instancesStorageSyncUrl(""), new JsonObject().put("instances", instances),
+      TENANT_ID));
+    assertThat(created.getStatusCode(), is(201));
+
+    var job = new DeleteJob()
+      .withId(UUID.randomUUID().toString())
+      .withJobStatus(IN_PROGRESS)
+      .withRecordsDeleted(0)
+      .withSubmittedDate(new Date())
+      .withJobParams(new DeleteJobParams()
+        .withRecordType(RecordType.INSTANCE)
+        .withQuery("title==\"cancel me\""));
+    get(new DeleteJobRepository(getContext(), okapiHeaders()).save(job.getId(), job));
+
+    deleteJob.cancelDeleteJob(job.getId());
+
+    assertThat(deleteJob.getDeleteJob(job.getId()).getJobStatus(), is(CANCELLATION_PENDING));
+
+    // the runner checks for cancellation after each chunk
+    new DeleteJobRunner(getContext(), okapiHeaders()).startDeletion(job);
+
+    await().until(() -> deleteJob.getDeleteJob(job.getId()).getJobStatus() == CANCELLED);
+
+    assertThat(deleteJob.getDeleteJob(job.getId()).getRecordsDeleted(), is(CHUNK_SIZE));
+    var remaining = get(getClient().get(instancesStorageUrl("?limit=0&totalRecords=exact&query="
+      + urlEncode("title==\"cancel me\"")), TENANT_ID));
+    assertThat(remaining.getJson().getInteger("totalRecords"), is(numberOfRecords - CHUNK_SIZE));
+  }
+
+  @Test
+  public void cannotSubmitDeleteJobWithInvalidQuery() {
+    var response = deleteJob.attemptToPostDeleteJob(new DeleteJobParams()
+      .withRecordType(RecordType.INSTANCE)
+      .withQuery("title=="));
+
+    assertThat(response.getStatusCode(), is(400));
+  }
+
+  @Test
+  public void cannotGetUnknownDeleteJob() {
+    assertGetNotFound(deleteJobs("/" + UUID.randomUUID()));
+  }
+}
@@ -13,15 +13,20 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertNull;
 
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonObject;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import lombok.SneakyThrows;
+import org.folio.persist.ReadRouter;
 import org.folio.rest.jaxrs.model.DereferencedItem;
 import org.folio.rest.jaxrs.model.DereferencedItems;
+import org.folio.rest.support.HttpClient;
 import org.folio.rest.support.Response;
 import org.folio.rest.support.ResponseHandler;
+import org.folio.services.metrics.InventoryMetrics;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -159,6 +164,27 @@ public class DereferencedItemStorageTest extends TestBaseWithInventoryUtil {
     assertThat(response.getStatusCode(), is(400));
   }
 
+  @Test
+  public void readsFromPrimaryWithReadYourWritesHeader() {
+    var readYourWrites = primaryReads("read_your_writes");
+    getAll();
+    assertThat(primaryReads("read_your_writes"), is(readYourWrites));
+
+    var response = get(HttpClient.asResponse(getClient().request(HttpMethod.GET, dereferencedItemStorage(""),
+      null, Map.of(ReadRouter.READ_YOUR_WRITES_HEADER, "true"), TENANT_ID)));
+
+    assertThat(response.getStatusCode(), is(200));
+    assertThat(response.getJson().getInteger("totalRecords"), is(3));
+    assertThat(primaryReads("read_your_writes"), is(readYourWrites + 1));
+  }
+
+  private static double primaryReads(String reason) {
+    var counter = InventoryMetrics.registry().find("inventory.storage.db.read.routing")
+      .tags("target", "primary", "reason", reason)
+      .counter();
+    return counter == null ? 0 : counter.count();
+  }
+
   @Test
   public void canGetRecordById() {
     testSmallAngryPlanet(findById(SMALL_ANGRY_PLANET_ID.toString()));
@@ -728,6 +728,50 @@ public class InstanceStorageTest extends TestBaseWithInventoryUtil {
     assertThat(response.getBody(), containsString("empty"));
   }
 
+  @SneakyThrows
+  @Test
+  public void canGetInstancesWithFields() {
+    var id = UUID.randomUUID();
+    createInstance(smallAngryPlanet(id));
+
+    var response = getClient().get(instancesStorageUrl("?query=id==" + id + "&fields=id,title,hrid"), TENANT_ID)
+      .get(10, SECONDS);
+    assertThat(response.getStatusCode(), is(200));
+    assertThat(response.getJson().getInteger("totalRecords"), is(1));
+    var instance = response.getJson().getJsonArray("instances").getJsonObject(0);
+    assertThat(instance.fieldNames(), containsInAnyOrder("id", "title", "hrid"));
+    assertThat(instance.getString("id"), is(id.toString()));
+
+    response = getClient().get(instancesStorageUrl("/" + id + "?fields=title"), TENANT_ID).get(10, SECONDS);
+    assertThat(response.getStatusCode(), is(200));
+    assertThat(response.getJson().fieldNames(), containsInAnyOrder("title"));
+
+    response = getClient().get(instancesStorageUrl("?fields=id,foo"), TENANT_ID).get(10, SECONDS);
+    assertThat(response.getStatusCode(), is(400));
+    assertThat(response.getBody(), containsString("foo"));
+  }
+
+  @SneakyThrows
+  @Test
+  public void canGetInstancesWithFieldsKeepingNestedNulls() {
+    var id = UUID.randomUUID();
+    createInstance(smallAngryPlanet(id));
+    get(PostgresClient.getInstance(getVertx(), TENANT_ID).execute("UPDATE "
+      + PostgresClient.convertToPsqlStandard(TENANT_ID) + ".instance"
+      + " SET jsonb = jsonb_set(jsonb, '{publication}', '[{\"publisher\": \"Harper\", \"place\": null}]')"
+      + " WHERE id = '" + id + "'"));
+
+    var response = getClient().get(instancesStorageUrl("?query=id==" + id + "&fields=id,publication,editions"),
+      TENANT_ID).get(10, SECONDS);
+
+    assertThat(response.getStatusCode(), is(200));
+    var instance = response.getJson().getJsonArray("instances").getJsonObject(0);
+    assertThat(instance.fieldNames(), containsInAnyOrder("id", "publication"));
+    var publication = instance.getJsonArray("publication").getJsonObject(0);
+    assertThat(publication.fieldNames(), containsInAnyOrder("publisher", "place"));
+    assertThat(publication.getValue("place"), is(nullValue()));
+  }
+
   @Test
   public void canGetInstanceById() throws InterruptedException, ExecutionException, TimeoutException {
 
@@ -2,6 +2,8 @@ package org.folio.rest.api;
 
 import static java.util.Optional.ofNullable;
 import static org.folio.rest.api.StorageTestSuite.deleteAll;
+import static org.folio.rest.support.EnrichmentEngines.normalizedRecords;
+import static org.folio.rest.support.EnrichmentEngines.withJavaEnrichmentEngine;
 import static org.folio.rest.support.http.InterfaceUrls.holdingsStorageUrl;
 import static org.folio.rest.support.http.InterfaceUrls.instancesStorageUrl;
 import static org.folio.rest.support.http.InterfaceUrls.inventoryHierarchyItemsAndHoldings;
@@ -34,10 +36,12 @@ import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItem;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.vertx.core.Handler;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
@@ -462,6 +466,39 @@ public class InventoryHierarchyViewTest extends TestBaseWithInventoryUtil {
     });
   }
 
+  @Test
+  public void javaEnrichmentEngineReturnsSameItemsAndHoldingsAsDatabase() {
+    // given
+    // one instance with 1 holding, 2 items, 1 suppressed item and 1 bound-with item,
+    // one instance with 1 holding with electronic access, one instance with 1 suppressed holding
+    super.createItem(
+      createItemRequest(THIRD_FLOOR_LOCATION_ID, "item barcode 3", "item effective call number 3", bookMaterialTypeId)
+        .withDiscoverySuppress(true).create());
+    var instanceId = createInstanceRecord(instance(UUID.randomUUID()));
+    var holdingsId = createHolding(instanceId, ANNEX_LIBRARY_LOCATION_ID, SECOND_FLOOR_LOCATION_ID,
+      List.of("http://electronic-access"));
+    var boundWithItem = super.createItem(new ItemRequestBuilder().forHolding(holdingsId)
+      .withPermanentLoanType(canCirculateLoanTypeId)
+      .withTemporaryLocation(MAIN_LIBRARY_LOCATION_ID)
+      .withBarcode("bound-with")
+      .withMaterialType(journalMaterialTypeId).create());
+    boundWithClient.create(new BoundWithPartBuilder(holdingsRecordIdPredefined,
+      UUID.fromString(boundWithItem.getString("id"))));
+    createInstanceAndHoldingWithBuilder(ONLINE_LOCATION_ID, holdings -> holdings.withDiscoverySuppress(true));
+    var instanceIds = instancesClient.getAll().stream()
+      .map(json -> UUID.fromString(json.getString("id")))
+      .toArray(UUID[]::new);
+
+    for (var skipSuppressed : List.of(true, false)) {
+      // when
+      var database = requestItemsAndHoldings(instanceIds, skipSuppressed);
+      var java = withJavaEnrichmentEngine(() -> requestItemsAndHoldings(instanceIds, skipSuppressed));
+      // then
+      assertThat(database.size(), greaterThan(1));
+      assertEquals(database, java);
+    }
+  }
+
   @Test
   @SneakyThrows
   public void shouldHaveLocationNameInItemsAndHoldingsLocations() {
@@ -654,6 +691,22 @@ public class InventoryHierarchyViewTest extends TestBaseWithInventoryUtil {
     return results;
   }
 
+  @SneakyThrows
+  private List<JsonNode> requestItemsAndHoldings(UUID[] instanceIds, boolean skipSuppressedFromDiscovery) {
+    CompletableFuture<Response> future = new CompletableFuture<>();
+
+    InventoryInstanceIds instanceIdsPayload = new InventoryInstanceIds();
+    instanceIdsPayload.setInstanceIds(Arrays.stream(instanceIds).map(UUID::toString).toList());
+    instanceIdsPayload.setSkipSuppressedFromDiscoveryRecords(skipSuppressedFromDiscovery);
+
+    getClient().post(inventoryHierarchyItemsAndHoldings(), instanceIdsPayload, TENANT_ID, ResponseHandler.any(future));
+
+    final Response response = future.get(TIMEOUT, TimeUnit.SECONDS);
+    assertThat(response.getStatusCode(), is(HttpStatus.HTTP_OK.toInt()));
+
+    return normalizedRecords(response.getBody());
+  }
+
   /**
    * Make the view function faulty, run the callable, then always restore the view function.
    */
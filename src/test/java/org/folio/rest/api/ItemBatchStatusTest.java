@@ -0,0 +1,98 @@
+package org.folio.rest.api;
+
+import static org.folio.rest.support.http.InterfaceUrls.itemsStorageBatchStatusUrl;
+import static org.folio.utility.ModuleUtility.getClient;
+import static org.folio.utility.RestUtility.TENANT_ID;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.folio.rest.support.Response;
+import org.folio.rest.support.builders.ItemRequestBuilder;
+import org.folio.rest.support.messages.ItemEventMessageChecks;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ItemBatchStatusTest extends TestBaseWithInventoryUtil {
+  private final ItemEventMessageChecks itemMessageChecks = new ItemEventMessageChecks(KAFKA_CONSUMER);
+
+  @SneakyThrows
+  @Before
+  public void beforeEach() {
+    clearData();
+    setupMaterialTypes();
+    setupLoanTypes();
+    setupLocations();
+    removeAllEvents();
+  }
+
+  @Test
+  public void updatesStatusOfItemsWithMatchingVersion() {
+    var holdingsId = createInstanceAndHolding(MAIN_LIBRARY_LOCATION_ID);
+    var toCheckOut = createAvailableItem(holdingsId);
+    var alreadyAvailable = createAvailableItem(holdingsId);
+    var stale = createAvailableItem(holdingsId);
+    var unknownId = UUID.randomUUID().toString();
+
+    var response = updateStatuses(new JsonArray()
+      .add(update(toCheckOut.getString("id"), "Checked out", toCheckOut.getInteger("_version")))
+      .add(update(alreadyAvailable.getString("id"), "Available", alreadyAvailable.getInteger("_version")))
+      .add(update(stale.getString("id"), "Checked out", stale.getInteger("_version") + 1))
+      .add(update(unknownId, "Checked out", 1)));
+
+    assertThat(response.getBody(), response.getStatusCode(), is(200));
+    var result = response.getJson();
+    assertThat(result.getJsonArray("updatedIds"), is(new JsonArray().add(toCheckOut.getString("id"))));
+    assertThat(result.getJsonArray("unchangedIds"), is(new JsonArray().add(alreadyAvailable.getString("id"))));
+    assertThat(result.getJsonArray("conflictIds"), is(new JsonArray().add(stale.getString("id"))));
+    assertThat(result.getJsonArray("notFoundIds"), is(new JsonArray().add(unknownId)));
+
+    var checkedOut = itemsClient.getById(UUID.fromString(toCheckOut.getString("id"))).getJson();
+    assertThat(checkedOut.getJsonObject("status").getString("name"), is("Checked out"));
+    assertThat(checkedOut.getJsonObject("status").getString("date"), notNullValue());
+    assertThat(checkedOut.getInteger("_version"), is(toCheckOut.getInteger("_version") + 1));
+    assertThat(itemsClient.getById(UUID.fromString(stale.getString("id"))).getJson()
+      .getJsonObject("status").getString("name"), is("Available"));
+
+    itemMessageChecks.updatedMessagePublished(toCheckOut, checkedOut);
+  }
+
+  @Test
+  public void rejectsDuplicateItemIds() {
+    var id = UUID.randomUUID().toString();
+
+    var response = updateStatuses(new JsonArray()
+      .add(update(id, "Checked out", 1))
+      .add(update(id, "Available", 1)));
+
+    assertThat(response.getBody(), response.getStatusCode(), is(422));
+  }
+
+  private JsonObject createAvailableItem(UUID holdingsId) {
+    var itemId = createItem(new ItemRequestBuilder()
+      .forHolding(holdingsId)
+      .withMaterialType(bookMaterialTypeId)
+      .withPermanentLoanType(canCirculateLoanTypeId)
+      .available())
+      .getId();
+    return itemsClient.getById(itemId).getJson();
+  }
+
+  private static JsonObject update(String id, String status, int version) {
+    return new JsonObject()
+      .put("id", id)
+      .put("status", status)
+      .put("_version", version);
+  }
+
+  @SneakyThrows
+  private static Response updateStatuses(JsonArray updates) {
+    return getClient().post(itemsStorageBatchStatusUrl(), new JsonObject().put("items", updates), TENANT_ID)
+      .get(TIMEOUT, TimeUnit.SECONDS);
+  }
+}
@@ -1298,6 +1298,52 @@ public class ItemStorageTest extends TestBaseWithInventoryUtil {
     assertThat(postSynchronousBatch("?upsert=true", itemsArray), statusCodeIs(409));
   }
 
+  @Test
+  public void cannotLoadSynchronousBatchUnsafeIfNotAllowed() {
+    JsonArray itemsArray = threeItems();
+    assertThat(postSynchronousBatch(itemsStorageSyncUnsafeUrl("?load=true"), itemsArray), statusCodeIs(413));
+  }
+
+  @Test
+  public void canLoadSynchronousBatchUnsafe() {
+    OptimisticLockingUtil.configureAllowSuppressOptimisticLocking(
+      Map.of(OptimisticLockingUtil.DB_ALLOW_SUPPRESS_OPTIMISTIC_LOCKING, "9999-12-31T23:59:59Z"));
+
+    // insert
+    JsonArray itemsArray = threeItems();
+    assertThat(postSynchronousBatch(itemsStorageSyncUnsafeUrl("?load=true"), itemsArray),
+      statusCodeIs(HttpStatus.HTTP_CREATED));
+    // update
+    itemsArray.getJsonObject(1).put("barcode", "123");
+    assertThat(postSynchronousBatch(itemsStorageSyncUnsafeUrl("?load=true"), itemsArray),
+      statusCodeIs(HttpStatus.HTTP_CREATED));
+
+    var item = getById(itemsArray.getJsonObject(1).getString("id")).getJson();
+    assertThat(item.getString("barcode"), is("123"));
+    assertThat(item.getString("hrid"), notNullValue());
+    assertThat(item.getString("effectiveLocationId"), notNullValue());
+    assertThat(item.getJsonObject("metadata"), notNullValue());
+    itemMessageChecks.createdMessagePublished(getById(itemsArray.getJsonObject(0).getString("id")).getJson());
+  }
+
+  @Test
+  public void canLoadSynchronousBatchUnsafeWithoutIds() {
+    OptimisticLockingUtil.configureAllowSuppressOptimisticLocking(
+      Map.of(OptimisticLockingUtil.DB_ALLOW_SUPPRESS_OPTIMISTIC_LOCKING, "9999-12-31T23:59:59Z"));
+
+    JsonArray itemsArray = threeItems();
+    itemsArray.forEach(item -> ((JsonObject) item).remove("id"));
+    assertThat(postSynchronousBatch(itemsStorageSyncUnsafeUrl("?load=true"), itemsArray),
+      statusCodeIs(HttpStatus.HTTP_CREATED));
+
+    for (var item : itemsArray) {
+      var barcode = ((JsonObject) item).getString("barcode");
+      var foundItems = itemsClient.getMany("barcode==%s", barcode);
+      assertThat(foundItems.size(), is(1));
+      assertThat(foundItems.getFirst().getId(), notNullValue());
+    }
+  }
+
   @Test
   public void cannotSyncPostWithDuplicateId() {
     JsonArray itemsArray = threeItems();
@@ -1887,7 +1933,68 @@ public class ItemStorageTest extends TestBaseWithInventoryUtil {
   }
 
   @Test
-  public void canRetrieveItemsViaPost() throws InterruptedException, ExecutionException, TimeoutException {
+  public void canPageItemsWithTotalRecordsMode() {
+    UUID holdingsRecordId = createInstanceAndHolding(MAIN_LIBRARY_LOCATION_ID);
+
+    createItem(smallAngryPlanet(UUID.randomUUID(), holdingsRecordId));
+    createItem(nod(UUID.randomUUID(), holdingsRecordId));
+    createItem(uprooted(UUID.randomUUID(), holdingsRecordId));
+    createItem(temeraire(UUID.randomUUID(), holdingsRecordId));
+    createItem(interestingTimes(UUID.randomUUID(), holdingsRecordId));
+
+    var none = getItems("?limit=3&totalRecords=none");
+    assertThat(none.getJsonArray("items").size(), is(3));
+    assertThat(none.containsKey("totalRecords"), is(false));
+    assertThat(none.getJsonObject("resultInfo").containsKey("totalRecords"), is(false));
+
+    var estimated = getItems("?limit=3&totalRecords=estimated");
+    assertThat(estimated.getJsonArray("items").size(), is(3));
+    assertThat(estimated.getInteger("totalRecords"), is(notNullValue()));
+    assertThat(estimated.getJsonObject("resultInfo").getBoolean("totalRecordsEstimated"), is(true));
+
+    var exact = getItems("?limit=3&totalRecords=exact");
+    assertThat(exact.getJsonArray("items").size(), is(3));
+    assertThat(exact.getInteger("totalRecords"), is(5));
+    assertThat(exact.getJsonObject("resultInfo").getBoolean("totalRecordsEstimated"), is(false));
+
+    var lastPage = getItems("?limit=3&offset=3&totalRecords=estimated");
+    assertThat(lastPage.getJsonArray("items").size(), is(2));
+    assertThat(lastPage.getInteger("totalRecords"), is(5));
+    assertThat(lastPage.getJsonObject("resultInfo").getBoolean("totalRecordsEstimated"), is(false));
+  }
+
+  @Test
+  public void canPageItemsWithKeysetCursorWhileItemsAreInserted() {
+    UUID holdingsRecordId = createInstanceAndHolding(MAIN_LIBRARY_LOCATION_ID);
+
+    for (int i : List.of(1, 3, 5, 7, 9)) {
+      createItem(createItemRequest(keysetItemId(i), holdingsRecordId, "keyset" + i));
+    }
+
+    var pagedIds = new ArrayList<String>();
+    var page = getItems("?limit=2&after=");
+    pagedIds.addAll(itemIds(page));
+
+    // 2 sorts before the cursor and must not show up, 4 sorts after the cursor and must show up
+    createItem(createItemRequest(keysetItemId(2), holdingsRecordId, "keyset2"));
+    createItem(createItemRequest(keysetItemId(4), holdingsRecordId, "keyset4"));
+
+    page = getItems("?limit=2&after=" + urlEncode(page.getJsonObject("resultInfo").getString("nextCursor")));
+    pagedIds.addAll(itemIds(page));
+
+    createItem(createItemRequest(keysetItemId(6), holdingsRecordId, "keyset6"));
+
+    while (page.getJsonObject("resultInfo").containsKey("nextCursor")) {
+      page = getItems("?limit=2&after=" + urlEncode(page.getJsonObject("resultInfo").getString("nextCursor")));
+      pagedIds.addAll(itemIds(page));
+    }
+
+    var expectedIds = Stream.of(1, 3, 4, 5, 6, 7, 9).map(i -> keysetItemId(i).toString()).toList();
+    assertThat(pagedIds, is(expectedIds));
+  }
+
+  @Test
+  public void canRetrieveItemsViaPost()throws InterruptedException, ExecutionException, TimeoutException {
     UUID holdingsRecordId = createInstanceAndHolding(MAIN_LIBRARY_LOCATION_ID);
 
     List<String> itemIds = new ArrayList<>();
@@ -3066,6 +3173,24 @@ public class ItemStorageTest extends TestBaseWithInventoryUtil {
     return response.getJson().mapTo(Items.class);
   }
 
+  private JsonObject getItems(String queryString) {
+    var response = get(getClient().get(itemsStorageUrl(queryString), TENANT_ID));
+
+    assertThat(response.getStatusCode(), is(200));
+
+    return response.getJson();
+  }
+
+  private static List<String> itemIds(JsonObject items) {
+    return items.getJsonArray("items").stream()
+      .map(item -> ((JsonObject) item).getString("id"))
+      .toList();
+  }
+
+  private static UUID keysetItemId(int i) {
+    return UUID.fromString("00000000-0000-4000-8000-00000000000" + i);
+  }
+
   private Response getById(String id) {
     CompletableFuture<Response> getCompleted = new CompletableFuture<>();
     getClient().get(itemsStorageUrl("/" + id), TENANT_ID, json(getCompleted));
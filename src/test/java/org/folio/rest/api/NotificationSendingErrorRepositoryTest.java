@@ -3,9 +3,11 @@ package org.folio.rest.api;
 import static org.folio.utility.ModuleUtility.getVertx;
 import static org.folio.utility.RestUtility.TENANT_ID;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
@@ -31,6 +33,62 @@ public class NotificationSendingErrorRepositoryTest extends TestBaseWithInventor
     assertThat(savedNotification.getIncidentDateTime(), is(originalError.getIncidentDateTime()));
   }
 
+  @Test
+  public void canGetUndeliveredAndDeleteDelivered() {
+    var repository = createRepository();
+    get(repository.deleteAll());
+    var delivered = new NotificationSendingError(UUID.randomUUID().toString(),
+      "topic", "key", "delivered", "error", new Date(System.currentTimeMillis() - 2000));
+    delivered.setDeliveredDateTime(new Date(System.currentTimeMillis() - 1000));
+    var undelivered = new NotificationSendingError(UUID.randomUUID().toString(),
+      "topic", "key", "undelivered", "error", new Date());
+
+    get(repository.saveBatch(List.of(delivered, undelivered)));
+
+    assertThat(get(repository.countUndelivered()), is(1L));
+    assertThat(get(repository.getUndelivered(10, new Date())).stream()
+        .map(NotificationSendingError::getPayload).toList(),
+      is(List.of("undelivered")));
+
+    get(repository.deleteDeliveredBefore(new Date()));
+    assertThat(get(repository.getById(delivered.getId())), is(nullValue()));
+    assertThat(get(repository.getById(undelivered.getId())).getPayload(), is("undelivered"));
+  }
+
+  @Test
+  public void getUndeliveredReturnsDueEventsOfKeysInOrder() {
+    var repository = createRepository();
+    get(repository.deleteAll());
+    var now = System.currentTimeMillis();
+    // key1 is due since 3 seconds, key2 since 5 seconds, key3 isn't due before its next attempt
+    var key1First = error("key1", "key1First", now - 3000);
+    var key1Second = error("key1", "key1Second", now - 1000);
+    var key2 = error("key2", "key2", now - 5000);
+    var key3First = error("key3", "key3First", now - 9000);
+    key3First.setAttempts(1);
+    key3First.setNextAttemptDateTime(new Date(now + 60000));
+    var key3Second = error("key3", "key3Second", now - 8000);
+    var parked = error("key4", "parked", now - 10000);
+    parked.setParkedDateTime(new Date(now - 1000));
+    var key4 = error("key4", "key4", now - 2000);
+
+    get(repository.saveBatch(List.of(key1Second, key3Second, key1First, parked, key2, key3First, key4)));
+
+    assertThat(get(repository.getUndelivered(10, new Date(now))).stream()
+        .map(NotificationSendingError::getPayload).toList(),
+      is(List.of("key2", "key1First", "key1Second", "key4")));
+    assertThat(get(repository.getUndelivered(2, new Date(now))).stream()
+        .map(NotificationSendingError::getPayload).toList(),
+      is(List.of("key2", "key1First")));
+    assertThat(get(repository.countUndelivered()), is(6L));
+    assertThat(get(repository.countParked()), is(1L));
+  }
+
+  private static NotificationSendingError error(String key, String payload, long incidentMillis) {
+    return new NotificationSendingError(UUID.randomUUID().toString(),
+      "topic", key, payload, "error", new Date(incidentMillis));
+  }
+
   private NotificationSendingErrorRepository createRepository() {
     var postgresClient = PgUtil.postgresClient(getVertx().getOrCreateContext(),
       new CaseInsensitiveMap<>(Map.of("x-okapi-tenant", TENANT_ID)));
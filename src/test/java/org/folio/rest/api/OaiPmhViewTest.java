@@ -1,6 +1,9 @@
 package org.folio.rest.api;
 
 import static org.folio.rest.api.StorageTestSuite.deleteAll;
+import static org.folio.rest.support.EnrichmentEngines.normalizedRecords;
+import static org.folio.rest.support.EnrichmentEngines.withJavaEnrichmentEngine;
+import static org.folio.rest.support.http.InterfaceUrls.auditMaintenanceUrl;
 import static org.folio.rest.support.http.InterfaceUrls.holdingsStorageUrl;
 import static org.folio.rest.support.http.InterfaceUrls.instancesStorageUrl;
 import static org.folio.rest.support.http.InterfaceUrls.itemsStorageUrl;
@@ -17,8 +20,11 @@ import static org.folio.utility.RestUtility.TENANT_ID;
 import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertEquals;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.vertx.core.Handler;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
@@ -49,6 +55,7 @@ import org.folio.rest.jaxrs.model.OaipmhInstanceIds;
 import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.support.Response;
 import org.folio.rest.support.ResponseHandler;
+import org.folio.rest.support.builders.BoundWithPartBuilder;
 import org.folio.rest.support.builders.ItemRequestBuilder;
 import org.folio.rest.tools.utils.TenantTool;
 import org.junit.Before;
@@ -71,6 +78,7 @@ public class OaiPmhViewTest extends TestBaseWithInventoryUtil {
   @SneakyThrows
   @Before
   public void beforeEach() {
+    deleteAll(TENANT_ID, "bound_with_part");
     deleteAll(itemsStorageUrl(""));
     deleteAll(holdingsStorageUrl(""));
     deleteAll(instancesStorageUrl(""));
@@ -322,6 +330,110 @@ public class OaiPmhViewTest extends TestBaseWithInventoryUtil {
     assertEquals(expected, electronicAccessJson);
   }
 
+  @Test
+  public void javaEnrichmentEngineReturnsSameEnrichedInstancesAsDatabase() {
+    // given
+    // one instance with 1 holding, 2 items, 1 suppressed item and 1 bound-with item,
+    // one instance with 1 holding with electronic access, one instance with 1 suppressed holding
+    super.createItem(
+      createItemRequest(THIRD_FLOOR_LOCATION_ID, "item barcode 3", "item effective call number 3", bookMaterialTypeId)
+        .withDiscoverySuppress(true));
+    var instanceId = createInstanceRecord(instance(UUID.randomUUID()));
+    var holdingsId = createHolding(instanceId, ANNEX_LIBRARY_LOCATION_ID, SECOND_FLOOR_LOCATION_ID,
+      List.of("http://electronic-access"));
+    var boundWithItem = super.createItem(new ItemRequestBuilder().forHolding(holdingsId)
+      .withPermanentLoanType(canCirculateLoanTypeId)
+      .withTemporaryLocation(MAIN_LIBRARY_LOCATION_ID)
+      .withBarcode("bound-with")
+      .withMaterialType(journalMaterialTypeId).create());
+    boundWithClient.create(new BoundWithPartBuilder(holdingsRecordId1,
+      UUID.fromString(boundWithItem.getString("id"))));
+    createInstanceAndHoldingWithBuilder(ONLINE_LOCATION_ID, holdings -> holdings.withDiscoverySuppress(true));
+    var instanceIds = instancesClient.getAll().stream()
+      .map(json -> UUID.fromString(json.getString("id")))
+      .toArray(UUID[]::new);
+
+    for (var skipSuppressed : List.of(true, false)) {
+      // when
+      var database = requestEnrichedInstances(instanceIds, skipSuppressed);
+      var java = withJavaEnrichmentEngine(() -> requestEnrichedInstances(instanceIds, skipSuppressed));
+      // then
+      assertThat(database.size(), greaterThan(1));
+      assertEquals(database, java);
+    }
+  }
+
+  @Test
+  public void canHarvestChangeFeedAfterSeq() throws InterruptedException, ExecutionException, TimeoutException {
+    System.setProperty("INSTANCE_CHANGE_LOG_LAG_SECONDS", "0");
+    try {
+      // given
+      var startDate = OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(1);
+      createItem(MAIN_LIBRARY_LOCATION_ID, "item barcode 3", "item effective call number 3", bookMaterialTypeId);
+      // when
+      params.put("afterSeq", "0");
+      params.put("startDate", startDate.toString());
+      var changes = requestOaiPmhViewUpdatedInstanceIds(params);
+      // then
+      assertThat(changes.size(), is(1));
+      var seq = changes.getFirst().getString("seq");
+
+      // when
+      params.remove("startDate");
+      params.put("afterSeq", seq);
+      // then
+      assertThat(requestOaiPmhViewUpdatedInstanceIds(params).size(), is(0));
+    } finally {
+      System.clearProperty("INSTANCE_CHANGE_LOG_LAG_SECONDS");
+    }
+  }
+
+  @Test
+  public void maintenanceCompactsChangeLogWithoutChangingChangeFeed()
+    throws InterruptedException, ExecutionException, TimeoutException {
+
+    System.setProperty("INSTANCE_CHANGE_LOG_LAG_SECONDS", "0");
+    try {
+      // given
+      var instanceId = instancesClient.getAll().getFirst().getString("id");
+      params.put("afterSeq", "0");
+      params.put("deletedRecordSupport", "false");
+      params.put("startDate", OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(1).toString());
+      var changes = requestOaiPmhViewUpdatedInstanceIds(params);
+      assertThat(changeLogRows(instanceId), greaterThan(2L));
+      // when
+      var response = getClient().post(auditMaintenanceUrl(), null, TENANT_ID).get(TIMEOUT, TimeUnit.SECONDS);
+      // then
+      assertThat(response.getStatusCode(), is(204));
+      assertThat(changeLogRows(instanceId), lessThanOrEqualTo(2L));
+      assertThat(requestOaiPmhViewUpdatedInstanceIds(params), is(changes));
+    } finally {
+      System.clearProperty("INSTANCE_CHANGE_LOG_LAG_SECONDS");
+    }
+  }
+
+  @Test
+  public void changeFeedFormatsUpdatedDateInUtc() throws InterruptedException, ExecutionException, TimeoutException {
+    System.setProperty("INSTANCE_CHANGE_LOG_LAG_SECONDS", "0");
+    try {
+      // given
+      var instanceId = instancesClient.getAll().getFirst().getString("id");
+      get(POSTGRES_CLIENT.execute("UPDATE instance_change_log SET changed_at = '2024-01-31 11:15:00.5+01'"
+        + " WHERE instance_id = '" + instanceId + "'"));
+      // when
+      params.put("afterSeq", "0");
+      params.put("startDate", "2024-01-31T00:00:00Z");
+      params.put("endDate", "2024-02-01T00:00:00Z");
+      var changes = requestOaiPmhViewUpdatedInstanceIds(params);
+      // then
+      assertThat(changes.size(), is(1));
+      assertThat(changes.getFirst().getString("instanceid"), is(instanceId));
+      assertThat(changes.getFirst().getString("updateddate"), is("2024-01-31T10:15:00.500Z"));
+    } finally {
+      System.clearProperty("INSTANCE_CHANGE_LOG_LAG_SECONDS");
+    }
+  }
+
   /**
    * The decode exception is thrown when we try to parse the response,
    * but the only relevant thing is the correct response status of 400.
@@ -359,6 +471,11 @@ public class OaiPmhViewTest extends TestBaseWithInventoryUtil {
     getOiaPmhViewInstances(params, response -> assertThat(response.getStatusCode(), is(400)));
   }
 
+  private long changeLogRows(String instanceId) {
+    return get(POSTGRES_CLIENT.execute("SELECT count(*) FROM instance_change_log WHERE instance_id = '"
+      + instanceId + "'")).iterator().next().getLong(0);
+  }
+
   void clearAuditTables() {
     CompletableFuture<Row> future = new CompletableFuture<>();
     final String sql = Stream.of("audit_instance", "audit_holdings_record", "audit_item")
@@ -471,6 +588,22 @@ public class OaiPmhViewTest extends TestBaseWithInventoryUtil {
     return results;
   }
 
+  @SneakyThrows
+  private List<JsonNode> requestEnrichedInstances(UUID[] instanceIds, boolean skipSuppressedFromDiscoveryRecords) {
+    CompletableFuture<Response> future = new CompletableFuture<>();
+
+    OaipmhInstanceIds instanceIdsPayload = new OaipmhInstanceIds();
+    instanceIdsPayload.setInstanceIds(Arrays.stream(instanceIds).map(UUID::toString).toList());
+    instanceIdsPayload.setSkipSuppressedFromDiscoveryRecords(skipSuppressedFromDiscoveryRecords);
+
+    getClient().post(oaiPmhViewEnrichedInstances(), instanceIdsPayload, TENANT_ID, ResponseHandler.any(future));
+
+    final Response response = future.get(TIMEOUT, TimeUnit.SECONDS);
+    assertThat(response.getStatusCode(), is(200));
+
+    return normalizedRecords(response.getBody());
+  }
+
   private List<JsonObject> requestOaiPmhViewUpdatedInstanceIds(Map<String, String> queryParamsMap)
     throws InterruptedException, ExecutionException, TimeoutException {
 
@@ -0,0 +1,111 @@
+package org.folio.rest.api;
+
+import static org.folio.rest.support.http.InterfaceUrls.recordCountsUrl;
+import static org.folio.utility.ModuleUtility.getClient;
+import static org.folio.utility.RestUtility.TENANT_ID;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.folio.rest.support.builders.ItemRequestBuilder;
+import org.folio.rest.support.http.ResourceClient;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RecordCountsTest extends TestBaseWithInventoryUtil {
+  private static final ResourceClient BOUND_WITH_PARTS_CLIENT = ResourceClient.forBoundWithParts(getClient());
+
+  @SneakyThrows
+  @Before
+  public void beforeEach() {
+    deleteAllById(BOUND_WITH_PARTS_CLIENT);
+    clearData();
+    setupMaterialTypes();
+    setupLoanTypes();
+    setupLocations();
+    removeAllEvents();
+  }
+
+  @Test
+  public void countsAreMaintainedOnInsertMoveAndDelete() {
+    var holdings1 = createInstanceAndHolding(MAIN_LIBRARY_LOCATION_ID);
+    var instance1 = instanceId(holdings1);
+    var holdings2 = createHolding(instance1, MAIN_LIBRARY_LOCATION_ID, null);
+    var holdings3 = createInstanceAndHolding(MAIN_LIBRARY_LOCATION_ID);
+    var instance2 = instanceId(holdings3);
+    var item1 = createItem(holdings1);
+    createItem(holdings1);
+    createItem(holdings2);
+    BOUND_WITH_PARTS_CLIENT.create(new JsonObject()
+      .put("holdingsRecordId", holdings3.toString())
+      .put("itemId", item1.toString()));
+
+    assertCounts(instance1, 2, 3, 0);
+    assertCounts(instance2, 1, 0, 1);
+
+    // move holdings2 with its item to instance2
+    var holdings = holdingsClient.getById(holdings2).getJson().put("instanceId", instance2.toString());
+    holdingsClient.replace(holdings2, holdings);
+    assertCounts(instance1, 1, 2, 0);
+    assertCounts(instance2, 2, 1, 1);
+
+    // move item1 to holdings3
+    var item = itemsClient.getById(item1).getJson().put("holdingsRecordId", holdings3.toString());
+    itemsClient.replace(item1, item);
+    assertCounts(instance1, 1, 1, 0);
+    assertCounts(instance2, 2, 2, 1);
+    assertHoldingsCounts(holdings3, 1, 1);
+
+    deleteAllById(BOUND_WITH_PARTS_CLIENT);
+    itemsClient.delete(item1);
+    assertCounts(instance2, 2, 1, 0);
+    assertHoldingsCounts(holdings3, 0, 0);
+  }
+
+  @Test
+  public void unknownIdsHaveZeroCounts() {
+    var id = UUID.randomUUID();
+    assertCounts(id, 0, 0, 0);
+    assertHoldingsCounts(id, 0, 0);
+  }
+
+  private static UUID instanceId(UUID holdingsId) {
+    return UUID.fromString(holdingsClient.getById(holdingsId).getJson().getString("instanceId"));
+  }
+
+  private UUID createItem(UUID holdingsId) {
+    return createItem(new ItemRequestBuilder()
+      .forHolding(holdingsId)
+      .withMaterialType(bookMaterialTypeId)
+      .withPermanentLoanType(canCirculateLoanTypeId))
+      .getId();
+  }
+
+  private static void assertCounts(UUID instanceId, int holdings, int items, int boundWithItems) {
+    var counts = recordCounts(new JsonObject().put("instanceIds", new JsonArray().add(instanceId.toString())))
+      .getJsonArray("instances").getJsonObject(0);
+    assertThat(counts.getString("id"), is(instanceId.toString()));
+    assertThat(counts.encode(), counts.getInteger("holdingsCount"), is(holdings));
+    assertThat(counts.encode(), counts.getInteger("itemsCount"), is(items));
+    assertThat(counts.encode(), counts.getInteger("boundWithItemsCount"), is(boundWithItems));
+  }
+
+  private static void assertHoldingsCounts(UUID holdingsId, int items, int boundWithItems) {
+    var counts = recordCounts(new JsonObject().put("holdingsRecordIds", new JsonArray().add(holdingsId.toString())))
+      .getJsonArray("holdingsRecords").getJsonObject(0);
+    assertThat(counts.getString("id"), is(holdingsId.toString()));
+    assertThat(counts.encode(), counts.getInteger("itemsCount"), is(items));
+    assertThat(counts.encode(), counts.getInteger("boundWithItemsCount"), is(boundWithItems));
+  }
+
+  @SneakyThrows
+  private static JsonObject recordCounts(JsonObject request) {
+    var response = getClient().post(recordCountsUrl(), request, TENANT_ID).get(TIMEOUT, TimeUnit.SECONDS);
+    assertThat(response.getBody(), response.getStatusCode(), is(200));
+    return response.getJson();
+  }
+}
@@ -153,7 +153,7 @@ public class ReindexJobRunnerTest extends TestBaseWithInventoryUtil {
 
   private ReindexJobRunner jobRunner(PostgresClientFuturized postgresClientFuturized) {
     return new ReindexJobRunner(postgresClientFuturized,
-      repository, getContext(), instanceEventPublisher, TENANT_ID);
+      repository, getContext(), instanceEventPublisher, okapiHeaders());
   }
 
   private PostgresClientFuturized getPostgresClientFuturized() {
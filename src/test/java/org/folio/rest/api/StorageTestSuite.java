@@ -78,8 +78,13 @@ import org.junit.runners.Suite;
   NotificationSendingErrorRepositoryTest.class,
   LegacyItemEffectiveLocationMigrationScriptTest.class,
   IterationJobRunnerTest.class,
+  DeleteJobStorageTest.class,
   SampleDataTest.class,
   AuditDeleteTest.class,
+  AuditPartitionMigrationTest.class,
+  RecordCountsTest.class,
+  ItemBatchStatusTest.class,
+  AdmissionControlApiTest.class,
   HridSettingsIncreaseMaxValueMigrationTest.class,
   IllMigrationScriptTest.class,
   InstanceDiscoverySuppressMigrationScriptTest.class,
@@ -90,7 +95,8 @@ import org.junit.runners.Suite;
   UpcIsmnMigrationScriptTest.class,
   InstanceStorageInstancesBulkApiTest.class,
   SubjectSourceTest.class,
-  SubjectTypeTest.class
+  SubjectTypeTest.class,
+  TenantServicesTest.class
 
   // These fail.
   //ReferenceTablesTest.class,
@@ -112,6 +118,8 @@ public final class StorageTestSuite {
     // tests expect English error messages only, no Danish/German/...
     Locale.setDefault(Locale.US);
     System.setProperty("KAFKA_DOMAIN_TOPIC_NUM_PARTITIONS", "1");
+    // the tests change the reference data, the java enrichment engine must not use a cached snapshot
+    System.setProperty("cache.reference-snapshot.expiration.time.seconds", "0");
 
     PostgresClient.setPostgresTester(new PostgresTesterContainer());
     startKafka();
@@ -0,0 +1,39 @@
+package org.folio.rest.api;
+
+import static org.folio.okapi.common.XOkapiHeaders.TENANT;
+import static org.folio.utility.ModuleUtility.getVertx;
+import static org.folio.utility.RestUtility.TENANT_ID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Map;
+import org.apache.commons.collections4.map.CaseInsensitiveMap;
+import org.folio.services.TenantServices;
+import org.junit.Test;
+
+public class TenantServicesTest extends TestBase {
+
+  private static Map<String, String> okapiHeaders(String tenantId) {
+    return new CaseInsensitiveMap<>(Map.of(TENANT, tenantId, "X-Okapi-Request-Id", tenantId + "-request"));
+  }
+
+  @Test
+  public void servicesAreSharedByRequestsOfTheTenant() {
+    var context = getVertx().getOrCreateContext();
+    var services = TenantServices.of(context, okapiHeaders(TENANT_ID));
+
+    assertThat(TenantServices.of(context, okapiHeaders(TENANT_ID)), sameInstance(services));
+    assertThat(services.itemService(), sameInstance(services.itemService()));
+    assertThat(services.holdingsService(), sameInstance(services.holdingsService()));
+    assertThat(services.instanceService(), sameInstance(services.instanceService()));
+  }
+
+  @Test
+  public void servicesAreNotSharedBetweenTenants() {
+    var context = getVertx().getOrCreateContext();
+
+    assertThat(TenantServices.of(context, okapiHeaders("other_tenant")),
+      not(sameInstance(TenantServices.of(context, okapiHeaders(TENANT_ID)))));
+  }
+}
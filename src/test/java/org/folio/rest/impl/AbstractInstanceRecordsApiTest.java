@@ -0,0 +1,24 @@
+package org.folio.rest.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+class AbstractInstanceRecordsApiTest {
+
+  @Test
+  void jsonRows() {
+    assertThat(AbstractInstanceRecordsApi.jsonRows("select * from f($1)", "instanceid", "itemsandholdingsfields"),
+      is("SELECT json_build_object('instanceid', COALESCE(to_json(t.\"instanceid\") #>> '{}', ''), "
+        + "'itemsandholdingsfields', COALESCE(t.\"itemsandholdingsfields\", '\"\"'))::text "
+        + "FROM (select * from f($1)) t"));
+  }
+
+  @Test
+  void acceptsNdjson() {
+    assertThat(AbstractInstanceRecordsApi.acceptsNdjson(null), is(false));
+    assertThat(AbstractInstanceRecordsApi.acceptsNdjson("application/json"), is(false));
+    assertThat(AbstractInstanceRecordsApi.acceptsNdjson("application/x-ndjson, application/json"), is(true));
+  }
+}
@@ -0,0 +1,31 @@
+package org.folio.rest.impl;
+
+import static org.folio.rest.impl.BoundWithApi.getTargetHoldingsRecordIds;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BoundWithApiTest {
+
+  @Test
+  void addsMainHoldingsRecord() {
+    assertThat(getTargetHoldingsRecordIds("main", List.of("a", "b")), is(List.of("a", "b", "main")));
+  }
+
+  @Test
+  void keepsMainHoldingsRecord() {
+    assertThat(getTargetHoldingsRecordIds("main", List.of("a", "main", "a")), is(List.of("a", "main")));
+  }
+
+  @Test
+  void noPartsForMainHoldingsRecordOnly() {
+    assertThat(getTargetHoldingsRecordIds("main", List.of("main")), is(List.of()));
+  }
+
+  @Test
+  void noPartsForEmptyContents() {
+    assertThat(getTargetHoldingsRecordIds("main", List.of()), is(List.of()));
+  }
+}
@@ -0,0 +1,125 @@
+package org.folio.rest.support;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.ws.rs.core.Response;
+import org.folio.rest.RestVerticle;
+import org.folio.rest.support.AdmissionControl.Lane;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(VertxExtension.class)
+class AdmissionControlTest {
+  private static final String TENANT = "diku";
+  private static final String OTHER_TENANT = "other";
+
+  @Test
+  void mapsEndpointsToLanes() {
+    var admissionControl = new AdmissionControl(true, AdmissionControl.DEFAULT_BULK_ENDPOINTS, 10, 2, 100);
+    assertThat(admissionControl.lane("/item-storage/batch/synchronous-unsafe"), is(Lane.BULK));
+    assertThat(admissionControl.lane("/instance-storage/instances/bulk"), is(Lane.BULK));
+    assertThat(admissionControl.lane("/oai-pmh-view/updatedInstanceIds"), is(Lane.BULK));
+    assertThat(admissionControl.lane("/instance-storage/instances"), is(Lane.INTERACTIVE));
+    assertThat(admissionControl.lane("/item-storage/items/{id}"), is(Lane.INTERACTIVE));
+    assertThat(new AdmissionControl(true, " /item-storage/items ,", 10, 2, 100)
+      .lane("/item-storage/items/{id}"), is(Lane.BULK));
+  }
+
+  @Test
+  void runsImmediatelyIfDisabled(Vertx vertx) {
+    var admissionControl = new AdmissionControl(false, AdmissionControl.DEFAULT_BULK_ENDPOINTS, 1, 1, 100);
+    var started = new AtomicBoolean();
+    admissionControl.admit(vertx.getOrCreateContext(), headers(TENANT), "/item-storage/batch/synchronous", null,
+      result -> { }, handler -> started.set(true));
+    assertThat(started.get(), is(true));
+  }
+
+  @Test
+  void queuesAboveLaneLimit(Vertx vertx, VertxTestContext testContext) {
+    var admissionControl = new AdmissionControl(true, AdmissionControl.DEFAULT_BULK_ENDPOINTS, 10, 1, 100);
+    var handlers = new ArrayList<Handler<AsyncResult<Response>>>();
+    var context = vertx.getOrCreateContext();
+    context.runOnContext(notUsed -> {
+      admit(admissionControl, "/item-storage/batch/synchronous", handlers);
+      admit(admissionControl, "/holdings-storage/batch/synchronous", handlers);
+      admit(admissionControl, "/item-storage/items", handlers);
+      vertx.setTimer(50, timerId -> testContext.verify(() -> {
+        // the second bulk request waits for the first one, the interactive one doesn't
+        assertThat(handlers.size(), is(2));
+        handlers.get(0).handle(Future.succeededFuture(Response.ok().build()));
+        vertx.setTimer(50, timerId2 -> testContext.verify(() -> {
+          assertThat(handlers.size(), is(3));
+          testContext.completeNow();
+        }));
+      }));
+    });
+  }
+
+  @Test
+  void keepsLanesPerTenant(Vertx vertx, VertxTestContext testContext) {
+    var admissionControl = new AdmissionControl(true, AdmissionControl.DEFAULT_BULK_ENDPOINTS, 10, 1, 100);
+    var handlers = new ArrayList<Handler<AsyncResult<Response>>>();
+    var otherHandlers = new ArrayList<Handler<AsyncResult<Response>>>();
+    admissionControl.recordInteractiveLatency(TENANT, 1000);
+    assertThat(admissionControl.isInteractiveSlow(OTHER_TENANT), is(false));
+    vertx.getOrCreateContext().runOnContext(notUsed -> {
+      // the bulk lane of TENANT waits for its slow interactive latency, the one of OTHER_TENANT doesn't
+      admit(admissionControl, TENANT, "/item-storage/batch/synchronous", handlers);
+      admit(admissionControl, OTHER_TENANT, "/item-storage/batch/synchronous", otherHandlers);
+      admit(admissionControl, OTHER_TENANT, "/item-storage/batch/synchronous", otherHandlers);
+      vertx.setTimer(50, timerId -> testContext.verify(() -> {
+        assertThat(handlers.size(), is(0));
+        assertThat(otherHandlers.size(), is(1));
+        testContext.completeNow();
+      }));
+    });
+  }
+
+  @Test
+  void queuesBulkWhileInteractiveIsSlow(Vertx vertx, VertxTestContext testContext) {
+    var admissionControl = new AdmissionControl(true, AdmissionControl.DEFAULT_BULK_ENDPOINTS, 10, 10, 100);
+    var handlers = new ArrayList<Handler<AsyncResult<Response>>>();
+    admissionControl.recordInteractiveLatency(TENANT, 1000);
+    assertThat(admissionControl.isInteractiveSlow(TENANT), is(true));
+    vertx.getOrCreateContext().runOnContext(notUsed -> {
+      admit(admissionControl, "/record-bulk/ids", handlers);
+      admit(admissionControl, "/item-storage/items", handlers);
+      vertx.setTimer(3 * AdmissionControl.RECHECK_MILLIS, timerId -> testContext.verify(() -> {
+        assertThat(handlers.size(), is(1));
+        for (int i = 0; i < 20; i++) {
+          admissionControl.recordInteractiveLatency(TENANT, 0);
+        }
+        assertThat(admissionControl.isInteractiveSlow(TENANT), is(false));
+        vertx.setTimer(3 * AdmissionControl.RECHECK_MILLIS, timerId2 -> testContext.verify(() -> {
+          assertThat(handlers.size(), is(2));
+          testContext.completeNow();
+        }));
+      }));
+    });
+  }
+
+  private static void admit(AdmissionControl admissionControl, String endpoint,
+                            List<Handler<AsyncResult<Response>>> handlers) {
+    admit(admissionControl, TENANT, endpoint, handlers);
+  }
+
+  private static void admit(AdmissionControl admissionControl, String tenant, String endpoint,
+                            List<Handler<AsyncResult<Response>>> handlers) {
+    admissionControl.admit(Vertx.currentContext(), headers(tenant), endpoint, null, result -> { }, handlers::add);
+  }
+
+  private static Map<String, String> headers(String tenant) {
+    return Map.of(RestVerticle.OKAPI_HEADER_TENANT, tenant);
+  }
+}
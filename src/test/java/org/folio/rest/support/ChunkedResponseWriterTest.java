@@ -0,0 +1,106 @@
+package org.folio.rest.support;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ChunkedResponseWriterTest {
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+    "gzip                 | true",
+    "deflate, GZIP        | true",
+    "gzip;q=0.5, br       | true",
+    "gzip;q=0             | false",
+    "gzip; q=0.000        | false",
+    "br, deflate          | false",
+    "x-gzip               | false",
+  })
+  void acceptsGzip(String acceptEncoding, boolean expected) {
+    assertThat(ChunkedResponseWriter.acceptsGzip(acceptEncoding), is(expected));
+  }
+
+  @Test
+  void acceptsGzipNull() {
+    assertThat(ChunkedResponseWriter.acceptsGzip(null), is(false));
+  }
+
+  @Test
+  void plain() {
+    var response = mock(HttpServerResponse.class);
+    var body = Buffer.buffer();
+    when(response.write(any(Buffer.class))).thenAnswer(invocation -> {
+      body.appendBuffer(invocation.getArgument(0));
+      return null;
+    });
+    when(response.end(any(Buffer.class))).thenAnswer(invocation -> {
+      body.appendBuffer(invocation.getArgument(0));
+      return null;
+    });
+
+    var writer = ChunkedResponseWriter.start(routingContext(response, null), "text/plain", true);
+    var expected = write(writer);
+
+    assertThat(body.toString(), is(expected));
+    verify(response).putHeader(HttpHeaders.CONTENT_TYPE, "text/plain");
+  }
+
+  @Test
+  void gzip() throws IOException {
+    var response = mock(HttpServerResponse.class);
+    var body = new ByteArrayOutputStream();
+    when(response.write(any(Buffer.class))).thenAnswer(invocation -> {
+      body.writeBytes(((Buffer) invocation.getArgument(0)).getBytes());
+      return null;
+    });
+    when(response.end(any(Buffer.class))).thenAnswer(invocation -> {
+      body.writeBytes(((Buffer) invocation.getArgument(0)).getBytes());
+      return null;
+    });
+
+    var writer = ChunkedResponseWriter.start(routingContext(response, "gzip"), "text/plain", true);
+    var expected = write(writer);
+
+    try (var gunzip = new GZIPInputStream(new ByteArrayInputStream(body.toByteArray()))) {
+      assertThat(new String(gunzip.readAllBytes(), StandardCharsets.UTF_8), is(expected));
+    }
+    verify(response).putHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+  }
+
+  private static String write(ChunkedResponseWriter writer) {
+    var expected = new StringBuilder();
+    for (int i = 0; i < 50000; i++) {
+      var line = "00000000-0000-4000-8000-" + String.format("%012d", i) + "\n";
+      expected.append(line);
+      writer.write(line);
+    }
+    writer.end();
+    return expected.toString();
+  }
+
+  private static RoutingContext routingContext(HttpServerResponse response, String acceptEncoding) {
+    var request = mock(HttpServerRequest.class);
+    when(request.getHeader(HttpHeaders.ACCEPT_ENCODING)).thenReturn(acceptEncoding);
+    var routingContext = mock(RoutingContext.class);
+    when(routingContext.request()).thenReturn(request);
+    when(routingContext.response()).thenReturn(response);
+    return routingContext;
+  }
+}
@@ -0,0 +1,66 @@
+package org.folio.rest.support;
+
+import static java.util.Comparator.comparing;
+import static org.folio.services.enrichment.InstanceEnrichmentService.ENRICHMENT_ENGINE;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.StreamSupport;
+import lombok.SneakyThrows;
+
+/**
+ * Helpers to compare the responses of the database and the java enrichment engine.
+ */
+public final class EnrichmentEngines {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private EnrichmentEngines() {
+    throw new UnsupportedOperationException("Cannot instantiate utility class.");
+  }
+
+  /**
+   * Runs the request with ENRICHMENT_ENGINE=java.
+   */
+  public static <T> T withJavaEnrichmentEngine(Supplier<T> request) {
+    System.setProperty(ENRICHMENT_ENGINE, "java");
+    try {
+      return request.get();
+    } finally {
+      System.clearProperty(ENRICHMENT_ENGINE);
+    }
+  }
+
+  /**
+   * The concatenated JSON records of the body. The records and the elements of each array are sorted
+   * because the database functions aggregate without ORDER BY.
+   */
+  @SneakyThrows
+  public static List<JsonNode> normalizedRecords(String body) {
+    try (var records = MAPPER.readerFor(JsonNode.class).<JsonNode>readValues(body)) {
+      return records.readAll().stream()
+        .map(EnrichmentEngines::normalize)
+        .sorted(comparing(JsonNode::toString))
+        .toList();
+    }
+  }
+
+  private static JsonNode normalize(JsonNode node) {
+    if (node.isObject()) {
+      var object = JsonNodeFactory.instance.objectNode();
+      node.fields().forEachRemaining(field -> object.set(field.getKey(), normalize(field.getValue())));
+      return object;
+    }
+    if (node.isArray()) {
+      var array = JsonNodeFactory.instance.arrayNode();
+      StreamSupport.stream(node.spliterator(), false)
+        .map(EnrichmentEngines::normalize)
+        .sorted(comparing(JsonNode::toString))
+        .forEach(array::add);
+      return array;
+    }
+    return node;
+  }
+}
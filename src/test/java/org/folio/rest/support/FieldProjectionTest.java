@@ -0,0 +1,51 @@
+package org.folio.rest.support;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import org.folio.rest.exceptions.BadRequestException;
+import org.folio.rest.jaxrs.model.Item;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FieldProjectionTest {
+
+  @ParameterizedTest
+  @NullSource
+  @ValueSource(strings = {"", " ", " , "})
+  void noProjection(String fields) {
+    assertThat(FieldProjection.of(fields, Item.class), is(nullValue()));
+  }
+
+  @Test
+  void projection() {
+    var projection = FieldProjection.of(" id,barcode ,status,id,_version", Item.class);
+    assertThat(projection.getFields(), contains("id", "barcode", "status", "_version"));
+    assertThat(projection.toSql(), is("(jsonb_build_object('id', jsonb->'id', 'barcode', jsonb->'barcode', "
+      + "'status', jsonb->'status', '_version', jsonb->'_version') - ARRAY(SELECT key FROM unnest(ARRAY['id', "
+      + "'barcode', 'status', '_version']) key WHERE NOT jsonb ? key))::text"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"id,foo", "status.name", "id'--", "holdingsRecordId,Barcode"})
+  void unknownField(String fields) {
+    assertThrows(BadRequestException.class, () -> FieldProjection.of(fields, Item.class));
+  }
+
+  @Test
+  void tooManyFields() {
+    var fields = String.join(",", Collections.nCopies(FieldProjection.MAX_FIELDS, "id")) + ",barcode";
+    assertThat(FieldProjection.of(fields, Item.class).getFields(), contains("id", "barcode"));
+    var distinct = new StringBuilder("id");
+    for (int i = 0; i < FieldProjection.MAX_FIELDS; i++) {
+      distinct.append(",f").append(i);
+    }
+    assertThrows(BadRequestException.class, () -> FieldProjection.of(distinct.toString(), Item.class));
+  }
+}
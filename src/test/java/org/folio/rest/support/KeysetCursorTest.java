@@ -0,0 +1,99 @@
+package org.folio.rest.support;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vertx.core.json.JsonArray;
+import org.folio.rest.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class KeysetCursorTest {
+  private static final String ID = "00000000-0000-0000-0000-000000000001";
+  private static final String BARCODE_ORDER_BY =
+    "left(lower(f_unaccent(item.jsonb->>'barcode')),600), lower(f_unaccent(item.jsonb->>'barcode'))";
+
+  @Test
+  void splitOrderBy() {
+    assertThat(KeysetCursor.splitOrderBy(BARCODE_ORDER_BY), contains(
+      "left(lower(f_unaccent(item.jsonb->>'barcode')),600)",
+      "lower(f_unaccent(item.jsonb->>'barcode'))"));
+  }
+
+  @Test
+  void splitOrderByQuotedComma() {
+    assertThat(KeysetCursor.splitOrderBy("item.jsonb->>'a,b' ASC"), contains("item.jsonb->>'a,b'"));
+  }
+
+  @Test
+  void splitOrderByEmpty() {
+    assertThat(KeysetCursor.splitOrderBy(null), is(empty()));
+  }
+
+  @Test
+  void descending() {
+    assertThrows(BadRequestException.class, () -> KeysetCursor.splitOrderBy("item.jsonb->>'barcode' DESC"));
+  }
+
+  @Test
+  void firstPage() {
+    var cursor = KeysetCursor.of("", "cql.allRecords=1", "");
+    assertThat(cursor.condition(), is(""));
+    assertThat(cursor.orderBy(), is("id"));
+    assertThat(cursor.selectColumns(), is(", id::text"));
+  }
+
+  @Test
+  void idCursor() {
+    var cursor = KeysetCursor.of(KeysetCursor.encode(new JsonArray().add(ID)), "cql.allRecords=1", "");
+    assertThat(cursor.condition(), is("id > '" + ID + "'::uuid"));
+  }
+
+  @Test
+  void sortKeyCursor() {
+    var after = KeysetCursor.encode(new JsonArray().add("o'a").add("o'ab").add(ID));
+    var cursor = KeysetCursor.of(after, "cql.allRecords=1 sortBy barcode", BARCODE_ORDER_BY);
+    assertThat(cursor.condition(), is("((left(lower(f_unaccent(item.jsonb->>'barcode')),600), "
+      + "lower(f_unaccent(item.jsonb->>'barcode')), id) > ('o''a', 'o''ab', '" + ID + "'::uuid)"
+      + " OR (left(lower(f_unaccent(item.jsonb->>'barcode')),600)) IS NULL)"));
+    assertThat(cursor.orderBy(), is(BARCODE_ORDER_BY + ", id"));
+  }
+
+  @Test
+  void nullSortKeyCursor() {
+    var after = KeysetCursor.encode(new JsonArray().addNull().addNull().add(ID));
+    var cursor = KeysetCursor.of(after, "cql.allRecords=1 sortBy barcode", BARCODE_ORDER_BY);
+    assertThat(cursor.condition(),
+      is("(left(lower(f_unaccent(item.jsonb->>'barcode')),600)) IS NULL AND id > '" + ID + "'::uuid"));
+  }
+
+  @Test
+  void cursorDoesNotMatchSortBy() {
+    var after = KeysetCursor.encode(new JsonArray().add(ID));
+    assertThrows(BadRequestException.class,
+      () -> KeysetCursor.of(after, "cql.allRecords=1 sortBy barcode", BARCODE_ORDER_BY));
+  }
+
+  @Test
+  void partiallyNullSortKeyValues() {
+    var after = KeysetCursor.encode(new JsonArray().add("a").addNull().add(ID));
+    assertThrows(BadRequestException.class,
+      () -> KeysetCursor.of(after, "cql.allRecords=1 sortBy barcode", BARCODE_ORDER_BY));
+  }
+
+  @Test
+  void multipleSortByFields() {
+    assertThrows(BadRequestException.class,
+      () -> KeysetCursor.of("", "cql.allRecords=1 sortBy barcode hrid", BARCODE_ORDER_BY));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "%%%", "e30", "WzFd" })
+  void malformed(String after) {
+    assertThrows(BadRequestException.class, () -> KeysetCursor.of(after, "cql.allRecords=1", ""));
+  }
+}
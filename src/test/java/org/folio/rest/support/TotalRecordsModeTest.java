@@ -0,0 +1,39 @@
+package org.folio.rest.support;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.folio.rest.exceptions.BadRequestException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TotalRecordsModeTest {
+
+  @ParameterizedTest
+  @CsvSource({
+    "auto, AUTO",
+    "exact, EXACT",
+    "estimated, ESTIMATED",
+    "none, NONE",
+    "' Exact ', EXACT",
+  })
+  void of(String totalRecords, TotalRecordsMode expected) {
+    assertThat(TotalRecordsMode.of(totalRecords), is(expected));
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = { "  " })
+  void blankIsAuto(String totalRecords) {
+    assertThat(TotalRecordsMode.of(totalRecords), is(TotalRecordsMode.AUTO));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "all", "1" })
+  void invalid(String totalRecords) {
+    assertThrows(BadRequestException.class, () -> TotalRecordsMode.of(totalRecords));
+  }
+}
@@ -0,0 +1,49 @@
+package org.folio.rest.support.fixtures;
+
+import static org.folio.rest.api.TestBase.get;
+import static org.folio.rest.support.http.InterfaceUrls.deleteJobs;
+import static org.folio.utility.RestUtility.TENANT_ID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import lombok.SneakyThrows;
+import org.folio.rest.jaxrs.model.DeleteJob;
+import org.folio.rest.jaxrs.model.DeleteJobParams;
+import org.folio.rest.support.HttpClient;
+import org.folio.rest.support.Response;
+
+public final class DeleteJobFixture {
+  private final HttpClient client;
+
+  public DeleteJobFixture(HttpClient httpClient) {
+    this.client = httpClient;
+  }
+
+  @SneakyThrows
+  public void cancelDeleteJob(String id) {
+    var statusCode = get(client.delete(deleteJobs("/" + id), TENANT_ID)).getStatusCode();
+
+    assertThat(statusCode, is(204));
+  }
+
+  @SneakyThrows
+  public DeleteJob getDeleteJob(String id) {
+    return get(client.get(deleteJobs("/" + id), TENANT_ID)
+      .thenApply(Response::getJson)
+      .thenApply(json -> json.mapTo(DeleteJob.class)));
+  }
+
+  @SneakyThrows
+  public Response attemptToPostDeleteJob(DeleteJobParams jobParams) {
+    return get(client.post(deleteJobs(""), jobParams, TENANT_ID));
+  }
+
+  @SneakyThrows
+  public DeleteJob postDeleteJob(DeleteJobParams jobParams) {
+    var response = attemptToPostDeleteJob(jobParams);
+
+    assertThat(response.getStatusCode(), is(201));
+
+    return response.getJson().mapTo(DeleteJob.class);
+  }
+}
@@ -38,6 +38,10 @@ public class InterfaceUrls {
     return vertxUrl("/item-storage/batch/synchronous-unsafe" + subPath);
   }
 
+  public static URL itemsStorageBatchStatusUrl() {
+    return vertxUrl("/item-storage/batch/status");
+  }
+
   public static URL holdingsStorageUrl(String subPath) {
     return vertxUrl("/holdings-storage/holdings" + subPath);
   }
@@ -241,6 +245,10 @@ public class InterfaceUrls {
     return vertxUrl("/instance-storage/instances/iteration" + path);
   }
 
+  public static URL deleteJobs(String path) {
+    return vertxUrl("/inventory-storage/delete-jobs" + path);
+  }
+
   public static URL migrationsUrl(String subPath) {
     return vertxUrl("/inventory-storage/migrations" + subPath);
   }
@@ -249,6 +257,14 @@ public class InterfaceUrls {
     return vertxUrl("/inventory-storage/migrations/jobs" + subPath);
   }
 
+  public static URL auditMaintenanceUrl() {
+    return vertxUrl("/inventory-storage/audit/maintenance");
+  }
+
+  public static URL recordCountsUrl() {
+    return vertxUrl("/inventory-storage/record-counts/retrieve");
+  }
+
   public static URL instancesBulk() {
     return vertxUrl("/instance-storage/instances/bulk");
   }
@@ -0,0 +1,21 @@
+package org.folio.services.caches;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LocalInstanceCacheTest {
+
+  @Test
+  void unknownIds() {
+    var cache = new LocalInstanceCache();
+    cache.put("diku", "1");
+    cache.put("other", "2");
+
+    assertThat(cache.unknown("diku", List.of("1", "2", "3")), contains("2", "3"));
+    assertThat(cache.unknown("other", List.of("2")), empty());
+  }
+}
@@ -193,6 +193,13 @@ public class ConsortiumServiceImplTest {
     });
   }
 
+  @Test
+  public void shouldShareInstanceOfContext(TestContext testContext) {
+    var context = vertx.getOrCreateContext();
+
+    testContext.assertTrue(ConsortiumServiceImpl.getInstance(context) == ConsortiumServiceImpl.getInstance(context));
+  }
+
   private void verifyShareInstanceCall() {
     verify(postRequestedFor(urlMatching(INSTANCE_SHARE_PATH))
       .withHeader(XOkapiHeaders.TENANT, equalTo(CENTRAL_TENANT_ID))
@@ -0,0 +1,75 @@
+package org.folio.services.consortium;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(VertxExtension.class)
+class TenantFanOutTest {
+
+  @Test
+  void limitsParallelism(Vertx vertx, VertxTestContext testContext) {
+    var inFlight = new AtomicInteger();
+    var maxInFlight = new AtomicInteger();
+    new TenantFanOut(vertx, 2, 0, 1)
+      .run(List.of("t1", "t2", "t3", "t4", "t5"), tenant -> {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        Promise<Void> promise = Promise.promise();
+        vertx.setTimer(10, timerId -> {
+          inFlight.decrementAndGet();
+          promise.complete();
+        });
+        return promise.future();
+      })
+      .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+        assertThat(maxInFlight.get(), is(2));
+        assertThat(result.getSucceeded(), containsInAnyOrder("t1", "t2", "t3", "t4", "t5"));
+        assertThat(result.getFailed().isEmpty(), is(true));
+        testContext.completeNow();
+      })));
+  }
+
+  @Test
+  void retriesFailedTenants(Vertx vertx, VertxTestContext testContext) {
+    Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+    new TenantFanOut(vertx, 8, 2, 1)
+      .run(List.of("ok", "flaky", "broken"), tenant -> {
+        var attempt = attempts.computeIfAbsent(tenant, k -> new AtomicInteger()).incrementAndGet();
+        return switch (tenant) {
+          case "ok" -> Future.succeededFuture();
+          case "flaky" -> attempt < 2 ? Future.failedFuture("flaky") : Future.succeededFuture();
+          default -> throw new IllegalStateException("broken");
+        };
+      })
+      .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+        assertThat(result.getSucceeded(), containsInAnyOrder("ok", "flaky"));
+        assertThat(result.getFailed().keySet(), containsInAnyOrder("broken"));
+        assertThat(attempts.get("ok").get(), is(1));
+        assertThat(attempts.get("flaky").get(), is(2));
+        assertThat(attempts.get("broken").get(), is(3));
+        testContext.completeNow();
+      })));
+  }
+
+  @Test
+  void noTenants(Vertx vertx, VertxTestContext testContext) {
+    new TenantFanOut(vertx, 8, 2, 1)
+      .run(List.of(), tenant -> Future.failedFuture("unexpected"))
+      .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+        assertThat(result.getSucceeded().isEmpty(), is(true));
+        testContext.completeNow();
+      })));
+  }
+}
@@ -0,0 +1,106 @@
+package org.folio.services.deletion;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.folio.services.deletion.ChunkedDeleter.CHUNK_SIZE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+class ChunkedDeleterTest {
+
+  private final List<String> afterIds = new ArrayList<>();
+  private final List<Integer> publishedChunkSizes = new ArrayList<>();
+
+  @Test
+  void deletesAllChunks() {
+    var deleter = deleter(CHUNK_SIZE + 1);
+
+    var deleted = deleter.delete().result();
+
+    assertThat(deleted, is(CHUNK_SIZE + 1L));
+    assertThat(afterIds, contains(null, id(CHUNK_SIZE - 1)));
+    assertThat(publishedChunkSizes, contains(CHUNK_SIZE, 1));
+  }
+
+  @Test
+  void stopsWhenProgressHandlerReturnsFalse() {
+    var deleter = deleter(3 * CHUNK_SIZE);
+    var progress = new ArrayList<Long>();
+
+    var deleted = deleter.delete(total -> {
+      progress.add(total);
+      return succeededFuture(false);
+    }).result();
+
+    assertThat(deleted, is((long) CHUNK_SIZE));
+    assertThat(progress, contains((long) CHUNK_SIZE));
+    assertThat(afterIds.size(), is(1));
+  }
+
+  @Test
+  void continuesWhenPublishingFails() {
+    var deleter = new ChunkedDeleter(chunkDelete(CHUNK_SIZE + 1), row -> Pair.of(row.getString(0), "{}"),
+      events -> Future.failedFuture("Kafka unavailable"));
+
+    assertThat(deleter.delete().result(), is(CHUNK_SIZE + 1L));
+  }
+
+  private ChunkedDeleter deleter(int records) {
+    return new ChunkedDeleter(chunkDelete(records), row -> Pair.of(row.getString(0), "{}"),
+      events -> {
+        publishedChunkSizes.add(events.size());
+        return succeededFuture();
+      });
+  }
+
+  /**
+   * Simulates a table with the given number of records and ids id(0) ... id(records - 1).
+   */
+  private ChunkedDeleter.ChunkDelete chunkDelete(int records) {
+    return (afterId, limit) -> {
+      afterIds.add(afterId);
+      var from = afterId == null ? 0 : Integer.parseInt(afterId.substring(afterId.length() - 12)) + 1;
+      var to = Math.min(records, from + limit);
+      return succeededFuture(rowSet(IntStream.range(from, to).mapToObj(ChunkedDeleterTest::row).toList()));
+    };
+  }
+
+  private static String id(int i) {
+    return "00000000-0000-4000-8000-%012d".formatted(i);
+  }
+
+  private static Row row(int i) {
+    var row = mock(Row.class);
+    when(row.getString(0)).thenReturn(id(i));
+    return row;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static RowSet<Row> rowSet(List<Row> rows) {
+    var rowSet = (RowSet<Row>) mock(RowSet.class);
+    when(rowSet.rowCount()).thenReturn(rows.size());
+    when(rowSet.iterator()).thenAnswer(invocation -> rowIterator(rows.iterator()));
+    return rowSet;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static RowIterator<Row> rowIterator(Iterator<Row> iterator) {
+    var rowIterator = (RowIterator<Row>) mock(RowIterator.class);
+    when(rowIterator.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+    when(rowIterator.next()).thenAnswer(invocation -> iterator.next());
+    return rowIterator;
+  }
+}
@@ -7,6 +7,8 @@ import static org.folio.InventoryKafkaTopic.INSTANCE;
 import static org.folio.rest.api.TestBase.get;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -17,6 +19,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import io.vertx.kafka.client.producer.KafkaProducer;
 import java.util.Map;
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
@@ -41,15 +44,31 @@ public class CommonDomainEventPublisherTest {
   private KafkaProducerManager producerManager;
   @Mock
   private FailureHandler failureHandler;
+  private final Map<String, String> okapiHeaders = new CaseInsensitiveMap<>(Map.of());
   private CommonDomainEventPublisher<Instance> eventPublisher;
 
   @Before
   public void setUpPublisher() {
-    eventPublisher = new CommonDomainEventPublisher<>(
-      new CaseInsensitiveMap<>(Map.of()), INSTANCE.fullTopicName(TENANT_ID),
+    eventPublisher = new CommonDomainEventPublisher<>(INSTANCE.fullTopicName(TENANT_ID),
       producerManager, failureHandler);
   }
 
+  @Test
+  public void shouldReuseProducerManagerOfTopic() {
+    var vertx = Vertx.vertx();
+    try {
+      var context = vertx.getOrCreateContext();
+      var topic = INSTANCE.fullTopicName(TENANT_ID);
+      var producerManager = CommonDomainEventPublisher.createProducerManager(context, topic, 0);
+
+      assertThat(CommonDomainEventPublisher.createProducerManager(context, topic, 0), sameInstance(producerManager));
+      assertThat(CommonDomainEventPublisher.createProducerManager(context, topic, 1000),
+        not(sameInstance(producerManager)));
+    } finally {
+      vertx.close();
+    }
+  }
+
   @Test
   public void shouldPauseStreamWhenProducerIsFull() {
     var stream = spy(new TestRowStream(6));
@@ -60,7 +79,7 @@ public class CommonDomainEventPublisherTest {
     when(producer.drainHandler(any())).thenAnswer(this::drainHandler);
 
     var recordsPublished = get(eventPublisher.publishStream(stream,
-      row -> builderWithValue(""), notUsed -> succeededFuture()));
+      row -> builderWithValue(""), notUsed -> succeededFuture(), okapiHeaders));
 
     assertThat(recordsPublished, is(6L));
 
@@ -78,7 +97,7 @@ public class CommonDomainEventPublisherTest {
 
     var future = eventPublisher.publishStream(stream,
       row -> builderWithValue(""),
-      records -> records > 3 ? failedFuture("stream failed") : succeededFuture());
+      records -> records > 3 ? failedFuture("stream failed") : succeededFuture(), okapiHeaders);
 
     await().until(future::isComplete);
 
@@ -100,7 +119,7 @@ public class CommonDomainEventPublisherTest {
       .thenReturn(succeededFuture(), failedFuture(""), succeededFuture(), failedFuture(""));
 
     var recordsPublished = get(eventPublisher.publishStream(stream,
-      row -> builderWithValue(""), records -> succeededFuture()));
+      row -> builderWithValue(""), records -> succeededFuture(), okapiHeaders));
 
     assertThat(recordsPublished, is(2L));
     verify(failureHandler, times(2)).handleFailure(any(), any());
@@ -114,7 +133,7 @@ public class CommonDomainEventPublisherTest {
     when(producer.send(any())).thenThrow(new IllegalStateException("server error"));
 
     var future = eventPublisher.publishStream(stream,
-      row -> builderWithValue(""), records -> succeededFuture());
+      row -> builderWithValue(""), records -> succeededFuture(), okapiHeaders);
 
     await().until(future::isComplete);
 
@@ -133,7 +152,7 @@ public class CommonDomainEventPublisherTest {
     when(producer.flush()).thenReturn(succeededFuture());
     when(producer.send(any())).thenReturn(failedFuture(causeError));
 
-    var future = eventPublisher.publishAllRecordsRemoved();
+    var future = eventPublisher.publishAllRecordsRemoved(okapiHeaders);
     var e = assertThrows(RuntimeException.class, () -> get(future));
     assertThat(e.getCause().getCause(), is(instanceOf(IllegalArgumentException.class)));
 
@@ -0,0 +1,75 @@
+package org.folio.services.domainevent;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Compares the size of full and compact update events of the sample data records, uncompressed and
+ * gzip compressed as a single batch like the Kafka producer does.
+ */
+class DomainEventWireSizeTest {
+  private static final String TENANT = "diku";
+
+  @ParameterizedTest
+  @ValueSource(strings = {"instances", "holdingsrecords", "items"})
+  void compactUpdateEventsAreSmaller(String sampleData) throws IOException {
+    var fullBatch = new StringBuilder();
+    var compactBatch = new StringBuilder();
+
+    for (var update : loadUpdates(sampleData)) {
+      fullBatch.append(Json.encode(
+        DomainEvent.updateEvent(update.getKey().getMap(), update.getValue().getMap(), TENANT)));
+      compactBatch.append(Json.encode(
+        DomainEventCompact.updateEvent(update.getKey().getMap(), update.getValue().getMap(), TENANT)));
+    }
+
+    // a full event has the old and the new record, a compact event the new record and a small patch;
+    // compression removes most of the duplication, but not all of it
+    assertThat(compactBatch.length(), lessThan(fullBatch.length() * 3 / 4));
+    assertThat(gzipLength(compactBatch.toString()), lessThan(gzipLength(fullBatch.toString())));
+  }
+
+  private static int gzipLength(String value) throws IOException {
+    var bytes = new ByteArrayOutputStream();
+    try (var gzip = new GZIPOutputStream(bytes)) {
+      gzip.write(value.getBytes(StandardCharsets.UTF_8));
+    }
+    return bytes.size();
+  }
+
+  /**
+   * Sample data records paired with a copy that has the typical changes of a record update.
+   */
+  private static List<Map.Entry<JsonObject, JsonObject>> loadUpdates(String sampleData) throws IOException {
+    var updates = new ArrayList<Map.Entry<JsonObject, JsonObject>>();
+
+    try (Stream<Path> files = Files.list(Path.of("sample-data", sampleData))) {
+      for (var file : files.filter(path -> path.toString().endsWith(".json")).toList()) {
+        var oldRecord = new JsonObject(Files.readString(file));
+        var newRecord = new JsonObject(Files.readString(file))
+          .put("_version", oldRecord.getInteger("_version", 1) + 1)
+          .put("metadata", Map.of(
+            "updatedDate", "2025-01-01T00:00:00.000+00:00",
+            "updatedByUserId", "a7f0d2b5-5d1b-4f5e-9a1a-0a5a7b6c2e11"));
+        updates.add(Map.entry(oldRecord, newRecord));
+      }
+    }
+
+    return updates;
+  }
+}
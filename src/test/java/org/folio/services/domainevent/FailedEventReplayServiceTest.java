@@ -0,0 +1,20 @@
+package org.folio.services.domainevent;
+
+import static org.folio.services.domainevent.FailedEventReplayService.backoff;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class FailedEventReplayServiceTest {
+
+  @Test
+  void backoffDoublesUpToOneHour() {
+    assertThat(backoff(1), is(Duration.ofSeconds(30)));
+    assertThat(backoff(2), is(Duration.ofSeconds(60)));
+    assertThat(backoff(5), is(Duration.ofSeconds(480)));
+    assertThat(backoff(8), is(Duration.ofHours(1)));
+    assertThat(backoff(1000), is(Duration.ofHours(1)));
+  }
+}
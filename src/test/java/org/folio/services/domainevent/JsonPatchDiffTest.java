@@ -0,0 +1,74 @@
+package org.folio.services.domainevent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.folio.dbschema.ObjectMapperTool;
+import org.junit.jupiter.api.Test;
+
+class JsonPatchDiffTest {
+
+  @Test
+  void shouldReturnEmptyPatchForEqualDocuments() {
+    var document = new JsonObject().put("id", "1").put("title", "title");
+
+    var patch = diff(document, document.copy());
+
+    assertTrue(patch.isEmpty());
+  }
+
+  @Test
+  void shouldCreateAddRemoveAndReplaceOperations() {
+    var source = new JsonObject()
+      .put("id", "1")
+      .put("title", "old title")
+      .put("hrid", "in1")
+      .put("metadata", new JsonObject().put("updatedDate", "2024-01-01"));
+    var target = new JsonObject()
+      .put("id", "1")
+      .put("title", "new title")
+      .put("source", "FOLIO")
+      .put("metadata", new JsonObject().put("updatedDate", "2024-01-02"));
+
+    var patch = diff(source, target);
+
+    assertEquals(new JsonArray()
+      .add(operation("remove", "/hrid", null))
+      .add(operation("replace", "/title", "new title"))
+      .add(operation("add", "/source", "FOLIO"))
+      .add(operation("replace", "/metadata/updatedDate", "2024-01-02")), patch);
+  }
+
+  @Test
+  void shouldReplaceArraysAsWhole() {
+    var source = new JsonObject().put("tags", new JsonArray().add("a").add("b"));
+    var target = new JsonObject().put("tags", new JsonArray().add("a"));
+
+    var patch = diff(source, target);
+
+    assertEquals(new JsonArray().add(operation("replace", "/tags", new JsonArray().add("a"))), patch);
+  }
+
+  @Test
+  void shouldEscapeFieldNames() {
+    var source = new JsonObject().put("a/b~c", 1);
+    var target = new JsonObject().put("a/b~c", 2);
+
+    var patch = diff(source, target);
+
+    assertEquals(new JsonArray().add(operation("replace", "/a~1b~0c", 2)), patch);
+  }
+
+  private static JsonArray diff(JsonObject source, JsonObject target) {
+    var mapper = ObjectMapperTool.getMapper();
+    var patch = JsonPatchDiff.diff(mapper.valueToTree(source.getMap()), mapper.valueToTree(target.getMap()));
+    return new JsonArray(patch.toString());
+  }
+
+  private static JsonObject operation(String op, String path, Object value) {
+    var operation = new JsonObject().put("op", op).put("path", path);
+    return value == null ? operation : operation.put("value", value);
+  }
+}
@@ -1,15 +1,23 @@
 package org.folio.services.domainevent;
 
+import static io.vertx.core.Future.succeededFuture;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.text.IsBlankString.blankOrNullString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import io.vertx.core.Vertx;
 import io.vertx.kafka.client.producer.impl.KafkaProducerRecordImpl;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import org.folio.persist.NotificationSendingErrorRepository;
 import org.folio.persist.entity.NotificationSendingError;
 import org.hamcrest.Matchers;
@@ -23,23 +31,47 @@ import org.mockito.junit.MockitoJUnitRunner;
 public class LogToDbFailureHandlerTest {
   @Mock
   private NotificationSendingErrorRepository repository;
+  @Mock
+  private Vertx vertx;
 
   @Test
   public void canHandleFailure() {
-    var handler = new LogToDbFailureHandler(repository);
-    handler.handleFailure(new IllegalArgumentException("null"),
-      new KafkaProducerRecordImpl<>("topic", "key", "value"));
-
-    var errorArgumentCaptor = ArgumentCaptor.forClass(NotificationSendingError.class);
-    verify(repository).save(any(), errorArgumentCaptor.capture());
+    when(repository.saveBatch(any())).thenReturn(succeededFuture());
+    var handler = new LogToDbFailureHandler(new FailureLogBuffer(vertx, repository, 1, 1000));
+    var producerRecord = new KafkaProducerRecordImpl<>("topic", "key", "value");
+    producerRecord.addHeader("x-okapi-tenant", "diku");
+    producerRecord.addHeader("x-okapi-token", "secret");
+    handler.handleFailure(new IllegalArgumentException("null"), producerRecord);
 
-    var notificationSendingError = errorArgumentCaptor.getValue();
+    var notificationSendingError = savedBatch().getFirst();
     assertThat(notificationSendingError.getId(), is(not(blankOrNullString())));
     assertThat(notificationSendingError.getTopicName(), is("topic"));
     assertThat(notificationSendingError.getPartitionKey(), is("key"));
     assertThat(notificationSendingError.getPayload(), is("value"));
     assertThat(notificationSendingError.getError(), containsString("IllegalArgumentException: null"));
+    assertThat(notificationSendingError.getHeaders(), is(Map.of("x-okapi-tenant", "diku")));
     assertThat(notificationSendingError.getIncidentDateTime()
       .after(new Date()), Matchers.is(false));
   }
+
+  @Test
+  public void savesFailuresInBatches() {
+    when(repository.saveBatch(any())).thenReturn(succeededFuture());
+    var handler = new LogToDbFailureHandler(new FailureLogBuffer(vertx, repository, 2, 1000));
+
+    handler.handleFailure(new IllegalStateException(), new KafkaProducerRecordImpl<>("topic", "key1", "1"));
+    verify(repository, never()).saveBatch(any());
+    verify(vertx).setTimer(eq(1000L), any());
+
+    handler.handleFailure(new IllegalStateException(), new KafkaProducerRecordImpl<>("topic", "key2", "2"));
+    assertThat(savedBatch().stream().map(NotificationSendingError::getPayload).toList(), is(List.of("1", "2")));
+    verify(vertx).cancelTimer(anyLong());
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<NotificationSendingError> savedBatch() {
+    var batchCaptor = ArgumentCaptor.forClass(List.class);
+    verify(repository).saveBatch(batchCaptor.capture());
+    return batchCaptor.getValue();
+  }
 }
@@ -0,0 +1,117 @@
+package org.folio.services.enrichment;
+
+import static org.folio.services.enrichment.ReferenceSnapshot.CAMPUS;
+import static org.folio.services.enrichment.ReferenceSnapshot.INSTITUTION;
+import static org.folio.services.enrichment.ReferenceSnapshot.ITEM_NOTE_TYPE;
+import static org.folio.services.enrichment.ReferenceSnapshot.LIBRARY;
+import static org.folio.services.enrichment.ReferenceSnapshot.LOCATION;
+import static org.folio.services.enrichment.ReferenceSnapshot.MATERIAL_TYPE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class EnrichedInstanceAssemblerTest {
+  private static final String INSTANCE_ID = "00000000-0000-0000-0000-000000000001";
+  private static final String HOLDINGS_ID = "00000000-0000-0000-0000-000000000002";
+  private static final String ITEM_ID = "00000000-0000-0000-0000-000000000003";
+  private static final String LOCATION_ID = "00000000-0000-0000-0000-000000000004";
+  private static final String NOTE_TYPE_ID = "00000000-0000-0000-0000-000000000005";
+  private static final String MATERIAL_TYPE_ID = "00000000-0000-0000-0000-000000000006";
+
+  private final JsonObject instance = new JsonObject().put("id", INSTANCE_ID).put("source", "MARC");
+  private final JsonObject holdings = new JsonObject().put("id", HOLDINGS_ID).put("instanceId", INSTANCE_ID);
+  private final JsonObject item = new JsonObject()
+    .put("id", ITEM_ID)
+    .put("holdingsRecordId", HOLDINGS_ID)
+    .put("effectiveLocationId", LOCATION_ID)
+    .put("materialTypeId", MATERIAL_TYPE_ID)
+    .put("notes", new JsonArray()
+      .add(new JsonObject().put("note", "public").put("staffOnly", false).put("itemNoteTypeId", NOTE_TYPE_ID))
+      .add(new JsonObject().put("note", "staff").put("staffOnly", true).put("itemNoteTypeId", NOTE_TYPE_ID)));
+
+  @Test
+  void itemsAndHoldings() {
+    var json = assembler(true, false).itemsAndHoldings(INSTANCE_ID, instance, List.of(holdings),
+      Map.of(HOLDINGS_ID, List.of(item)));
+
+    assertThat(json.getString("source"), is("MARC"));
+    assertThat(json.getString("modeOfIssuance"), is(""));
+    assertThat(json.getJsonArray("natureOfContent"), is(new JsonArray()));
+    var holdingsJson = json.getJsonArray("holdings").getJsonObject(0);
+    assertThat(holdingsJson.getBoolean("suppressFromDiscovery"), is(false));
+    assertThat(holdingsJson.getJsonObject("location").getJsonObject("permanentLocation"), is(new JsonObject()));
+    var itemJson = json.getJsonArray("items").getJsonObject(0);
+    assertThat(itemJson.getString("materialType"), is("book"));
+    assertThat(itemJson.getJsonObject("location").getJsonObject("location").getString("libraryCode"), is("ML"));
+    assertThat(itemJson.getJsonArray("notes"), is(new JsonArray()
+      .add(new JsonObject().put("note", "public").put("itemNoteTypeName", "General"))));
+    assertThat(itemJson.containsKey("hrId"), is(false));
+  }
+
+  @Test
+  void itemsAndHoldingsSkipsSuppressed() {
+    var json = assembler(true, true).itemsAndHoldings(INSTANCE_ID, instance, List.of(holdings),
+      Map.of(HOLDINGS_ID, List.of(item.copy().put("discoverySuppress", true))));
+
+    assertThat(json.getJsonArray("holdings").size(), is(1));
+    assertThat(json.getJsonArray("items").size(), is(0));
+  }
+
+  @Test
+  void oaiPmhInstance() {
+    var json = assembler(true, false).oaiPmhInstance(INSTANCE_ID, List.of(holdings),
+      Map.of(HOLDINGS_ID, List.of(item)));
+
+    var fields = json.getJsonObject("itemsandholdingsfields");
+    assertThat(fields.getString("instanceid"), is(INSTANCE_ID));
+    var itemJson = fields.getJsonArray("items").getJsonObject(0);
+    assertThat(itemJson.getJsonObject("location").getString("name"), is("Main Library"));
+    assertThat(itemJson.getString("holdingsRecordId"), is(HOLDINGS_ID));
+    assertThat(itemJson.containsKey("electronicAccess"), is(true));
+    assertThat(itemJson.getValue("electronicAccess"), is((Object) null));
+  }
+
+  @Test
+  void oaiPmhInstanceWithoutActiveLocation() {
+    var json = assembler(false, false).oaiPmhInstance(INSTANCE_ID, List.of(holdings),
+      Map.of(HOLDINGS_ID, List.of(item)));
+
+    assertThat(json.getString("instanceid"), is(INSTANCE_ID));
+    assertThat(json.getString("itemsandholdingsfields"), is(""));
+  }
+
+  @Test
+  void stripNulls() {
+    var json = new JsonObject().put("a", null).put("b", new JsonArray().addNull().add(new JsonObject().putNull("c")));
+
+    assertThat(EnrichedInstanceAssembler.stripNulls(json),
+      is(new JsonObject().put("b", new JsonArray().addNull().add(new JsonObject()))));
+  }
+
+  private static EnrichedInstanceAssembler assembler(boolean activeLocation, boolean skipSuppressed) {
+    var records = new HashMap<String, Map<String, JsonObject>>();
+    records.put(LOCATION, Map.of(LOCATION_ID, new JsonObject()
+      .put("id", LOCATION_ID).put("name", "Main Library").put("code", "ML/1").put("isActive", activeLocation)
+      .put("campusId", "c").put("libraryId", "l").put("institutionId", "i")));
+    records.put(CAMPUS, Map.of("c", new JsonObject().put("id", "c").put("name", "Campus")));
+    records.put(LIBRARY, Map.of("l", new JsonObject().put("id", "l").put("name", "Library").put("code", "ML")));
+    records.put(INSTITUTION, Map.of("i", new JsonObject().put("id", "i").put("name", "Institution")));
+    records.put(ITEM_NOTE_TYPE, Map.of(NOTE_TYPE_ID, new JsonObject().put("name", "General")));
+    records.put(MATERIAL_TYPE, Map.of(MATERIAL_TYPE_ID,
+      new JsonObject().put("id", MATERIAL_TYPE_ID).put("name", "book")));
+    for (var table : List.of(ReferenceSnapshot.ELECTRONIC_ACCESS_RELATIONSHIP, ReferenceSnapshot.HOLDINGS_NOTE_TYPE,
+        ReferenceSnapshot.STATISTICAL_CODE, ReferenceSnapshot.STATISTICAL_CODE_TYPE,
+        ReferenceSnapshot.NATURE_OF_CONTENT_TERM, ReferenceSnapshot.MODE_OF_ISSUANCE,
+        ReferenceSnapshot.CALL_NUMBER_TYPE, ReferenceSnapshot.ITEM_DAMAGED_STATUS, ReferenceSnapshot.LOAN_TYPE,
+        ReferenceSnapshot.HOLDINGS_TYPE, ReferenceSnapshot.ILL_POLICY)) {
+      records.put(table, Map.of());
+    }
+    return new EnrichedInstanceAssembler(new ReferenceSnapshot(records), skipSuppressed);
+  }
+}
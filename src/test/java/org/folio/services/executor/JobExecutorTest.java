@@ -0,0 +1,97 @@
+package org.folio.services.executor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.services.executor.JobExecutor.JobType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(VertxExtension.class)
+class JobExecutorTest {
+
+  @Test
+  void runsBlockingTaskOnVirtualThread(Vertx vertx, VertxTestContext testContext) {
+    var context = vertx.getOrCreateContext();
+    JobExecutor.executeBlocking(context, JobType.S3, () -> Thread.currentThread().isVirtual())
+      .onComplete(testContext.succeeding(virtual -> testContext.verify(() -> {
+        assertThat(virtual, is(true));
+        assertThat(Vertx.currentContext() == context, is(true));
+        testContext.completeNow();
+      })));
+  }
+
+  @Test
+  void failsWithExceptionOfBlockingTask(Vertx vertx, VertxTestContext testContext) {
+    JobExecutor.executeBlocking(vertx.getOrCreateContext(), JobType.S3, () -> {
+      throw new IllegalStateException("s3 down");
+    })
+      .onComplete(testContext.failing(e -> testContext.verify(() -> {
+        assertThat(e.getMessage(), is("s3 down"));
+        testContext.completeNow();
+      })));
+  }
+
+  @Test
+  void limitsConcurrentBlockingTasks(Vertx vertx, VertxTestContext testContext) {
+    var limit = JobType.S3.getLimit();
+    var active = new AtomicInteger();
+    var maxActive = new AtomicInteger();
+    var futures = new ArrayList<Future<Void>>();
+    for (int i = 0; i < limit * 3; i++) {
+      futures.add(JobExecutor.executeBlocking(vertx.getOrCreateContext(), JobType.S3, () -> {
+        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+        Thread.sleep(20);
+        active.decrementAndGet();
+        return null;
+      }));
+    }
+    Future.all(futures)
+      .onComplete(testContext.succeeding(notUsed -> testContext.verify(() -> {
+        assertThat(maxActive.get(), is(limit));
+        testContext.completeNow();
+      })));
+  }
+
+  @Test
+  void holdsPermitUntilJobCompletes(Vertx vertx, VertxTestContext testContext) {
+    var limit = JobType.REINDEX.getLimit();
+    var active = new AtomicInteger();
+    var maxActive = new AtomicInteger();
+    var futures = new ArrayList<Future<Void>>();
+    for (int i = 0; i < limit * 2; i++) {
+      futures.add(JobExecutor.execute(vertx.getOrCreateContext(), JobType.REINDEX, () -> {
+        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+        Promise<Void> promise = Promise.promise();
+        vertx.setTimer(20, timerId -> {
+          active.decrementAndGet();
+          promise.complete();
+        });
+        return promise.future();
+      }));
+    }
+    Future.all(futures)
+      .onComplete(testContext.succeeding(notUsed -> testContext.verify(() -> {
+        assertThat(maxActive.get(), is(limit));
+        testContext.completeNow();
+      })));
+  }
+
+  @Test
+  void failsWhenJobThrows(Vertx vertx, VertxTestContext testContext) {
+    JobExecutor.<Void>execute(vertx.getOrCreateContext(), JobType.ITERATION, () -> {
+      throw new UnsupportedOperationException("unknown resource");
+    })
+      .onComplete(testContext.failing(e -> testContext.verify(() -> {
+        assertThat(e.getMessage(), is("unknown resource"));
+        testContext.completeNow();
+      })));
+  }
+}
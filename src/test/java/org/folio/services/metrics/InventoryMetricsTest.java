@@ -0,0 +1,47 @@
+package org.folio.services.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class InventoryMetricsTest {
+
+  @ParameterizedTest
+  @CsvSource(value = {
+    "NULL, ''",
+    "/instance-storage/instances, /instance-storage/instances",
+    "/instance-storage/instances?query=title%3Da, /instance-storage/instances",
+    "/item-storage/items/1c3f9a5e-6f8b-4a31-9a02-0b5d4a9a2d3e, /item-storage/items/{id}",
+    "/instance-storage/instances/1C3F9A5E-6F8B-4A31-9A02-0B5D4A9A2D3E/source-record/marc-json, "
+      + "/instance-storage/instances/{id}/source-record/marc-json",
+    "/instance-storage/instances/changes/42, /instance-storage/instances/changes/{id}",
+    "/instance-storage/v2, /instance-storage/v2",
+  }, nullValues = "NULL")
+  void endpoint(String path, String expected) {
+    assertThat(InventoryMetrics.endpoint(path), is(expected));
+  }
+
+  @Test
+  void time() {
+    InventoryMetrics.time("test.time", Future.succeededFuture(), "tag", "a");
+    InventoryMetrics.time("test.time", Future.failedFuture("x"), "tag", "a");
+    var registry = InventoryMetrics.registry();
+    assertThat(registry.get("inventory.storage.test.time").tag("outcome", "success").timer().count(), is(1L));
+    assertThat(registry.get("inventory.storage.test.time").tag("outcome", "failure").timer().count(), is(1L));
+  }
+
+  @Test
+  void inFlight() {
+    var registry = InventoryMetrics.registry();
+    var promise = Promise.<Void>promise();
+    InventoryMetrics.inFlight("test.in.flight", "topic", "t", promise.future());
+    assertThat(registry.get("inventory.storage.test.in.flight").gauge().value(), is(1.0));
+    promise.complete();
+    assertThat(registry.get("inventory.storage.test.in.flight").gauge().value(), is(0.0));
+  }
+}